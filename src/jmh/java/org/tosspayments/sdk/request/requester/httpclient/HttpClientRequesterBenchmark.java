@@ -0,0 +1,158 @@
+package org.tosspayments.sdk.request.requester.httpclient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.tosspayments.sdk.authorization.TossPaymentsAuthentication;
+import org.tosspayments.sdk.payment.Payment;
+import org.tosspayments.sdk.payment.PaymentConfirmRequest;
+import org.tosspayments.sdk.request.idempotency.RandomIdempotencyKeyProvider;
+import org.tosspayments.sdk.request.requester.metrics.RequestMetrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * End-to-end throughput of {@link HttpClientRequester} against an in-process loopback HTTP server answering
+ * every request with the same payment, so the time measured is the SDK and the loopback HTTP stack.
+ * Comparing {@code metrics=false} to {@code metrics=true} measures the overhead of a {@link RequestMetrics}
+ * listener. Run it with several threads, e.g. {@code -t 8}, to measure the requester under contention.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HttpClientRequesterBenchmark {
+
+	private static final String CONFIRM_PATH = "/v1/payments/confirm";
+
+	private static final String LOOKUP_PATH = "/v1/payments/" + Payloads.PAYMENT_KEY;
+
+	/**
+	 * Whether the requester reports its exchanges to a {@link RequestMetrics} listener.
+	 */
+	@Param({"false", "true"})
+	public boolean metrics;
+
+	/**
+	 * Number of cancellations of the payment answered by the server.
+	 */
+	@Param({"0", "10"})
+	public int cancels;
+
+	private HttpServer server;
+
+	private ExecutorService serverExecutor;
+
+	private HttpClientRequester requester;
+
+	private PaymentConfirmRequest confirmRequest;
+
+	/**
+	 * Starts the loopback server and creates a requester with its own HTTP/1.1 HttpClient,
+	 * as the server does not speak HTTP/2.
+	 * @throws IOException if the server cannot be started.
+	 */
+	@Setup
+	public void setUp() throws IOException {
+		// without it, the server writes the headers and body of a response in separate segments delayed by Nagle
+		System.setProperty("sun.net.httpserver.nodelay", "true");
+		byte[] payment = Payloads.payment(cancels);
+		serverExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 128);
+		server.setExecutor(serverExecutor);
+		server.createContext("/", exchange -> respond(exchange, payment));
+		server.start();
+
+		requester = new HttpClientRequester(
+			"http://127.0.0.1:" + server.getAddress().getPort(),
+			new TossPaymentsAuthentication("test_sk_benchmark"),
+			HttpTransportConfig.builder().withVersion(HttpClient.Version.HTTP_1_1).build(),
+			new RandomIdempotencyKeyProvider(),
+			metrics ? new RequestMetrics() : null
+		);
+		confirmRequest = new PaymentConfirmRequest(Payloads.PAYMENT_KEY, "MC4wODU4ODQwMzg4NDk0", 1000000);
+	}
+
+	/**
+	 * Stops the loopback server.
+	 */
+	@TearDown
+	public void tearDown() {
+		server.stop(0);
+		serverExecutor.shutdownNow();
+	}
+
+	/**
+	 * Looks a payment up on the calling thread.
+	 * @return the payment.
+	 */
+	@Benchmark
+	public Payment get() {
+		return requester.get(LOOKUP_PATH, Payment.class);
+	}
+
+	/**
+	 * Looks a payment up asynchronously and waits for it.
+	 * @return the payment.
+	 */
+	@Benchmark
+	public Payment getAsync() {
+		return requester.getAsync(LOOKUP_PATH, Payment.class).join();
+	}
+
+	/**
+	 * Confirms a payment on the calling thread, with a new Idempotency-Key each time.
+	 * @return the payment.
+	 */
+	@Benchmark
+	public Payment post() {
+		return requester.post(CONFIRM_PATH, confirmRequest, Payment.class);
+	}
+
+	/**
+	 * Confirms a payment asynchronously and waits for it.
+	 * @return the payment.
+	 */
+	@Benchmark
+	public Payment postAsync() {
+		return requester.postAsync(CONFIRM_PATH, confirmRequest, Payment.class).join();
+	}
+
+	/**
+	 * Drains the request body and answers with the payment.
+	 * @param exchange the exchange to answer.
+	 * @param payment the payment payload.
+	 * @throws IOException if the exchange fails.
+	 */
+	private static void respond(HttpExchange exchange, byte[] payment) throws IOException {
+		try (InputStream body = exchange.getRequestBody(); OutputStream response = exchange.getResponseBody()) {
+			body.transferTo(OutputStream.nullOutputStream());
+			exchange.getResponseHeaders().set("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, payment.length);
+			response.write(payment);
+		}
+	}
+
+}
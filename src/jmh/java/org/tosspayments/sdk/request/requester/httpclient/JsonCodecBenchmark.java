@@ -0,0 +1,121 @@
+package org.tosspayments.sdk.request.requester.httpclient;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.http.HttpHeaders;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.tosspayments.sdk.payment.Payment;
+import org.tosspayments.sdk.payment.PaymentCancelRequest;
+import org.tosspayments.sdk.payment.PaymentConfirmRequest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+/**
+ * Benchmarks binding JSON with the shared {@link JsonCodec} of each {@link JsonBinding}:
+ * serializing request bodies as {@code postAsync} does, and parsing payment responses of realistic sizes
+ * as the asynchronous path does with {@link JsonBodySubscriber} and the synchronous path does with
+ * {@link JsonBodyHandler#parse}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonCodecBenchmark {
+
+	private static final HttpHeaders IDENTITY = HttpHeaders.of(Map.of(), (name, value) -> true);
+
+	/**
+	 * Number of cancellations of the parsed payment, from a 1.3 KB to a 30 KB payload.
+	 */
+	@Param({"0", "10", "100"})
+	public int cancels;
+
+	/**
+	 * How the codec binds the types.
+	 */
+	@Param({"REFLECTION", "STREAMING"})
+	public JsonBinding binding;
+
+	private JsonCodec codec;
+
+	private JsonBodyHandler<Payment> handler;
+
+	private PaymentConfirmRequest confirmRequest;
+
+	private PaymentCancelRequest cancelRequest;
+
+	private byte[] payload;
+
+	/**
+	 * Creates the codec, the request bodies and the payload.
+	 */
+	@Setup
+	public void setUp() {
+		codec = JsonCodec.of(binding);
+		handler = new JsonBodyHandler<>(codec.reader(Payment.class));
+		confirmRequest = new PaymentConfirmRequest(Payloads.PAYMENT_KEY, "MC4wODU4ODQwMzg4NDk0", 1000000);
+		cancelRequest = new PaymentCancelRequest("고객 변심", 1000L);
+		payload = Payloads.payment(cancels);
+	}
+
+	/**
+	 * Serializes the body of a payment confirmation.
+	 * @return the serialized body.
+	 * @throws JsonProcessingException if serializing fails.
+	 */
+	@Benchmark
+	public byte[] serializeConfirm() throws JsonProcessingException {
+		return codec.writeValueAsBytes(confirmRequest);
+	}
+
+	/**
+	 * Serializes the body of a partial cancellation.
+	 * @return the serialized body.
+	 * @throws JsonProcessingException if serializing fails.
+	 */
+	@Benchmark
+	public byte[] serializeCancel() throws JsonProcessingException {
+		return codec.writeValueAsBytes(cancelRequest);
+	}
+
+	/**
+	 * Parses the payload received in one buffer, as the asynchronous path does.
+	 * @return the parsed payment.
+	 */
+	@Benchmark
+	public Payment parseReceivedBuffers() {
+		JsonBodySubscriber<Payment> subscriber = new JsonBodySubscriber<>(codec.reader(Payment.class));
+		subscriber.onNext(List.of(ByteBuffer.wrap(payload)));
+		subscriber.onComplete();
+
+		return subscriber.getBody().toCompletableFuture().join();
+	}
+
+	/**
+	 * Parses the payload read from a stream, as the synchronous path does.
+	 * @return the parsed payment.
+	 * @throws IOException if parsing fails.
+	 */
+	@Benchmark
+	public Payment parseStream() throws IOException {
+		return handler.parse(new ByteArrayInputStream(payload), IDENTITY);
+	}
+
+}
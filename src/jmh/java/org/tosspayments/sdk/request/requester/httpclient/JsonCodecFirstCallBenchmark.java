@@ -0,0 +1,67 @@
+package org.tosspayments.sdk.request.requester.httpclient;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.tosspayments.sdk.payment.Payment;
+import org.tosspayments.sdk.payment.PaymentConfirmRequest;
+
+/**
+ * Benchmarks the first confirmation bound by the shared {@link JsonCodec} of each {@link JsonBinding}
+ * in a fresh JVM: serializing its body and parsing its response, which resolves the (de)serializers of the types.
+ * Each fork measures a single call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class JsonCodecFirstCallBenchmark {
+
+	/**
+	 * How the codec binds the types.
+	 */
+	@Param({"REFLECTION", "STREAMING"})
+	public JsonBinding binding;
+
+	private JsonCodec codec;
+
+	private PaymentConfirmRequest confirmRequest;
+
+	private byte[] payload;
+
+	/**
+	 * Creates the codec, the request body and the payload.
+	 */
+	@Setup
+	public void setUp() {
+		codec = JsonCodec.of(binding);
+		confirmRequest = new PaymentConfirmRequest(Payloads.PAYMENT_KEY, "MC4wODU4ODQwMzg4NDk0", 1000000);
+		payload = Payloads.payment(0);
+	}
+
+	/**
+	 * Serializes the body of the first confirmation and parses its response.
+	 * @return the parsed payment.
+	 * @throws IOException if binding fails.
+	 */
+	@Benchmark
+	public Payment firstConfirm() throws IOException {
+		codec.writeValueAsBytes(confirmRequest);
+
+		return codec.reader(Payment.class).readValue(payload);
+	}
+
+}
@@ -0,0 +1,65 @@
+package org.tosspayments.sdk.request.requester.httpclient;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Payment payloads shaped like the responses of the Toss Payments payment APIs, shared by the benchmarks.
+ */
+final class Payloads {
+
+	/**
+	 * Payment key of the payloads.
+	 */
+	static final String PAYMENT_KEY = "tgen_20240213121757MvuS8";
+
+	private Payloads() {
+	}
+
+	/**
+	 * Returns the UTF-8 bytes of a payment response with the given number of cancellations.
+	 * Beside the fields the SDK binds, it carries the card, receipt and checkout objects of a card payment,
+	 * which the parser has to skip: 0 cancellations is about 1.3 KB, 100 cancellations about 30 KB.
+	 * @param cancels the number of cancellations of the payment.
+	 * @return the payload.
+	 */
+	static byte[] payment(int cancels) {
+		StringBuilder json = new StringBuilder(2048 + cancels * 192)
+			.append("{\"mId\":\"tosspayments\",\"lastTransactionKey\":\"9C62B18EEF0DE3EB7F4422EB6D14BC6E\",")
+			.append("\"paymentKey\":\"").append(PAYMENT_KEY).append("\",")
+			.append("\"orderId\":\"MC4wODU4ODQwMzg4NDk0\",\"orderName\":\"토스 티셔츠 외 2건\",")
+			.append("\"taxExemptionAmount\":0,\"status\":\"").append(cancels == 0 ? "DONE" : "PARTIAL_CANCELED")
+			.append("\",\"requestedAt\":\"2024-02-13T12:17:57+09:00\",\"approvedAt\":\"2024-02-13T12:18:14+09:00\",")
+			.append("\"useEscrow\":false,\"cultureExpense\":false,")
+			.append("\"card\":{\"issuerCode\":\"71\",\"acquirerCode\":\"71\",\"number\":\"12345678****000*\",")
+			.append("\"installmentPlanMonths\":0,\"isInterestFree\":false,\"interestPayer\":null,")
+			.append("\"approveNo\":\"00000000\",\"useCardPoint\":false,\"cardType\":\"신용\",")
+			.append("\"ownerType\":\"개인\",\"acquireStatus\":\"READY\",\"amount\":1000000},")
+			.append("\"virtualAccount\":null,\"transfer\":null,\"mobilePhone\":null,\"giftCertificate\":null,")
+			.append("\"cashReceipt\":null,\"cashReceipts\":null,\"discount\":null,")
+			.append("\"cancels\":[");
+		for (int index = 0; index < cancels; index++) {
+			if (index > 0) {
+				json.append(',');
+			}
+			json.append("{\"transactionKey\":\"090A796806E726BBB929F4A2CA7DB9A").append(index % 10)
+				.append("\",\"cancelReason\":\"고객 변심\",\"taxExemptionAmount\":0,")
+				.append("\"canceledAt\":\"2024-02-13T12:20:23+09:00\",\"easyPayDiscountAmount\":0,")
+				.append("\"receiptKey\":null,\"cancelAmount\":1000,\"taxFreeAmount\":0,")
+				.append("\"refundableAmount\":0,\"cancelStatus\":\"DONE\",\"cancelRequestId\":null}");
+		}
+		json.append("],\"secret\":null,\"type\":\"NORMAL\",")
+			.append("\"easyPay\":{\"provider\":\"토스페이\",\"amount\":0,\"discountAmount\":0},")
+			.append("\"country\":\"KR\",\"failure\":null,\"isPartialCancelable\":true,")
+			.append("\"receipt\":{\"url\":\"https://dashboard.tosspayments.com/receipt/redirection?transactionId=")
+			.append("tgen_20240213121757MvuS8&ref=PX\"},")
+			.append("\"checkout\":{\"url\":\"https://api.tosspayments.com/v1/payments/")
+			.append(PAYMENT_KEY).append("/checkout\"},")
+			.append("\"currency\":\"KRW\",\"totalAmount\":1000000,\"balanceAmount\":")
+			.append(1000000 - cancels * 1000)
+			.append(",\"suppliedAmount\":909091,\"vat\":90909,\"taxFreeAmount\":0,\"method\":\"카드\",")
+			.append("\"version\":\"2022-11-16\",\"metadata\":null}");
+
+		return json.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,55 @@
+package org.tosspayments.sdk.request.requester.metrics;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the cost {@link RequestMetrics} adds to each exchange, shared by 4 threads as by the threads
+ * of an HTTP client: recording a latency into a {@link LatencyHistogram}, and a whole exchange,
+ * from {@code onRequestStart} to {@code onRequestEnd}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class RequestMetricsBenchmark {
+
+	private static final String PATH = "/v1/payments/confirm";
+
+	private final LatencyHistogram histogram = new LatencyHistogram();
+
+	private final RequestMetrics metrics = new RequestMetrics();
+
+	/**
+	 * Records a latency between 1 and 100 milliseconds.
+	 */
+	@Benchmark
+	public void recordLatency() {
+		histogram.record(ThreadLocalRandom.current().nextLong(1_000_000, 100_000_000));
+	}
+
+	/**
+	 * Records a whole successful confirmation.
+	 */
+	@Benchmark
+	public void recordExchange() {
+		long networkNanos = ThreadLocalRandom.current().nextLong(1_000_000, 100_000_000);
+		metrics.onRequestStart("POST", PATH);
+		metrics.onRequestEnd(new RequestEvent("POST", PATH, 200, 20_000, networkNanos, 50_000, 96, 1_500, null));
+	}
+
+}
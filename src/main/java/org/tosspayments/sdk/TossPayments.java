@@ -1,19 +1,38 @@
 package org.tosspayments.sdk;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import org.tosspayments.sdk.payment.BillingChargeRequest;
+import org.tosspayments.sdk.payment.Payment;
+import org.tosspayments.sdk.payment.PaymentCancelRequest;
+import org.tosspayments.sdk.payment.PaymentConfirmRequest;
+import org.tosspayments.sdk.request.projection.Projection;
 import org.tosspayments.sdk.request.requester.Requester;
 import org.tosspayments.sdk.request.requester.RequesterBuilder;
 
 /**
  * Root Module for Toss Payments SDK.
+ * Exposes the payment operations with typed requests and responses, sent with its {@link Requester}.
  */
 public class TossPayments {
 
 	/**
-	 * The endpoint URL for Toss Payments API.
-	 * This is the base URL for all API requests.
+	 * The endpoint URL for Toss Payments Inform API.
+	 * Kept for compatibility: the typed operations are sent to {@link #API_ENDPOINT}.
 	 */
 	public static final String ENDPOINT = "https://api.tosspayments.com/v1/inform";
 
+	/**
+	 * The root URL for Toss Payments API.
+	 * This is the base URL of the requests of the typed operations, e.g. {@code /payments/confirm}.
+	 */
+	public static final String API_ENDPOINT = "https://api.tosspayments.com/v1";
+
+	private static final String PAYMENTS_PATH = "/payments/";
+
+	private static final String BILLING_PATH = "/billing/";
 
 	private final Requester requester;
 
@@ -22,7 +41,7 @@ public class TossPayments {
 	 * @param secretKey The secret key for authentication with Toss Payments.
 	 */
 	public TossPayments(String secretKey) {
-		this.requester = new RequesterBuilder(ENDPOINT, secretKey)
+		this.requester = new RequesterBuilder(API_ENDPOINT, secretKey)
 			.build();
 	}
 
@@ -32,9 +51,142 @@ public class TossPayments {
 	 * @param requester Custom requester for handling requests.
 	 */
 	public TossPayments(String secretKey, Requester requester) {
-		this.requester = new RequesterBuilder(ENDPOINT, secretKey)
+		this.requester = new RequesterBuilder(API_ENDPOINT, secretKey)
 			.withRequester(requester)
 			.build();
 	}
 
+	/**
+	 * Returns the requester sending the requests, e.g. to call APIs without a typed operation.
+	 * @return The requester.
+	 */
+	public Requester getRequester() {
+		return requester;
+	}
+
+	/**
+	 * Confirms a payment authenticated by the customer.
+	 * @param request The payment to confirm.
+	 * @return The confirmed payment.
+	 */
+	public Payment confirmPayment(PaymentConfirmRequest request) {
+		return requester.post(PAYMENTS_PATH + "confirm", request, Payment.class);
+	}
+
+	/**
+	 * Confirms a payment authenticated by the customer asynchronously.
+	 * @param request The payment to confirm.
+	 * @return A CompletableFuture that will contain the confirmed payment.
+	 */
+	public CompletableFuture<Payment> confirmPaymentAsync(PaymentConfirmRequest request) {
+		return requester.postAsync(PAYMENTS_PATH + "confirm", request, Payment.class);
+	}
+
+	/**
+	 * Looks up a payment by its payment key.
+	 * @param paymentKey The key identifying the payment.
+	 * @return The payment.
+	 */
+	public Payment getPayment(String paymentKey) {
+		return requester.get(PAYMENTS_PATH + encode(paymentKey), Payment.class);
+	}
+
+	/**
+	 * Looks up a payment by its payment key asynchronously.
+	 * @param paymentKey The key identifying the payment.
+	 * @return A CompletableFuture that will contain the payment.
+	 */
+	public CompletableFuture<Payment> getPaymentAsync(String paymentKey) {
+		return requester.getAsync(PAYMENTS_PATH + encode(paymentKey), Payment.class);
+	}
+
+	/**
+	 * Looks up a projection of a payment by its payment key, reading only the fields the projection asks for.
+	 * @param paymentKey The key identifying the payment.
+	 * @param projection The {@link Projection} interface of the fields to read, or any other response type.
+	 * @param <T> The type of the projection.
+	 * @return The projection of the payment.
+	 */
+	public <T> T getPayment(String paymentKey, Class<T> projection) {
+		return requester.get(PAYMENTS_PATH + encode(paymentKey), projection);
+	}
+
+	/**
+	 * Looks up a projection of a payment by its payment key asynchronously.
+	 * @param paymentKey The key identifying the payment.
+	 * @param projection The {@link Projection} interface of the fields to read, or any other response type.
+	 * @param <T> The type of the projection.
+	 * @return A CompletableFuture that will contain the projection of the payment.
+	 */
+	public <T> CompletableFuture<T> getPaymentAsync(String paymentKey, Class<T> projection) {
+		return requester.getAsync(PAYMENTS_PATH + encode(paymentKey), projection);
+	}
+
+	/**
+	 * Looks up a payment by the order ID issued by the merchant.
+	 * @param orderId The order ID of the payment.
+	 * @return The payment.
+	 */
+	public Payment getPaymentByOrderId(String orderId) {
+		return requester.get(PAYMENTS_PATH + "orders/" + encode(orderId), Payment.class);
+	}
+
+	/**
+	 * Looks up a payment by the order ID issued by the merchant asynchronously.
+	 * @param orderId The order ID of the payment.
+	 * @return A CompletableFuture that will contain the payment.
+	 */
+	public CompletableFuture<Payment> getPaymentByOrderIdAsync(String orderId) {
+		return requester.getAsync(PAYMENTS_PATH + "orders/" + encode(orderId), Payment.class);
+	}
+
+	/**
+	 * Cancels a payment, in full or in part.
+	 * @param paymentKey The key identifying the payment.
+	 * @param request The cancellation.
+	 * @return The cancelled payment, with the cancellation in its cancels.
+	 */
+	public Payment cancelPayment(String paymentKey, PaymentCancelRequest request) {
+		return requester.post(PAYMENTS_PATH + encode(paymentKey) + "/cancel", request, Payment.class);
+	}
+
+	/**
+	 * Cancels a payment, in full or in part, asynchronously.
+	 * @param paymentKey The key identifying the payment.
+	 * @param request The cancellation.
+	 * @return A CompletableFuture that will contain the cancelled payment.
+	 */
+	public CompletableFuture<Payment> cancelPaymentAsync(String paymentKey, PaymentCancelRequest request) {
+		return requester.postAsync(PAYMENTS_PATH + encode(paymentKey) + "/cancel", request, Payment.class);
+	}
+
+	/**
+	 * Charges a customer with a billing key.
+	 * @param billingKey The billing key issued for the customer.
+	 * @param request The charge.
+	 * @return The payment of the charge.
+	 */
+	public Payment chargeBilling(String billingKey, BillingChargeRequest request) {
+		return requester.post(BILLING_PATH + encode(billingKey), request, Payment.class);
+	}
+
+	/**
+	 * Charges a customer with a billing key asynchronously.
+	 * @param billingKey The billing key issued for the customer.
+	 * @param request The charge.
+	 * @return A CompletableFuture that will contain the payment of the charge.
+	 */
+	public CompletableFuture<Payment> chargeBillingAsync(String billingKey, BillingChargeRequest request) {
+		return requester.postAsync(BILLING_PATH + encode(billingKey), request, Payment.class);
+	}
+
+	/**
+	 * Encodes a key or ID as a path segment, so it cannot change the path of the request.
+	 * @param segment The key or ID.
+	 * @return The encoded path segment.
+	 */
+	private static String encode(String segment) {
+		return URLEncoder.encode(segment, StandardCharsets.UTF_8).replace("+", "%20");
+	}
+
 }
@@ -1,16 +1,28 @@
 package org.tosspayments.sdk.authorization;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
 import lombok.Getter;
 
 /**
  * Represents the authentication details for Toss Payments.
  * This class encapsulates the secret key used for authentication.
+ * Instances with the same secret key are equal, so they identify the same merchant, e.g. in per-tenant caches.
  */
 public class TossPaymentsAuthentication {
 
+	private static final String TOKEN_PREFIX = "Basic ";
+
 	@Getter
 	private final String secretKey;
 
+	/**
+	 * Value of the Authorization header sent with the requests, encoded once from the secret key.
+	 */
+	@Getter
+	private final String authorizationHeader;
+
 	/**
 	 * Creates an instance of TossPaymentsAuthentication with the provided secret key.
 	 * @param secretKey the secret key for Toss API
@@ -21,6 +33,28 @@ public class TossPaymentsAuthentication {
 		}
 
 		this.secretKey = secretKey;
+		this.authorizationHeader = TOKEN_PREFIX
+			+ Base64.getEncoder().encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Returns whether the other object is an authentication with the same secret key.
+	 * @param other the other object.
+	 * @return true if both authenticate the same merchant.
+	 */
+	@Override
+	public boolean equals(Object other) {
+		return this == other
+			|| other instanceof TossPaymentsAuthentication authentication && secretKey.equals(authentication.secretKey);
+	}
+
+	/**
+	 * Returns the hash code of the secret key.
+	 * @return the hash code.
+	 */
+	@Override
+	public int hashCode() {
+		return secretKey.hashCode();
 	}
 
 }
@@ -0,0 +1,25 @@
+package org.tosspayments.sdk.exception;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown without sending the request when the circuit breaker of the request is open.
+ */
+@Getter
+public class CircuitBreakerOpenException extends RuntimeException {
+
+	/**
+	 * Name of the open circuit.
+	 */
+	private final String circuitName;
+
+	/**
+	 * Constructor for CircuitBreakerOpenException.
+	 * @param circuitName the name of the open circuit
+	 */
+	public CircuitBreakerOpenException(String circuitName) {
+		super("Circuit breaker is open: " + circuitName);
+		this.circuitName = circuitName;
+	}
+
+}
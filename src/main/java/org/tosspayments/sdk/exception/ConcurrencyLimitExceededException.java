@@ -0,0 +1,17 @@
+package org.tosspayments.sdk.exception;
+
+/**
+ * Exception thrown without sending the request when the in-flight request limit is reached
+ * and the request cannot be queued, or waited in the queue longer than allowed.
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+	/**
+	 * Constructor for ConcurrencyLimitExceededException.
+	 * @param message the reason the request was rejected
+	 */
+	public ConcurrencyLimitExceededException(String message) {
+		super(message);
+	}
+
+}
@@ -0,0 +1,38 @@
+package org.tosspayments.sdk.exception;
+
+import java.time.Instant;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when the deadline of a request passes before its response is received.
+ * A request whose deadline has already passed, or would pass while it waits to be sent, is not sent.
+ */
+@Getter
+public class DeadlineExceededException extends RuntimeException {
+
+	/**
+	 * Deadline of the request.
+	 */
+	private final Instant deadline;
+
+	/**
+	 * Constructor for DeadlineExceededException.
+	 * @param deadline the deadline of the request
+	 */
+	public DeadlineExceededException(Instant deadline) {
+		super("Deadline exceeded: " + deadline);
+		this.deadline = deadline;
+	}
+
+	/**
+	 * Constructor for DeadlineExceededException with the failure the deadline was detected by.
+	 * @param deadline the deadline of the request
+	 * @param cause the failure reporting the deadline, e.g. the timeout of the HTTP request
+	 */
+	public DeadlineExceededException(Instant deadline, Throwable cause) {
+		super("Deadline exceeded: " + deadline, cause);
+		this.deadline = deadline;
+	}
+
+}
@@ -0,0 +1,26 @@
+package org.tosspayments.sdk.exception;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown without sending the request when the client-side rate limit of the request
+ * would make it wait longer than allowed.
+ */
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+	/**
+	 * Name of the exhausted rate limit bucket.
+	 */
+	private final String bucketName;
+
+	/**
+	 * Constructor for RateLimitExceededException.
+	 * @param bucketName the name of the exhausted bucket
+	 */
+	public RateLimitExceededException(String bucketName) {
+		super("Rate limit exceeded: " + bucketName);
+		this.bucketName = bucketName;
+	}
+
+}
@@ -0,0 +1,45 @@
+package org.tosspayments.sdk.payment;
+
+import lombok.Getter;
+
+/**
+ * Request charging a customer with a billing key issued for automatic payments.
+ */
+@Getter
+public class BillingChargeRequest {
+
+	/**
+	 * Key identifying the customer the billing key was issued for.
+	 */
+	private final String customerKey;
+
+	/**
+	 * Amount to charge.
+	 */
+	private final long amount;
+
+	/**
+	 * Order ID issued by the merchant.
+	 */
+	private final String orderId;
+
+	/**
+	 * Name of the order.
+	 */
+	private final String orderName;
+
+	/**
+	 * Creates a new BillingChargeRequest.
+	 * @param customerKey the key identifying the customer.
+	 * @param amount the amount to charge.
+	 * @param orderId the order ID issued by the merchant.
+	 * @param orderName the name of the order.
+	 */
+	public BillingChargeRequest(String customerKey, long amount, String orderId, String orderName) {
+		this.customerKey = customerKey;
+		this.amount = amount;
+		this.orderId = orderId;
+		this.orderName = orderName;
+	}
+
+}
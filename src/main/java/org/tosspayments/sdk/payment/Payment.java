@@ -0,0 +1,129 @@
+package org.tosspayments.sdk.payment;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import lombok.Getter;
+
+/**
+ * Payment object returned by the Toss Payments payment APIs.
+ * Only the fields most integrations need are bound, other fields of the response are ignored.
+ * Timestamps are kept as the ISO 8601 strings sent by Toss Payments.
+ */
+@Getter
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class Payment {
+
+	/**
+	 * Key identifying the payment.
+	 */
+	private String paymentKey;
+
+	/**
+	 * Order ID issued by the merchant.
+	 */
+	private String orderId;
+
+	/**
+	 * Name of the order.
+	 */
+	private String orderName;
+
+	/**
+	 * Status of the payment, e.g. {@code DONE} or {@code CANCELED}.
+	 */
+	private String status;
+
+	/**
+	 * Payment method, as named by Toss Payments.
+	 */
+	private String method;
+
+	/**
+	 * Currency of the amounts, e.g. {@code KRW}.
+	 */
+	private String currency;
+
+	/**
+	 * Total amount of the order.
+	 */
+	private long totalAmount;
+
+	/**
+	 * Amount left after cancellations.
+	 */
+	private long balanceAmount;
+
+	/**
+	 * Time the payment was requested.
+	 */
+	private String requestedAt;
+
+	/**
+	 * Time the payment was approved.
+	 */
+	private String approvedAt;
+
+	/**
+	 * Cancellations of the payment, empty if it was never cancelled.
+	 */
+	private List<PaymentCancel> cancels = List.of();
+
+	/**
+	 * Constructor for deserialization through the fields.
+	 */
+	private Payment() {
+	}
+
+	/**
+	 * Constructor for the streaming deserializer of {@link PaymentJsonModule}.
+	 * @param paymentKey the key identifying the payment.
+	 * @param orderId the order ID issued by the merchant.
+	 * @param orderName the name of the order.
+	 * @param status the status of the payment.
+	 * @param method the payment method.
+	 * @param currency the currency of the amounts.
+	 * @param totalAmount the total amount of the order.
+	 * @param balanceAmount the amount left after cancellations.
+	 * @param requestedAt the time the payment was requested.
+	 * @param approvedAt the time the payment was approved.
+	 * @param cancels the cancellations of the payment.
+	 */
+	Payment(
+		String paymentKey,
+		String orderId,
+		String orderName,
+		String status,
+		String method,
+		String currency,
+		long totalAmount,
+		long balanceAmount,
+		String requestedAt,
+		String approvedAt,
+		List<PaymentCancel> cancels
+	) {
+		this.paymentKey = paymentKey;
+		this.orderId = orderId;
+		this.orderName = orderName;
+		this.status = status;
+		this.method = method;
+		this.currency = currency;
+		this.totalAmount = totalAmount;
+		this.balanceAmount = balanceAmount;
+		this.requestedAt = requestedAt;
+		this.approvedAt = approvedAt;
+		this.cancels = cancels;
+	}
+
+	/**
+	 * Returns the cancellations of the payment, which cannot be modified as the payment may be shared by callers.
+	 * A JSON null is read as no cancellation, like a missing field.
+	 * @return the unmodifiable list of the cancellations, empty if it was never cancelled.
+	 */
+	public List<PaymentCancel> getCancels() {
+		return cancels == null ? List.of() : Collections.unmodifiableList(cancels);
+	}
+
+}
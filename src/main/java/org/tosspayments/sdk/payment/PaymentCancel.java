@@ -0,0 +1,54 @@
+package org.tosspayments.sdk.payment;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import lombok.Getter;
+
+/**
+ * One cancellation of a {@link Payment}.
+ */
+@Getter
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PaymentCancel {
+
+	/**
+	 * Key identifying the cancellation transaction.
+	 */
+	private String transactionKey;
+
+	/**
+	 * Reason given for the cancellation.
+	 */
+	private String cancelReason;
+
+	/**
+	 * Amount cancelled.
+	 */
+	private long cancelAmount;
+
+	/**
+	 * Time the payment was cancelled.
+	 */
+	private String canceledAt;
+
+	/**
+	 * Constructor for deserialization through the fields.
+	 */
+	private PaymentCancel() {
+	}
+
+	/**
+	 * Constructor for the streaming deserializer of {@link PaymentJsonModule}.
+	 * @param transactionKey the key identifying the cancellation transaction.
+	 * @param cancelReason the reason given for the cancellation.
+	 * @param cancelAmount the amount cancelled.
+	 * @param canceledAt the time the payment was cancelled.
+	 */
+	PaymentCancel(String transactionKey, String cancelReason, long cancelAmount, String canceledAt) {
+		this.transactionKey = transactionKey;
+		this.cancelReason = cancelReason;
+		this.cancelAmount = cancelAmount;
+		this.canceledAt = canceledAt;
+	}
+
+}
@@ -0,0 +1,42 @@
+package org.tosspayments.sdk.payment;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Getter;
+
+/**
+ * Request cancelling a payment, in full or in part.
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PaymentCancelRequest {
+
+	/**
+	 * Reason of the cancellation.
+	 */
+	private final String cancelReason;
+
+	/**
+	 * Amount to cancel, null to cancel the whole balance.
+	 */
+	private final Long cancelAmount;
+
+	/**
+	 * Creates a new PaymentCancelRequest cancelling the whole balance.
+	 * @param cancelReason the reason of the cancellation.
+	 */
+	public PaymentCancelRequest(String cancelReason) {
+		this(cancelReason, null);
+	}
+
+	/**
+	 * Creates a new PaymentCancelRequest cancelling part of the balance.
+	 * @param cancelReason the reason of the cancellation.
+	 * @param cancelAmount the amount to cancel, null to cancel the whole balance.
+	 */
+	public PaymentCancelRequest(String cancelReason, Long cancelAmount) {
+		this.cancelReason = cancelReason;
+		this.cancelAmount = cancelAmount;
+	}
+
+}
@@ -0,0 +1,38 @@
+package org.tosspayments.sdk.payment;
+
+import lombok.Getter;
+
+/**
+ * Request confirming a payment authenticated by the customer.
+ */
+@Getter
+public class PaymentConfirmRequest {
+
+	/**
+	 * Key identifying the payment.
+	 */
+	private final String paymentKey;
+
+	/**
+	 * Order ID issued by the merchant.
+	 */
+	private final String orderId;
+
+	/**
+	 * Amount to confirm, which must match the amount requested.
+	 */
+	private final long amount;
+
+	/**
+	 * Creates a new PaymentConfirmRequest.
+	 * @param paymentKey the key identifying the payment.
+	 * @param orderId the order ID issued by the merchant.
+	 * @param amount the amount to confirm.
+	 */
+	public PaymentConfirmRequest(String paymentKey, String orderId, long amount) {
+		this.paymentKey = paymentKey;
+		this.orderId = orderId;
+		this.amount = amount;
+	}
+
+}
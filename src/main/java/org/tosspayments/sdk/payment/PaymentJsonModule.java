@@ -0,0 +1,316 @@
+package org.tosspayments.sdk.payment;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Jackson module binding the payment requests and responses with hand-written streaming (de)serializers.
+ * The requests are written field by field through their getters and the responses are read token by token
+ * into their constructors, so neither bean introspection nor reflective field access is involved:
+ * the first request skips building the bean (de)serializers, and later ones skip the reflective accessors.
+ * The JSON matches the one bound through the fields, unknown response fields being skipped
+ * with {@link JsonParser#skipChildren()} as {@link com.fasterxml.jackson.annotation.JsonIgnoreProperties} does.
+ * Binding a field added to one of these types requires updating its (de)serializer here.
+ */
+public class PaymentJsonModule extends SimpleModule {
+
+	/**
+	 * Constructor for PaymentJsonModule.
+	 */
+	public PaymentJsonModule() {
+		super(PaymentJsonModule.class.getSimpleName());
+		addSerializer(PaymentConfirmRequest.class, new PaymentConfirmRequestSerializer());
+		addSerializer(PaymentCancelRequest.class, new PaymentCancelRequestSerializer());
+		addSerializer(BillingChargeRequest.class, new BillingChargeRequestSerializer());
+		addDeserializer(PaymentCancel.class, new PaymentCancelDeserializer());
+		addDeserializer(Payment.class, new PaymentDeserializer());
+	}
+
+	/**
+	 * Reads the String at the current token, null for a JSON null.
+	 * Other scalars are coerced as by the String deserializer of Jackson.
+	 * @param parser The parser, at the value.
+	 * @param ctxt The deserialization context.
+	 * @return The String value.
+	 * @throws IOException if the value cannot be read as a String.
+	 */
+	private static String readString(JsonParser parser, DeserializationContext ctxt) throws IOException {
+		JsonToken token = parser.currentToken();
+		if (token == JsonToken.VALUE_STRING) {
+			return parser.getText();
+		}
+		if (token == JsonToken.VALUE_NULL) {
+			return null;
+		}
+
+		return ctxt.readValue(parser, String.class);
+	}
+
+	/**
+	 * Reads the long at the current token, 0 for a JSON null.
+	 * Other values are coerced as by the long deserializer of Jackson.
+	 * @param parser The parser, at the value.
+	 * @param ctxt The deserialization context.
+	 * @return The long value.
+	 * @throws IOException if the value cannot be read as a long.
+	 */
+	private static long readLong(JsonParser parser, DeserializationContext ctxt) throws IOException {
+		JsonToken token = parser.currentToken();
+		if (token == JsonToken.VALUE_NUMBER_INT) {
+			return parser.getLongValue();
+		}
+		if (token == JsonToken.VALUE_NULL) {
+			return 0L;
+		}
+
+		return ctxt.readValue(parser, Long.TYPE);
+	}
+
+	/**
+	 * Serializer of {@link PaymentConfirmRequest}.
+	 */
+	private static class PaymentConfirmRequestSerializer extends StdSerializer<PaymentConfirmRequest> {
+
+		/**
+		 * Constructor for PaymentConfirmRequestSerializer.
+		 */
+		PaymentConfirmRequestSerializer() {
+			super(PaymentConfirmRequest.class);
+		}
+
+		/**
+		 * Writes the request as a JSON object.
+		 * @param value The request.
+		 * @param gen The generator.
+		 * @param provider The serializer provider.
+		 * @throws IOException if writing fails.
+		 */
+		@Override
+		public void serialize(PaymentConfirmRequest value, JsonGenerator gen, SerializerProvider provider)
+			throws IOException {
+			gen.writeStartObject(value);
+			gen.writeStringField("paymentKey", value.getPaymentKey());
+			gen.writeStringField("orderId", value.getOrderId());
+			gen.writeNumberField("amount", value.getAmount());
+			gen.writeEndObject();
+		}
+	}
+
+	/**
+	 * Serializer of {@link PaymentCancelRequest}, leaving out the null fields.
+	 */
+	private static class PaymentCancelRequestSerializer extends StdSerializer<PaymentCancelRequest> {
+
+		/**
+		 * Constructor for PaymentCancelRequestSerializer.
+		 */
+		PaymentCancelRequestSerializer() {
+			super(PaymentCancelRequest.class);
+		}
+
+		/**
+		 * Writes the request as a JSON object.
+		 * @param value The request.
+		 * @param gen The generator.
+		 * @param provider The serializer provider.
+		 * @throws IOException if writing fails.
+		 */
+		@Override
+		public void serialize(PaymentCancelRequest value, JsonGenerator gen, SerializerProvider provider)
+			throws IOException {
+			gen.writeStartObject(value);
+			if (value.getCancelReason() != null) {
+				gen.writeStringField("cancelReason", value.getCancelReason());
+			}
+			if (value.getCancelAmount() != null) {
+				gen.writeNumberField("cancelAmount", value.getCancelAmount());
+			}
+			gen.writeEndObject();
+		}
+	}
+
+	/**
+	 * Serializer of {@link BillingChargeRequest}.
+	 */
+	private static class BillingChargeRequestSerializer extends StdSerializer<BillingChargeRequest> {
+
+		/**
+		 * Constructor for BillingChargeRequestSerializer.
+		 */
+		BillingChargeRequestSerializer() {
+			super(BillingChargeRequest.class);
+		}
+
+		/**
+		 * Writes the request as a JSON object.
+		 * @param value The request.
+		 * @param gen The generator.
+		 * @param provider The serializer provider.
+		 * @throws IOException if writing fails.
+		 */
+		@Override
+		public void serialize(BillingChargeRequest value, JsonGenerator gen, SerializerProvider provider)
+			throws IOException {
+			gen.writeStartObject(value);
+			gen.writeStringField("customerKey", value.getCustomerKey());
+			gen.writeNumberField("amount", value.getAmount());
+			gen.writeStringField("orderId", value.getOrderId());
+			gen.writeStringField("orderName", value.getOrderName());
+			gen.writeEndObject();
+		}
+	}
+
+	/**
+	 * Deserializer of {@link PaymentCancel}.
+	 */
+	private static class PaymentCancelDeserializer extends StdDeserializer<PaymentCancel> {
+
+		/**
+		 * Constructor for PaymentCancelDeserializer.
+		 */
+		PaymentCancelDeserializer() {
+			super(PaymentCancel.class);
+		}
+
+		/**
+		 * Reads the cancellation at the current token.
+		 * @param parser The parser, at the start of the object.
+		 * @param ctxt The deserialization context.
+		 * @return The cancellation.
+		 * @throws IOException if reading the cancellation fails.
+		 */
+		@Override
+		public PaymentCancel deserialize(JsonParser parser, DeserializationContext ctxt) throws IOException {
+			if (!parser.isExpectedStartObjectToken()) {
+				return (PaymentCancel)ctxt.handleUnexpectedToken(PaymentCancel.class, parser);
+			}
+
+			String transactionKey = null;
+			String cancelReason = null;
+			long cancelAmount = 0L;
+			String canceledAt = null;
+			for (String name = parser.nextFieldName(); name != null; name = parser.nextFieldName()) {
+				parser.nextToken();
+				switch (name) {
+					case "transactionKey" -> transactionKey = readString(parser, ctxt);
+					case "cancelReason" -> cancelReason = readString(parser, ctxt);
+					case "cancelAmount" -> cancelAmount = readLong(parser, ctxt);
+					case "canceledAt" -> canceledAt = readString(parser, ctxt);
+					default -> parser.skipChildren();
+				}
+			}
+
+			return new PaymentCancel(transactionKey, cancelReason, cancelAmount, canceledAt);
+		}
+	}
+
+	/**
+	 * Deserializer of {@link Payment}.
+	 */
+	private static class PaymentDeserializer extends StdDeserializer<Payment> {
+
+		private final PaymentCancelDeserializer cancelDeserializer = new PaymentCancelDeserializer();
+
+		/**
+		 * Constructor for PaymentDeserializer.
+		 */
+		PaymentDeserializer() {
+			super(Payment.class);
+		}
+
+		/**
+		 * Reads the payment at the current token.
+		 * @param parser The parser, at the start of the object.
+		 * @param ctxt The deserialization context.
+		 * @return The payment.
+		 * @throws IOException if reading the payment fails.
+		 */
+		@Override
+		public Payment deserialize(JsonParser parser, DeserializationContext ctxt) throws IOException {
+			if (!parser.isExpectedStartObjectToken()) {
+				return (Payment)ctxt.handleUnexpectedToken(Payment.class, parser);
+			}
+
+			String paymentKey = null;
+			String orderId = null;
+			String orderName = null;
+			String status = null;
+			String method = null;
+			String currency = null;
+			long totalAmount = 0L;
+			long balanceAmount = 0L;
+			String requestedAt = null;
+			String approvedAt = null;
+			List<PaymentCancel> cancels = List.of();
+			for (String name = parser.nextFieldName(); name != null; name = parser.nextFieldName()) {
+				parser.nextToken();
+				switch (name) {
+					case "paymentKey" -> paymentKey = readString(parser, ctxt);
+					case "orderId" -> orderId = readString(parser, ctxt);
+					case "orderName" -> orderName = readString(parser, ctxt);
+					case "status" -> status = readString(parser, ctxt);
+					case "method" -> method = readString(parser, ctxt);
+					case "currency" -> currency = readString(parser, ctxt);
+					case "totalAmount" -> totalAmount = readLong(parser, ctxt);
+					case "balanceAmount" -> balanceAmount = readLong(parser, ctxt);
+					case "requestedAt" -> requestedAt = readString(parser, ctxt);
+					case "approvedAt" -> approvedAt = readString(parser, ctxt);
+					case "cancels" -> cancels = readCancels(parser, ctxt);
+					default -> parser.skipChildren();
+				}
+			}
+
+			return new Payment(
+				paymentKey,
+				orderId,
+				orderName,
+				status,
+				method,
+				currency,
+				totalAmount,
+				balanceAmount,
+				requestedAt,
+				approvedAt,
+				cancels
+			);
+		}
+
+		/**
+		 * Reads the array of cancellations at the current token, empty for a JSON null.
+		 * @param parser The parser, at the start of the array.
+		 * @param ctxt The deserialization context.
+		 * @return The unmodifiable list of the cancellations.
+		 * @throws IOException if reading the cancellations fails.
+		 */
+		private List<PaymentCancel> readCancels(JsonParser parser, DeserializationContext ctxt) throws IOException {
+			if (parser.currentToken() == JsonToken.VALUE_NULL) {
+				return List.of();
+			}
+			if (!parser.isExpectedStartArrayToken()) {
+				@SuppressWarnings("unchecked")
+				List<PaymentCancel> unexpected = (List<PaymentCancel>)ctxt.handleUnexpectedToken(List.class, parser);
+
+				return unexpected;
+			}
+
+			List<PaymentCancel> cancels = new ArrayList<>();
+			for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+				cancels.add(token == JsonToken.VALUE_NULL ? null : cancelDeserializer.deserialize(parser, ctxt));
+			}
+
+			return Collections.unmodifiableList(cancels);
+		}
+	}
+
+}
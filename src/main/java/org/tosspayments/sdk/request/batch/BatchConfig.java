@@ -0,0 +1,112 @@
+package org.tosspayments.sdk.request.batch;
+
+import java.util.function.Predicate;
+
+import lombok.Getter;
+
+/**
+ * Configuration of {@link BatchExecutor}: how many operations of a batch are in flight at once,
+ * which failures cancel the rest of the batch, and who is notified of its progress.
+ */
+@Getter
+public class BatchConfig {
+
+	/**
+	 * Maximum number of operations of a batch in flight at once.
+	 */
+	private final int parallelism;
+
+	/**
+	 * Tests whether the failure of an operation is fatal, cancelling the rest of the batch.
+	 */
+	private final Predicate<Throwable> fatalError;
+
+	/**
+	 * Listener notified of the progress of each batch.
+	 */
+	private final BatchProgressListener progressListener;
+
+	/**
+	 * Creates a new BatchConfig from the builder.
+	 * @param builder The builder holding the settings.
+	 */
+	private BatchConfig(Builder builder) {
+		this.parallelism = builder.parallelism;
+		this.fatalError = builder.fatalError;
+		this.progressListener = builder.progressListener;
+	}
+
+	/**
+	 * Creates a new builder with the default settings.
+	 * @return A new builder.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Builder for {@link BatchConfig}.
+	 */
+	public static class Builder {
+
+		private int parallelism = 10;
+
+		private Predicate<Throwable> fatalError = throwable -> false;
+
+		private BatchProgressListener progressListener = (completed, failed, total) -> {
+		};
+
+		/**
+		 * Creates a new builder with the default settings.
+		 */
+		private Builder() {
+		}
+
+		/**
+		 * Sets the maximum number of operations of a batch in flight at once. Defaults to 10.
+		 * @param parallelism the parallelism, at least 1.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withParallelism(int parallelism) {
+			if (parallelism < 1) {
+				throw new IllegalArgumentException("Parallelism must be at least 1");
+			}
+			this.parallelism = parallelism;
+
+			return this;
+		}
+
+		/**
+		 * Sets the test of the failures cancelling the rest of the batch, e.g. an authentication failure.
+		 * It is given the cause of the failure, unwrapped from any CompletionException.
+		 * Defaults to no failure being fatal.
+		 * @param fatalError the test of fatal failures.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withFatalError(Predicate<Throwable> fatalError) {
+			this.fatalError = fatalError;
+
+			return this;
+		}
+
+		/**
+		 * Sets the listener notified of the progress of each batch. Defaults to none.
+		 * @param progressListener the progress listener.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withProgressListener(BatchProgressListener progressListener) {
+			this.progressListener = progressListener;
+
+			return this;
+		}
+
+		/**
+		 * Builds the BatchConfig instance.
+		 * @return the BatchConfig instance.
+		 */
+		public BatchConfig build() {
+			return new BatchConfig(this);
+		}
+	}
+
+}
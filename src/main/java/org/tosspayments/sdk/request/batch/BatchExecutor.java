@@ -0,0 +1,57 @@
+package org.tosspayments.sdk.request.batch;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import org.tosspayments.sdk.request.requester.Requester;
+
+/**
+ * Runs batches of operations with a {@link Requester}, at most the parallelism of its {@link BatchConfig} at once.
+ * Operations are pulled from the batch as earlier ones complete, so a large stream of operations is never
+ * materialized up front, and the results are returned in the order of the operations.
+ * <p>
+ * A failed operation does not fail the batch, its failure is returned as its result,
+ * unless it is fatal according to the configuration: the operations in flight are then cancelled,
+ * and no more operation is pulled from the batch, so the results only cover the operations pulled before.
+ * Cancelling the returned future cancels the batch the same way.
+ */
+public class BatchExecutor {
+
+	private final Requester requester;
+
+	private final BatchConfig config;
+
+	/**
+	 * Creates a new BatchExecutor.
+	 * @param requester the requester sending the requests of the operations.
+	 * @param config the configuration of the batches.
+	 */
+	public BatchExecutor(Requester requester, BatchConfig config) {
+		this.requester = requester;
+		this.config = config;
+	}
+
+	/**
+	 * Runs a batch of operations.
+	 * @param operations the operations of the batch.
+	 * @param <T> the type of the responses.
+	 * @return a CompletableFuture completed with the results of the operations, in the order of the operations.
+	 */
+	public <T> CompletableFuture<List<BatchResult<T>>> execute(List<? extends BatchOperation<T>> operations) {
+		return new BatchRun<T>(requester, config, operations.iterator(), operations.size(), () -> { }).start();
+	}
+
+	/**
+	 * Runs a batch of operations, pulled from the stream as earlier ones complete.
+	 * The progress listener is given a total of -1, as the size of the stream is not known in advance.
+	 * The stream is closed once the batch completes, or once it is cancelled and no operation is in flight.
+	 * @param operations the operations of the batch.
+	 * @param <T> the type of the responses.
+	 * @return a CompletableFuture completed with the results of the operations, in the order of the operations.
+	 */
+	public <T> CompletableFuture<List<BatchResult<T>>> execute(Stream<? extends BatchOperation<T>> operations) {
+		return new BatchRun<T>(requester, config, operations.iterator(), -1, operations::close).start();
+	}
+
+}
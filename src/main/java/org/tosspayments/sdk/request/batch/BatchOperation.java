@@ -0,0 +1,74 @@
+package org.tosspayments.sdk.request.batch;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.tosspayments.sdk.request.requester.RequestOptions;
+import org.tosspayments.sdk.request.requester.Requester;
+
+/**
+ * One operation of a batch run by a {@link BatchExecutor}, sending its request asynchronously.
+ * @param <T> the type of the response.
+ */
+@FunctionalInterface
+public interface BatchOperation<T> {
+
+	/**
+	 * Sends the request of the operation.
+	 *
+	 * @param requester the requester of the batch
+	 * @return a CompletableFuture that will contain the response object
+	 */
+	CompletableFuture<T> send(Requester requester);
+
+	/**
+	 * Creates an operation sending a GET request.
+	 *
+	 * @param url          the URL to send the GET request to
+	 * @param responseType the class of the response type
+	 * @param <T>          the type of the response
+	 * @return the operation
+	 */
+	static <T> BatchOperation<T> get(String url, Class<T> responseType) {
+		return requester -> requester.getAsync(url, responseType);
+	}
+
+	/**
+	 * Creates an operation sending a GET request with the given options.
+	 *
+	 * @param url          the URL to send the GET request to
+	 * @param responseType the class of the response type
+	 * @param options      the options of the request
+	 * @param <T>          the type of the response
+	 * @return the operation
+	 */
+	static <T> BatchOperation<T> get(String url, Class<T> responseType, RequestOptions options) {
+		return requester -> requester.getAsync(url, responseType, options);
+	}
+
+	/**
+	 * Creates an operation sending a POST request with the given request body.
+	 *
+	 * @param url          the URL to send the POST request to
+	 * @param requestBody  the body of the POST request
+	 * @param responseType the class of the response type
+	 * @param <T>          the type of the response
+	 * @return the operation
+	 */
+	static <T> BatchOperation<T> post(String url, Object requestBody, Class<T> responseType) {
+		return requester -> requester.postAsync(url, requestBody, responseType);
+	}
+
+	/**
+	 * Creates an operation sending a POST request with the given request body and options.
+	 *
+	 * @param url          the URL to send the POST request to
+	 * @param requestBody  the body of the POST request
+	 * @param responseType the class of the response type
+	 * @param options      the options of the request
+	 * @param <T>          the type of the response
+	 * @return the operation
+	 */
+	static <T> BatchOperation<T> post(String url, Object requestBody, Class<T> responseType, RequestOptions options) {
+		return requester -> requester.postAsync(url, requestBody, responseType, options);
+	}
+}
@@ -0,0 +1,17 @@
+package org.tosspayments.sdk.request.batch;
+
+/**
+ * Listener notified of the progress of a batch, e.g. to log the progress of a nightly job.
+ */
+@FunctionalInterface
+public interface BatchProgressListener {
+
+	/**
+	 * Called after an operation of the batch completed, on the thread that completed it.
+	 *
+	 * @param completed the number of operations completed so far, including failed ones
+	 * @param failed    the number of operations failed so far
+	 * @param total     the number of operations of the batch, or -1 if it is not known in advance
+	 */
+	void onProgress(int completed, int failed, int total);
+}
@@ -0,0 +1,116 @@
+package org.tosspayments.sdk.request.batch;
+
+import org.tosspayments.sdk.exception.TossApiException;
+
+import lombok.Getter;
+
+/**
+ * Result of one operation of a batch: its response, the failure of its request,
+ * or its cancellation when the batch was cancelled before it completed.
+ * @param <T> the type of the response.
+ */
+@Getter
+public final class BatchResult<T> {
+
+	/**
+	 * Outcome of an operation.
+	 */
+	public enum Status {
+
+		/**
+		 * The request succeeded.
+		 */
+		SUCCEEDED,
+
+		/**
+		 * The request failed.
+		 */
+		FAILED,
+
+		/**
+		 * The batch was cancelled before the request completed.
+		 */
+		CANCELLED
+	}
+
+	/**
+	 * Position of the operation in the batch.
+	 */
+	private final int index;
+
+	/**
+	 * Outcome of the operation.
+	 */
+	private final Status status;
+
+	/**
+	 * Response of the request, null unless it succeeded.
+	 */
+	private final T value;
+
+	/**
+	 * Cause of the failure of the request, null if it succeeded or was not sent.
+	 */
+	private final Throwable exception;
+
+	/**
+	 * Creates a new BatchResult.
+	 * @param index the position of the operation in the batch.
+	 * @param status the outcome of the operation.
+	 * @param value the response of the request.
+	 * @param exception the cause of the failure of the request.
+	 */
+	private BatchResult(int index, Status status, T value, Throwable exception) {
+		this.index = index;
+		this.status = status;
+		this.value = value;
+		this.exception = exception;
+	}
+
+	/**
+	 * Creates the result of a successful request.
+	 * @param index the position of the operation in the batch.
+	 * @param value the response of the request.
+	 * @return the result.
+	 */
+	static <T> BatchResult<T> succeeded(int index, T value) {
+		return new BatchResult<>(index, Status.SUCCEEDED, value, null);
+	}
+
+	/**
+	 * Creates the result of a failed request.
+	 * @param index the position of the operation in the batch.
+	 * @param exception the cause of the failure.
+	 * @return the result.
+	 */
+	static <T> BatchResult<T> failed(int index, Throwable exception) {
+		return new BatchResult<>(index, Status.FAILED, null, exception);
+	}
+
+	/**
+	 * Creates the result of an operation cancelled with the batch.
+	 * @param index the position of the operation in the batch.
+	 * @param exception the cancellation of the request, null if it was not sent.
+	 * @return the result.
+	 */
+	static <T> BatchResult<T> cancelled(int index, Throwable exception) {
+		return new BatchResult<>(index, Status.CANCELLED, null, exception);
+	}
+
+	/**
+	 * Returns whether the request succeeded.
+	 * @return true if the request succeeded.
+	 */
+	public boolean isSucceeded() {
+		return status == Status.SUCCEEDED;
+	}
+
+	/**
+	 * Returns the error response of the Toss API, if the request failed with one.
+	 * @return the exception of the error response, or null if the request did not fail with one.
+	 */
+	public TossApiException getApiException() {
+		return exception instanceof TossApiException apiException ? apiException : null;
+	}
+
+}
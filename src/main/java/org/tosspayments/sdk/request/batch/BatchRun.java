@@ -0,0 +1,233 @@
+package org.tosspayments.sdk.request.batch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.tosspayments.sdk.request.requester.Requester;
+
+/**
+ * One run of a batch. Each of the {@code parallelism} lanes sends an operation, and the next one when it completes.
+ * A lane keeps sending on its thread while the requests complete synchronously,
+ * so a batch of cached responses does not grow the stack.
+ * Once cancelled, no operation is pulled anymore, so the results only cover the operations pulled before,
+ * and the source of the operations is closed when the run completes.
+ * The state of the run is guarded by the run itself, and no lock is held while sending or notifying.
+ * @param <T> the type of the responses.
+ */
+final class BatchRun<T> {
+
+	private final Requester requester;
+
+	private final BatchConfig config;
+
+	private final Iterator<? extends BatchOperation<T>> operations;
+
+	private final int total;
+
+	private final Runnable onClose;
+
+	private final CompletableFuture<List<BatchResult<T>>> result = new CompletableFuture<>();
+
+	private final List<BatchResult<T>> results = new ArrayList<>();
+
+	private final Map<Integer, CompletableFuture<T>> inFlight = new HashMap<>();
+
+	private int pending;
+
+	private int completed;
+
+	private int failed;
+
+	private boolean cancelled;
+
+	private boolean closed;
+
+	/**
+	 * Creates a new run of a batch.
+	 * @param requester the requester sending the requests of the operations.
+	 * @param config the configuration of the batch.
+	 * @param operations the operations of the batch.
+	 * @param total the number of operations, or -1 if it is not known in advance.
+	 * @param onClose closes the source of the operations once the run completes.
+	 */
+	BatchRun(
+		Requester requester,
+		BatchConfig config,
+		Iterator<? extends BatchOperation<T>> operations,
+		int total,
+		Runnable onClose
+	) {
+		this.requester = requester;
+		this.config = config;
+		this.operations = operations;
+		this.total = total;
+		this.onClose = onClose;
+	}
+
+	/**
+	 * Starts the lanes of the run.
+	 * @return a CompletableFuture completed with the results of the operations, cancelling the run if cancelled.
+	 */
+	CompletableFuture<List<BatchResult<T>>> start() {
+		result.whenComplete((results, throwable) -> {
+			if (throwable != null) {
+				cancel();
+			}
+		});
+		for (int lane = 0; lane < config.getParallelism() && !result.isDone(); lane++) {
+			runLane();
+		}
+
+		return result;
+	}
+
+	/**
+	 * Sends operations one after the other until one is still in flight when sent, or none is left.
+	 * The lane is resumed by the completion of the operation in flight.
+	 */
+	private void runLane() {
+		while (true) {
+			BatchOperation<T> operation;
+			int index;
+			synchronized (this) {
+				if (cancelled || !operations.hasNext()) {
+					break;
+				}
+				operation = operations.next();
+				index = results.size();
+				results.add(null);
+				pending++;
+			}
+
+			CompletableFuture<T> response = send(operation);
+			if (response.isDone()) {
+				onComplete(index, response);
+			} else {
+				track(index, response);
+				response.whenComplete((value, throwable) -> {
+					onComplete(index, response);
+					runLane();
+				});
+				return;
+			}
+		}
+		finishIfDone();
+	}
+
+	/**
+	 * Sends the request of an operation, reporting a synchronous failure through the returned future.
+	 * @param operation the operation to send.
+	 * @return the future of the response.
+	 */
+	private CompletableFuture<T> send(BatchOperation<T> operation) {
+		try {
+			return operation.send(requester);
+		} catch (RuntimeException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	/**
+	 * Tracks a request in flight so it can be cancelled, or cancels it if the run was cancelled meanwhile.
+	 * @param index the position of the operation.
+	 * @param response the future of the response.
+	 */
+	private void track(int index, CompletableFuture<T> response) {
+		synchronized (this) {
+			if (!cancelled) {
+				inFlight.put(index, response);
+				return;
+			}
+		}
+		response.cancel(true);
+	}
+
+	/**
+	 * Records the result of a completed operation, notifies the progress,
+	 * and cancels the run if the operation failed fatally.
+	 * @param index the position of the operation.
+	 * @param response the completed future of the response.
+	 */
+	private void onComplete(int index, CompletableFuture<T> response) {
+		Throwable throwable = response.handle((value, failure) -> unwrap(failure)).join();
+		BatchResult<T> batchResult;
+		int completedCount;
+		int failedCount;
+		boolean fatal;
+		synchronized (this) {
+			inFlight.remove(index);
+			pending--;
+			if (throwable == null) {
+				batchResult = BatchResult.succeeded(index, response.join());
+			} else if (cancelled && throwable instanceof CancellationException) {
+				batchResult = BatchResult.cancelled(index, throwable);
+			} else {
+				batchResult = BatchResult.failed(index, throwable);
+				failed++;
+			}
+			results.set(index, batchResult);
+			completed++;
+			completedCount = completed;
+			failedCount = failed;
+			fatal = batchResult.getStatus() == BatchResult.Status.FAILED && config.getFatalError().test(throwable);
+		}
+
+		config.getProgressListener().onProgress(completedCount, failedCount, total);
+		if (fatal) {
+			cancel();
+		}
+	}
+
+	/**
+	 * Cancels the run: the requests in flight are cancelled and no operation is pulled anymore.
+	 */
+	private void cancel() {
+		List<CompletableFuture<T>> cancelledResponses;
+		synchronized (this) {
+			if (cancelled) {
+				return;
+			}
+			cancelled = true;
+			cancelledResponses = new ArrayList<>(inFlight.values());
+		}
+		cancelledResponses.forEach(response -> response.cancel(true));
+		finishIfDone();
+	}
+
+	/**
+	 * Completes the run and closes the source of the operations
+	 * once no operation is in flight and none is left to send.
+	 */
+	private void finishIfDone() {
+		List<BatchResult<T>> finished;
+		synchronized (this) {
+			if (closed || pending > 0 || !cancelled && operations.hasNext()) {
+				return;
+			}
+			closed = true;
+			finished = Collections.unmodifiableList(new ArrayList<>(results));
+		}
+		try {
+			onClose.run();
+		} finally {
+			result.complete(finished);
+		}
+	}
+
+	/**
+	 * Returns the cause of a failure, unwrapped from a CompletionException.
+	 * @param throwable the failure, or null.
+	 * @return the cause of the failure, or null.
+	 */
+	private static Throwable unwrap(Throwable throwable) {
+		return throwable instanceof CompletionException ? throwable.getCause() : throwable;
+	}
+
+}
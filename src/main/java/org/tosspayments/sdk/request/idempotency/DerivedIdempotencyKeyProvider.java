@@ -0,0 +1,50 @@
+package org.tosspayments.sdk.request.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * {@link IdempotencyKeyProvider} deriving the key from the request path and a value of the request body,
+ * e.g. the orderId. Requests for the same operation on the same value get the same key,
+ * so repeated requests are answered with the result of the first one.
+ * When no value can be derived from the body, a random key is issued.
+ */
+public class DerivedIdempotencyKeyProvider implements IdempotencyKeyProvider {
+
+	private final Function<Object, String> keySource;
+
+	private final IdempotencyKeyProvider fallback = new RandomIdempotencyKeyProvider();
+
+	/**
+	 * Creates a new DerivedIdempotencyKeyProvider.
+	 *
+	 * @param keySource function extracting the identifying value (e.g. orderId) from the request body,
+	 *                  returning null when the body has no such value
+	 */
+	public DerivedIdempotencyKeyProvider(Function<Object, String> keySource) {
+		if (keySource == null) {
+			throw new IllegalArgumentException("Key source must not be null");
+		}
+
+		this.keySource = keySource;
+	}
+
+	/**
+	 * Returns a name based UUID of the path and the value extracted from the body.
+	 *
+	 * @param path        the API endpoint path of the request
+	 * @param requestBody the body of the request
+	 * @return the derived Idempotency-Key, or a random key if no value could be extracted
+	 */
+	@Override
+	public String getIdempotencyKey(String path, Object requestBody) {
+		String source = requestBody == null ? null : keySource.apply(requestBody);
+		if (source == null) {
+			return fallback.getIdempotencyKey(path, requestBody);
+		}
+
+		return UUID.nameUUIDFromBytes((path + ":" + source).getBytes(StandardCharsets.UTF_8)).toString();
+	}
+
+}
@@ -0,0 +1,17 @@
+package org.tosspayments.sdk.request.idempotency;
+
+/**
+ * Provides the Idempotency-Key sent with each POST request.
+ * Toss Payments processes requests sharing the same key only once, and answers repeated requests with the first result.
+ */
+public interface IdempotencyKeyProvider {
+
+	/**
+	 * Returns the Idempotency-Key for a POST request.
+	 *
+	 * @param path        the API endpoint path of the request
+	 * @param requestBody the body of the request
+	 * @return the Idempotency-Key to send with the request
+	 */
+	String getIdempotencyKey(String path, Object requestBody);
+}
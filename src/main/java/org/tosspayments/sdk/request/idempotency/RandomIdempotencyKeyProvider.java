@@ -0,0 +1,23 @@
+package org.tosspayments.sdk.request.idempotency;
+
+import java.util.UUID;
+
+/**
+ * {@link IdempotencyKeyProvider} issuing a new random key for every request.
+ * This is the default provider.
+ */
+public class RandomIdempotencyKeyProvider implements IdempotencyKeyProvider {
+
+	/**
+	 * Returns a new random UUID regardless of the request.
+	 *
+	 * @param path        the API endpoint path of the request
+	 * @param requestBody the body of the request
+	 * @return a random Idempotency-Key
+	 */
+	@Override
+	public String getIdempotencyKey(String path, Object requestBody) {
+		return UUID.randomUUID().toString();
+	}
+
+}
@@ -0,0 +1,128 @@
+package org.tosspayments.sdk.request.pagination;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Subscriber exposing the items of a {@link CursorPagePublisher} as a blocking iterator.
+ * It requests a page worth of items up front and one more for each item taken,
+ * so at most that many items wait in its queue besides the pages held by the subscription.
+ * @param <T> the type of the items.
+ */
+final class BlockingPageIterator<T> implements Flow.Subscriber<T>, Iterator<T> {
+
+	private static final Object COMPLETE = new Object();
+
+	private final int batchSize;
+
+	private final BlockingQueue<Object> signals = new LinkedBlockingQueue<>();
+
+	private Flow.Subscription subscription;
+
+	private Object next;
+
+	/**
+	 * Creates a new BlockingPageIterator.
+	 * @param batchSize the number of items requested up front.
+	 */
+	BlockingPageIterator(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Requests the first items.
+	 * @param subscription the subscription to the publisher.
+	 */
+	@Override
+	public void onSubscribe(Flow.Subscription subscription) {
+		this.subscription = subscription;
+		subscription.request(batchSize);
+	}
+
+	/**
+	 * Queues an item.
+	 * @param item the item.
+	 */
+	@Override
+	public void onNext(T item) {
+		signals.add(item);
+	}
+
+	/**
+	 * Queues the failure, thrown once the items before it were taken.
+	 * @param throwable the failure.
+	 */
+	@Override
+	public void onError(Throwable throwable) {
+		signals.add(new Failure(throwable));
+	}
+
+	/**
+	 * Queues the end of the items.
+	 */
+	@Override
+	public void onComplete() {
+		signals.add(COMPLETE);
+	}
+
+	/**
+	 * Waits for the next signal, returning whether it is an item.
+	 * @return true if there is a next item.
+	 * @throws RuntimeException if fetching a page failed, or the thread was interrupted.
+	 */
+	@Override
+	public boolean hasNext() {
+		if (next == null) {
+			try {
+				next = signals.take();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				close();
+				throw new RuntimeException("Request was interrupted", e);
+			}
+		}
+		if (next instanceof Failure failure) {
+			if (failure.cause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new RuntimeException(failure.cause());
+		}
+
+		return next != COMPLETE;
+	}
+
+	/**
+	 * Takes the next item, requesting one more.
+	 * @return the next item.
+	 */
+	@Override
+	@SuppressWarnings("unchecked") // only items are returned, the end and failures are checked by hasNext
+	public T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		T item = (T)next;
+		next = null;
+		subscription.request(1);
+
+		return item;
+	}
+
+	/**
+	 * Stops the pagination.
+	 */
+	void close() {
+		subscription.cancel();
+	}
+
+	/**
+	 * Failure of the pagination, queued after the items received before it.
+	 * @param cause the cause of the failure.
+	 */
+	private record Failure(Throwable cause) {
+	}
+
+}
@@ -0,0 +1,140 @@
+package org.tosspayments.sdk.request.pagination;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.tosspayments.sdk.request.requester.Requester;
+
+/**
+ * {@link Flow.Publisher} of the items of a cursor-paginated list API, e.g. transactions,
+ * fetching the pages with {@code startingAfter} and {@code limit} query parameters as the subscriber consumes them.
+ * <p>
+ * Each subscriber reads the list from its first page. Pages are fetched one after the other,
+ * as the cursor of a page is the last item of the previous one, and at most the prefetch of the
+ * {@link PaginationConfig} pages are held per subscriber, so a list of any length is read in constant memory.
+ * The next page is fetched while the current one is consumed, once the subscriber has requested items.
+ * A page shorter than the limit is the last one.
+ * @param <T> the type of the items.
+ */
+public class CursorPagePublisher<T> implements Flow.Publisher<T> {
+
+	static final String STARTING_AFTER_PARAMETER = "startingAfter";
+
+	static final String LIMIT_PARAMETER = "limit";
+
+	private final Requester requester;
+
+	private final String path;
+
+	private final Class<T[]> pageType;
+
+	private final Function<? super T, String> cursorOf;
+
+	private final PaginationConfig config;
+
+	/**
+	 * Creates a new CursorPagePublisher.
+	 * @param requester the requester fetching the pages.
+	 * @param path the path of the list API, with its query parameters other than the pagination ones, if any.
+	 * @param pageType the array class a page is parsed into.
+	 * @param cursorOf the cursor of an item, sent as {@code startingAfter} to fetch the items after it.
+	 * @param config the configuration of the pagination.
+	 */
+	public CursorPagePublisher(
+		Requester requester,
+		String path,
+		Class<T[]> pageType,
+		Function<? super T, String> cursorOf,
+		PaginationConfig config
+	) {
+		this.requester = requester;
+		this.path = path;
+		this.pageType = pageType;
+		this.cursorOf = cursorOf;
+		this.config = config;
+	}
+
+	/**
+	 * Subscribes to the items of the list, from its first page.
+	 * @param subscriber the subscriber.
+	 */
+	@Override
+	public void subscribe(Flow.Subscriber<? super T> subscriber) {
+		PageSubscription<T> subscription = new PageSubscription<>(subscriber, this);
+		subscriber.onSubscribe(subscription);
+	}
+
+	/**
+	 * Returns a sequential stream of the items of the list, from its first page.
+	 * Reading the stream blocks the calling thread until the next item has arrived,
+	 * and closing the stream stops the pagination.
+	 * A failure to fetch a page is thrown when reaching the items it would have contained.
+	 * @return the stream of items.
+	 */
+	public Stream<T> stream() {
+		BlockingPageIterator<T> iterator = new BlockingPageIterator<>(config.getLimit());
+		subscribe(iterator);
+
+		return StreamSupport.stream(
+			Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+			false
+		).onClose(iterator::close);
+	}
+
+	/**
+	 * Returns the requester fetching the pages.
+	 * @return the requester.
+	 */
+	Requester getRequester() {
+		return requester;
+	}
+
+	/**
+	 * Returns the array class a page is parsed into.
+	 * @return the page type.
+	 */
+	Class<T[]> getPageType() {
+		return pageType;
+	}
+
+	/**
+	 * Returns the configuration of the pagination.
+	 * @return the configuration.
+	 */
+	PaginationConfig getConfig() {
+		return config;
+	}
+
+	/**
+	 * Returns the cursor of an item.
+	 * @param item the item.
+	 * @return the cursor of the item.
+	 */
+	String cursorOf(T item) {
+		return cursorOf.apply(item);
+	}
+
+	/**
+	 * Returns the URL of the page after the given cursor.
+	 * @param cursor the cursor of the last item of the previous page, or null for the first page.
+	 * @return the URL of the page.
+	 */
+	String pageUrl(String cursor) {
+		StringBuilder url = new StringBuilder(path)
+			.append(path.indexOf('?') < 0 ? '?' : '&')
+			.append(LIMIT_PARAMETER).append('=').append(config.getLimit());
+		if (cursor != null) {
+			url.append('&').append(STARTING_AFTER_PARAMETER).append('=')
+				.append(URLEncoder.encode(cursor, StandardCharsets.UTF_8));
+		}
+
+		return url.toString();
+	}
+
+}
@@ -0,0 +1,248 @@
+package org.tosspayments.sdk.request.pagination;
+
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Subscription of one subscriber to a {@link CursorPagePublisher}.
+ * Signals are emitted by a drain loop that a single thread runs at a time, either the thread requesting items
+ * or the one completing a page, so the subscriber is never called concurrently.
+ * Fetched pages are handed to the drain loop through a concurrent queue, every other state is confined to it.
+ * @param <T> the type of the items.
+ */
+final class PageSubscription<T> implements Flow.Subscription {
+
+	private final Flow.Subscriber<? super T> subscriber;
+
+	private final CursorPagePublisher<T> publisher;
+
+	private final AtomicLong requested = new AtomicLong();
+
+	private final AtomicInteger wip = new AtomicInteger();
+
+	private final Queue<T[]> arrived = new ConcurrentLinkedQueue<>();
+
+	private final Queue<Iterator<T>> pages = new ArrayDeque<>();
+
+	private Iterator<T> current = Collections.emptyIterator();
+
+	private String cursor;
+
+	private boolean lastPage;
+
+	private boolean done;
+
+	private volatile boolean fetching;
+
+	private volatile CompletableFuture<T[]> inFlight;
+
+	private volatile Throwable error;
+
+	private volatile Throwable invalidRequest;
+
+	private volatile boolean cancelled;
+
+	/**
+	 * Creates a new subscription.
+	 * @param subscriber the subscriber.
+	 * @param publisher the publisher of the list.
+	 */
+	PageSubscription(Flow.Subscriber<? super T> subscriber, CursorPagePublisher<T> publisher) {
+		this.subscriber = subscriber;
+		this.publisher = publisher;
+	}
+
+	/**
+	 * Adds to the number of items the subscriber is ready to receive.
+	 * A non-positive number fails the subscription, as required by the reactive streams rules.
+	 * @param count the number of items.
+	 */
+	@Override
+	public void request(long count) {
+		if (count <= 0) {
+			invalidRequest = new IllegalArgumentException("Requested items must be positive, but was " + count);
+			cancelFetch();
+		} else {
+			requested.getAndUpdate(current -> current + count < 0 ? Long.MAX_VALUE : current + count);
+		}
+		drain();
+	}
+
+	/**
+	 * Stops the pagination, cancelling the page in flight.
+	 */
+	@Override
+	public void cancel() {
+		cancelled = true;
+		cancelFetch();
+	}
+
+	/**
+	 * Cancels the page in flight, if any.
+	 */
+	private void cancelFetch() {
+		CompletableFuture<T[]> page = inFlight;
+		if (page != null) {
+			page.cancel(true);
+		}
+	}
+
+	/**
+	 * Runs the drain loop, unless another thread is running it, which then runs it again.
+	 */
+	private void drain() {
+		if (wip.getAndIncrement() != 0) {
+			return;
+		}
+
+		int missed = 1;
+		do {
+			drainOnce();
+			missed = wip.addAndGet(-missed);
+		} while (missed != 0);
+	}
+
+	/**
+	 * Takes in the fetched pages, emits the items requested and fetches the next page if there is room for it.
+	 */
+	private void drainOnce() {
+		for (T[] page = arrived.poll(); page != null; page = arrived.poll()) {
+			onPage(page);
+		}
+		if (cancelled || done) {
+			terminate();
+			return;
+		}
+		if (invalidRequest != null) {
+			terminate();
+			subscriber.onError(invalidRequest);
+			return;
+		}
+
+		emit();
+		if (!current.hasNext() && pages.isEmpty()) {
+			if (error != null) {
+				terminate();
+				subscriber.onError(error);
+				return;
+			}
+			if (lastPage) {
+				terminate();
+				subscriber.onComplete();
+				return;
+			}
+		}
+		if (!fetching && !lastPage && error == null && isConsuming() && heldPages() < prefetch()) {
+			fetch();
+		}
+	}
+
+	/**
+	 * Emits buffered items while the subscriber has requested some.
+	 */
+	private void emit() {
+		while (requested.get() > 0 && !cancelled) {
+			if (!current.hasNext()) {
+				if (pages.isEmpty()) {
+					return;
+				}
+				current = pages.poll();
+			}
+			requested.decrementAndGet();
+			subscriber.onNext(current.next());
+		}
+	}
+
+	/**
+	 * Buffers a fetched page, moving the cursor to its last item.
+	 * @param page the items of the page.
+	 */
+	private void onPage(T[] page) {
+		if (page.length < publisher.getConfig().getLimit()) {
+			lastPage = true;
+		}
+		if (page.length > 0) {
+			cursor = publisher.cursorOf(page[page.length - 1]);
+			pages.add(Arrays.asList(page).iterator());
+		}
+	}
+
+	/**
+	 * Fetches the page after the cursor, handing it to the drain loop once it arrives.
+	 */
+	private void fetch() {
+		fetching = true;
+		CompletableFuture<T[]> page;
+		try {
+			page = publisher.getRequester().getAsync(publisher.pageUrl(cursor), publisher.getPageType());
+		} catch (RuntimeException e) {
+			page = CompletableFuture.failedFuture(e);
+		}
+
+		inFlight = page;
+		page.whenComplete((items, throwable) -> {
+			if (throwable != null) {
+				error = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+			} else {
+				arrived.add(items != null ? items : emptyPage());
+			}
+			inFlight = null;
+			fetching = false;
+			drain();
+		});
+	}
+
+	/**
+	 * Returns whether the subscriber has outstanding demand or a page being consumed,
+	 * so that no page is fetched for an idle subscriber.
+	 * @return true if the subscriber is consuming items.
+	 */
+	private boolean isConsuming() {
+		return requested.get() > 0 || current.hasNext() || !pages.isEmpty();
+	}
+
+	/**
+	 * Returns the number of pages held, including the page being consumed.
+	 * @return the number of pages held.
+	 */
+	private int heldPages() {
+		return pages.size() + (current.hasNext() ? 1 : 0);
+	}
+
+	/**
+	 * Returns the maximum number of pages held.
+	 * @return the prefetch.
+	 */
+	private int prefetch() {
+		return publisher.getConfig().getPrefetch();
+	}
+
+	/**
+	 * Marks the subscription as done and releases the buffered pages.
+	 */
+	private void terminate() {
+		done = true;
+		pages.clear();
+		current = Collections.emptyIterator();
+	}
+
+	/**
+	 * Returns an empty page, for a page whose body was empty.
+	 * @return an empty page.
+	 */
+	@SuppressWarnings("unchecked") // an empty array of the page type
+	private T[] emptyPage() {
+		return (T[])Array.newInstance(publisher.getPageType().getComponentType(), 0);
+	}
+
+}
@@ -0,0 +1,93 @@
+package org.tosspayments.sdk.request.pagination;
+
+import lombok.Getter;
+
+/**
+ * Configuration of {@link CursorPagePublisher}: how many items are requested per page,
+ * and how many pages may be held in memory at once.
+ */
+@Getter
+public class PaginationConfig {
+
+	/**
+	 * Number of items requested per page, sent as the {@code limit} query parameter.
+	 */
+	private final int limit;
+
+	/**
+	 * Maximum number of pages held per subscriber, including the page being consumed.
+	 * The next page is fetched while fewer pages are held.
+	 */
+	private final int prefetch;
+
+	/**
+	 * Creates a new PaginationConfig from the builder.
+	 * @param builder The builder holding the settings.
+	 */
+	private PaginationConfig(Builder builder) {
+		this.limit = builder.limit;
+		this.prefetch = builder.prefetch;
+	}
+
+	/**
+	 * Creates a new builder with the default settings.
+	 * @return A new builder.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Builder for {@link PaginationConfig}.
+	 */
+	public static class Builder {
+
+		private int limit = 100;
+
+		private int prefetch = 2;
+
+		/**
+		 * Creates a new builder with the default settings.
+		 */
+		private Builder() {
+		}
+
+		/**
+		 * Sets the number of items requested per page. Defaults to 100.
+		 * @param limit the page size, at least 1.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withLimit(int limit) {
+			if (limit < 1) {
+				throw new IllegalArgumentException("Limit must be at least 1");
+			}
+			this.limit = limit;
+
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of pages held per subscriber, including the page being consumed.
+		 * Defaults to 2, fetching the next page while the current one is consumed.
+		 * @param prefetch the maximum number of pages, at least 1.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withPrefetch(int prefetch) {
+			if (prefetch < 1) {
+				throw new IllegalArgumentException("Prefetch must be at least 1");
+			}
+			this.prefetch = prefetch;
+
+			return this;
+		}
+
+		/**
+		 * Builds the PaginationConfig instance.
+		 * @return the PaginationConfig instance.
+		 */
+		public PaginationConfig build() {
+			return new PaginationConfig(this);
+		}
+	}
+
+}
@@ -0,0 +1,21 @@
+package org.tosspayments.sdk.request.projection;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sets the path of the field read by a method of a {@link Projection}, with the names of the nested objects
+ * separated by dots, e.g. {@code "card.issuerCode"}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ProjectedPath {
+
+	/**
+	 * Returns the path of the field, relative to the root object of the response.
+	 * @return The dot separated path of the field.
+	 */
+	String value();
+}
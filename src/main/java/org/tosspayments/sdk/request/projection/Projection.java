@@ -0,0 +1,35 @@
+package org.tosspayments.sdk.request.projection;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.fasterxml.jackson.annotation.JacksonAnnotationsInside;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+/**
+ * Marks an interface as a projection of a JSON response, to request it in place of the full response type,
+ * e.g. {@code requester.getAsync(path, PaymentStatus.class)}.
+ * Each abstract method without parameters of the interface reads one field of the response, named after the method
+ * with its {@code get} or {@code is} prefix removed, or the path given with {@link ProjectedPath}.
+ * Only the requested fields are bound, every other value is skipped by the streaming parser without being decoded,
+ * so a projection of a few fields of a large response allocates little more than the fields themselves.
+ * Fields missing from the response read as null, or the default value of a primitive return type.
+ * <pre>{@code
+ * @Projection
+ * public interface PaymentStatus {
+ *     String getStatus();
+ *     long getTotalAmount();
+ *     @ProjectedPath("card.issuerCode")
+ *     String getIssuerCode();
+ * }
+ * }</pre>
+ * As a projection is a response type, it is cached and coalesced apart from the full response type of the same path.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@JacksonAnnotationsInside
+@JsonDeserialize(using = ProjectionDeserializer.class)
+public @interface Projection {
+}
@@ -0,0 +1,322 @@
+package org.tosspayments.sdk.request.projection;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Deserializer of the {@link Projection} interfaces, walking the token stream of the response
+ * and binding only the values at the projected paths.
+ * The projected paths are compiled into a tree of field names when the deserializer is contextualized
+ * for an interface, once per reader. Values outside of the tree are skipped with {@link JsonParser#skipChildren()},
+ * and the field names are canonicalized by the parser, so skipped content allocates neither nodes nor Strings.
+ * The bound values are returned through a {@link Proxy} of the interface.
+ */
+class ProjectionDeserializer extends StdDeserializer<Object> implements ContextualDeserializer {
+
+	private final PathNode root;
+
+	private final Constructor<?> proxyConstructor;
+
+	private final Map<Method, Integer> slots;
+
+	private final String[] paths;
+
+	private final Object[] defaults;
+
+	/**
+	 * Constructor for the deserializer named by {@link Projection}, contextualized for each projection interface.
+	 */
+	ProjectionDeserializer() {
+		super(Object.class);
+		this.root = new PathNode();
+		this.proxyConstructor = null;
+		this.slots = Map.of();
+		this.paths = new String[0];
+		this.defaults = new Object[0];
+	}
+
+	/**
+	 * Constructor for the deserializer of a projection interface.
+	 * @param type The projection interface.
+	 * @param root The tree of the projected paths.
+	 * @param proxyConstructor The constructor of the proxy class of the interface.
+	 * @param slots The slot of the value read by each method.
+	 * @param paths The projected path of each slot.
+	 * @param defaults The value of each slot when its field is missing.
+	 */
+	private ProjectionDeserializer(
+		Class<?> type,
+		PathNode root,
+		Constructor<?> proxyConstructor,
+		Map<Method, Integer> slots,
+		String[] paths,
+		Object[] defaults
+	) {
+		super(type);
+		this.root = root;
+		this.proxyConstructor = proxyConstructor;
+		this.slots = slots;
+		this.paths = paths;
+		this.defaults = defaults;
+	}
+
+	/**
+	 * Compiles the projected paths of the interface being deserialized.
+	 * @param ctxt The deserialization context, holding the type being deserialized.
+	 * @param property The property holding the projection, null for a root value.
+	 * @return The deserializer of the projection interface.
+	 * @throws JsonMappingException if the type is not an interface, or its methods are not valid projections.
+	 */
+	@Override
+	public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property)
+		throws JsonMappingException {
+		JavaType type = ctxt.getContextualType();
+		Class<?> projected = type.getRawClass();
+		if (!projected.isInterface()) {
+			return ctxt.reportBadDefinition(type, "Projection " + projected.getName() + " is not an interface");
+		}
+
+		PathNode tree = new PathNode();
+		Map<Method, Integer> methodSlots = new HashMap<>();
+		List<String> slotPaths = new ArrayList<>();
+		List<Object> slotDefaults = new ArrayList<>();
+		NavigableMap<String, Method> methods = new TreeMap<>();
+		for (Method method : projected.getMethods()) {
+			if (!Modifier.isAbstract(method.getModifiers())) {
+				continue;
+			}
+			if (method.getParameterCount() != 0) {
+				return ctxt.reportBadDefinition(type, "Projected method " + method.getName() + " has parameters");
+			}
+			if (methods.put(pathOf(method), method) != null) {
+				return ctxt.reportBadDefinition(type, "Projected path " + pathOf(method) + " is read twice");
+			}
+		}
+
+		// a path sorts after its prefixes, so a path inside a projected field meets the field on its way down
+		for (Map.Entry<String, Method> projectedMethod : methods.entrySet()) {
+			String path = projectedMethod.getKey();
+			Method method = projectedMethod.getValue();
+			PathNode leaf = tree;
+			for (String name : path.split("\\.")) {
+				if (leaf.deserializer != null) {
+					return ctxt.reportBadDefinition(type, "Projected path " + path + " is inside another one");
+				}
+				leaf = leaf.children.computeIfAbsent(name, key -> new PathNode());
+			}
+
+			JavaType valueType = ctxt.constructType(method.getGenericReturnType());
+			leaf.slot = slotPaths.size();
+			leaf.deserializer = ctxt.findContextualValueDeserializer(valueType, null);
+			methodSlots.put(method, leaf.slot);
+			slotPaths.add(path);
+			slotDefaults.add(defaultValueOf(method.getReturnType()));
+		}
+
+		return new ProjectionDeserializer(
+			projected,
+			tree,
+			proxyConstructorOf(projected),
+			Map.copyOf(methodSlots),
+			slotPaths.toArray(String[]::new),
+			slotDefaults.toArray()
+		);
+	}
+
+	/**
+	 * Binds the projected values of the object at the current token.
+	 * @param parser The parser, at the start of the object.
+	 * @param ctxt The deserialization context.
+	 * @return A proxy of the projection interface returning the bound values.
+	 * @throws IOException if reading or binding the values fails.
+	 */
+	@Override
+	public Object deserialize(JsonParser parser, DeserializationContext ctxt) throws IOException {
+		if (!parser.isExpectedStartObjectToken()) {
+			return ctxt.handleUnexpectedToken(handledType(), parser);
+		}
+
+		Object[] values = defaults.clone();
+		read(parser, ctxt, root, values);
+
+		try {
+			return proxyConstructor.newInstance(new ProjectionHandler(values));
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Failed to create projection " + handledType().getName(), e);
+		}
+	}
+
+	/**
+	 * Binds the values of the fields of the node, up to the end of the object, skipping every other field.
+	 * @param parser The parser, at the start of the object.
+	 * @param ctxt The deserialization context.
+	 * @param node The node of the object in the tree of the projected paths.
+	 * @param values The values to bind into.
+	 * @throws IOException if reading or binding the values fails.
+	 */
+	private static void read(JsonParser parser, DeserializationContext ctxt, PathNode node, Object[] values)
+		throws IOException {
+		for (String name = parser.nextFieldName(); name != null; name = parser.nextFieldName()) {
+			PathNode child = node.children.get(name);
+			JsonToken token = parser.nextToken();
+			if (child == null) {
+				parser.skipChildren();
+			} else if (child.deserializer != null) {
+				values[child.slot] = token == JsonToken.VALUE_NULL
+					? child.deserializer.getNullValue(ctxt)
+					: child.deserializer.deserialize(parser, ctxt);
+			} else if (token == JsonToken.START_OBJECT) {
+				read(parser, ctxt, child, values);
+			} else {
+				parser.skipChildren();
+			}
+		}
+	}
+
+	/**
+	 * Returns the path read by the method, given by {@link ProjectedPath} or named after the method.
+	 * @param method The projected method.
+	 * @return The dot separated path of the field.
+	 */
+	private static String pathOf(Method method) {
+		ProjectedPath projectedPath = method.getAnnotation(ProjectedPath.class);
+		if (projectedPath != null) {
+			return projectedPath.value();
+		}
+
+		String name = method.getName();
+		if (name.length() > 3 && name.startsWith("get")) {
+			return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+		}
+		if (name.length() > 2 && name.startsWith("is")) {
+			return Character.toLowerCase(name.charAt(2)) + name.substring(3);
+		}
+
+		return name;
+	}
+
+	/**
+	 * Returns the value of a missing field of the type, the default value of a primitive type or null.
+	 * @param type The return type of the projected method.
+	 * @return The value of a missing field.
+	 */
+	private static Object defaultValueOf(Class<?> type) {
+		return type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+	}
+
+	/**
+	 * Returns the constructor of the proxy class of the interface, resolved once instead of on every instance.
+	 * The proxy class of a non-public interface is not public, so its constructor is made accessible.
+	 * @param type The projection interface.
+	 * @return The constructor taking the invocation handler.
+	 * @throws JsonMappingException if the constructor cannot be resolved.
+	 */
+	private static Constructor<?> proxyConstructorOf(Class<?> type) throws JsonMappingException {
+		Class<?> proxyClass = Proxy.newProxyInstance(
+			type.getClassLoader(),
+			new Class<?>[] {type},
+			(proxy, method, args) -> null
+		).getClass();
+		try {
+			Constructor<?> constructor = proxyClass.getConstructor(InvocationHandler.class);
+			constructor.trySetAccessible();
+
+			return constructor;
+		} catch (NoSuchMethodException e) {
+			throw new JsonMappingException(null, "Failed to resolve the proxy of projection " + type.getName(), e);
+		}
+	}
+
+	/**
+	 * Node of the tree of the projected paths, either a projected field or an object holding some.
+	 */
+	private static class PathNode {
+
+		private final Map<String, PathNode> children = new HashMap<>();
+
+		private int slot = -1;
+
+		private JsonDeserializer<Object> deserializer;
+	}
+
+	/**
+	 * Invocation handler returning the bound value of each projected method.
+	 * Projections are equal when they are of the same interface and hold equal values.
+	 */
+	private class ProjectionHandler implements InvocationHandler {
+
+		private final Object[] values;
+
+		/**
+		 * Constructor for ProjectionHandler.
+		 * @param values The bound value of each slot.
+		 */
+		ProjectionHandler(Object[] values) {
+			this.values = values;
+		}
+
+		/**
+		 * Returns the bound value of a projected method, or invokes a default or {@link Object} method.
+		 * @param proxy The projection.
+		 * @param method The invoked method.
+		 * @param args The arguments of the invocation.
+		 * @return The result of the invocation.
+		 * @throws Throwable if a default method throws.
+		 */
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			Integer slot = slots.get(method);
+			if (slot != null) {
+				return values[slot];
+			}
+			if (method.isDefault()) {
+				return InvocationHandler.invokeDefault(proxy, method, args);
+			}
+
+			return switch (method.getName()) {
+				case "equals" -> args[0] != null && proxy.getClass() == args[0].getClass()
+					&& Proxy.getInvocationHandler(args[0]) instanceof ProjectionHandler other
+					&& Arrays.equals(values, other.values);
+				case "hashCode" -> Arrays.hashCode(values);
+				default -> describe();
+			};
+		}
+
+		/**
+		 * Describes the projection with its projected paths and values.
+		 * @return The description of the projection.
+		 */
+		private String describe() {
+			StringJoiner joiner = new StringJoiner(", ", handledType().getSimpleName() + "{", "}");
+			for (int slot = 0; slot < values.length; slot++) {
+				joiner.add(paths[slot] + "=" + values[slot]);
+			}
+
+			return joiner.toString();
+		}
+	}
+
+}
@@ -1,9 +1,9 @@
 package org.tosspayments.sdk.request.requester;
 
-import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
+
+import org.tosspayments.sdk.authorization.TossPaymentsAuthentication;
 
 /**
  * Offer a base implementation for requesters that need to handle HTTP requests.
@@ -15,29 +15,49 @@ public abstract class AbstractRequester implements Requester {
 	 */
 	protected static final Integer DEFAULT_CONNECT_TIMEOUT = 10;
 
-	private static final String TOKEN_PREFIX = "Basic ";
+	/**
+	 * Header carrying the idempotency key of POST requests.
+	 */
+	protected static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+	/**
+	 * Header carrying the credential of the merchant.
+	 */
+	protected static final String AUTHORIZATION_HEADER = "Authorization";
 
 	private static final Map<String, String> DEFAULT_HEADERS = Map.of(
 		"Content-Type", "application/json",
-		"Accept", "application/json",
-		"Authorization", TOKEN_PREFIX,
-		"Idempotency-Key", ""
+		"Accept", "application/json"
 	);
 
 
 	/**
 	 * Get the default headers for requests, including an Authorization header with the provided secret key.
+	 * The {@value IDEMPOTENCY_KEY_HEADER} header is not included, as it is issued per POST request.
 	 *
 	 * @param secretKey The secret key to be used for authorization.
 	 * @return A map of default headers including the Authorization header.
 	 */
 	protected Map<String, String> getDefaultHeaders(String secretKey) {
-		return new HashMap<>(DEFAULT_HEADERS) {
-			{
-				put("Authorization", TOKEN_PREFIX + Base64.getEncoder().encodeToString((secretKey + ":").getBytes()));
-				put("Idempotency-Key", UUID.randomUUID().toString());
-			}
-		};
+		return getDefaultHeaders(new TossPaymentsAuthentication(secretKey));
+	}
+
+	/**
+	 * Get the default headers for requests, including the Authorization header of the authentication if any,
+	 * whose value is encoded once by the authentication.
+	 * The {@value IDEMPOTENCY_KEY_HEADER} header is not included, as it is issued per POST request.
+	 *
+	 * @param authentication The authentication of the requests, or null to send no Authorization header by default,
+	 *                       e.g. when each call carries the credential of its tenant in its {@link RequestOptions}.
+	 * @return A mutable map of default headers.
+	 */
+	protected Map<String, String> getDefaultHeaders(TossPaymentsAuthentication authentication) {
+		Map<String, String> headers = new HashMap<>(DEFAULT_HEADERS);
+		if (authentication != null) {
+			headers.put(AUTHORIZATION_HEADER, authentication.getAuthorizationHeader());
+		}
+
+		return headers;
 	}
 
 }
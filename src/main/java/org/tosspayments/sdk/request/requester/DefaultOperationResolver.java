@@ -0,0 +1,53 @@
+package org.tosspayments.sdk.request.requester;
+
+/**
+ * {@link OperationResolver} grouping requests by Toss Payments operation:
+ * {@value #CONFIRM} and {@value #CANCEL} by their path suffix, {@value #LOOKUP} for other GET requests,
+ * and other POST requests by the first segment of their path (e.g. {@code billing}).
+ */
+public class DefaultOperationResolver implements OperationResolver {
+
+	/**
+	 * Operation of payment confirmations.
+	 */
+	public static final String CONFIRM = "confirm";
+
+	/**
+	 * Operation of payment cancellations.
+	 */
+	public static final String CANCEL = "cancel";
+
+	/**
+	 * Operation of lookups.
+	 */
+	public static final String LOOKUP = "lookup";
+
+	/**
+	 * Resolves the operation of the request.
+	 *
+	 * @param method the HTTP method of the request
+	 * @param path   the API endpoint path of the request
+	 * @return the name of the operation
+	 */
+	@Override
+	public String resolve(String method, String path) {
+		int queryStart = path.indexOf('?');
+		String route = queryStart < 0 ? path : path.substring(0, queryStart);
+
+		if (route.endsWith("/" + CONFIRM)) {
+			return CONFIRM;
+		}
+		if (route.endsWith("/" + CANCEL)) {
+			return CANCEL;
+		}
+		if ("GET".equals(method)) {
+			return LOOKUP;
+		}
+
+		String trimmed = route.startsWith("/") ? route.substring(1) : route;
+		int segmentEnd = trimmed.indexOf('/');
+
+		return segmentEnd < 0 ? trimmed : trimmed.substring(0, segmentEnd);
+	}
+
+}
@@ -0,0 +1,266 @@
+package org.tosspayments.sdk.request.requester;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+
+import org.tosspayments.sdk.authorization.TossPaymentsAuthentication;
+
+/**
+ * Requester shared by many merchants, each with its own secret key, sending the requests of every merchant
+ * through one requester, and so one HttpClient, connection pool and ObjectMapper, instead of one per merchant.
+ * The credential of each call is passed in its {@link RequestOptions#withAuthentication options} by the lightweight
+ * per-merchant view returned by {@link #forTenant}, e.g.
+ * {@code new TossPayments(secretKey, multiTenantRequester.forTenant(secretKey))}.
+ * <p>
+ * The views are kept in a bounded cache by secret key, each one holding its pre-encoded Authorization header,
+ * so getting the view of a merchant per call costs a lookup in a {@link ConcurrentHashMap}, taking no lock.
+ * When the cache is full, views are evicted in approximate least recently used order, following the CLOCK algorithm:
+ * the oldest view is evicted unless it was returned since it was cached, in which case it is kept for another round.
+ * The decorators of the shared requester are shared by the merchants: cached and coalesced responses are kept
+ * per credential, while circuit breakers, rate limits and the concurrency limit guard the shared transport.
+ * <p>
+ * The shared requester must send the credential of the options, as the requesters of the SDK do.
+ * A custom requester relying on the default option methods of {@link Requester} fails the calls of the tenants
+ * with an {@link UnsupportedOperationException}, rather than sending them without their credential.
+ */
+public class MultiTenantRequester {
+
+	/**
+	 * Default maximum number of cached tenant views.
+	 */
+	public static final int DEFAULT_MAX_TENANTS = 1024;
+
+	private final Requester requester;
+
+	private final int maxTenants;
+
+	private final ConcurrentMap<String, TenantRequester> tenants = new ConcurrentHashMap<>();
+
+	private final Queue<String> queue = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Creates a new MultiTenantRequester caching up to {@value #DEFAULT_MAX_TENANTS} tenant views.
+	 * @param requester the requester shared by the merchants, typically built without a secret key.
+	 */
+	public MultiTenantRequester(Requester requester) {
+		this(requester, DEFAULT_MAX_TENANTS);
+	}
+
+	/**
+	 * Creates a new MultiTenantRequester.
+	 * @param requester the requester shared by the merchants, typically built without a secret key.
+	 * @param maxTenants the maximum number of cached tenant views.
+	 */
+	public MultiTenantRequester(Requester requester, int maxTenants) {
+		if (maxTenants < 1) {
+			throw new IllegalArgumentException("Max tenants must be at least 1");
+		}
+
+		this.requester = requester;
+		this.maxTenants = maxTenants;
+	}
+
+	/**
+	 * Returns the requester shared by the merchants.
+	 * @return the shared requester.
+	 */
+	public Requester getRequester() {
+		return requester;
+	}
+
+	/**
+	 * Returns the view of the shared requester sending every call with the secret key of a merchant,
+	 * from the cache if present. When the cache is full, the views not returned for the longest are evicted,
+	 * so a stream of distinct keys cannot grow it without bound, while the views of the merchants in use stay cached.
+	 * Concurrent calls for a new key may create more than one view, of which a single one is cached and returned.
+	 * @param secretKey the secret key of the merchant.
+	 * @return the requester of the merchant.
+	 * @throws IllegalArgumentException if the secret key is null or empty.
+	 */
+	public Requester forTenant(String secretKey) {
+		if (secretKey == null || secretKey.isEmpty()) {
+			throw new IllegalArgumentException("Secret key must not be null or empty");
+		}
+
+		TenantRequester tenant = tenants.get(secretKey);
+		if (tenant != null) {
+			if (!tenant.referenced) {
+				tenant.referenced = true;
+			}
+			return tenant;
+		}
+
+		TenantRequester created = new TenantRequester(requester, new TossPaymentsAuthentication(secretKey));
+		tenant = tenants.putIfAbsent(secretKey, created);
+		if (tenant != null) {
+			return tenant;
+		}
+		queue.offer(secretKey);
+		evict();
+
+		return created;
+	}
+
+	/**
+	 * Evicts the oldest views while the cache is over its bound,
+	 * queuing the views returned since they were cached again instead.
+	 */
+	private void evict() {
+		while (tenants.size() > maxTenants) {
+			String eldest = queue.poll();
+			if (eldest == null) {
+				return;
+			}
+			TenantRequester tenant = tenants.get(eldest);
+			if (tenant == null) {
+				continue;
+			}
+			if (tenant.referenced) {
+				tenant.referenced = false;
+				queue.offer(eldest);
+			} else {
+				tenants.remove(eldest, tenant);
+			}
+		}
+	}
+
+	/**
+	 * Returns a new view of the shared requester sending every call with the credential of a merchant.
+	 * @param authentication the credential of the merchant.
+	 * @return the requester of the merchant.
+	 */
+	public Requester forTenant(TossPaymentsAuthentication authentication) {
+		return new TenantRequester(requester, authentication);
+	}
+
+	/**
+	 * Returns the number of cached tenant views.
+	 * @return the number of cached tenant views.
+	 */
+	public int getTenantCount() {
+		return tenants.size();
+	}
+
+	/**
+	 * View of the shared requester adding the credential of a merchant to the options of every call.
+	 * A credential already set in the options of a call is replaced, so a merchant cannot send as another.
+	 */
+	private static final class TenantRequester implements Requester {
+
+		private final Requester delegate;
+
+		private final TossPaymentsAuthentication authentication;
+
+		private final RequestOptions defaultOptions;
+
+		private volatile boolean referenced = false;
+
+		/**
+		 * Creates a new TenantRequester.
+		 * @param delegate the shared requester.
+		 * @param authentication the credential of the merchant.
+		 */
+		private TenantRequester(Requester delegate, TossPaymentsAuthentication authentication) {
+			this.delegate = delegate;
+			this.authentication = authentication;
+			this.defaultOptions = RequestOptions.defaults().withAuthentication(authentication);
+		}
+
+		/**
+		 * Sends a GET request with the credential of the merchant.
+		 * @param url the URL to send the GET request to.
+		 * @param responseType the class of the response type.
+		 */
+		@Override
+		public <T> T get(String url, Class<T> responseType) {
+			return delegate.get(url, responseType, defaultOptions);
+		}
+
+		/**
+		 * Sends a GET request asynchronously with the credential of the merchant.
+		 * @param url the URL to send the GET request to.
+		 * @param responseType the class of the response type.
+		 */
+		@Override
+		public <T> CompletableFuture<T> getAsync(String url, Class<T> responseType) {
+			return delegate.getAsync(url, responseType, defaultOptions);
+		}
+
+		/**
+		 * Sends a GET request with options and the credential of the merchant.
+		 * @param url the URL to send the GET request to.
+		 * @param responseType the class of the response type.
+		 * @param options the options of the request.
+		 */
+		@Override
+		public <T> T get(String url, Class<T> responseType, RequestOptions options) {
+			return delegate.get(url, responseType, options.withAuthentication(authentication));
+		}
+
+		/**
+		 * Sends a GET request asynchronously with options and the credential of the merchant.
+		 * @param url the URL to send the GET request to.
+		 * @param responseType the class of the response type.
+		 * @param options the options of the request.
+		 */
+		@Override
+		public <T> CompletableFuture<T> getAsync(String url, Class<T> responseType, RequestOptions options) {
+			return delegate.getAsync(url, responseType, options.withAuthentication(authentication));
+		}
+
+		/**
+		 * Sends a POST request with the credential of the merchant.
+		 * @param url the URL to send the POST request to.
+		 * @param requestBody the body of the POST request.
+		 * @param responseType the class of the response type.
+		 */
+		@Override
+		public <T> T post(String url, Object requestBody, Class<T> responseType) {
+			return delegate.post(url, requestBody, responseType, defaultOptions);
+		}
+
+		/**
+		 * Sends a POST request asynchronously with the credential of the merchant.
+		 * @param url the URL to send the POST request to.
+		 * @param requestBody the body of the POST request.
+		 * @param responseType the class of the response type.
+		 */
+		@Override
+		public <T> CompletableFuture<T> postAsync(String url, Object requestBody, Class<T> responseType) {
+			return delegate.postAsync(url, requestBody, responseType, defaultOptions);
+		}
+
+		/**
+		 * Sends a POST request with options and the credential of the merchant.
+		 * @param url the URL to send the POST request to.
+		 * @param requestBody the body of the POST request.
+		 * @param responseType the class of the response type.
+		 * @param options the options of the request.
+		 */
+		@Override
+		public <T> T post(String url, Object requestBody, Class<T> responseType, RequestOptions options) {
+			return delegate.post(url, requestBody, responseType, options.withAuthentication(authentication));
+		}
+
+		/**
+		 * Sends a POST request asynchronously with options and the credential of the merchant.
+		 * @param url the URL to send the POST request to.
+		 * @param requestBody the body of the POST request.
+		 * @param responseType the class of the response type.
+		 * @param options the options of the request.
+		 */
+		@Override
+		public <T> CompletableFuture<T> postAsync(
+			String url,
+			Object requestBody,
+			Class<T> responseType,
+			RequestOptions options
+		) {
+			return delegate.postAsync(url, requestBody, responseType, options.withAuthentication(authentication));
+		}
+	}
+
+}
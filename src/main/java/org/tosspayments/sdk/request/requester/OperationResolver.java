@@ -0,0 +1,17 @@
+package org.tosspayments.sdk.request.requester;
+
+/**
+ * Resolves the operation a request belongs to, e.g. confirm or lookup,
+ * so decorators can keep separate state, such as a circuit breaker or a rate limit, per operation.
+ */
+public interface OperationResolver {
+
+	/**
+	 * Resolves the name of the operation of a request.
+	 *
+	 * @param method the HTTP method of the request
+	 * @param path   the API endpoint path of the request
+	 * @return the name of the operation
+	 */
+	String resolve(String method, String path);
+}
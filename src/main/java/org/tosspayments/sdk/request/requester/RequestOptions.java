@@ -0,0 +1,182 @@
+package org.tosspayments.sdk.request.requester;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.tosspayments.sdk.authorization.TossPaymentsAuthentication;
+import org.tosspayments.sdk.request.requester.tracing.TraceSpan;
+
+import lombok.Getter;
+
+/**
+ * Per-request options passed along with a {@link Requester} call.
+ * Instances are immutable, each {@code with} method returns a modified copy.
+ */
+@Getter
+public class RequestOptions {
+
+	private static final RequestOptions DEFAULT = new RequestOptions(null, null, null, null, null);
+
+	/**
+	 * Idempotency-Key of a POST request, null to let the requester issue one.
+	 */
+	private final String idempotencyKey;
+
+	/**
+	 * Instant by which the response must be received, null for no deadline.
+	 */
+	private final Instant deadline;
+
+	/**
+	 * {@link System#nanoTime()} reading taken when the call was submitted, null if not recorded.
+	 */
+	private final Long submittedAt;
+
+	/**
+	 * Span of the traced call the request belongs to, null if the call is not traced.
+	 */
+	private final TraceSpan traceSpan;
+
+	/**
+	 * Credential of the merchant the request is sent for, null to use the credential of the requester.
+	 */
+	private final TossPaymentsAuthentication authentication;
+
+	/**
+	 * Creates a new RequestOptions.
+	 * @param idempotencyKey Idempotency-Key of a POST request.
+	 * @param deadline Instant by which the response must be received.
+	 * @param submittedAt System.nanoTime() reading taken when the call was submitted.
+	 * @param traceSpan Span of the traced call the request belongs to.
+	 * @param authentication Credential of the merchant the request is sent for.
+	 */
+	private RequestOptions(
+		String idempotencyKey,
+		Instant deadline,
+		Long submittedAt,
+		TraceSpan traceSpan,
+		TossPaymentsAuthentication authentication
+	) {
+		this.idempotencyKey = idempotencyKey;
+		this.deadline = deadline;
+		this.submittedAt = submittedAt;
+		this.traceSpan = traceSpan;
+		this.authentication = authentication;
+	}
+
+	/**
+	 * Returns the options applied when none are given.
+	 * @return the default options.
+	 */
+	public static RequestOptions defaults() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Returns a copy of these options sending the given Idempotency-Key with a POST request.
+	 * Requests sharing a key, e.g. retries of the same request, are processed only once by Toss Payments.
+	 * @param idempotencyKey the Idempotency-Key to send.
+	 * @return the modified options.
+	 */
+	public RequestOptions withIdempotencyKey(String idempotencyKey) {
+		return new RequestOptions(idempotencyKey, deadline, submittedAt, traceSpan, authentication);
+	}
+
+	/**
+	 * Returns a copy of these options with the given deadline.
+	 * The deadline bounds the whole call: the HTTP request timeout, and any wait for a rate limit token,
+	 * an in-flight permit or a retry. Once it passes, the call fails with a
+	 * {@link org.tosspayments.sdk.exception.DeadlineExceededException}.
+	 * @param deadline the instant by which the response must be received, null for no deadline.
+	 * @return the modified options.
+	 */
+	public RequestOptions withDeadline(Instant deadline) {
+		return new RequestOptions(idempotencyKey, deadline, submittedAt, traceSpan, authentication);
+	}
+
+	/**
+	 * Returns a copy of these options with a deadline the given timeout from now.
+	 * @param timeout the time allowed for the call.
+	 * @return the modified options.
+	 * @see #withDeadline(Instant)
+	 */
+	public RequestOptions withTimeout(Duration timeout) {
+		return withDeadline(Instant.now().plus(timeout));
+	}
+
+	/**
+	 * Returns a copy of these options recording when the call was submitted, from which the time the request
+	 * waited before being sent is measured, e.g. in a rate limit or concurrency limit queue.
+	 * It is recorded by the {@link org.tosspayments.sdk.request.requester.metrics.MetricsRequester},
+	 * or by the caller to also measure the time spent in its own queues.
+	 * @param submittedAt the {@link System#nanoTime()} reading taken when the call was submitted.
+	 * @return the modified options.
+	 */
+	public RequestOptions withSubmittedAt(long submittedAt) {
+		return new RequestOptions(idempotencyKey, deadline, submittedAt, traceSpan, authentication);
+	}
+
+	/**
+	 * Returns a copy of these options carrying the span of the traced call the request belongs to.
+	 * The requester sending the request starts the span of each attempt from it, e.g. of each retry.
+	 * It is set by the {@link org.tosspayments.sdk.request.requester.tracing.TracingRequester}.
+	 * @param traceSpan the span of the call, null to not trace the attempts.
+	 * @return the modified options.
+	 */
+	public RequestOptions withTraceSpan(TraceSpan traceSpan) {
+		return new RequestOptions(idempotencyKey, deadline, submittedAt, traceSpan, authentication);
+	}
+
+	/**
+	 * Returns a copy of these options sending the request with the credential of the given merchant
+	 * instead of the credential of the requester, e.g. one of the merchants sharing a {@link MultiTenantRequester}.
+	 * Responses are cached and coalesced per credential, so a merchant is never served the response of another.
+	 * @param authentication the credential of the merchant, null to use the credential of the requester.
+	 * @return the modified options.
+	 */
+	public RequestOptions withAuthentication(TossPaymentsAuthentication authentication) {
+		return new RequestOptions(idempotencyKey, deadline, submittedAt, traceSpan, authentication);
+	}
+
+	/**
+	 * Returns the options of a request sent on behalf of the call, e.g. shared with other calls or refreshing
+	 * a cached response in the background: without the deadline and Idempotency-Key of the call,
+	 * which only bound the call itself, but with its submission time, trace span and credential,
+	 * so the request is measured, traced and authenticated as the call.
+	 * @return the options of the shared request, the {@link #defaults() default options} if none is kept.
+	 */
+	public RequestOptions forSharedRequest() {
+		if (submittedAt == null && traceSpan == null && authentication == null) {
+			return DEFAULT;
+		}
+
+		return new RequestOptions(null, null, submittedAt, traceSpan, authentication);
+	}
+
+	/**
+	 * Returns the time left until the deadline.
+	 * @return the time left in nanoseconds, zero or negative once the deadline has passed,
+	 *     {@link Long#MAX_VALUE} if there is no deadline.
+	 */
+	public long remainingNanos() {
+		if (deadline == null) {
+			return Long.MAX_VALUE;
+		}
+
+		Duration remaining = Duration.between(Instant.now(), deadline);
+		try {
+			return remaining.toNanos();
+		} catch (ArithmeticException e) {
+			return remaining.isNegative() ? Long.MIN_VALUE : Long.MAX_VALUE;
+		}
+	}
+
+	/**
+	 * Returns whether the deadline has passed.
+	 * @return true if there is a deadline and it has passed.
+	 */
+	public boolean isExpired() {
+		return deadline != null && remainingNanos() <= 0;
+	}
+
+}
@@ -28,6 +28,44 @@ public interface Requester {
 	 */
 	<T> CompletableFuture<T> getAsync(String url, Class<T> responseType);
 
+	/**
+	 * Requests to the specified URL using a GET request with the given options.
+	 * Requesters that do not support the options ignore them, except a per-call credential, which they would not
+	 * send: such requests fail with an {@link UnsupportedOperationException}.
+	 *
+	 * @param url          the URL to send the GET request to
+	 * @param responseType the class of the response type
+	 * @param options      the options of the request
+	 * @param <T>          the type of the response
+	 * @return the response object
+	 */
+	default <T> T get(String url, Class<T> responseType, RequestOptions options) {
+		if (hasAuthentication(options)) {
+			throw unsupportedAuthentication();
+		}
+
+		return get(url, responseType);
+	}
+
+	/**
+	 * Requests to the specified URL using a GET request with the given options asynchronously.
+	 * Requesters that do not support the options ignore them, except a per-call credential, which they would not
+	 * send: such requests fail with an {@link UnsupportedOperationException}.
+	 *
+	 * @param url          the URL to send the GET request to
+	 * @param responseType the class of the response type
+	 * @param options      the options of the request
+	 * @param <T>          the type of the response
+	 * @return a CompletableFuture that will contain the response object
+	 */
+	default <T> CompletableFuture<T> getAsync(String url, Class<T> responseType, RequestOptions options) {
+		if (hasAuthentication(options)) {
+			return CompletableFuture.failedFuture(unsupportedAuthentication());
+		}
+
+		return getAsync(url, responseType);
+	}
+
 	/**
 	 * Requests to the specified URL using a POST request with the given request body.
 	 *
@@ -49,4 +87,70 @@ public interface Requester {
 	 * @return a CompletableFuture that will contain the response object
 	 */
 	<T> CompletableFuture<T> postAsync(String url, Object requestBody, Class<T> responseType);
+
+	/**
+	 * Requests to the specified URL using a POST request with the given request body and options.
+	 * Requesters that do not support the options ignore them, except a per-call credential, which they would not
+	 * send: such requests fail with an {@link UnsupportedOperationException}.
+	 *
+	 * @param url          the URL to send the POST request to
+	 * @param requestBody  the body of the POST request
+	 * @param responseType the class of the response type
+	 * @param options      the options of the request
+	 * @param <T>          the type of the response
+	 * @return the response object
+	 */
+	default <T> T post(String url, Object requestBody, Class<T> responseType, RequestOptions options) {
+		if (hasAuthentication(options)) {
+			throw unsupportedAuthentication();
+		}
+
+		return post(url, requestBody, responseType);
+	}
+
+	/**
+	 * Requests to the specified URL using a POST request with the given request body and options asynchronously.
+	 * Requesters that do not support the options ignore them, except a per-call credential, which they would not
+	 * send: such requests fail with an {@link UnsupportedOperationException}.
+	 *
+	 * @param url          the URL to send the POST request to
+	 * @param requestBody  the body of the POST request
+	 * @param responseType the class of the response type
+	 * @param options      the options of the request
+	 * @param <T>          the type of the response
+	 * @return a CompletableFuture that will contain the response object
+	 */
+	default <T> CompletableFuture<T> postAsync(
+		String url,
+		Object requestBody,
+		Class<T> responseType,
+		RequestOptions options
+	) {
+		if (hasAuthentication(options)) {
+			return CompletableFuture.failedFuture(unsupportedAuthentication());
+		}
+
+		return postAsync(url, requestBody, responseType);
+	}
+
+	/**
+	 * Returns whether the options carry a per-call credential.
+	 *
+	 * @param options the options of the request, may be null
+	 * @return true if the options carry a credential
+	 */
+	private static boolean hasAuthentication(RequestOptions options) {
+		return options != null && options.getAuthentication() != null;
+	}
+
+	/**
+	 * Returns the failure of a request carrying a credential this requester would not send.
+	 *
+	 * @return the failure
+	 */
+	private static UnsupportedOperationException unsupportedAuthentication() {
+		return new UnsupportedOperationException(
+			"This requester does not support per-call credentials, so the request would be sent without its own"
+		);
+	}
 }
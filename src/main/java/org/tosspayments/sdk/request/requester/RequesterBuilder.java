@@ -1,7 +1,28 @@
 package org.tosspayments.sdk.request.requester;
 
 import org.tosspayments.sdk.authorization.TossPaymentsAuthentication;
+import org.tosspayments.sdk.request.idempotency.IdempotencyKeyProvider;
+import org.tosspayments.sdk.request.idempotency.RandomIdempotencyKeyProvider;
+import org.tosspayments.sdk.request.requester.cache.CacheConfig;
+import org.tosspayments.sdk.request.requester.cache.CachingRequester;
+import org.tosspayments.sdk.request.requester.circuitbreaker.CircuitBreakerConfig;
+import org.tosspayments.sdk.request.requester.circuitbreaker.CircuitBreakerRequester;
+import org.tosspayments.sdk.request.requester.coalescing.CoalescingRequester;
+import org.tosspayments.sdk.request.requester.concurrency.ConcurrencyLimitConfig;
+import org.tosspayments.sdk.request.requester.concurrency.ConcurrencyLimitRequester;
+import org.tosspayments.sdk.request.requester.hedging.HedgingPolicy;
+import org.tosspayments.sdk.request.requester.hedging.HedgingRequester;
 import org.tosspayments.sdk.request.requester.httpclient.HttpClientRequester;
+import org.tosspayments.sdk.request.requester.httpclient.HttpTransportConfig;
+import org.tosspayments.sdk.request.requester.httpclient.JsonBinding;
+import org.tosspayments.sdk.request.requester.metrics.MetricsRequester;
+import org.tosspayments.sdk.request.requester.metrics.RequestMetricsListener;
+import org.tosspayments.sdk.request.requester.ratelimit.RateLimitConfig;
+import org.tosspayments.sdk.request.requester.ratelimit.RateLimitRequester;
+import org.tosspayments.sdk.request.requester.retry.RetryPolicy;
+import org.tosspayments.sdk.request.requester.retry.RetryRequester;
+import org.tosspayments.sdk.request.requester.tracing.RequestTracer;
+import org.tosspayments.sdk.request.requester.tracing.TracingRequester;
 
 /**
  * Builder for creating a {@link Requester} instance.
@@ -15,6 +36,30 @@ public class RequesterBuilder {
 
 	private Requester requester = null;
 
+	private IdempotencyKeyProvider idempotencyKeyProvider = new RandomIdempotencyKeyProvider();
+
+	private HttpTransportConfig transportConfig = null;
+
+	private JsonBinding jsonBinding = JsonBinding.REFLECTION;
+
+	private RetryPolicy retryPolicy = null;
+
+	private CircuitBreakerConfig circuitBreakerConfig = null;
+
+	private RateLimitConfig rateLimitConfig = null;
+
+	private ConcurrencyLimitConfig concurrencyLimitConfig = null;
+
+	private HedgingPolicy hedgingPolicy = null;
+
+	private boolean coalescing = false;
+
+	private CacheConfig cacheConfig = null;
+
+	private RequestMetricsListener metricsListener = null;
+
+	private RequestTracer tracer = null;
+
 	/**
 	 * Creates a new RequesterBuilder with the specified endpoint and secret key.
 	 * @param endpoint the API endpoint to use for requests
@@ -25,6 +70,16 @@ public class RequesterBuilder {
 		this.authorization = new TossPaymentsAuthentication(secretKey);
 	}
 
+	/**
+	 * Creates a new RequesterBuilder without a secret key, for a requester shared by many merchants
+	 * built with {@link #buildMultiTenant()}, each call carrying the credential of its merchant.
+	 * @param endpoint the API endpoint to use for requests
+	 */
+	public RequesterBuilder(String endpoint) {
+		this.endpoint = endpoint;
+		this.authorization = null;
+	}
+
 	/**
 	 * Sets a custom requester to be used.
 	 * @param requester the custom requester to use.
@@ -36,9 +91,166 @@ public class RequesterBuilder {
 		return this;
 	}
 
+	/**
+	 * Sets the provider of the Idempotency-Key sent with each POST request of the default requester.
+	 * Defaults to a new random key per request.
+	 * @param idempotencyKeyProvider the Idempotency-Key provider to use.
+	 * @return the RequesterBuilder instance for method chaining.
+	 */
+	public RequesterBuilder withIdempotencyKeyProvider(IdempotencyKeyProvider idempotencyKeyProvider) {
+		this.idempotencyKeyProvider = idempotencyKeyProvider;
+
+		return this;
+	}
+
+	/**
+	 * Sets the transport configuration of the default requester.
+	 * Requesters built with the same configuration instance share one HttpClient and its connection pool.
+	 * Defaults to a new configuration with the default settings.
+	 * @param transportConfig the transport configuration to use.
+	 * @return the RequesterBuilder instance for method chaining.
+	 */
+	public RequesterBuilder withTransportConfig(HttpTransportConfig transportConfig) {
+		this.transportConfig = transportConfig;
+
+		return this;
+	}
+
+	/**
+	 * Sets how the default requester binds request bodies and responses to and from JSON.
+	 * Defaults to {@link JsonBinding#REFLECTION}.
+	 * @param jsonBinding the JSON binding to use.
+	 * @return the RequesterBuilder instance for method chaining.
+	 */
+	public RequesterBuilder withJsonBinding(JsonBinding jsonBinding) {
+		this.jsonBinding = jsonBinding;
+
+		return this;
+	}
+
+	/**
+	 * Retries failed requests according to the policy.
+	 * Retried POST requests reuse the Idempotency-Key issued by the Idempotency-Key provider for the first attempt.
+	 * @param retryPolicy the retry policy to use.
+	 * @return the RequesterBuilder instance for method chaining.
+	 */
+	public RequesterBuilder withRetryPolicy(RetryPolicy retryPolicy) {
+		this.retryPolicy = retryPolicy;
+
+		return this;
+	}
+
+	/**
+	 * Guards each operation with its own circuit breaker.
+	 * The circuit breakers see each attempt, so a retried request stops retrying as soon as its circuit opens.
+	 * @param circuitBreakerConfig the circuit breaker configuration to use.
+	 * @return the RequesterBuilder instance for method chaining.
+	 */
+	public RequesterBuilder withCircuitBreakerConfig(CircuitBreakerConfig circuitBreakerConfig) {
+		this.circuitBreakerConfig = circuitBreakerConfig;
+
+		return this;
+	}
+
+	/**
+	 * Limits the rate of requests of each operation.
+	 * Every attempt of a retried request takes a token, as each one is a request to Toss Payments.
+	 * @param rateLimitConfig the rate limit configuration to use.
+	 * @return the RequesterBuilder instance for method chaining.
+	 */
+	public RequesterBuilder withRateLimitConfig(RateLimitConfig rateLimitConfig) {
+		this.rateLimitConfig = rateLimitConfig;
+
+		return this;
+	}
+
+	/**
+	 * Bounds the number of requests in flight by a limit learned from their round trip times and failures.
+	 * The limiter sits closest to the transport, so the round trip times it learns from exclude the waits
+	 * of the other decorators and requests rejected by an open circuit.
+	 * @param concurrencyLimitConfig the concurrency limit configuration to use.
+	 * @return the RequesterBuilder instance for method chaining.
+	 */
+	public RequesterBuilder withConcurrencyLimitConfig(ConcurrencyLimitConfig concurrencyLimitConfig) {
+		this.concurrencyLimitConfig = concurrencyLimitConfig;
+
+		return this;
+	}
+
+	/**
+	 * Hedges slow GET requests according to the policy. POST requests are never hedged.
+	 * Copies go through the rate limits, circuit breakers and concurrency limit like any other request.
+	 * @param hedgingPolicy the hedging policy to use.
+	 * @return the RequesterBuilder instance for method chaining.
+	 */
+	public RequesterBuilder withHedgingPolicy(HedgingPolicy hedgingPolicy) {
+		this.hedgingPolicy = hedgingPolicy;
+
+		return this;
+	}
+
+	/**
+	 * Coalesces concurrent identical GET requests into a single request, whose response is shared by their callers.
+	 * Coalescing sits outside the retry policy, so a coalesced request is retried once for all of its callers,
+	 * and inside the cache, so concurrent misses of the same response are sent once.
+	 * @param coalescing whether to coalesce GET requests.
+	 * @return the RequesterBuilder instance for method chaining.
+	 */
+	public RequesterBuilder withRequestCoalescing(boolean coalescing) {
+		this.coalescing = coalescing;
+
+		return this;
+	}
+
+	/**
+	 * Caches the responses of GET requests according to the configuration.
+	 * The cache is the outermost decorator, so a cached response costs no token, permit or retry.
+	 * @param cacheConfig the cache configuration to use.
+	 * @return the RequesterBuilder instance for method chaining.
+	 */
+	public RequesterBuilder withCacheConfig(CacheConfig cacheConfig) {
+		this.cacheConfig = cacheConfig;
+
+		return this;
+	}
+
+	/**
+	 * Reports the timings, statuses and sizes of the HTTP exchanges of the default requester to the listener,
+	 * e.g. a {@link org.tosspayments.sdk.request.requester.metrics.RequestMetrics},
+	 * along with the limit, in-flight count and queue depth of the concurrency limiter, if any.
+	 * The submission time of each call is recorded outside the cache, so the time a request waits in the other
+	 * decorators is reported as its queue time. Responses served by the cache or shared by coalesced requests
+	 * send no HTTP exchange, so they are not reported.
+	 * @param metricsListener the metrics listener to use.
+	 * @return the RequesterBuilder instance for method chaining.
+	 */
+	public RequesterBuilder withMetricsListener(RequestMetricsListener metricsListener) {
+		this.metricsListener = metricsListener;
+
+		return this;
+	}
+
+	/**
+	 * Traces each call with a span started by the tracer, and each HTTP attempt of the call with a child span,
+	 * whose trace context is sent to Toss Payments in the W3C {@code traceparent} header.
+	 * The call span is started outermost, so it covers cache hits, waits and retries, and the attempts of a call,
+	 * e.g. its retries or hedged copies, are linked through it. Without a tracer, nothing is traced.
+	 * @param tracer the tracer to use.
+	 * @return the RequesterBuilder instance for method chaining.
+	 */
+	public RequesterBuilder withTracer(RequestTracer tracer) {
+		this.tracer = tracer;
+
+		return this;
+	}
+
 	/**
 	 * Builds the Requester instance.
 	 * If no custom requester is set, it will return a default HTTP client requester.
+	 * The requester is decorated with the configured concurrency limit, circuit breakers, rate limits,
+	 * hedging policy, retry policy, request coalescing and cache, if any, in this order from the transport outwards,
+	 * then the submission time of each call is recorded when a metrics listener is set,
+	 * and each call is traced outermost when a tracer is set.
 	 * @return the Requester instance
 	 */
 	public Requester build() {
@@ -46,7 +258,45 @@ public class RequesterBuilder {
 			requester = getDefaultRequester();
 		}
 
-		return requester;
+		Requester built = requester;
+		if (concurrencyLimitConfig != null) {
+			built = new ConcurrencyLimitRequester(built, concurrencyLimitConfig, metricsListener);
+		}
+		if (circuitBreakerConfig != null) {
+			built = new CircuitBreakerRequester(built, circuitBreakerConfig);
+		}
+		if (rateLimitConfig != null) {
+			built = new RateLimitRequester(built, rateLimitConfig);
+		}
+		if (hedgingPolicy != null) {
+			built = new HedgingRequester(built, hedgingPolicy);
+		}
+		if (retryPolicy != null) {
+			built = new RetryRequester(built, retryPolicy, idempotencyKeyProvider);
+		}
+		if (coalescing) {
+			built = new CoalescingRequester(built);
+		}
+		if (cacheConfig != null) {
+			built = new CachingRequester(built, cacheConfig);
+		}
+		if (metricsListener != null) {
+			built = new MetricsRequester(built);
+		}
+		if (tracer != null) {
+			built = new TracingRequester(built, tracer);
+		}
+
+		return built;
+	}
+
+	/**
+	 * Builds the Requester instance as with {@link #build()}, shared by many merchants through the views
+	 * of the returned {@link MultiTenantRequester}, which send each call with the credential of their merchant.
+	 * @return the MultiTenantRequester instance
+	 */
+	public MultiTenantRequester buildMultiTenant() {
+		return new MultiTenantRequester(build());
 	}
 
 	/**
@@ -54,7 +304,16 @@ public class RequesterBuilder {
 	 * @return the default HTTP client requester
 	 */
 	private Requester getDefaultRequester() {
-		return new HttpClientRequester(endpoint, authorization);
+		HttpTransportConfig config = transportConfig != null ? transportConfig : HttpTransportConfig.builder().build();
+
+		return new HttpClientRequester(
+			endpoint,
+			authorization,
+			config,
+			idempotencyKeyProvider,
+			jsonBinding,
+			metricsListener
+		);
 	}
 
 }
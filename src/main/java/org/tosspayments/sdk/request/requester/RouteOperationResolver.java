@@ -0,0 +1,36 @@
+package org.tosspayments.sdk.request.requester;
+
+/**
+ * {@link OperationResolver} grouping requests by route: their method and path without the query,
+ * with the last segment of a path of several segments replaced by {@value #ID}, as it carries the key or id
+ * of the resource, e.g. {@code GET /payments/{id}} and {@code GET /payments/orders/{id}}.
+ * Unlike the {@link DefaultOperationResolver}, lookups of different resources are kept apart.
+ */
+public class RouteOperationResolver implements OperationResolver {
+
+	/**
+	 * Placeholder of the key or id segment of a route.
+	 */
+	public static final String ID = "{id}";
+
+	/**
+	 * Resolves the route of the request.
+	 *
+	 * @param method the HTTP method of the request
+	 * @param path   the API endpoint path of the request
+	 * @return the name of the route
+	 */
+	@Override
+	public String resolve(String method, String path) {
+		int queryStart = path.indexOf('?');
+		String route = queryStart < 0 ? path : path.substring(0, queryStart);
+		int lastSlash = route.lastIndexOf('/');
+
+		if (lastSlash <= 0) {
+			return method + " " + route;
+		}
+
+		return method + " " + route.substring(0, lastSlash + 1) + ID;
+	}
+
+}
@@ -0,0 +1,54 @@
+package org.tosspayments.sdk.request.requester;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Scheduler shared by the requester decorators for their timers, e.g. retry backoffs.
+ * Its single daemon thread only fires timers: the requests they release, e.g. a retry, are handed to
+ * {@link #getExecutor()}, so serializing and sending them never delays the other timers.
+ */
+public final class SharedScheduler {
+
+	/**
+	 * Prevents instantiation.
+	 */
+	private SharedScheduler() {
+	}
+
+	/**
+	 * Returns the shared scheduler, created on first use.
+	 * @return the shared scheduler.
+	 */
+	public static ScheduledExecutorService getInstance() {
+		return Holder.INSTANCE;
+	}
+
+	/**
+	 * Returns the executor the decorators send the requests released by their timers on by default,
+	 * the common fork-join pool, as sending a request only serializes its body before handing it to the
+	 * {@link java.net.http.HttpClient}.
+	 * @return the shared executor.
+	 */
+	public static Executor getExecutor() {
+		return ForkJoinPool.commonPool();
+	}
+
+	/**
+	 * Holds the scheduler, so it is only created when first used.
+	 */
+	private static final class Holder {
+
+		private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(
+			runnable -> {
+				Thread thread = new Thread(runnable, "toss-payments-scheduler");
+				thread.setDaemon(true);
+
+				return thread;
+			}
+		);
+	}
+
+}
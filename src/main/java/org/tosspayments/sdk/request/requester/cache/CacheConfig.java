@@ -0,0 +1,189 @@
+package org.tosspayments.sdk.request.requester.cache;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+
+import lombok.Getter;
+
+/**
+ * Configuration of {@link CachingRequester}: how long GET responses are cached and how many are kept.
+ * The time to live of a path is the one of the longest path prefix with a rule of its own, or the default one.
+ */
+@Getter
+public class CacheConfig {
+
+	/**
+	 * Time to live of the paths without a rule of their own, by default.
+	 */
+	public static final Duration DEFAULT_TTL = Duration.ofSeconds(5);
+
+	/**
+	 * Maximum number of cached responses, by default.
+	 */
+	public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+	/**
+	 * Time to live of the paths without a rule of their own.
+	 */
+	private final Duration defaultTtl;
+
+	/**
+	 * Times to live by path prefix, sorted by prefix.
+	 */
+	private final NavigableMap<String, Duration> ttlRules;
+
+	/**
+	 * Time after expiring during which a response is still returned while it is refreshed in the background.
+	 */
+	private final Duration staleWhileRevalidate;
+
+	/**
+	 * Maximum number of cached responses.
+	 */
+	private final int maxEntries;
+
+	/**
+	 * Maximum estimated size of the cached responses in bytes, {@link Long#MAX_VALUE} for no bound.
+	 */
+	private final long maxBytes;
+
+	/**
+	 * Estimates the size of a response in bytes, null if the size is not bounded.
+	 */
+	private final ToLongFunction<Object> sizeEstimator;
+
+	/**
+	 * Creates a new CacheConfig from the builder.
+	 * @param builder The builder holding the settings.
+	 */
+	private CacheConfig(Builder builder) {
+		this.defaultTtl = builder.defaultTtl;
+		this.ttlRules = Collections.unmodifiableNavigableMap(new TreeMap<>(builder.ttlRules));
+		this.staleWhileRevalidate = builder.staleWhileRevalidate;
+		this.maxEntries = builder.maxEntries;
+		this.maxBytes = builder.maxBytes;
+		this.sizeEstimator = builder.sizeEstimator;
+	}
+
+	/**
+	 * Creates a new builder with the default settings.
+	 * @return A new builder.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Returns the time to live of the responses of a path.
+	 * The prefixes matching a path are prefixes of each other, so the longest one sorts last among them
+	 * and is the first match in descending order.
+	 * @param path The path of the request.
+	 * @return The time to live of the longest matching prefix rule, or the default time to live.
+	 */
+	public Duration getTtl(String path) {
+		for (Map.Entry<String, Duration> rule : ttlRules.descendingMap().entrySet()) {
+			if (path.startsWith(rule.getKey())) {
+				return rule.getValue();
+			}
+		}
+
+		return defaultTtl;
+	}
+
+	/**
+	 * Builder for {@link CacheConfig}.
+	 */
+	public static class Builder {
+
+		private Duration defaultTtl = DEFAULT_TTL;
+
+		private final Map<String, Duration> ttlRules = new HashMap<>();
+
+		private Duration staleWhileRevalidate = Duration.ZERO;
+
+		private int maxEntries = DEFAULT_MAX_ENTRIES;
+
+		private long maxBytes = Long.MAX_VALUE;
+
+		private ToLongFunction<Object> sizeEstimator = null;
+
+		/**
+		 * Creates a new builder with the default settings.
+		 */
+		private Builder() {
+		}
+
+		/**
+		 * Sets the time to live of the paths without a rule of their own. Defaults to {@link #DEFAULT_TTL}.
+		 * @param defaultTtl the default time to live, zero to cache only the paths with a rule.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withDefaultTtl(Duration defaultTtl) {
+			this.defaultTtl = defaultTtl;
+
+			return this;
+		}
+
+		/**
+		 * Sets the time to live of the paths starting with the prefix, e.g. {@code /v1/payments/}.
+		 * @param pathPrefix the path prefix.
+		 * @param ttl the time to live, zero to never cache the paths.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withTtl(String pathPrefix, Duration ttl) {
+			this.ttlRules.put(pathPrefix, ttl);
+
+			return this;
+		}
+
+		/**
+		 * Sets the time after expiring during which a response is still returned, while a single request
+		 * refreshes it in the background. Defaults to zero, so expired responses are requested again by the caller.
+		 * @param staleWhileRevalidate the stale window.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withStaleWhileRevalidate(Duration staleWhileRevalidate) {
+			this.staleWhileRevalidate = staleWhileRevalidate;
+
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of cached responses. Defaults to {@link #DEFAULT_MAX_ENTRIES}.
+		 * @param maxEntries the maximum number of entries.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withMaxEntries(int maxEntries) {
+			this.maxEntries = maxEntries;
+
+			return this;
+		}
+
+		/**
+		 * Bounds the estimated size of the cached responses. Not bounded by default.
+		 * @param maxBytes the maximum estimated size in bytes.
+		 * @param sizeEstimator estimates the size of a response in bytes.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withMaxBytes(long maxBytes, ToLongFunction<Object> sizeEstimator) {
+			this.maxBytes = maxBytes;
+			this.sizeEstimator = sizeEstimator;
+
+			return this;
+		}
+
+		/**
+		 * Builds the CacheConfig instance.
+		 * @return the CacheConfig instance.
+		 */
+		public CacheConfig build() {
+			return new CacheConfig(this);
+		}
+	}
+
+}
@@ -0,0 +1,361 @@
+package org.tosspayments.sdk.request.requester.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.tosspayments.sdk.request.requester.RequestOptions;
+import org.tosspayments.sdk.request.requester.Requester;
+
+/**
+ * {@link Requester} decorator caching the responses of GET requests by path, response type and credential,
+ * for the time to live configured for their path in the {@link CacheConfig}.
+ * Cached responses are shared by every caller, so they must not be modified.
+ * With a stale window, an expired response is still returned while a single request refreshes it in the background,
+ * so callers of hot paths never wait for a refresh. Failed responses are never cached,
+ * nor are responses requested before an invalidation and received after it, and POST requests are passed through.
+ */
+public class CachingRequester implements Requester {
+
+	private final Requester delegate;
+
+	private final CacheConfig config;
+
+	private final ResponseCache cache;
+
+	private final LongSupplier nanoClock;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * Creates a new CachingRequester.
+	 * @param delegate the requester sending the requests.
+	 * @param config the configuration of the cache.
+	 */
+	public CachingRequester(Requester delegate, CacheConfig config) {
+		this(delegate, config, System::nanoTime);
+	}
+
+	/**
+	 * Creates a new CachingRequester reading the time from the given clock.
+	 * @param delegate the requester sending the requests.
+	 * @param config the configuration of the cache.
+	 * @param nanoClock the clock, in nanoseconds.
+	 */
+	CachingRequester(Requester delegate, CacheConfig config, LongSupplier nanoClock) {
+		this.delegate = delegate;
+		this.config = config;
+		this.cache = new ResponseCache(config.getMaxEntries(), config.getMaxBytes());
+		this.nanoClock = nanoClock;
+	}
+
+	/**
+	 * Returns the number of GET requests answered from the cache, including stale responses.
+	 * @return the number of hits.
+	 */
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * Returns the number of cacheable GET requests sent because no response was cached.
+	 * @return the number of misses.
+	 */
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * Returns the number of responses evicted to respect the size bounds.
+	 * @return the number of evictions.
+	 */
+	public long getEvictions() {
+		return cache.evictions();
+	}
+
+	/**
+	 * Returns the number of cached responses.
+	 * @return the number of entries.
+	 */
+	public int getSize() {
+		return cache.size();
+	}
+
+	/**
+	 * Returns the estimated size of the cached responses, zero if no size estimator is configured.
+	 * @return the estimated size in bytes.
+	 */
+	public long getBytes() {
+		return cache.bytes();
+	}
+
+	/**
+	 * Removes the cached responses of a path parsed into the given type, whatever the credential they were requested
+	 * with, the requester's or one given by {@link RequestOptions#withAuthentication}.
+	 * @param path the path of the request.
+	 * @param responseType the type of the response.
+	 * @return true if a response was cached.
+	 */
+	public boolean invalidate(String path, Class<?> responseType) {
+		return cache.remove(path, responseType) > 0;
+	}
+
+	/**
+	 * Removes the cached responses of a path, whatever their type,
+	 * e.g. after cancelling a payment whose lookup is cached.
+	 * @param path the path of the request.
+	 * @return the number of responses removed.
+	 */
+	public int invalidate(String path) {
+		return cache.removePath(path);
+	}
+
+	/**
+	 * Removes all cached responses.
+	 */
+	public void invalidateAll() {
+		cache.clear();
+	}
+
+	/**
+	 * Returns the cached response of a GET request, or sends it and caches the response.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> T get(String url, Class<T> responseType) {
+		return cached(url, responseType, RequestOptions.defaults(), () -> delegate.get(url, responseType));
+	}
+
+	/**
+	 * Returns the cached response of a GET request, or sends it with options and caches the response.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> T get(String url, Class<T> responseType, RequestOptions options) {
+		return cached(url, responseType, options, () -> delegate.get(url, responseType, options));
+	}
+
+	/**
+	 * Returns the cached response of a GET request, or sends it asynchronously and caches the response.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> CompletableFuture<T> getAsync(String url, Class<T> responseType) {
+		return cachedAsync(url, responseType, RequestOptions.defaults(), () -> delegate.getAsync(url, responseType));
+	}
+
+	/**
+	 * Returns the cached response of a GET request, or sends it asynchronously with options and caches the response.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> CompletableFuture<T> getAsync(String url, Class<T> responseType, RequestOptions options) {
+		return cachedAsync(url, responseType, options, () -> delegate.getAsync(url, responseType, options));
+	}
+
+	/**
+	 * Sends a POST request, never cached.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> T post(String url, Object requestBody, Class<T> responseType) {
+		return delegate.post(url, requestBody, responseType);
+	}
+
+	/**
+	 * Sends a POST request with options, never cached.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> T post(String url, Object requestBody, Class<T> responseType, RequestOptions options) {
+		return delegate.post(url, requestBody, responseType, options);
+	}
+
+	/**
+	 * Sends a POST request asynchronously, never cached.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> CompletableFuture<T> postAsync(String url, Object requestBody, Class<T> responseType) {
+		return delegate.postAsync(url, requestBody, responseType);
+	}
+
+	/**
+	 * Sends a POST request with options asynchronously, never cached.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> CompletableFuture<T> postAsync(
+		String url,
+		Object requestBody,
+		Class<T> responseType,
+		RequestOptions options
+	) {
+		return delegate.postAsync(url, requestBody, responseType, options);
+	}
+
+	/**
+	 * Returns the cached response, or runs the synchronous call and caches its response.
+	 * @param url the URL of the request.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 * @param call the call sending the request.
+	 * @return the response.
+	 */
+	private <T> T cached(String url, Class<T> responseType, RequestOptions options, Supplier<T> call) {
+		if (config.getTtl(url).isZero()) {
+			return call.get();
+		}
+
+		ResponseCache.Key key = new ResponseCache.Key(url, responseType, options.getAuthentication());
+		T cached = lookup(key, options);
+		if (cached != null) {
+			return cached;
+		}
+
+		long invalidations = cache.invalidations(url);
+		T response = call.get();
+		store(key, response, invalidations);
+
+		return response;
+	}
+
+	/**
+	 * Returns the cached response, or runs the asynchronous call and caches its response once it completes.
+	 * @param url the URL of the request.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 * @param call the call sending the request.
+	 * @return the future of the response.
+	 */
+	private <T> CompletableFuture<T> cachedAsync(
+		String url,
+		Class<T> responseType,
+		RequestOptions options,
+		Supplier<CompletableFuture<T>> call
+	) {
+		if (config.getTtl(url).isZero()) {
+			return call.get();
+		}
+
+		ResponseCache.Key key = new ResponseCache.Key(url, responseType, options.getAuthentication());
+		T cached = lookup(key, options);
+		if (cached != null) {
+			return CompletableFuture.completedFuture(cached);
+		}
+
+		long invalidations = cache.invalidations(url);
+		CompletableFuture<T> response = call.get();
+		response.thenAccept(body -> store(key, body, invalidations));
+
+		return response;
+	}
+
+	/**
+	 * Looks up the cached response, refreshing it in the background if it has expired.
+	 * @param key the key of the response.
+	 * @param options the options of the request looking up the response.
+	 * @return the cached response, or null if none can be returned.
+	 */
+	private <T> T lookup(ResponseCache.Key key, RequestOptions options) {
+		long now = nanoClock.getAsLong();
+		ResponseCache.CachedResponse cached = cache.get(key, now);
+		if (cached == null) {
+			misses.increment();
+			return null;
+		}
+		if (cached.isExpired(now)) {
+			refresh(key, cached, options);
+		}
+		hits.increment();
+
+		@SuppressWarnings("unchecked") // the response type is part of the key
+		T value = (T)cached.value();
+
+		return value;
+	}
+
+	/**
+	 * Refreshes an expired response in the background, unless another caller is already refreshing it.
+	 * The refresh is sent on behalf of the request that found the response expired, with its
+	 * {@link RequestOptions#forSharedRequest() submission time, trace span and credential}.
+	 * The refreshed response replaces the expired one only if it was not invalidated in the meantime.
+	 * @param key the key of the response.
+	 * @param expired the expired response.
+	 * @param options the options of the request that found the response expired.
+	 */
+	private void refresh(ResponseCache.Key key, ResponseCache.CachedResponse expired, RequestOptions options) {
+		if (!expired.startRefresh()) {
+			return;
+		}
+
+		RequestOptions refreshOptions = options.forSharedRequest();
+		CompletableFuture<?> response;
+		try {
+			response = refreshOptions == RequestOptions.defaults()
+				? delegate.getAsync(key.path(), key.responseType())
+				: delegate.getAsync(key.path(), key.responseType(), refreshOptions);
+		} catch (RuntimeException e) {
+			expired.refreshFailed();
+			return;
+		}
+		response.whenComplete((body, throwable) -> {
+			if (throwable != null || body == null) {
+				expired.refreshFailed();
+			} else {
+				cache.replace(key, expired, newEntry(key, body));
+			}
+		});
+	}
+
+	/**
+	 * Caches a response, unless a response was invalidated while it was requested.
+	 * @param key the key of the response.
+	 * @param response the response, not cached if null.
+	 * @param invalidations the number of invalidations of the path before the response was requested.
+	 */
+	private void store(ResponseCache.Key key, Object response, long invalidations) {
+		if (response != null) {
+			cache.putUnlessInvalidated(key, newEntry(key, response), invalidations);
+		}
+	}
+
+	/**
+	 * Creates the cache entry of a response received now.
+	 * @param key the key of the response.
+	 * @param response the response.
+	 * @return the cache entry.
+	 */
+	private ResponseCache.CachedResponse newEntry(ResponseCache.Key key, Object response) {
+		long now = nanoClock.getAsLong();
+		long expiresAt = now + config.getTtl(key.path()).toNanos();
+		long size = config.getSizeEstimator() != null ? config.getSizeEstimator().applyAsLong(response) : 0;
+
+		return new ResponseCache.CachedResponse(
+			response,
+			size,
+			expiresAt,
+			expiresAt + config.getStaleWhileRevalidate().toNanos()
+		);
+	}
+
+}
@@ -0,0 +1,399 @@
+package org.tosspayments.sdk.request.requester.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import org.tosspayments.sdk.authorization.TossPaymentsAuthentication;
+
+/**
+ * Store of the responses of {@link CachingRequester}, bounded by the number of entries and their estimated size,
+ * evicting the entries in approximate least recently used order.
+ * The entries are held in a {@link ConcurrentHashMap}, so a lookup takes no lock: it only marks the entry as
+ * referenced. Eviction follows the CLOCK algorithm over a queue of the entries in insertion order:
+ * the entry at the head is evicted unless it was referenced since it was queued, in which case it is
+ * queued again with its mark cleared. Concurrent stores may evict a few more entries than needed.
+ * Entries past their stale window are removed when they are looked up.
+ * Removals count as invalidations of their path, so a response requested before one is not stored after it.
+ * Invalidations are counted in a fixed number of stripes by path, so an invalidation may also prevent storing
+ * a response of another path of the same stripe, which is only requested again.
+ */
+class ResponseCache {
+
+	/**
+	 * Number of stripes of the invalidation counters, a power of two.
+	 */
+	private static final int INVALIDATION_STRIPES = 64;
+
+	private final int maxEntries;
+
+	private final long maxBytes;
+
+	private final ConcurrentMap<Key, CachedResponse> entries = new ConcurrentHashMap<>();
+
+	private final Queue<Queued> queue = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger queued = new AtomicInteger();
+
+	private final AtomicLong bytes = new AtomicLong();
+
+	private final LongAdder evictions = new LongAdder();
+
+	private final AtomicLongArray invalidations = new AtomicLongArray(INVALIDATION_STRIPES);
+
+	/**
+	 * Creates a new empty ResponseCache.
+	 * @param maxEntries the maximum number of entries.
+	 * @param maxBytes the maximum estimated size of the entries in bytes.
+	 */
+	ResponseCache(int maxEntries, long maxBytes) {
+		this.maxEntries = maxEntries;
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * Looks up an entry, marking it as referenced.
+	 * @param key the key of the entry.
+	 * @param now the current time, from the clock of the entries.
+	 * @return the entry, or null if there is none or it is past its stale window.
+	 */
+	CachedResponse get(Key key, long now) {
+		CachedResponse entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (now - entry.staleUntil >= 0) {
+			discard(key, entry);
+			return null;
+		}
+		if (!entry.referenced) {
+			entry.referenced = true;
+		}
+
+		return entry;
+	}
+
+	/**
+	 * Stores an entry, evicting entries while the bounds are exceeded.
+	 * An entry larger than the size bound is evicted right away.
+	 * @param key the key of the entry.
+	 * @param entry the entry.
+	 */
+	void put(Key key, CachedResponse entry) {
+		CachedResponse previous = entries.put(key, entry);
+		bytes.addAndGet(entry.size - (previous != null ? previous.size : 0));
+		enqueue(key, entry);
+		evict();
+	}
+
+	/**
+	 * Stores an entry, unless its path was invalidated since the given number of invalidations was read.
+	 * The number is read again once the entry is stored, and the entry is removed if it changed in the meantime,
+	 * as the invalidation may have missed it.
+	 * @param key the key of the entry.
+	 * @param entry the entry.
+	 * @param invalidations the number of invalidations of the path, read before requesting the response of the entry.
+	 * @return true if the entry was stored.
+	 */
+	boolean putUnlessInvalidated(Key key, CachedResponse entry, long invalidations) {
+		if (invalidations(key.path()) != invalidations) {
+			return false;
+		}
+		put(key, entry);
+		if (invalidations(key.path()) != invalidations) {
+			discard(key, entry);
+			return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Replaces an entry, unless it was replaced or removed in the meantime.
+	 * @param key the key of the entry.
+	 * @param expected the entry expected to be stored.
+	 * @param entry the new entry.
+	 * @return true if the entry was replaced.
+	 */
+	boolean replace(Key key, CachedResponse expected, CachedResponse entry) {
+		if (!entries.replace(key, expected, entry)) {
+			return false;
+		}
+		bytes.addAndGet(entry.size - expected.size);
+		enqueue(key, entry);
+		evict();
+
+		return true;
+	}
+
+	/**
+	 * Removes the entries of a path parsed into the given type, whatever the credential they were requested with.
+	 * @param path the path of the entries.
+	 * @param responseType the type of the response of the entries.
+	 * @return the number of entries removed.
+	 */
+	int remove(String path, Class<?> responseType) {
+		invalidate(path);
+
+		return removeIf(key -> key.path().equals(path) && key.responseType() == responseType);
+	}
+
+	/**
+	 * Removes the entries of a path, whatever their response type and credential.
+	 * @param path the path of the entries.
+	 * @return the number of entries removed.
+	 */
+	int removePath(String path) {
+		invalidate(path);
+
+		return removeIf(key -> key.path().equals(path));
+	}
+
+	/**
+	 * Removes all entries.
+	 */
+	void clear() {
+		for (int stripe = 0; stripe < INVALIDATION_STRIPES; stripe++) {
+			invalidations.incrementAndGet(stripe);
+		}
+		removeIf(key -> true);
+	}
+
+	/**
+	 * Returns the number of entries.
+	 * @return the number of entries.
+	 */
+	int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Returns the estimated size of the entries.
+	 * @return the estimated size in bytes.
+	 */
+	long bytes() {
+		return bytes.get();
+	}
+
+	/**
+	 * Returns the number of invalidations of a path: removals of its entries, or of all entries.
+	 * The number is shared with the other paths of its stripe.
+	 * @param path the path.
+	 * @return the number of invalidations of the path.
+	 */
+	long invalidations(String path) {
+		return invalidations.get(stripe(path));
+	}
+
+	/**
+	 * Returns the number of entries evicted to respect the bounds.
+	 * @return the number of evictions.
+	 */
+	long evictions() {
+		return evictions.sum();
+	}
+
+	/**
+	 * Counts an invalidation of a path, before removing its entries.
+	 * @param path the path.
+	 */
+	private void invalidate(String path) {
+		invalidations.incrementAndGet(stripe(path));
+	}
+
+	/**
+	 * Returns the stripe of the invalidation counter of a path.
+	 * @param path the path.
+	 * @return the index of the stripe.
+	 */
+	private static int stripe(String path) {
+		int hash = path.hashCode();
+
+		return (hash ^ (hash >>> 16)) & (INVALIDATION_STRIPES - 1);
+	}
+
+	/**
+	 * Removes the entries whose key matches, without counting an invalidation.
+	 * @param filter the keys of the entries to remove.
+	 * @return the number of entries removed.
+	 */
+	private int removeIf(Predicate<Key> filter) {
+		int removed = 0;
+		for (Map.Entry<Key, CachedResponse> entry : entries.entrySet()) {
+			if (filter.test(entry.getKey()) && discard(entry.getKey(), entry.getValue())) {
+				removed++;
+			}
+		}
+
+		return removed;
+	}
+
+	/**
+	 * Removes an entry without counting an invalidation, unless it was replaced or removed in the meantime.
+	 * Its node in the queue is dropped when it reaches the head, or when the dropped nodes are swept.
+	 * @param key the key of the entry.
+	 * @param entry the entry expected to be stored.
+	 * @return true if the entry was removed.
+	 */
+	private boolean discard(Key key, CachedResponse entry) {
+		if (!entries.remove(key, entry)) {
+			return false;
+		}
+		bytes.addAndGet(-entry.size);
+
+		return true;
+	}
+
+	/**
+	 * Queues a stored entry at the tail of the eviction queue. When the nodes of removed and replaced entries
+	 * outnumber the stored entries, e.g. after many invalidations while the bounds were not reached,
+	 * they are swept so the queue stays proportional to the entries.
+	 * @param key the key of the entry.
+	 * @param entry the entry.
+	 */
+	private void enqueue(Key key, CachedResponse entry) {
+		queue.offer(new Queued(key, entry));
+		if (queued.incrementAndGet() > 2 * entries.size() + INVALIDATION_STRIPES) {
+			Iterator<Queued> iterator = queue.iterator();
+			while (iterator.hasNext()) {
+				if (!isStored(iterator.next())) {
+					iterator.remove();
+					queued.decrementAndGet();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Evicts the entries at the head of the queue while the bounds are exceeded,
+	 * queuing the referenced entries again with their mark cleared instead.
+	 */
+	private void evict() {
+		while (entries.size() > maxEntries || bytes.get() > maxBytes) {
+			Queued head = queue.poll();
+			if (head == null) {
+				return;
+			}
+			queued.decrementAndGet();
+			if (!isStored(head)) {
+				continue;
+			}
+			if (head.entry().referenced) {
+				head.entry().referenced = false;
+				queue.offer(head);
+				queued.incrementAndGet();
+			} else if (discard(head.key(), head.entry())) {
+				evictions.increment();
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the entry of a node of the queue is still stored, and was neither replaced nor removed.
+	 * @param node the node of the queue.
+	 * @return true if the entry is stored.
+	 */
+	private boolean isStored(Queued node) {
+		return entries.get(node.key()) == node.entry();
+	}
+
+	/**
+	 * Node of the eviction queue.
+	 * @param key the key of the entry.
+	 * @param entry the entry.
+	 */
+	private record Queued(Key key, CachedResponse entry) {
+	}
+
+	/**
+	 * Key of a cached response: the path, the type the response was parsed into and the credential it was sent with.
+	 * @param path the path of the request.
+	 * @param responseType the type of the response.
+	 * @param authentication the credential of the request, null for the credential of the requester.
+	 */
+	record Key(String path, Class<?> responseType, TossPaymentsAuthentication authentication) {
+
+		/**
+		 * Creates the key of a response to a request sent with the credential of the requester.
+		 * @param path the path of the request.
+		 * @param responseType the type of the response.
+		 */
+		Key(String path, Class<?> responseType) {
+			this(path, responseType, null);
+		}
+	}
+
+	/**
+	 * A cached response.
+	 */
+	static final class CachedResponse {
+
+		private final Object value;
+
+		private final long size;
+
+		private final long expiresAt;
+
+		private final long staleUntil;
+
+		private final AtomicBoolean refreshing = new AtomicBoolean();
+
+		private volatile boolean referenced = false;
+
+		/**
+		 * Creates a new CachedResponse.
+		 * @param value the response.
+		 * @param size the estimated size of the response in bytes.
+		 * @param expiresAt the time the response expires.
+		 * @param staleUntil the time the response is no longer returned, at or after it expires.
+		 */
+		CachedResponse(Object value, long size, long expiresAt, long staleUntil) {
+			this.value = value;
+			this.size = size;
+			this.expiresAt = expiresAt;
+			this.staleUntil = staleUntil;
+		}
+
+		/**
+		 * Returns the response.
+		 * @return the response.
+		 */
+		Object value() {
+			return value;
+		}
+
+		/**
+		 * Returns whether the response has expired.
+		 * @param now the current time.
+		 * @return true if the response has expired.
+		 */
+		boolean isExpired(long now) {
+			return now - expiresAt >= 0;
+		}
+
+		/**
+		 * Claims the refresh of the response, so it is refreshed by a single request.
+		 * @return true if the caller should refresh the response.
+		 */
+		boolean startRefresh() {
+			return refreshing.compareAndSet(false, true);
+		}
+
+		/**
+		 * Releases the refresh of the response after it failed, so a later lookup tries again.
+		 */
+		void refreshFailed() {
+			refreshing.set(false);
+		}
+	}
+
+}
@@ -0,0 +1,243 @@
+package org.tosspayments.sdk.request.requester.circuitbreaker;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import lombok.Getter;
+
+/**
+ * Circuit breaker of one circuit, see {@link CircuitBreakerConfig} for its state machine.
+ * The state, the sliding window and the half-open permits are atomics updated with compare-and-set,
+ * so permission checks and recording never lock, and exactly one thread performs each state change.
+ */
+public class CircuitBreaker {
+
+	private static final Logger log = LoggerFactory.getLogger(CircuitBreaker.class);
+
+	/**
+	 * State of a circuit breaker.
+	 */
+	public enum State {
+
+		/**
+		 * Calls are permitted and recorded.
+		 */
+		CLOSED,
+
+		/**
+		 * Calls are rejected.
+		 */
+		OPEN,
+
+		/**
+		 * A limited number of probe calls are permitted to decide whether to close the circuit again.
+		 */
+		HALF_OPEN
+	}
+
+	/**
+	 * Name of the circuit.
+	 */
+	@Getter
+	private final String name;
+
+	private final CircuitBreakerConfig config;
+
+	private final LongSupplier nanoClock;
+
+	private final SlidingWindow window;
+
+	private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+
+	private final AtomicLong openedAtNanos = new AtomicLong();
+
+	private final AtomicInteger halfOpenPermits = new AtomicInteger();
+
+	private final AtomicInteger halfOpenSuccesses = new AtomicInteger();
+
+	/**
+	 * Creates a new closed CircuitBreaker.
+	 * @param name the name of the circuit.
+	 * @param config the configuration.
+	 */
+	public CircuitBreaker(String name, CircuitBreakerConfig config) {
+		this(name, config, System::nanoTime);
+	}
+
+	/**
+	 * Creates a new closed CircuitBreaker with the given clock.
+	 * @param name the name of the circuit.
+	 * @param config the configuration.
+	 * @param nanoClock the clock measuring the open duration, in nanoseconds.
+	 */
+	CircuitBreaker(String name, CircuitBreakerConfig config, LongSupplier nanoClock) {
+		this.name = name;
+		this.config = config;
+		this.nanoClock = nanoClock;
+		this.window = new SlidingWindow(config.getSlidingWindowSize());
+	}
+
+	/**
+	 * Returns the current state, moving an open circuit to half-open once its open duration has elapsed.
+	 * @return the current state.
+	 */
+	public State getState() {
+		State current = state.get();
+		if (current == State.OPEN && openDurationElapsed()) {
+			toHalfOpen();
+			return state.get();
+		}
+
+		return current;
+	}
+
+	/**
+	 * Returns the failure rate of the calls in the sliding window.
+	 * @return the failure rate in percent.
+	 */
+	public float getFailureRate() {
+		return window.getFailureRate();
+	}
+
+	/**
+	 * Returns the slow call rate of the calls in the sliding window.
+	 * @return the slow call rate in percent.
+	 */
+	public float getSlowCallRate() {
+		return window.getSlowCallRate();
+	}
+
+	/**
+	 * Decides whether a call may be sent. Every permitted call must be followed by {@link #onResult(long, Throwable)},
+	 * or by {@link #onCancelled()} if it was cancelled.
+	 * @return true if the call may be sent.
+	 */
+	public boolean tryAcquirePermission() {
+		switch (getState()) {
+			case CLOSED:
+				return true;
+			case HALF_OPEN:
+				return tryAcquireHalfOpenPermit();
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Records the result of a permitted call.
+	 * @param durationNanos the duration of the call in nanoseconds.
+	 * @param throwable the failure of the call, null if it succeeded.
+	 */
+	public void onResult(long durationNanos, Throwable throwable) {
+		boolean failure = throwable != null && config.getFailurePredicate().test(throwable);
+		boolean slow = durationNanos >= config.getSlowCallDuration().toNanos();
+
+		State current = state.get();
+		if (current == State.CLOSED) {
+			window.record(failure, slow);
+			if (window.getCalls() >= config.getMinimumCalls()
+				&& (window.getFailureRate() >= config.getFailureRateThreshold()
+				|| window.getSlowCallRate() >= config.getSlowCallRateThreshold())) {
+				toOpen(State.CLOSED);
+			}
+		} else if (current == State.HALF_OPEN) {
+			if (failure || slow) {
+				toOpen(State.HALF_OPEN);
+			} else if (halfOpenSuccesses.incrementAndGet() >= config.getPermittedHalfOpenCalls()) {
+				toClosed();
+			}
+		}
+		// results of calls sent before the circuit opened are ignored
+	}
+
+	/**
+	 * Releases the permission of a call cancelled before its result, e.g. a losing hedge or an abandoned caller.
+	 * A cancelled call says nothing about the server, and is the slowest of its peers, so it is not recorded:
+	 * while half-open, its permit is given back so another probe can decide instead.
+	 */
+	public void onCancelled() {
+		if (state.get() == State.HALF_OPEN) {
+			// bounded, as the cancelled call may have been permitted before the circuit last opened
+			halfOpenPermits.updateAndGet(permits -> Math.min(permits + 1, config.getPermittedHalfOpenCalls()));
+		}
+	}
+
+	/**
+	 * Takes one of the half-open permits.
+	 * @return true if a permit was left.
+	 */
+	private boolean tryAcquireHalfOpenPermit() {
+		for (int permits = halfOpenPermits.get(); permits > 0; permits = halfOpenPermits.get()) {
+			if (halfOpenPermits.compareAndSet(permits, permits - 1)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns whether the open duration has elapsed since the circuit opened.
+	 * @return true if the open duration has elapsed.
+	 */
+	private boolean openDurationElapsed() {
+		return nanoClock.getAsLong() - openedAtNanos.get() >= config.getOpenDuration().toNanos();
+	}
+
+	/**
+	 * Opens the circuit, unless another thread changed the state first.
+	 * @param from the expected current state.
+	 */
+	private void toOpen(State from) {
+		openedAtNanos.set(nanoClock.getAsLong());
+		if (state.compareAndSet(from, State.OPEN)) {
+			halfOpenPermits.set(0);
+			window.reset();
+			notifyListeners(from, State.OPEN);
+		}
+	}
+
+	/**
+	 * Moves the open circuit to half-open, unless another thread changed the state first.
+	 */
+	private void toHalfOpen() {
+		if (state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+			halfOpenSuccesses.set(0);
+			halfOpenPermits.set(config.getPermittedHalfOpenCalls());
+			notifyListeners(State.OPEN, State.HALF_OPEN);
+		}
+	}
+
+	/**
+	 * Closes the half-open circuit, unless another thread changed the state first.
+	 */
+	private void toClosed() {
+		if (state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+			window.reset();
+			notifyListeners(State.HALF_OPEN, State.CLOSED);
+		}
+	}
+
+	/**
+	 * Notifies the listeners of a state change. A failing listener does not fail the call that caused the change.
+	 * @param from the previous state.
+	 * @param to the new state.
+	 */
+	private void notifyListeners(State from, State to) {
+		log.info("Circuit breaker {} changed from {} to {}", name, from, to);
+
+		for (CircuitBreakerListener listener : config.getListeners()) {
+			try {
+				listener.onStateChange(name, from, to);
+			} catch (RuntimeException e) {
+				log.warn("Circuit breaker listener failed", e);
+			}
+		}
+	}
+
+}
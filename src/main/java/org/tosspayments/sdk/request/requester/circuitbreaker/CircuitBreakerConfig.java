@@ -0,0 +1,307 @@
+package org.tosspayments.sdk.request.requester.circuitbreaker;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.tosspayments.sdk.exception.DeadlineExceededException;
+import org.tosspayments.sdk.exception.TossApiException;
+import org.tosspayments.sdk.request.requester.DefaultOperationResolver;
+import org.tosspayments.sdk.request.requester.OperationResolver;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import lombok.Getter;
+
+/**
+ * Configuration of the circuit breakers of {@link CircuitBreakerRequester}.
+ * A circuit opens when, among the last {@code slidingWindowSize} calls and once at least {@code minimumCalls}
+ * were made, the failure rate or the slow call rate reaches its threshold.
+ * While open, calls fail fast. After {@code openDuration}, the circuit lets {@code permittedHalfOpenCalls}
+ * probe calls through: it closes if they all succeed in time, and opens again on the first failed or slow probe.
+ */
+@Getter
+public class CircuitBreakerConfig {
+
+	/**
+	 * Failures recorded by default: I/O errors, such as connection failures and timeouts, and server errors.
+	 * Other failed responses, like a rejected card, say nothing about the health of the API.
+	 */
+	public static final Predicate<Throwable> DEFAULT_FAILURE_PREDICATE = CircuitBreakerConfig::isServerFailure;
+
+	/**
+	 * Number of last calls the failure and slow call rates are computed over.
+	 */
+	private final int slidingWindowSize;
+
+	/**
+	 * Minimum number of calls in the window before the rates are evaluated.
+	 */
+	private final int minimumCalls;
+
+	/**
+	 * Failure rate, in percent, at which the circuit opens.
+	 */
+	private final float failureRateThreshold;
+
+	/**
+	 * Duration from which a call counts as slow.
+	 */
+	private final Duration slowCallDuration;
+
+	/**
+	 * Slow call rate, in percent, at which the circuit opens.
+	 */
+	private final float slowCallRateThreshold;
+
+	/**
+	 * Time an open circuit rejects calls before letting probe calls through.
+	 */
+	private final Duration openDuration;
+
+	/**
+	 * Number of probe calls let through while half-open.
+	 */
+	private final int permittedHalfOpenCalls;
+
+	/**
+	 * Decides which failures are recorded as failures. Other failures are recorded as successful calls.
+	 */
+	private final Predicate<Throwable> failurePredicate;
+
+	/**
+	 * Resolves the operation of each request, each operation having its own circuit.
+	 */
+	private final OperationResolver operationResolver;
+
+	/**
+	 * Listeners notified of state changes.
+	 */
+	private final List<CircuitBreakerListener> listeners;
+
+	/**
+	 * Creates a new CircuitBreakerConfig from the builder.
+	 * @param builder The builder holding the settings.
+	 */
+	private CircuitBreakerConfig(Builder builder) {
+		this.slidingWindowSize = builder.slidingWindowSize;
+		this.minimumCalls = Math.min(builder.minimumCalls, builder.slidingWindowSize);
+		this.failureRateThreshold = builder.failureRateThreshold;
+		this.slowCallDuration = builder.slowCallDuration;
+		this.slowCallRateThreshold = builder.slowCallRateThreshold;
+		this.openDuration = builder.openDuration;
+		this.permittedHalfOpenCalls = builder.permittedHalfOpenCalls;
+		this.failurePredicate = builder.failurePredicate;
+		this.operationResolver = builder.operationResolver;
+		this.listeners = List.copyOf(builder.listeners);
+	}
+
+	/**
+	 * Creates a new builder with the default settings.
+	 * @return A new builder.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Decides whether a failure is an I/O error or a server error, looking through the wrapping exceptions.
+	 * A passed deadline is chosen by the caller, so it is not a server failure, even when detected by an I/O timeout.
+	 * Neither is a body failing to be serialized or parsed, although an IOException, as the server was reachable.
+	 * @param throwable The failure of a call.
+	 * @return true if the failure is an I/O error or a server error.
+	 */
+	private static boolean isServerFailure(Throwable throwable) {
+		for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+			if (cause instanceof DeadlineExceededException) {
+				return false;
+			}
+			if (cause instanceof TossApiException tossApiException) {
+				return 500 <= tossApiException.getStatusCode();
+			}
+			if (cause instanceof JsonProcessingException) {
+				return false;
+			}
+			if (cause instanceof IOException) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Builder for {@link CircuitBreakerConfig}.
+	 */
+	public static class Builder {
+
+		private int slidingWindowSize = 100;
+
+		private int minimumCalls = 20;
+
+		private float failureRateThreshold = 50;
+
+		private Duration slowCallDuration = Duration.ofSeconds(5);
+
+		private float slowCallRateThreshold = 80;
+
+		private Duration openDuration = Duration.ofSeconds(30);
+
+		private int permittedHalfOpenCalls = 5;
+
+		private Predicate<Throwable> failurePredicate = DEFAULT_FAILURE_PREDICATE;
+
+		private OperationResolver operationResolver = new DefaultOperationResolver();
+
+		private final List<CircuitBreakerListener> listeners = new ArrayList<>();
+
+		/**
+		 * Creates a new builder with the default settings.
+		 */
+		private Builder() {
+		}
+
+		/**
+		 * Sets the number of last calls the rates are computed over. Defaults to 100.
+		 * @param slidingWindowSize the size of the sliding window.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withSlidingWindowSize(int slidingWindowSize) {
+			if (slidingWindowSize < 1) {
+				throw new IllegalArgumentException("Sliding window size must be at least 1");
+			}
+			this.slidingWindowSize = slidingWindowSize;
+
+			return this;
+		}
+
+		/**
+		 * Sets the minimum number of calls before the rates are evaluated, capped by the window size. Defaults to 20.
+		 * @param minimumCalls the minimum number of calls.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withMinimumCalls(int minimumCalls) {
+			if (minimumCalls < 1) {
+				throw new IllegalArgumentException("Minimum calls must be at least 1");
+			}
+			this.minimumCalls = minimumCalls;
+
+			return this;
+		}
+
+		/**
+		 * Sets the failure rate, in percent, at which the circuit opens. Defaults to 50.
+		 * @param failureRateThreshold the failure rate threshold.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withFailureRateThreshold(float failureRateThreshold) {
+			this.failureRateThreshold = checkRate(failureRateThreshold);
+
+			return this;
+		}
+
+		/**
+		 * Sets the duration from which a call counts as slow. Defaults to 5 seconds.
+		 * @param slowCallDuration the slow call duration.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withSlowCallDuration(Duration slowCallDuration) {
+			this.slowCallDuration = slowCallDuration;
+
+			return this;
+		}
+
+		/**
+		 * Sets the slow call rate, in percent, at which the circuit opens. Defaults to 80.
+		 * @param slowCallRateThreshold the slow call rate threshold.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withSlowCallRateThreshold(float slowCallRateThreshold) {
+			this.slowCallRateThreshold = checkRate(slowCallRateThreshold);
+
+			return this;
+		}
+
+		/**
+		 * Sets the time an open circuit rejects calls before letting probe calls through. Defaults to 30 seconds.
+		 * @param openDuration the open duration.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withOpenDuration(Duration openDuration) {
+			this.openDuration = openDuration;
+
+			return this;
+		}
+
+		/**
+		 * Sets the number of probe calls let through while half-open. Defaults to 5.
+		 * @param permittedHalfOpenCalls the number of probe calls.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withPermittedHalfOpenCalls(int permittedHalfOpenCalls) {
+			if (permittedHalfOpenCalls < 1) {
+				throw new IllegalArgumentException("Permitted half-open calls must be at least 1");
+			}
+			this.permittedHalfOpenCalls = permittedHalfOpenCalls;
+
+			return this;
+		}
+
+		/**
+		 * Sets which failures are recorded as failures. Defaults to {@link #DEFAULT_FAILURE_PREDICATE}.
+		 * @param failurePredicate the failure predicate.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withFailurePredicate(Predicate<Throwable> failurePredicate) {
+			this.failurePredicate = failurePredicate;
+
+			return this;
+		}
+
+		/**
+		 * Sets how requests are grouped into circuits. Defaults to {@link DefaultOperationResolver}.
+		 * @param operationResolver the operation resolver.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withOperationResolver(OperationResolver operationResolver) {
+			this.operationResolver = operationResolver;
+
+			return this;
+		}
+
+		/**
+		 * Adds a listener notified of state changes.
+		 * @param listener the listener.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withListener(CircuitBreakerListener listener) {
+			this.listeners.add(listener);
+
+			return this;
+		}
+
+		/**
+		 * Builds the CircuitBreakerConfig instance.
+		 * @return the CircuitBreakerConfig instance.
+		 */
+		public CircuitBreakerConfig build() {
+			return new CircuitBreakerConfig(this);
+		}
+
+		/**
+		 * Checks that a rate is a percentage.
+		 * @param rate the rate.
+		 * @return the rate.
+		 */
+		private static float checkRate(float rate) {
+			if (rate <= 0 || rate > 100) {
+				throw new IllegalArgumentException("Rate threshold must be greater than 0 and at most 100");
+			}
+
+			return rate;
+		}
+	}
+
+}
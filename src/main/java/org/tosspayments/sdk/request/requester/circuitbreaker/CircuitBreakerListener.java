@@ -0,0 +1,16 @@
+package org.tosspayments.sdk.request.requester.circuitbreaker;
+
+/**
+ * Listener notified when a circuit breaker changes state, e.g. to shed load early while a circuit is open.
+ */
+public interface CircuitBreakerListener {
+
+	/**
+	 * Called after a circuit breaker changed state, on the thread that caused the change.
+	 *
+	 * @param circuitName the name of the circuit
+	 * @param from        the previous state
+	 * @param to          the new state
+	 */
+	void onStateChange(String circuitName, CircuitBreaker.State from, CircuitBreaker.State to);
+}
@@ -0,0 +1,238 @@
+package org.tosspayments.sdk.request.requester.circuitbreaker;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.tosspayments.sdk.exception.CircuitBreakerOpenException;
+import org.tosspayments.sdk.request.requester.RequestOptions;
+import org.tosspayments.sdk.request.requester.Requester;
+
+/**
+ * {@link Requester} decorator guarding each circuit, e.g. confirm, cancel and lookup, with its own
+ * {@link CircuitBreaker}, so an outage of one operation does not stop the others.
+ * Requests to an open circuit fail fast with a {@link CircuitBreakerOpenException} without being sent;
+ * asynchronous requests return a future failed with it.
+ * Cancelled requests, e.g. losing hedges or abandoned callers, are not recorded.
+ */
+public class CircuitBreakerRequester implements Requester {
+
+	private static final String GET = "GET";
+
+	private static final String POST = "POST";
+
+	private final Requester delegate;
+
+	private final CircuitBreakerConfig config;
+
+	private final ConcurrentMap<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new CircuitBreakerRequester.
+	 * @param delegate the requester sending the requests.
+	 * @param config the configuration of the circuit breakers.
+	 */
+	public CircuitBreakerRequester(Requester delegate, CircuitBreakerConfig config) {
+		this.delegate = delegate;
+		this.config = config;
+	}
+
+	/**
+	 * Returns the circuit breaker of a circuit, creating it if no request was sent to the circuit yet.
+	 * @param circuitName the name of the circuit.
+	 * @return the circuit breaker.
+	 */
+	public CircuitBreaker getCircuitBreaker(String circuitName) {
+		return circuitBreakers.computeIfAbsent(circuitName, name -> new CircuitBreaker(name, config));
+	}
+
+	/**
+	 * Returns the circuit breakers of the circuits requests were sent to, by circuit name.
+	 * @return an unmodifiable view of the circuit breakers.
+	 */
+	public Map<String, CircuitBreaker> getCircuitBreakers() {
+		return Collections.unmodifiableMap(circuitBreakers);
+	}
+
+	/**
+	 * Sends a GET request if its circuit is not open.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> T get(String url, Class<T> responseType) {
+		return execute(GET, url, () -> delegate.get(url, responseType));
+	}
+
+	/**
+	 * Sends a GET request with options if its circuit is not open.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> T get(String url, Class<T> responseType, RequestOptions options) {
+		return execute(GET, url, () -> delegate.get(url, responseType, options));
+	}
+
+	/**
+	 * Sends a GET request asynchronously if its circuit is not open.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> CompletableFuture<T> getAsync(String url, Class<T> responseType) {
+		return executeAsync(GET, url, () -> delegate.getAsync(url, responseType));
+	}
+
+	/**
+	 * Sends a GET request with options asynchronously if its circuit is not open.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> CompletableFuture<T> getAsync(String url, Class<T> responseType, RequestOptions options) {
+		return executeAsync(GET, url, () -> delegate.getAsync(url, responseType, options));
+	}
+
+	/**
+	 * Sends a POST request if its circuit is not open.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> T post(String url, Object requestBody, Class<T> responseType) {
+		return execute(POST, url, () -> delegate.post(url, requestBody, responseType));
+	}
+
+	/**
+	 * Sends a POST request with options if its circuit is not open.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> T post(String url, Object requestBody, Class<T> responseType, RequestOptions options) {
+		return execute(POST, url, () -> delegate.post(url, requestBody, responseType, options));
+	}
+
+	/**
+	 * Sends a POST request asynchronously if its circuit is not open.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> CompletableFuture<T> postAsync(String url, Object requestBody, Class<T> responseType) {
+		return executeAsync(POST, url, () -> delegate.postAsync(url, requestBody, responseType));
+	}
+
+	/**
+	 * Sends a POST request with options asynchronously if its circuit is not open.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> CompletableFuture<T> postAsync(
+		String url,
+		Object requestBody,
+		Class<T> responseType,
+		RequestOptions options
+	) {
+		return executeAsync(POST, url, () -> delegate.postAsync(url, requestBody, responseType, options));
+	}
+
+	/**
+	 * Runs the synchronous call through the circuit breaker of the request.
+	 * @param method the HTTP method of the request.
+	 * @param url the URL of the request.
+	 * @param call the call sending the request.
+	 * @return the response.
+	 */
+	private <T> T execute(String method, String url, Supplier<T> call) {
+		CircuitBreaker circuitBreaker = acquire(method, url);
+		long start = System.nanoTime();
+
+		T response;
+		try {
+			response = call.get();
+		} catch (RuntimeException e) {
+			onResult(circuitBreaker, start, e);
+			throw e;
+		}
+		circuitBreaker.onResult(System.nanoTime() - start, null);
+
+		return response;
+	}
+
+	/**
+	 * Runs the asynchronous call through the circuit breaker of the request.
+	 * @param method the HTTP method of the request.
+	 * @param url the URL of the request.
+	 * @param call the call sending the request.
+	 * @return the future of the response.
+	 */
+	private <T> CompletableFuture<T> executeAsync(String method, String url, Supplier<CompletableFuture<T>> call) {
+		CircuitBreaker circuitBreaker;
+		try {
+			circuitBreaker = acquire(method, url);
+		} catch (CircuitBreakerOpenException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+		long start = System.nanoTime();
+
+		CompletableFuture<T> response;
+		try {
+			response = call.get();
+		} catch (RuntimeException e) {
+			onResult(circuitBreaker, start, e);
+			throw e;
+		}
+
+		response.whenComplete((result, throwable) -> onResult(circuitBreaker, start, throwable));
+
+		return response;
+	}
+
+	/**
+	 * Records the result of a permitted call, or releases its permission if it was cancelled.
+	 * @param circuitBreaker the circuit breaker that permitted the call.
+	 * @param start the time the call started, from {@link System#nanoTime()}.
+	 * @param throwable the failure of the call, null if it succeeded.
+	 */
+	private static void onResult(CircuitBreaker circuitBreaker, long start, Throwable throwable) {
+		Throwable failure = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+		if (failure instanceof CancellationException) {
+			circuitBreaker.onCancelled();
+		} else {
+			circuitBreaker.onResult(System.nanoTime() - start, throwable);
+		}
+	}
+
+	/**
+	 * Acquires the permission to send the request from its circuit breaker.
+	 * @param method the HTTP method of the request.
+	 * @param url the URL of the request.
+	 * @return the circuit breaker of the request.
+	 * @throws CircuitBreakerOpenException if the circuit is open.
+	 */
+	private CircuitBreaker acquire(String method, String url) {
+		CircuitBreaker circuitBreaker = getCircuitBreaker(config.getOperationResolver().resolve(method, url));
+		if (!circuitBreaker.tryAcquirePermission()) {
+			throw new CircuitBreakerOpenException(circuitBreaker.getName());
+		}
+
+		return circuitBreaker;
+	}
+
+}
@@ -0,0 +1,122 @@
+package org.tosspayments.sdk.request.requester.circuitbreaker;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free count based sliding window over the outcomes of the last calls.
+ * Each call claims the next slot of a ring, and the counters are adjusted by the difference
+ * between the new outcome and the outcome it replaced, so recording never blocks.
+ */
+class SlidingWindow {
+
+	private static final int RECORDED = 1;
+
+	private static final int FAILURE = 1 << 1;
+
+	private static final int SLOW = 1 << 2;
+
+	private final int size;
+
+	private final AtomicIntegerArray outcomes;
+
+	private final AtomicLong cursor = new AtomicLong();
+
+	private final AtomicInteger calls = new AtomicInteger();
+
+	private final AtomicInteger failures = new AtomicInteger();
+
+	private final AtomicInteger slowCalls = new AtomicInteger();
+
+	/**
+	 * Creates a new SlidingWindow.
+	 * @param size the number of last calls kept in the window.
+	 */
+	SlidingWindow(int size) {
+		this.size = size;
+		this.outcomes = new AtomicIntegerArray(size);
+	}
+
+	/**
+	 * Records the outcome of a call, replacing the oldest outcome once the window is full.
+	 * @param failure whether the call failed.
+	 * @param slow whether the call was slow.
+	 */
+	void record(boolean failure, boolean slow) {
+		int outcome = RECORDED | (failure ? FAILURE : 0) | (slow ? SLOW : 0);
+		int index = (int)(cursor.getAndIncrement() % size);
+		replace(index, outcome);
+	}
+
+	/**
+	 * Clears every outcome of the window.
+	 */
+	void reset() {
+		for (int index = 0; index < size; index++) {
+			replace(index, 0);
+		}
+	}
+
+	/**
+	 * Returns the number of calls in the window.
+	 * @return the number of calls.
+	 */
+	int getCalls() {
+		return calls.get();
+	}
+
+	/**
+	 * Returns the percentage of failed calls in the window.
+	 * @return the failure rate, 0 when the window is empty.
+	 */
+	float getFailureRate() {
+		return rate(failures.get());
+	}
+
+	/**
+	 * Returns the percentage of slow calls in the window.
+	 * @return the slow call rate, 0 when the window is empty.
+	 */
+	float getSlowCallRate() {
+		return rate(slowCalls.get());
+	}
+
+	/**
+	 * Replaces the outcome of a slot and adjusts the counters.
+	 * @param index the slot.
+	 * @param outcome the new outcome, 0 for none.
+	 */
+	private void replace(int index, int outcome) {
+		int previous = outcomes.getAndSet(index, outcome);
+		if (previous == outcome) {
+			return;
+		}
+
+		calls.addAndGet(flag(outcome, RECORDED) - flag(previous, RECORDED));
+		failures.addAndGet(flag(outcome, FAILURE) - flag(previous, FAILURE));
+		slowCalls.addAndGet(flag(outcome, SLOW) - flag(previous, SLOW));
+	}
+
+	/**
+	 * Returns the percentage of the count among the calls.
+	 * @param count the count.
+	 * @return the percentage, 0 when the window is empty.
+	 */
+	private float rate(int count) {
+		int total = calls.get();
+
+		return total <= 0 ? 0 : count * 100f / total;
+	}
+
+	/**
+	 * Returns 1 if the outcome has the flag, 0 otherwise.
+	 * @param outcome the outcome.
+	 * @param flag the flag.
+	 * @return 1 or 0.
+	 */
+	private static int flag(int outcome, int flag) {
+		return (outcome & flag) != 0 ? 1 : 0;
+	}
+
+}
@@ -0,0 +1,375 @@
+package org.tosspayments.sdk.request.requester.coalescing;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.tosspayments.sdk.authorization.TossPaymentsAuthentication;
+import org.tosspayments.sdk.exception.DeadlineExceededException;
+import org.tosspayments.sdk.request.requester.RequestOptions;
+import org.tosspayments.sdk.request.requester.Requester;
+import org.tosspayments.sdk.request.requester.SharedScheduler;
+
+/**
+ * {@link Requester} decorator coalescing concurrent identical GET requests into a single request:
+ * while a GET request for a path, response type and credential is in flight, later callers join it
+ * instead of sending their own.
+ * Callers asking for the same response type share the same response instance, so it must not be modified,
+ * while callers asking for different types are sent separate requests.
+ * <p>
+ * Each caller receives its own copy of the shared result, bounded by the deadline of its {@link RequestOptions}.
+ * The shared request is sent by its first caller, before later callers join it, so it carries the
+ * {@link RequestOptions#forSharedRequest() submission time, trace span and credential} of the first caller only:
+ * the options of later callers apply to their own copy, and are otherwise ignored.
+ * The shared request is sent without a deadline and is cancelled once every caller has cancelled or given up,
+ * so it is bounded by the latest deadline of its callers, none of them bounding it if one has no deadline.
+ * Synchronous GET requests wait on the calling thread for the shared request.
+ * The requests in flight are kept in a concurrent map and each one counts its own callers,
+ * so callers of different requests never contend.
+ * Requests failing synchronously are reported through the returned future, and POST requests are passed through.
+ */
+public class CoalescingRequester implements Requester {
+
+	private final Requester delegate;
+
+	private final ScheduledExecutorService scheduler;
+
+	private final ConcurrentMap<InFlightGet, Flight<?>> inFlightGets = new ConcurrentHashMap<>();
+
+	private final LongAdder coalesced = new LongAdder();
+
+	/**
+	 * Creates a new CoalescingRequester firing the deadlines of its callers on the {@link SharedScheduler}.
+	 * @param delegate the requester sending the requests.
+	 */
+	public CoalescingRequester(Requester delegate) {
+		this(delegate, SharedScheduler.getInstance());
+	}
+
+	/**
+	 * Creates a new CoalescingRequester firing the deadlines of its callers on the given scheduler.
+	 * @param delegate the requester sending the requests.
+	 * @param scheduler the scheduler firing the deadlines, its tasks must not block.
+	 */
+	public CoalescingRequester(Requester delegate, ScheduledExecutorService scheduler) {
+		this.delegate = delegate;
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Returns the number of GET requests that joined an identical request in flight instead of being sent.
+	 * @return the number of coalesced requests.
+	 */
+	public long getCoalesced() {
+		return coalesced.sum();
+	}
+
+	/**
+	 * Returns the number of GET requests in flight, each shared by one or more callers.
+	 * @return the number of requests in flight.
+	 */
+	public int getInFlight() {
+		return inFlightGets.size();
+	}
+
+	/**
+	 * Sends a GET request, or joins an identical one in flight, waiting for the response on the calling thread.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> T get(String url, Class<T> responseType) {
+		return await(getAsync(url, responseType));
+	}
+
+	/**
+	 * Sends a GET request with options, or joins an identical one in flight,
+	 * waiting for the response on the calling thread.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> T get(String url, Class<T> responseType, RequestOptions options) {
+		return await(getAsync(url, responseType, options));
+	}
+
+	/**
+	 * Sends a GET request asynchronously, or joins an identical one in flight.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> CompletableFuture<T> getAsync(String url, Class<T> responseType) {
+		return getAsync(url, responseType, RequestOptions.defaults());
+	}
+
+	/**
+	 * Sends a GET request with options asynchronously, or joins an identical one in flight.
+	 * The deadline of the options applies to the returned future. The other options only apply
+	 * if the request is sent, a joined request keeping the options of its first caller.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> CompletableFuture<T> getAsync(String url, Class<T> responseType, RequestOptions options) {
+		if (options.isExpired()) {
+			return CompletableFuture.failedFuture(new DeadlineExceededException(options.getDeadline()));
+		}
+
+		InFlightGet key = new InFlightGet(url, responseType, options.getAuthentication());
+		while (true) {
+			Flight<T> flight = new Flight<>(key);
+			Flight<T> inFlight = register(key, flight);
+			if (inFlight == null) {
+				CompletableFuture<T> copy = withDeadline(flight, options);
+				send(flight, responseType, options.forSharedRequest());
+
+				return copy;
+			}
+			if (inFlight.join()) {
+				coalesced.increment();
+
+				return withDeadline(inFlight, options);
+			}
+			inFlightGets.remove(key, inFlight); // abandoned by all of its callers, its request being cancelled
+		}
+	}
+
+	/**
+	 * Sends a POST request, never coalesced.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> T post(String url, Object requestBody, Class<T> responseType) {
+		return delegate.post(url, requestBody, responseType);
+	}
+
+	/**
+	 * Sends a POST request with options, never coalesced.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> T post(String url, Object requestBody, Class<T> responseType, RequestOptions options) {
+		return delegate.post(url, requestBody, responseType, options);
+	}
+
+	/**
+	 * Sends a POST request asynchronously, never coalesced.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> CompletableFuture<T> postAsync(String url, Object requestBody, Class<T> responseType) {
+		return delegate.postAsync(url, requestBody, responseType);
+	}
+
+	/**
+	 * Sends a POST request with options asynchronously, never coalesced.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> CompletableFuture<T> postAsync(
+		String url,
+		Object requestBody,
+		Class<T> responseType,
+		RequestOptions options
+	) {
+		return delegate.postAsync(url, requestBody, responseType, options);
+	}
+
+	/**
+	 * Registers the flight of a GET request, unless an identical request is already in flight.
+	 * @param key the identity of the GET request.
+	 * @param flight the flight of the request.
+	 * @return the flight of the identical request in flight, or null if the given flight was registered.
+	 */
+	@SuppressWarnings("unchecked") // the response type is part of the in-flight key
+	private <T> Flight<T> register(InFlightGet key, Flight<T> flight) {
+		return (Flight<T>)inFlightGets.putIfAbsent(key, flight);
+	}
+
+	/**
+	 * Sends the shared GET request and completes the flight with its result.
+	 * The flight is unregistered before completing, so callers seeing the result never join the finished flight.
+	 * @param flight the flight of the request.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the shared request, from its first caller.
+	 */
+	private <T> void send(Flight<T> flight, Class<T> responseType, RequestOptions options) {
+		String path = flight.key.path();
+		CompletableFuture<T> response;
+		try {
+			response = options == RequestOptions.defaults()
+				? delegate.getAsync(path, responseType)
+				: delegate.getAsync(path, responseType, options);
+		} catch (RuntimeException e) {
+			response = CompletableFuture.failedFuture(e);
+		}
+
+		flight.sent = response;
+		response.whenComplete((body, throwable) -> {
+			inFlightGets.remove(flight.key, flight);
+			if (throwable != null) {
+				flight.result.completeExceptionally(throwable);
+			} else {
+				flight.result.complete(body);
+			}
+		});
+		if (flight.isAbandoned()) { // every caller left before the request was sent
+			response.cancel(true);
+		}
+	}
+
+	/**
+	 * Returns a copy of the shared result for one caller, failed once the deadline of the options passes.
+	 * The caller leaves the flight when its copy completes first, e.g. when it is cancelled.
+	 * @param flight the flight the caller joined.
+	 * @param options the options of the caller's request.
+	 * @return the copy of the shared result.
+	 */
+	private <T> CompletableFuture<T> withDeadline(Flight<T> flight, RequestOptions options) {
+		CompletableFuture<T> copy = flight.result.copy();
+		Instant deadline = options.getDeadline();
+		if (deadline != null) {
+			ScheduledFuture<?> timer = scheduler.schedule(
+				() -> missDeadline(copy, deadline),
+				options.remainingNanos(),
+				TimeUnit.NANOSECONDS
+			);
+			copy.whenComplete((body, throwable) -> timer.cancel(false));
+		}
+		copy.whenComplete((body, throwable) -> {
+			if (!flight.result.isDone()) {
+				leave(flight);
+			}
+		});
+
+		return copy;
+	}
+
+	/**
+	 * Fails the copy of a caller whose deadline passed.
+	 * @param copy the copy of the shared result.
+	 * @param deadline the deadline of the caller's request.
+	 */
+	private static void missDeadline(CompletableFuture<?> copy, Instant deadline) {
+		copy.completeExceptionally(new DeadlineExceededException(deadline));
+	}
+
+	/**
+	 * Removes a caller from the flight, cancelling the shared request once its last caller has left.
+	 * The flight is unregistered when the cancelled request completes.
+	 * @param flight the flight to leave.
+	 */
+	private static void leave(Flight<?> flight) {
+		if (flight.leave()) {
+			CompletableFuture<?> sent = flight.sent;
+			if (sent != null) {
+				sent.cancel(true);
+			}
+		}
+	}
+
+	/**
+	 * Waits on the calling thread for the response.
+	 * @param future the future of the response.
+	 * @return the response.
+	 */
+	private static <T> T await(CompletableFuture<T> future) {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new RuntimeException(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			future.cancel(true);
+			throw new RuntimeException("Request was interrupted", e);
+		}
+	}
+
+	/**
+	 * Identifies a GET request that concurrent identical requests can share.
+	 * @param path the URL of the GET request.
+	 * @param responseType the class the response is parsed into.
+	 * @param authentication the credential of the request, null for the credential of the requester.
+	 */
+	private record InFlightGet(String path, Class<?> responseType, TossPaymentsAuthentication authentication) {
+	}
+
+	/**
+	 * A shared GET request and the number of callers waiting for it.
+	 * Once the count drops to zero the flight is abandoned, and no caller can join it anymore.
+	 * The count is guarded by the flight itself, so only callers of the same request contend.
+	 * @param <T> the type of the response.
+	 */
+	private static final class Flight<T> {
+
+		private final InFlightGet key;
+
+		private final CompletableFuture<T> result = new CompletableFuture<>();
+
+		private int callers = 1;
+
+		private volatile CompletableFuture<T> sent;
+
+		/**
+		 * Creates a new flight with its first caller.
+		 * @param key the identity of the GET request.
+		 */
+		Flight(InFlightGet key) {
+			this.key = key;
+		}
+
+		/**
+		 * Adds a caller to the flight, unless it was abandoned.
+		 * @return true if the caller joined.
+		 */
+		synchronized boolean join() {
+			if (callers == 0) {
+				return false;
+			}
+			callers++;
+
+			return true;
+		}
+
+		/**
+		 * Removes a caller from the flight.
+		 * @return true if it was the last caller, abandoning the flight.
+		 */
+		synchronized boolean leave() {
+			callers--;
+
+			return callers == 0;
+		}
+
+		/**
+		 * Returns whether every caller left the flight.
+		 * @return true if the flight was abandoned.
+		 */
+		synchronized boolean isAbandoned() {
+			return callers == 0;
+		}
+	}
+
+}
@@ -0,0 +1,102 @@
+package org.tosspayments.sdk.request.requester.concurrency;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Additive increase, multiplicative decrease limit.
+ * The limit grows by one per successful request while the limit is in use,
+ * and is multiplied by the backoff ratio when a request is dropped or slower than the RTT tolerance.
+ * The limit backs off once per window: a request sent before the last backoff was sent under the previous limit,
+ * so its drop is already accounted for and is ignored, and a burst of failures halves the limit once, not per failure.
+ */
+public class AimdLimit implements LimitAlgorithm {
+
+	private final int maxLimit;
+
+	private final double backoffRatio;
+
+	private final long rttToleranceNanos;
+
+	private final AtomicInteger limit;
+
+	private final LongSupplier nanoClock;
+
+	private final AtomicLong lastBackoffNanos;
+
+	/**
+	 * Creates a new AimdLimit starting at 20 in-flight requests, up to 200,
+	 * backing off by 10% on drops and requests slower than 5 seconds.
+	 */
+	public AimdLimit() {
+		this(20, 200, 0.9, Duration.ofSeconds(5));
+	}
+
+	/**
+	 * Creates a new AimdLimit.
+	 * @param initialLimit the initial limit.
+	 * @param maxLimit the maximum limit.
+	 * @param backoffRatio the ratio the limit is multiplied by on overload, between 0 and 1.
+	 * @param rttTolerance the round trip time from which a request signals overload.
+	 */
+	public AimdLimit(int initialLimit, int maxLimit, double backoffRatio, Duration rttTolerance) {
+		this(initialLimit, maxLimit, backoffRatio, rttTolerance, System::nanoTime);
+	}
+
+	/**
+	 * Creates a new AimdLimit reading the time from the given clock.
+	 * @param initialLimit the initial limit.
+	 * @param maxLimit the maximum limit.
+	 * @param backoffRatio the ratio the limit is multiplied by on overload, between 0 and 1.
+	 * @param rttTolerance the round trip time from which a request signals overload.
+	 * @param nanoClock the clock, in nanoseconds.
+	 */
+	AimdLimit(int initialLimit, int maxLimit, double backoffRatio, Duration rttTolerance, LongSupplier nanoClock) {
+		if (initialLimit < 1 || maxLimit < initialLimit) {
+			throw new IllegalArgumentException("Limits must satisfy 1 <= initialLimit <= maxLimit");
+		}
+		if (!(backoffRatio > 0 && backoffRatio < 1)) {
+			throw new IllegalArgumentException("Backoff ratio must be between 0 and 1");
+		}
+		this.maxLimit = maxLimit;
+		this.backoffRatio = backoffRatio;
+		this.rttToleranceNanos = rttTolerance.toNanos();
+		this.limit = new AtomicInteger(initialLimit);
+		this.nanoClock = nanoClock;
+		// far enough in the past that any request was sent after it
+		this.lastBackoffNanos = new AtomicLong(nanoClock.getAsLong() - Long.MAX_VALUE / 2);
+	}
+
+	/**
+	 * Returns the current in-flight request limit.
+	 * @return the limit.
+	 */
+	@Override
+	public int getLimit() {
+		return limit.get();
+	}
+
+	/**
+	 * Backs off on overload of a request sent after the last backoff, or grows the limit if it is in use.
+	 * @param rttNanos the round trip time of the request in nanoseconds.
+	 * @param inFlight the number of requests in flight when the request was sent.
+	 * @param dropped whether the request signaled overload.
+	 */
+	@Override
+	public void onSample(long rttNanos, int inFlight, boolean dropped) {
+		if (dropped || rttNanos > rttToleranceNanos) {
+			long now = nanoClock.getAsLong();
+			long lastBackoff = lastBackoffNanos.get();
+			// the compare-and-set lets a single one of concurrent overloads back off
+			if (now - rttNanos - lastBackoff >= 0 && lastBackoffNanos.compareAndSet(lastBackoff, now)) {
+				limit.updateAndGet(current -> Math.max(1, (int)(current * backoffRatio)));
+			}
+		} else {
+			// an unused limit says nothing about the capacity of the server
+			limit.updateAndGet(current -> inFlight * 2 >= current ? Math.min(maxLimit, current + 1) : current);
+		}
+	}
+
+}
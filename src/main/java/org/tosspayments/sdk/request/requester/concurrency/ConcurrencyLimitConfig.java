@@ -0,0 +1,223 @@
+package org.tosspayments.sdk.request.requester.concurrency;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Predicate;
+
+import org.tosspayments.sdk.exception.TossApiException;
+import org.tosspayments.sdk.request.requester.SharedScheduler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import lombok.Getter;
+
+/**
+ * Configuration of {@link ConcurrencyLimitRequester}.
+ * The limit algorithm holds the learned limit, so requesters built with the same configuration instance share it.
+ */
+@Getter
+public class ConcurrencyLimitConfig {
+
+	/**
+	 * Failures signaling overload by default: I/O errors, such as timeouts, too many requests and server errors.
+	 */
+	public static final Predicate<Throwable> DEFAULT_DROP_PREDICATE = ConcurrencyLimitConfig::isOverload;
+
+	/**
+	 * Algorithm learning the in-flight request limit.
+	 */
+	private final LimitAlgorithm limitAlgorithm;
+
+	/**
+	 * What happens to requests sent while the limit is reached.
+	 */
+	private final OverflowPolicy overflowPolicy;
+
+	/**
+	 * Maximum number of queued requests.
+	 */
+	private final int maxQueueSize;
+
+	/**
+	 * Longest time a request waits in the queue before failing.
+	 */
+	private final Duration maxQueueWait;
+
+	/**
+	 * Decides which failures signal overload to the limit algorithm.
+	 */
+	private final Predicate<Throwable> dropPredicate;
+
+	/**
+	 * Scheduler running the queue timeouts.
+	 */
+	private final ScheduledExecutorService scheduler;
+
+	/**
+	 * Executor sending the asynchronous requests granted a permit while queued.
+	 */
+	private final Executor executor;
+
+	/**
+	 * Creates a new ConcurrencyLimitConfig from the builder.
+	 * @param builder The builder holding the settings.
+	 */
+	private ConcurrencyLimitConfig(Builder builder) {
+		this.limitAlgorithm = builder.limitAlgorithm != null ? builder.limitAlgorithm : new AimdLimit();
+		this.overflowPolicy = builder.overflowPolicy;
+		this.maxQueueSize = builder.maxQueueSize;
+		this.maxQueueWait = builder.maxQueueWait;
+		this.dropPredicate = builder.dropPredicate;
+		this.scheduler = builder.scheduler != null ? builder.scheduler : SharedScheduler.getInstance();
+		this.executor = builder.executor != null ? builder.executor : SharedScheduler.getExecutor();
+	}
+
+	/**
+	 * Creates a new builder with the default settings.
+	 * @return A new builder.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Decides whether a failure signals overload, looking through the wrapping exceptions.
+	 * A body failing to be serialized or parsed does not, although an IOException.
+	 * @param throwable The failure of a request.
+	 * @return true if the failure is an I/O error, a 429 or a server error.
+	 */
+	private static boolean isOverload(Throwable throwable) {
+		for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+			if (cause instanceof TossApiException tossApiException) {
+				return tossApiException.getStatusCode() == 429 || 500 <= tossApiException.getStatusCode();
+			}
+			if (cause instanceof JsonProcessingException) {
+				return false;
+			}
+			if (cause instanceof IOException) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Builder for {@link ConcurrencyLimitConfig}.
+	 */
+	public static class Builder {
+
+		private LimitAlgorithm limitAlgorithm = null;
+
+		private OverflowPolicy overflowPolicy = OverflowPolicy.QUEUE;
+
+		private int maxQueueSize = 1000;
+
+		private Duration maxQueueWait = Duration.ofSeconds(5);
+
+		private Predicate<Throwable> dropPredicate = DEFAULT_DROP_PREDICATE;
+
+		private ScheduledExecutorService scheduler = null;
+
+		private Executor executor = null;
+
+		/**
+		 * Creates a new builder with the default settings.
+		 */
+		private Builder() {
+		}
+
+		/**
+		 * Sets the algorithm learning the in-flight request limit. Defaults to a new {@link AimdLimit}.
+		 * @param limitAlgorithm the limit algorithm.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withLimitAlgorithm(LimitAlgorithm limitAlgorithm) {
+			this.limitAlgorithm = limitAlgorithm;
+
+			return this;
+		}
+
+		/**
+		 * Sets what happens to requests sent while the limit is reached. Defaults to {@link OverflowPolicy#QUEUE}.
+		 * @param overflowPolicy the overflow policy.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withOverflowPolicy(OverflowPolicy overflowPolicy) {
+			this.overflowPolicy = overflowPolicy;
+
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of queued requests. Defaults to 1000.
+		 * @param maxQueueSize the maximum queue size.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withMaxQueueSize(int maxQueueSize) {
+			if (maxQueueSize < 0) {
+				throw new IllegalArgumentException("Max queue size must not be negative");
+			}
+			this.maxQueueSize = maxQueueSize;
+
+			return this;
+		}
+
+		/**
+		 * Sets the longest time a request waits in the queue before failing. Defaults to 5 seconds.
+		 * @param maxQueueWait the maximum queue wait.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withMaxQueueWait(Duration maxQueueWait) {
+			this.maxQueueWait = maxQueueWait;
+
+			return this;
+		}
+
+		/**
+		 * Sets which failures signal overload. Defaults to {@link #DEFAULT_DROP_PREDICATE}.
+		 * @param dropPredicate the drop predicate.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withDropPredicate(Predicate<Throwable> dropPredicate) {
+			this.dropPredicate = dropPredicate;
+
+			return this;
+		}
+
+		/**
+		 * Sets the scheduler running the queue timeouts. Defaults to the scheduler shared by the SDK.
+		 * @param scheduler the scheduler.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withScheduler(ScheduledExecutorService scheduler) {
+			this.scheduler = scheduler;
+
+			return this;
+		}
+
+		/**
+		 * Sets the executor sending the asynchronous requests granted a permit while queued,
+		 * so they are not sent on the stack of the request releasing the permit.
+		 * Defaults to {@link SharedScheduler#getExecutor()}.
+		 * @param executor the executor.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withExecutor(Executor executor) {
+			this.executor = executor;
+
+			return this;
+		}
+
+		/**
+		 * Builds the ConcurrencyLimitConfig instance.
+		 * @return the ConcurrencyLimitConfig instance.
+		 */
+		public ConcurrencyLimitConfig build() {
+			return new ConcurrencyLimitConfig(this);
+		}
+	}
+
+}
@@ -0,0 +1,502 @@
+package org.tosspayments.sdk.request.requester.concurrency;
+
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.tosspayments.sdk.exception.ConcurrencyLimitExceededException;
+import org.tosspayments.sdk.exception.DeadlineExceededException;
+import org.tosspayments.sdk.request.requester.RequestOptions;
+import org.tosspayments.sdk.request.requester.Requester;
+import org.tosspayments.sdk.request.requester.metrics.RequestMetricsListener;
+
+/**
+ * {@link Requester} decorator bounding the number of requests in flight by a limit learned by a
+ * {@link LimitAlgorithm} from the round trip times and failures of completed requests.
+ * Requests sent while the limit is reached are queued or rejected according to the {@link OverflowPolicy}.
+ * A queued request holds no thread while waiting: its permit is a future completed by the request releasing it.
+ * The in-flight count is only changed by compare-and-set, and a request releasing its permit or joining the queue
+ * drains the queue while permits are left, so a queued request cannot miss a permit released concurrently.
+ * An asynchronous request granted a permit while queued is sent on the executor of the configuration,
+ * as the permit is granted on the stack of the request releasing it, which would otherwise grow with each
+ * queued request sent in turn. A queued request waits no longer than the deadline of its {@link RequestOptions},
+ * failing with a {@link DeadlineExceededException} when it passes first.
+ * The limit, the in-flight count and the queue depth are reported to the {@link RequestMetricsListener}, if any,
+ * whenever they change.
+ * Requests failing synchronously are reported through the returned future by the asynchronous methods,
+ * and cancelling the returned future cancels the request sent.
+ */
+public class ConcurrencyLimitRequester implements Requester {
+
+	private static final CompletableFuture<Void> GRANTED = CompletableFuture.completedFuture(null);
+
+	private final Requester delegate;
+
+	private final ConcurrencyLimitConfig config;
+
+	private final LimitAlgorithm limitAlgorithm;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final AtomicInteger queued = new AtomicInteger();
+
+	private final Queue<CompletableFuture<Void>> waiters = new ConcurrentLinkedQueue<>();
+
+	private final LongAdder rejected = new LongAdder();
+
+	private final RequestMetricsListener metricsListener;
+
+	/**
+	 * Creates a new ConcurrencyLimitRequester.
+	 * @param delegate the requester sending the requests.
+	 * @param config the configuration of the limiter.
+	 */
+	public ConcurrencyLimitRequester(Requester delegate, ConcurrencyLimitConfig config) {
+		this(delegate, config, null);
+	}
+
+	/**
+	 * Creates a new ConcurrencyLimitRequester reporting its state to a metrics listener.
+	 * @param delegate the requester sending the requests.
+	 * @param config the configuration of the limiter.
+	 * @param metricsListener the listener notified of the limit, the in-flight count and the queue depth,
+	 *     or null to report nothing.
+	 */
+	public ConcurrencyLimitRequester(
+		Requester delegate,
+		ConcurrencyLimitConfig config,
+		RequestMetricsListener metricsListener
+	) {
+		this.delegate = delegate;
+		this.config = config;
+		this.limitAlgorithm = config.getLimitAlgorithm();
+		this.metricsListener = metricsListener;
+	}
+
+	/**
+	 * Returns the current in-flight request limit.
+	 * @return the limit.
+	 */
+	public int getLimit() {
+		return limitAlgorithm.getLimit();
+	}
+
+	/**
+	 * Returns the number of requests in flight.
+	 * @return the in-flight count.
+	 */
+	public int getInFlight() {
+		return inFlight.get();
+	}
+
+	/**
+	 * Returns the number of requests waiting in the queue.
+	 * @return the queue size.
+	 */
+	public int getQueued() {
+		return queued.get();
+	}
+
+	/**
+	 * Returns the number of requests rejected, or timed out in the queue, since the requester was created.
+	 * @return the number of rejections.
+	 */
+	public long getRejected() {
+		return rejected.sum();
+	}
+
+	/**
+	 * Sends a GET request once the limit allows it.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> T get(String url, Class<T> responseType) {
+		return execute(RequestOptions.defaults(), () -> delegate.get(url, responseType));
+	}
+
+	/**
+	 * Sends a GET request with options once the limit allows it.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> T get(String url, Class<T> responseType, RequestOptions options) {
+		return execute(options, () -> delegate.get(url, responseType, options));
+	}
+
+	/**
+	 * Sends a GET request asynchronously once the limit allows it.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> CompletableFuture<T> getAsync(String url, Class<T> responseType) {
+		return executeAsync(RequestOptions.defaults(), () -> delegate.getAsync(url, responseType));
+	}
+
+	/**
+	 * Sends a GET request with options asynchronously once the limit allows it.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> CompletableFuture<T> getAsync(String url, Class<T> responseType, RequestOptions options) {
+		return executeAsync(options, () -> delegate.getAsync(url, responseType, options));
+	}
+
+	/**
+	 * Sends a POST request once the limit allows it.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> T post(String url, Object requestBody, Class<T> responseType) {
+		return execute(RequestOptions.defaults(), () -> delegate.post(url, requestBody, responseType));
+	}
+
+	/**
+	 * Sends a POST request with options once the limit allows it.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> T post(String url, Object requestBody, Class<T> responseType, RequestOptions options) {
+		return execute(options, () -> delegate.post(url, requestBody, responseType, options));
+	}
+
+	/**
+	 * Sends a POST request asynchronously once the limit allows it.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> CompletableFuture<T> postAsync(String url, Object requestBody, Class<T> responseType) {
+		return executeAsync(RequestOptions.defaults(), () -> delegate.postAsync(url, requestBody, responseType));
+	}
+
+	/**
+	 * Sends a POST request with options asynchronously once the limit allows it.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> CompletableFuture<T> postAsync(
+		String url,
+		Object requestBody,
+		Class<T> responseType,
+		RequestOptions options
+	) {
+		return executeAsync(options, () -> delegate.postAsync(url, requestBody, responseType, options));
+	}
+
+	/**
+	 * Runs the synchronous call once a permit is acquired, waiting for it on the calling thread.
+	 * @param options the options of the request.
+	 * @param call the call sending the request.
+	 * @return the response.
+	 */
+	private <T> T execute(RequestOptions options, Supplier<T> call) {
+		awaitPermit(acquire(options));
+
+		int inFlightAtStart = inFlight.get();
+		long start = System.nanoTime();
+		T response;
+		try {
+			response = call.get();
+		} catch (RuntimeException e) {
+			onComplete(start, inFlightAtStart, e);
+			throw e;
+		}
+		onComplete(start, inFlightAtStart, null);
+
+		return response;
+	}
+
+	/**
+	 * Runs the asynchronous call once a permit is acquired.
+	 * @param options the options of the request.
+	 * @param call the call sending the request.
+	 * @return the future of the response.
+	 */
+	private <T> CompletableFuture<T> executeAsync(RequestOptions options, Supplier<CompletableFuture<T>> call) {
+		CompletableFuture<Void> permit = acquire(options);
+		if (permit == GRANTED) {
+			return send(call);
+		}
+
+		CompletableFuture<T> result = new CompletableFuture<>();
+		permit.whenComplete((granted, throwable) -> {
+			if (throwable != null) {
+				result.completeExceptionally(throwable);
+			} else {
+				dispatchQueued(call, result);
+			}
+		});
+
+		return result;
+	}
+
+	/**
+	 * Hands a request granted a permit while queued to the executor, so it is not sent on the stack of the request
+	 * that released the permit. The permit is released if the executor rejects the request.
+	 * @param call the call sending the request.
+	 * @param result the result returned to the caller.
+	 */
+	private <T> void dispatchQueued(Supplier<CompletableFuture<T>> call, CompletableFuture<T> result) {
+		try {
+			config.getExecutor().execute(() -> sendQueued(call, result));
+		} catch (RejectedExecutionException e) {
+			release();
+			result.completeExceptionally(e);
+		}
+	}
+
+	/**
+	 * Sends a request granted a permit while queued, unless the caller has given up on the result in the meantime,
+	 * in which case the permit is released.
+	 * @param call the call sending the request.
+	 * @param result the result returned to the caller.
+	 */
+	private <T> void sendQueued(Supplier<CompletableFuture<T>> call, CompletableFuture<T> result) {
+		if (result.isDone()) {
+			release();
+			return;
+		}
+
+		CompletableFuture<T> sent = send(call);
+		sent.whenComplete((response, failure) -> {
+			if (failure == null) {
+				result.complete(response);
+			} else {
+				result.completeExceptionally(failure);
+			}
+		});
+		result.whenComplete((response, failure) -> sent.cancel(true)); // propagates cancellation
+	}
+
+	/**
+	 * Sends the asynchronous call holding a permit, releasing it when the response completes.
+	 * @param call the call sending the request.
+	 * @return the future of the response.
+	 */
+	private <T> CompletableFuture<T> send(Supplier<CompletableFuture<T>> call) {
+		int inFlightAtStart = inFlight.get();
+		long start = System.nanoTime();
+		CompletableFuture<T> response;
+		try {
+			response = call.get();
+		} catch (RuntimeException e) {
+			onComplete(start, inFlightAtStart, e);
+			return CompletableFuture.failedFuture(e);
+		}
+
+		response.whenComplete((result, throwable) -> onComplete(start, inFlightAtStart, throwable));
+
+		return response;
+	}
+
+	/**
+	 * Reports a completed request to the limit algorithm and releases its permit.
+	 * @param start the time the request was sent, from {@link System#nanoTime()}.
+	 * @param inFlightAtStart the number of requests in flight when the request was sent.
+	 * @param throwable the failure of the request, null if it succeeded.
+	 */
+	private void onComplete(long start, int inFlightAtStart, Throwable throwable) {
+		boolean dropped = throwable != null && config.getDropPredicate().test(throwable);
+		limitAlgorithm.onSample(System.nanoTime() - start, inFlightAtStart, dropped);
+		release();
+	}
+
+	/**
+	 * Acquires a permit, queueing for it or rejecting the request if the limit is reached.
+	 * @param options the options of the request.
+	 * @return {@link #GRANTED} if acquired right away, otherwise the future of the queued permit,
+	 *     failed with a {@link ConcurrencyLimitExceededException} if the request is rejected or times out,
+	 *     or with a {@link DeadlineExceededException} if its deadline passes first.
+	 */
+	private CompletableFuture<Void> acquire(RequestOptions options) {
+		if (options.isExpired()) {
+			return CompletableFuture.failedFuture(new DeadlineExceededException(options.getDeadline()));
+		}
+		if (tryAcquire()) {
+			report();
+			return GRANTED;
+		}
+		if (config.getOverflowPolicy() == OverflowPolicy.REJECT) {
+			return reject("In-flight request limit reached");
+		}
+		if (queued.incrementAndGet() > config.getMaxQueueSize()) {
+			queued.decrementAndGet();
+			return reject("In-flight request queue is full");
+		}
+
+		CompletableFuture<Void> waiter = new CompletableFuture<>();
+		waiters.add(waiter);
+		ScheduledFuture<?> timeout = scheduleTimeout(waiter, options);
+		waiter.whenComplete((granted, throwable) -> timeout.cancel(false));
+		drain(); // a permit may have been released before the waiter joined the queue
+		report();
+
+		return waiter;
+	}
+
+	/**
+	 * Schedules the failure of a queued request, at its deadline if it comes before the maximum queue wait.
+	 * @param waiter the permit of the queued request.
+	 * @param options the options of the request.
+	 * @return the scheduled failure.
+	 */
+	private ScheduledFuture<?> scheduleTimeout(CompletableFuture<Void> waiter, RequestOptions options) {
+		long maxQueueWaitNanos = config.getMaxQueueWait().toNanos();
+		long remainingNanos = options.remainingNanos();
+		if (remainingNanos < maxQueueWaitNanos) {
+			return config.getScheduler().schedule(
+				() -> missDeadline(waiter, options.getDeadline()),
+				remainingNanos,
+				TimeUnit.NANOSECONDS
+			);
+		}
+
+		return config.getScheduler().schedule(() -> timeOut(waiter), maxQueueWaitNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Takes a permit if the limit allows it.
+	 * @return true if a permit was taken.
+	 */
+	private boolean tryAcquire() {
+		for (int current = inFlight.get(); current < limitAlgorithm.getLimit(); current = inFlight.get()) {
+			if (inFlight.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Releases a permit and hands the free permits to the queued requests.
+	 */
+	private void release() {
+		inFlight.decrementAndGet();
+		drain();
+		report();
+	}
+
+	/**
+	 * Hands permits to the queued requests, in order, while the limit allows it.
+	 */
+	private void drain() {
+		while (!waiters.isEmpty() && tryAcquire()) {
+			if (!grantNext()) {
+				inFlight.decrementAndGet();
+			}
+		}
+	}
+
+	/**
+	 * Hands a taken permit to the first queued request, skipping requests that left the queue in the meantime.
+	 * @return true if the permit was handed over, false if no request was waiting.
+	 */
+	private boolean grantNext() {
+		for (CompletableFuture<Void> waiter = waiters.poll(); waiter != null; waiter = waiters.poll()) {
+			if (waiter.complete(null)) {
+				queued.decrementAndGet();
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Fails a queued request that waited longer than allowed.
+	 * @param waiter the permit of the queued request.
+	 */
+	private void timeOut(CompletableFuture<Void> waiter) {
+		if (leaveQueue(waiter, new ConcurrencyLimitExceededException("Timed out in the in-flight queue"))) {
+			rejected.increment();
+		}
+	}
+
+	/**
+	 * Fails a queued request whose deadline passed before it was granted a permit.
+	 * @param waiter the permit of the queued request.
+	 * @param deadline the deadline of the request.
+	 */
+	private void missDeadline(CompletableFuture<Void> waiter, Instant deadline) {
+		leaveQueue(waiter, new DeadlineExceededException(deadline));
+	}
+
+	/**
+	 * Fails a queued request and removes it from the queue, unless it was granted a permit or failed before.
+	 * @param waiter the permit of the queued request.
+	 * @param failure the failure of the request.
+	 * @return true if the request left the queue.
+	 */
+	private boolean leaveQueue(CompletableFuture<Void> waiter, Throwable failure) {
+		if (!waiter.completeExceptionally(failure)) {
+			return false;
+		}
+		queued.decrementAndGet();
+		waiters.remove(waiter);
+		report();
+
+		return true;
+	}
+
+	/**
+	 * Reports the limit, the in-flight count and the queue depth to the metrics listener, if any.
+	 */
+	private void report() {
+		if (metricsListener != null) {
+			metricsListener.onConcurrencyLimit(limitAlgorithm.getLimit(), inFlight.get(), queued.get());
+		}
+	}
+
+	/**
+	 * Waits on the calling thread for a permit.
+	 * @param permit the permit.
+	 */
+	private void awaitPermit(CompletableFuture<Void> permit) {
+		try {
+			permit.get();
+		} catch (ExecutionException e) {
+			throw (RuntimeException)e.getCause();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			leaveQueue(permit, e);
+			permit.thenRun(this::release); // gives back a permit granted right before leaving the queue
+			throw new RuntimeException("Request was interrupted", e);
+		}
+	}
+
+	/**
+	 * Rejects a request.
+	 * @param reason the reason of the rejection.
+	 * @return a permit failed with a {@link ConcurrencyLimitExceededException}.
+	 */
+	private CompletableFuture<Void> reject(String reason) {
+		rejected.increment();
+
+		return CompletableFuture.failedFuture(new ConcurrencyLimitExceededException(reason));
+	}
+
+}
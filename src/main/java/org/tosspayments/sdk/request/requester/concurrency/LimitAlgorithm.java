@@ -0,0 +1,24 @@
+package org.tosspayments.sdk.request.requester.concurrency;
+
+/**
+ * Algorithm learning the number of requests that may be in flight from the samples of completed requests.
+ * Implementations are called concurrently and must be thread safe.
+ */
+public interface LimitAlgorithm {
+
+	/**
+	 * Returns the current in-flight request limit.
+	 *
+	 * @return the limit, at least 1
+	 */
+	int getLimit();
+
+	/**
+	 * Updates the limit with a completed request.
+	 *
+	 * @param rttNanos the round trip time of the request in nanoseconds
+	 * @param inFlight the number of requests in flight when the request was sent, including itself
+	 * @param dropped  whether the request failed in a way signaling overload, such as a timeout or a 503
+	 */
+	void onSample(long rttNanos, int inFlight, boolean dropped);
+}
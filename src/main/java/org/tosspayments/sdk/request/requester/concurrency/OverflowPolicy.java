@@ -0,0 +1,17 @@
+package org.tosspayments.sdk.request.requester.concurrency;
+
+/**
+ * What happens to a request sent while the in-flight request limit is reached.
+ */
+public enum OverflowPolicy {
+
+	/**
+	 * The request waits in a bounded queue for a request in flight to complete.
+	 */
+	QUEUE,
+
+	/**
+	 * The request fails right away.
+	 */
+	REJECT
+}
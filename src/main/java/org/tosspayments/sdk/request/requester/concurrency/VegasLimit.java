@@ -0,0 +1,80 @@
+package org.tosspayments.sdk.request.requester.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delay based limit after TCP Vegas.
+ * The lowest round trip time seen is taken as the no-load RTT, and the number of requests queued at the server
+ * is estimated as {@code limit * (1 - noLoadRtt / rtt)}. The limit grows while fewer than {@code alpha}
+ * requests are queued, shrinks when more than {@code beta} are, and is halved when a request is dropped,
+ * so it reacts to rising latency before errors appear.
+ */
+public class VegasLimit implements LimitAlgorithm {
+
+	private static final int ALPHA = 3;
+
+	private static final int BETA = 6;
+
+	private final int maxLimit;
+
+	private final AtomicInteger limit;
+
+	private final AtomicLong noLoadRttNanos = new AtomicLong(Long.MAX_VALUE);
+
+	/**
+	 * Creates a new VegasLimit starting at 20 in-flight requests, up to 200.
+	 */
+	public VegasLimit() {
+		this(20, 200);
+	}
+
+	/**
+	 * Creates a new VegasLimit.
+	 * @param initialLimit the initial limit.
+	 * @param maxLimit the maximum limit.
+	 */
+	public VegasLimit(int initialLimit, int maxLimit) {
+		if (initialLimit < 1 || maxLimit < initialLimit) {
+			throw new IllegalArgumentException("Limits must satisfy 1 <= initialLimit <= maxLimit");
+		}
+		this.maxLimit = maxLimit;
+		this.limit = new AtomicInteger(initialLimit);
+	}
+
+	/**
+	 * Returns the current in-flight request limit.
+	 * @return the limit.
+	 */
+	@Override
+	public int getLimit() {
+		return limit.get();
+	}
+
+	/**
+	 * Adjusts the limit to the estimated number of requests queued at the server.
+	 * @param rttNanos the round trip time of the request in nanoseconds.
+	 * @param inFlight the number of requests in flight when the request was sent.
+	 * @param dropped whether the request signaled overload.
+	 */
+	@Override
+	public void onSample(long rttNanos, int inFlight, boolean dropped) {
+		if (dropped) {
+			limit.updateAndGet(current -> Math.max(1, current / 2));
+			return;
+		}
+
+		long noLoadRtt = noLoadRttNanos.accumulateAndGet(Math.max(1, rttNanos), Math::min);
+		limit.updateAndGet(current -> {
+			double queued = current * (1 - (double)noLoadRtt / Math.max(1, rttNanos));
+			if (queued > BETA) {
+				return Math.max(1, current - 1);
+			}
+			if (queued < ALPHA && inFlight * 2 >= current) {
+				return Math.min(maxLimit, current + 1);
+			}
+			return current;
+		});
+	}
+
+}
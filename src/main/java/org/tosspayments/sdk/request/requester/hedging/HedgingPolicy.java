@@ -0,0 +1,224 @@
+package org.tosspayments.sdk.request.requester.hedging;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.tosspayments.sdk.request.requester.OperationResolver;
+import org.tosspayments.sdk.request.requester.RouteOperationResolver;
+import org.tosspayments.sdk.request.requester.SharedScheduler;
+import org.tosspayments.sdk.request.requester.retry.RetryBudget;
+
+import lombok.Getter;
+
+/**
+ * Policy of {@link HedgingRequester}: when a second copy of a slow GET request is sent, and how many may be sent.
+ * A copy is sent once a request has been in flight longer than the {@code percentile} of the latencies of the last
+ * {@code windowSize} requests of the same operation, but no sooner than {@code minDelay}. No copy is sent until
+ * {@code minSamples} latencies of the operation were recorded.
+ * Copies are withdrawn from a {@link RetryBudget}, bounding them to a ratio of the requests.
+ */
+@Getter
+public class HedgingPolicy {
+
+	/**
+	 * Percentile of the recent latencies after which a copy is sent, between 0 and 1.
+	 */
+	private final double percentile;
+
+	/**
+	 * Shortest time before a copy is sent.
+	 */
+	private final Duration minDelay;
+
+	/**
+	 * Number of last latencies the percentile is computed over.
+	 */
+	private final int windowSize;
+
+	/**
+	 * Number of latencies recorded before copies are sent.
+	 */
+	private final int minSamples;
+
+	/**
+	 * Budget bounding the ratio of copies to requests.
+	 */
+	private final RetryBudget budget;
+
+	/**
+	 * Resolves the operation of each request, each operation having its own window of latencies.
+	 */
+	private final OperationResolver operationResolver;
+
+	/**
+	 * Scheduler running the hedge timers.
+	 */
+	private final ScheduledExecutorService scheduler;
+
+	/**
+	 * Executor sending the copies once their timer fired.
+	 */
+	private final Executor executor;
+
+	/**
+	 * Creates a new HedgingPolicy from the builder.
+	 * @param builder The builder holding the settings.
+	 */
+	private HedgingPolicy(Builder builder) {
+		this.percentile = builder.percentile;
+		this.minDelay = builder.minDelay;
+		this.windowSize = builder.windowSize;
+		this.minSamples = builder.minSamples;
+		this.budget = builder.budget;
+		this.operationResolver = builder.operationResolver;
+		this.scheduler = builder.scheduler != null ? builder.scheduler : SharedScheduler.getInstance();
+		this.executor = builder.executor != null ? builder.executor : SharedScheduler.getExecutor();
+	}
+
+	/**
+	 * Creates a new builder with the default settings.
+	 * @return A new builder.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Builder for {@link HedgingPolicy}.
+	 */
+	public static class Builder {
+
+		private double percentile = 0.95;
+
+		private Duration minDelay = Duration.ofMillis(10);
+
+		private int windowSize = 1000;
+
+		private int minSamples = 100;
+
+		private RetryBudget budget = new RetryBudget(0.05, 10);
+
+		private OperationResolver operationResolver = new RouteOperationResolver();
+
+		private ScheduledExecutorService scheduler = null;
+
+		private Executor executor = null;
+
+		/**
+		 * Creates a new builder with the default settings.
+		 */
+		private Builder() {
+		}
+
+		/**
+		 * Sets the percentile of the recent latencies after which a copy is sent. Defaults to 0.95.
+		 * @param percentile the percentile, greater than 0 and at most 1.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withPercentile(double percentile) {
+			if (!(percentile > 0 && percentile <= 1)) {
+				throw new IllegalArgumentException("Percentile must be greater than 0 and at most 1");
+			}
+			this.percentile = percentile;
+
+			return this;
+		}
+
+		/**
+		 * Sets the shortest time before a copy is sent. Defaults to 10 milliseconds.
+		 * @param minDelay the minimum delay.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withMinDelay(Duration minDelay) {
+			this.minDelay = minDelay;
+
+			return this;
+		}
+
+		/**
+		 * Sets the number of last latencies the percentile is computed over. Defaults to 1000.
+		 * @param windowSize the window size.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withWindowSize(int windowSize) {
+			if (windowSize < 1) {
+				throw new IllegalArgumentException("Window size must be at least 1");
+			}
+			this.windowSize = windowSize;
+
+			return this;
+		}
+
+		/**
+		 * Sets the number of latencies recorded before copies are sent, capped by the window size. Defaults to 100.
+		 * @param minSamples the minimum number of samples.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withMinSamples(int minSamples) {
+			if (minSamples < 1) {
+				throw new IllegalArgumentException("Min samples must be at least 1");
+			}
+			this.minSamples = minSamples;
+
+			return this;
+		}
+
+		/**
+		 * Sets the budget bounding the ratio of copies to requests.
+		 * Defaults to 5% of the requests, with bursts of up to 10 copies.
+		 * @param budget the hedge budget.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withBudget(RetryBudget budget) {
+			this.budget = budget;
+
+			return this;
+		}
+
+		/**
+		 * Sets how requests are grouped into operations, each with its own window of latencies.
+		 * Defaults to {@link RouteOperationResolver}, so lookups of different resources are hedged separately.
+		 * A window is kept per operation, so the resolver must not resolve each key or id to its own operation.
+		 * @param operationResolver the operation resolver.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withOperationResolver(OperationResolver operationResolver) {
+			this.operationResolver = operationResolver;
+
+			return this;
+		}
+
+		/**
+		 * Sets the scheduler running the hedge timers. Defaults to the scheduler shared by the SDK.
+		 * @param scheduler the scheduler.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withScheduler(ScheduledExecutorService scheduler) {
+			this.scheduler = scheduler;
+
+			return this;
+		}
+
+		/**
+		 * Sets the executor sending the copies, so the scheduler only fires the timers.
+		 * Defaults to {@link SharedScheduler#getExecutor()}.
+		 * @param executor the executor.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withExecutor(Executor executor) {
+			this.executor = executor;
+
+			return this;
+		}
+
+		/**
+		 * Builds the HedgingPolicy instance.
+		 * @return the HedgingPolicy instance.
+		 */
+		public HedgingPolicy build() {
+			return new HedgingPolicy(this);
+		}
+	}
+
+}
@@ -0,0 +1,308 @@
+package org.tosspayments.sdk.request.requester.hedging;
+
+import java.util.Collections;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.tosspayments.sdk.request.requester.RequestOptions;
+import org.tosspayments.sdk.request.requester.Requester;
+
+/**
+ * {@link Requester} decorator hedging GET requests according to a {@link HedgingPolicy}:
+ * when a GET request is slower than most recent ones of its operation, a second copy is sent, the first successful
+ * response wins and the other request is cancelled. A failure is only returned once every request sent has failed.
+ * The latency of every request sent is recorded, failed ones and the cancelled loser included, the latter
+ * until it was cancelled, so the hedge delay is not biased towards the fastest requests.
+ * Copies are sent on the policy's executor, the policy's scheduler only fires their timers.
+ * POST requests are never hedged, as they are not safe to send twice.
+ * Synchronous GET requests are hedged too, sent asynchronously while the calling thread waits.
+ * No copy is sent once the deadline of the request's {@link RequestOptions} has passed.
+ * Requests failing synchronously are reported through the returned future.
+ */
+public class HedgingRequester implements Requester {
+
+	private static final String GET = "GET";
+
+	private final Requester delegate;
+
+	private final HedgingPolicy policy;
+
+	private final ConcurrentMap<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+
+	private final LongAdder hedges = new LongAdder();
+
+	/**
+	 * Creates a new HedgingRequester.
+	 * @param delegate the requester sending the requests.
+	 * @param policy the hedging policy.
+	 */
+	public HedgingRequester(Requester delegate, HedgingPolicy policy) {
+		this.delegate = delegate;
+		this.policy = policy;
+	}
+
+	/**
+	 * Returns the number of copies sent since the requester was created.
+	 * @return the number of hedged requests.
+	 */
+	public long getHedges() {
+		return hedges.sum();
+	}
+
+	/**
+	 * Returns the hedge delay of an operation, the percentile of its recent latencies.
+	 * @param operation the name of the operation, as resolved by the policy's operation resolver.
+	 * @return the delay in nanoseconds, empty until the operation has enough recorded latencies.
+	 */
+	public OptionalLong getHedgeDelayNanos(String operation) {
+		LatencyWindow window = windows.get(operation);
+		long delayNanos = window == null ? LatencyWindow.NOT_AVAILABLE : window.getPercentileNanos();
+
+		return delayNanos == LatencyWindow.NOT_AVAILABLE ? OptionalLong.empty() : OptionalLong.of(delayNanos);
+	}
+
+	/**
+	 * Returns the operations GET requests were sent to.
+	 * @return an unmodifiable view of the operation names.
+	 */
+	public Set<String> getOperations() {
+		return Collections.unmodifiableSet(windows.keySet());
+	}
+
+	/**
+	 * Sends a hedged GET request, waiting for the response on the calling thread.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> T get(String url, Class<T> responseType) {
+		return await(getAsync(url, responseType));
+	}
+
+	/**
+	 * Sends a hedged GET request with options, waiting for the response on the calling thread.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> T get(String url, Class<T> responseType, RequestOptions options) {
+		return await(getAsync(url, responseType, options));
+	}
+
+	/**
+	 * Sends a hedged GET request asynchronously.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> CompletableFuture<T> getAsync(String url, Class<T> responseType) {
+		return hedge(url, () -> delegate.getAsync(url, responseType), RequestOptions.defaults());
+	}
+
+	/**
+	 * Sends a hedged GET request with options asynchronously.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> CompletableFuture<T> getAsync(String url, Class<T> responseType, RequestOptions options) {
+		return hedge(url, () -> delegate.getAsync(url, responseType, options), options);
+	}
+
+	/**
+	 * Sends a POST request, never hedged.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> T post(String url, Object requestBody, Class<T> responseType) {
+		return delegate.post(url, requestBody, responseType);
+	}
+
+	/**
+	 * Sends a POST request with options, never hedged.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> T post(String url, Object requestBody, Class<T> responseType, RequestOptions options) {
+		return delegate.post(url, requestBody, responseType, options);
+	}
+
+	/**
+	 * Sends a POST request asynchronously, never hedged.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> CompletableFuture<T> postAsync(String url, Object requestBody, Class<T> responseType) {
+		return delegate.postAsync(url, requestBody, responseType);
+	}
+
+	/**
+	 * Sends a POST request with options asynchronously, never hedged.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> CompletableFuture<T> postAsync(
+		String url,
+		Object requestBody,
+		Class<T> responseType,
+		RequestOptions options
+	) {
+		return delegate.postAsync(url, requestBody, responseType, options);
+	}
+
+	/**
+	 * Sends the call, and a copy if it is still in flight after the hedge delay of its operation.
+	 * @param url the URL of the request.
+	 * @param call the call sending one request.
+	 * @param options the options of the request.
+	 * @return a CompletableFuture completed with the first successful response, or the last failure.
+	 */
+	private <T> CompletableFuture<T> hedge(String url, Supplier<CompletableFuture<T>> call, RequestOptions options) {
+		policy.getBudget().onRequest();
+
+		LatencyWindow latencies = windows.computeIfAbsent(
+			policy.getOperationResolver().resolve(GET, url),
+			operation -> new LatencyWindow(policy.getWindowSize(), policy.getPercentile(), policy.getMinSamples())
+		);
+		CompletableFuture<T> result = new CompletableFuture<>();
+		AtomicInteger pending = new AtomicInteger(1);
+		send(call, latencies, result, pending);
+
+		long delayNanos = latencies.getPercentileNanos();
+		if (delayNanos != LatencyWindow.NOT_AVAILABLE && !result.isDone()) {
+			ScheduledFuture<?> timer = policy.getScheduler().schedule(
+				() -> dispatchHedge(call, latencies, options, result, pending),
+				Math.max(delayNanos, policy.getMinDelay().toNanos()),
+				TimeUnit.NANOSECONDS
+			);
+			result.whenComplete((response, throwable) -> timer.cancel(false));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Hands the copy to the policy's executor, so the timer thread does not send it.
+	 * A copy the executor rejects is not sent, the request in flight still completes the result.
+	 * @param call the call sending one request.
+	 * @param latencies the window of latencies of the operation.
+	 * @param options the options of the request.
+	 * @param result the result returned to the caller.
+	 * @param pending the number of requests in flight.
+	 */
+	private <T> void dispatchHedge(
+		Supplier<CompletableFuture<T>> call,
+		LatencyWindow latencies,
+		RequestOptions options,
+		CompletableFuture<T> result,
+		AtomicInteger pending
+	) {
+		try {
+			policy.getExecutor().execute(() -> sendHedge(call, latencies, options, result, pending));
+		} catch (RejectedExecutionException e) {
+			// the copy is only an optimization
+		}
+	}
+
+	/**
+	 * Sends the copy, unless the request completed, its deadline passed or the budget is used up.
+	 * @param call the call sending one request.
+	 * @param latencies the window of latencies of the operation.
+	 * @param options the options of the request.
+	 * @param result the result returned to the caller.
+	 * @param pending the number of requests in flight.
+	 */
+	private <T> void sendHedge(
+		Supplier<CompletableFuture<T>> call,
+		LatencyWindow latencies,
+		RequestOptions options,
+		CompletableFuture<T> result,
+		AtomicInteger pending
+	) {
+		if (result.isDone() || options.isExpired() || !policy.getBudget().tryRetry()) {
+			return;
+		}
+
+		pending.incrementAndGet();
+		hedges.increment();
+		send(call, latencies, result, pending);
+	}
+
+	/**
+	 * Sends one request, completing the result with its response if it is the first,
+	 * and cancelling it once the result is completed by the other request.
+	 * Its latency is recorded however it completes.
+	 * @param call the call sending one request.
+	 * @param latencies the window of latencies of the operation.
+	 * @param result the result returned to the caller.
+	 * @param pending the number of requests in flight.
+	 */
+	private <T> void send(
+		Supplier<CompletableFuture<T>> call,
+		LatencyWindow latencies,
+		CompletableFuture<T> result,
+		AtomicInteger pending
+	) {
+		long start = System.nanoTime();
+		CompletableFuture<T> response;
+		try {
+			response = call.get();
+		} catch (RuntimeException e) {
+			response = CompletableFuture.failedFuture(e);
+		}
+
+		response.whenComplete((body, throwable) -> {
+			latencies.record(System.nanoTime() - start);
+			if (throwable == null) {
+				result.complete(body);
+			} else if (pending.decrementAndGet() == 0) {
+				result.completeExceptionally(throwable);
+			}
+		});
+		CompletableFuture<T> sent = response;
+		result.whenComplete((body, throwable) -> sent.cancel(true)); // no-op for the request that completed it
+	}
+
+	/**
+	 * Waits on the calling thread for the response.
+	 * @param future the future of the response.
+	 * @return the response.
+	 */
+	private static <T> T await(CompletableFuture<T> future) {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new RuntimeException(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			future.cancel(true);
+			throw new RuntimeException("Request was interrupted", e);
+		}
+	}
+
+}
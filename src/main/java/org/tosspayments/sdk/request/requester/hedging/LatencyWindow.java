@@ -0,0 +1,83 @@
+package org.tosspayments.sdk.request.requester.hedging;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free window over the latencies of the last requests, with a percentile of the window.
+ * Recording only claims a slot of a ring. The percentile is recomputed from a sorted copy of the window
+ * by the thread recording every {@code size / 16}th sample, and read from a volatile field otherwise,
+ * so reading it on every request costs nothing.
+ */
+class LatencyWindow {
+
+	/**
+	 * Returned by {@link #getPercentileNanos()} until the window has enough samples.
+	 */
+	static final long NOT_AVAILABLE = -1;
+
+	private final double percentile;
+
+	private final int minSamples;
+
+	private final int recomputeInterval;
+
+	private final AtomicLongArray samples;
+
+	private final AtomicLong count = new AtomicLong();
+
+	private volatile long percentileNanos = NOT_AVAILABLE;
+
+	/**
+	 * Creates a new LatencyWindow.
+	 * @param size the number of last latencies kept.
+	 * @param percentile the percentile of the window, between 0 and 1.
+	 * @param minSamples the number of samples before the percentile is available.
+	 */
+	LatencyWindow(int size, double percentile, int minSamples) {
+		this.samples = new AtomicLongArray(size);
+		this.percentile = percentile;
+		this.minSamples = Math.min(minSamples, size);
+		this.recomputeInterval = Math.max(1, size / 16);
+	}
+
+	/**
+	 * Records the latency of a request.
+	 * @param latencyNanos the latency in nanoseconds.
+	 */
+	void record(long latencyNanos) {
+		long recorded = count.getAndIncrement() + 1;
+		samples.set((int)((recorded - 1) % samples.length()), latencyNanos);
+
+		if (recorded >= minSamples && (recorded == minSamples || recorded % recomputeInterval == 0)) {
+			percentileNanos = compute((int)Math.min(recorded, samples.length()));
+		}
+	}
+
+	/**
+	 * Returns the percentile of the window, as of its last computation.
+	 * @return the percentile in nanoseconds, or {@link #NOT_AVAILABLE} until the window has enough samples.
+	 */
+	long getPercentileNanos() {
+		return percentileNanos;
+	}
+
+	/**
+	 * Computes the percentile of the filled part of the window.
+	 * @param filled the number of filled slots.
+	 * @return the percentile in nanoseconds.
+	 */
+	private long compute(int filled) {
+		long[] sorted = new long[filled];
+		for (int i = 0; i < filled; i++) {
+			sorted[i] = samples.get(i);
+		}
+		Arrays.sort(sorted);
+
+		int index = (int)Math.ceil(percentile * filled) - 1;
+
+		return sorted[Math.max(0, Math.min(filled - 1, index))];
+	}
+
+}
@@ -0,0 +1,199 @@
+package org.tosspayments.sdk.request.requester.httpclient;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpRequest;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.tosspayments.sdk.request.requester.RequestOptions;
+import org.tosspayments.sdk.request.requester.metrics.RequestEvent;
+import org.tosspayments.sdk.request.requester.metrics.RequestMetricsListener;
+
+/**
+ * Records the timings and outcome of an HTTP exchange and reports them to a {@link RequestMetricsListener}.
+ * A recorder is only created when a listener is set, otherwise the shared {@link #DISABLED} recorder
+ * ignores every call, so an exchange without metrics reads no clock and allocates nothing.
+ * The recorder of an exchange is updated by one thread at a time, as the exchange moves between threads.
+ */
+class ExchangeRecorder {
+
+	/**
+	 * Recorder ignoring every call, used when no listener is set.
+	 */
+	static final ExchangeRecorder DISABLED = new ExchangeRecorder(null, null, null, 0, 0, 0);
+
+	private final RequestMetricsListener listener;
+
+	private final String method;
+
+	private final String path;
+
+	private final long queueNanos;
+
+	private final long requestBytes;
+
+	private final long sentAt;
+
+	private final AtomicBoolean ended = new AtomicBoolean();
+
+	private volatile int statusCode = 0;
+
+	private volatile long responseBytes = 0;
+
+	private volatile long receivedAt = 0;
+
+	/**
+	 * Constructor for ExchangeRecorder.
+	 * @param listener The listener to report the exchange to.
+	 * @param method The HTTP method of the request.
+	 * @param path The API endpoint path of the request.
+	 * @param queueNanos The time the request waited before being sent.
+	 * @param requestBytes The number of bytes of the request body.
+	 * @param sentAt The time the request was sent, from {@link System#nanoTime()}.
+	 */
+	private ExchangeRecorder(
+		RequestMetricsListener listener,
+		String method,
+		String path,
+		long queueNanos,
+		long requestBytes,
+		long sentAt
+	) {
+		this.listener = listener;
+		this.method = method;
+		this.path = path;
+		this.queueNanos = queueNanos;
+		this.requestBytes = requestBytes;
+		this.sentAt = sentAt;
+	}
+
+	/**
+	 * Starts recording the exchange of a request about to be sent.
+	 * @param listener The listener to report the exchange to, or null if metrics are disabled.
+	 * @param path The API endpoint path of the request.
+	 * @param request The request about to be sent.
+	 * @param options The options of the request, carrying its submission time if recorded.
+	 * @return The recorder of the exchange, or {@link #DISABLED} if the listener is null.
+	 */
+	static ExchangeRecorder start(
+		RequestMetricsListener listener,
+		String path,
+		HttpRequest request,
+		RequestOptions options
+	) {
+		if (listener == null) {
+			return DISABLED;
+		}
+
+		long sentAt = System.nanoTime();
+		long queueNanos = options.getSubmittedAt() != null
+			? sentAt - options.getSubmittedAt()
+			: RequestEvent.NOT_MEASURED;
+		long requestBytes = request.bodyPublisher().map(HttpRequest.BodyPublisher::contentLength).orElse(0L);
+		listener.onRequestStart(request.method(), path);
+
+		return new ExchangeRecorder(listener, request.method(), path, queueNanos, Math.max(requestBytes, 0), sentAt);
+	}
+
+	/**
+	 * Returns whether the exchange is recorded.
+	 * @return false for the {@link #DISABLED} recorder.
+	 */
+	boolean isEnabled() {
+		return listener != null;
+	}
+
+	/**
+	 * Records the status of the response, once its headers are received.
+	 * @param status The status code of the response.
+	 */
+	void onResponse(int status) {
+		statusCode = status;
+	}
+
+	/**
+	 * Counts bytes of the response body as received.
+	 * @param count The number of bytes received.
+	 */
+	void onBytes(long count) {
+		if (listener != null) {
+			responseBytes += count;
+		}
+	}
+
+	/**
+	 * Records that the network part of the exchange is over and the response body starts being parsed.
+	 */
+	void onParseStart() {
+		if (listener != null) {
+			receivedAt = System.nanoTime();
+		}
+	}
+
+	/**
+	 * Wraps the stream of the response body to count the bytes read from it.
+	 * @param body The response body stream.
+	 * @return The counting stream, or the stream itself if the exchange is not recorded.
+	 */
+	InputStream counting(InputStream body) {
+		if (listener == null) {
+			return body;
+		}
+
+		return new FilterInputStream(body) {
+			@Override
+			public int read() throws IOException {
+				int read = super.read();
+				if (read != -1) {
+					onBytes(1);
+				}
+
+				return read;
+			}
+
+			@Override
+			public int read(byte[] bytes, int offset, int length) throws IOException {
+				int read = super.read(bytes, offset, length);
+				if (read > 0) {
+					onBytes(read);
+				}
+
+				return read;
+			}
+		};
+	}
+
+	/**
+	 * Ends the exchange and reports it to the listener. Only the first call reports the exchange,
+	 * e.g. when a cancelled exchange completes afterwards.
+	 * @param failure The cause of the failure of the exchange, null if it succeeded.
+	 */
+	void end(Throwable failure) {
+		if (listener == null || !ended.compareAndSet(false, true)) {
+			return;
+		}
+
+		long endedAt = System.nanoTime();
+		long parsedFrom = receivedAt;
+		long networkNanos = (parsedFrom != 0 ? parsedFrom : endedAt) - sentAt;
+		long parseNanos = parsedFrom != 0 ? endedAt - parsedFrom : RequestEvent.NOT_MEASURED;
+		Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+			? failure.getCause()
+			: failure;
+
+		listener.onRequestEnd(new RequestEvent(
+			method,
+			path,
+			statusCode,
+			queueNanos,
+			networkNanos,
+			parseNanos,
+			requestBytes,
+			responseBytes,
+			cause
+		));
+	}
+
+}
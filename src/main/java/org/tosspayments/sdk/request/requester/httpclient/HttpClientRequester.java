@@ -1,36 +1,65 @@
 package org.tosspayments.sdk.request.requester.httpclient;
 
-import java.net.URI;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 
 import org.tosspayments.sdk.authorization.TossPaymentsAuthentication;
+import org.tosspayments.sdk.exception.DeadlineExceededException;
 import org.tosspayments.sdk.exception.TossApiException;
+import org.tosspayments.sdk.request.idempotency.IdempotencyKeyProvider;
+import org.tosspayments.sdk.request.idempotency.RandomIdempotencyKeyProvider;
 import org.tosspayments.sdk.request.requester.AbstractRequester;
+import org.tosspayments.sdk.request.requester.RequestOptions;
 import org.tosspayments.sdk.request.requester.Requester;
+import org.tosspayments.sdk.request.requester.SharedScheduler;
+import org.tosspayments.sdk.request.requester.metrics.RequestMetricsListener;
+import org.tosspayments.sdk.request.requester.tracing.TraceContext;
+import org.tosspayments.sdk.request.requester.tracing.TraceScope;
+import org.tosspayments.sdk.request.requester.tracing.TraceSpan;
 
-import com.fasterxml.jackson.annotation.JsonAutoDetect;
-import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * Implementation of {@link Requester} using Java's built-in HttpClient.
  */
 public class HttpClientRequester extends AbstractRequester {
 
-	private final String endpoint;
+	private static final String ACCEPT_ENCODING_HEADER = "Accept-Encoding";
 
-	private final Map<String, String> defaultHeaders;
+	private static final String GET = "GET";
+
+	private static final String POST = "POST";
+
+	private final RequestTemplate requestTemplate;
 
 	private final HttpClient httpClient;
 
-	private final ObjectMapper objectMapper;
+	private final JsonCodec codec;
+
+	private final IdempotencyKeyProvider idempotencyKeyProvider;
+
+	private final RequestMetricsListener metricsListener;
+
+	private final ConcurrentMap<InFlightPost, CompletableFuture<?>> inFlightPosts = new ConcurrentHashMap<>();
 
 	/**
 	 * Constructor for HttpClientRequester.
@@ -48,53 +77,167 @@ public class HttpClientRequester extends AbstractRequester {
 	 * @param connectTimeout Connection timeout in seconds.
 	 */
 	public HttpClientRequester(String endpoint, TossPaymentsAuthentication authorization, Integer connectTimeout) {
-		this.endpoint = endpoint;
-		this.defaultHeaders = getDefaultHeaders(authorization.getSecretKey());
-		this.httpClient = HttpClient.newBuilder()
-			.connectTimeout(Duration.ofSeconds(connectTimeout))
-			.build();
-
-		this.objectMapper = new ObjectMapper().setVisibility(
-			PropertyAccessor.FIELD,
-			JsonAutoDetect.Visibility.ANY
+		this(endpoint, authorization, connectTimeout, new RandomIdempotencyKeyProvider());
+	}
+
+	/**
+	 * Constructor for HttpClientRequester with custom connect timeout and Idempotency-Key provider.
+	 * @param endpoint Base URL for the API endpoint.
+	 * @param authorization Authentication object.
+	 * @param connectTimeout Connection timeout in seconds.
+	 * @param idempotencyKeyProvider Provider of the Idempotency-Key sent with each POST request.
+	 */
+	public HttpClientRequester(
+		String endpoint,
+		TossPaymentsAuthentication authorization,
+		Integer connectTimeout,
+		IdempotencyKeyProvider idempotencyKeyProvider
+	) {
+		this(
+			endpoint,
+			authorization,
+			HttpTransportConfig.builder().withConnectTimeout(Duration.ofSeconds(connectTimeout)).build(),
+			idempotencyKeyProvider
 		);
 	}
 
+	/**
+	 * Constructor for HttpClientRequester with custom transport configuration and Idempotency-Key provider.
+	 * @param endpoint Base URL for the API endpoint.
+	 * @param authorization Authentication object.
+	 * @param transportConfig Transport configuration, requesters sharing it share one HttpClient.
+	 * @param idempotencyKeyProvider Provider of the Idempotency-Key sent with each POST request.
+	 */
+	public HttpClientRequester(
+		String endpoint,
+		TossPaymentsAuthentication authorization,
+		HttpTransportConfig transportConfig,
+		IdempotencyKeyProvider idempotencyKeyProvider
+	) {
+		this(endpoint, authorization, transportConfig, idempotencyKeyProvider, null);
+	}
+
+	/**
+	 * Constructor for HttpClientRequester with custom transport configuration, Idempotency-Key provider
+	 * and metrics listener, binding JSON through reflection.
+	 * @param endpoint Base URL for the API endpoint.
+	 * @param authorization Authentication object, or null to send each call with the credential of its options.
+	 * @param transportConfig Transport configuration, requesters sharing it share one HttpClient.
+	 * @param idempotencyKeyProvider Provider of the Idempotency-Key sent with each POST request.
+	 * @param metricsListener Listener notified of each HTTP exchange, or null to record no metrics.
+	 */
+	public HttpClientRequester(
+		String endpoint,
+		TossPaymentsAuthentication authorization,
+		HttpTransportConfig transportConfig,
+		IdempotencyKeyProvider idempotencyKeyProvider,
+		RequestMetricsListener metricsListener
+	) {
+		this(
+			endpoint,
+			authorization,
+			transportConfig,
+			idempotencyKeyProvider,
+			JsonBinding.REFLECTION,
+			metricsListener
+		);
+	}
+
+	/**
+	 * Constructor for HttpClientRequester with custom transport configuration, Idempotency-Key provider,
+	 * JSON binding and metrics listener.
+	 * @param endpoint Base URL for the API endpoint.
+	 * @param authorization Authentication object, or null to send each call with the credential of its options.
+	 * @param transportConfig Transport configuration, requesters sharing it share one HttpClient.
+	 * @param idempotencyKeyProvider Provider of the Idempotency-Key sent with each POST request.
+	 * @param jsonBinding How request bodies and responses are bound to and from JSON.
+	 * @param metricsListener Listener notified of each HTTP exchange, or null to record no metrics.
+	 */
+	public HttpClientRequester(
+		String endpoint,
+		TossPaymentsAuthentication authorization,
+		HttpTransportConfig transportConfig,
+		IdempotencyKeyProvider idempotencyKeyProvider,
+		JsonBinding jsonBinding,
+		RequestMetricsListener metricsListener
+	) {
+		Map<String, String> headers = getDefaultHeaders(authorization);
+		if (transportConfig.isResponseCompression()) {
+			headers.put(ACCEPT_ENCODING_HEADER, JsonBodyHandler.GZIP);
+		}
+		this.requestTemplate = new RequestTemplate(endpoint, headers);
+		this.idempotencyKeyProvider = idempotencyKeyProvider;
+		this.httpClient = transportConfig.getHttpClient();
+		this.codec = JsonCodec.of(jsonBinding);
+		this.metricsListener = metricsListener;
+	}
+
 
 	/**
 	 * Sends a GET request to the specified path.
+	 * The request is sent with {@link HttpClient#send} and the response is parsed on the calling thread,
+	 * so a blocking call costs nothing more than the calling thread, which is parked when it is a virtual thread.
 	 * @param path The API endpoint path.
 	 * @param responseType The class type to parse the response into.
 	 */
 	@Override
 	public <T> T get(String path, Class<T> responseType) {
-		try {
-			return getAsync(path, responseType).get();
-		} catch (InterruptedException e) {
-			Thread.currentThread().interrupt(); // Restore interrupted status
-			throw new RuntimeException("Request was interrupted", e);
-		} catch (ExecutionException e) {
-			throw new RuntimeException(e);
-		}
+		return get(path, responseType, RequestOptions.defaults());
+	}
+
+	/**
+	 * Sends a GET request to the specified path with the given options.
+	 * The deadline of the options is set as the timeout of the HTTP request.
+	 * @param path The API endpoint path.
+	 * @param responseType The class type to parse the response into.
+	 * @param options The options of the request.
+	 */
+	@Override
+	public <T> T get(String path, Class<T> responseType, RequestOptions options) {
+		checkDeadline(options);
+
+		return send(GET, path, createRequestBuilder(path, options).GET(), responseType, options);
 	}
 
 	/**
 	 * Sends a GET request to the specified path asynchronously.
+	 * Cancelling the returned future aborts the HTTP exchange, e.g. when a hedged request loses.
 	 * @param path The API endpoint path.
 	 * @param responseType The class type to parse the response into.
 	 */
 	@Override
 	public <T> CompletableFuture<T> getAsync(String path, Class<T> responseType) {
-		HttpRequest request = createRequestBuilder(path)
-			.GET()
-			.build();
+		return getAsync(path, responseType, RequestOptions.defaults());
+	}
+
+	/**
+	 * Sends a GET request to the specified path with the given options asynchronously.
+	 * The returned future fails once the deadline of the options passes, aborting the HTTP exchange,
+	 * even if the response has started arriving.
+	 * @param path The API endpoint path.
+	 * @param responseType The class type to parse the response into.
+	 * @param options The options of the request.
+	 */
+	@Override
+	public <T> CompletableFuture<T> getAsync(String path, Class<T> responseType, RequestOptions options) {
+		if (options.isExpired()) {
+			return CompletableFuture.failedFuture(new DeadlineExceededException(options.getDeadline()));
+		}
+		CompletableFuture<T> response = sendAsync(
+			GET,
+			path,
+			createRequestBuilder(path, options).GET(),
+			responseType,
+			options
+		);
 
-		return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
-			.thenApply(response -> parseResponse(response, responseType));
+		return withDeadline(response, options);
 	}
 
 	/**
 	 * Sends a POST request to the specified path with the given body.
+	 * The request is sent on the calling thread as in {@link #get(String, Class)},
+	 * unless an identical request is already in flight, whose result is then awaited.
 	 *
 	 * @param path The API endpoint path.
 	 * @param body The request body to send.
@@ -102,18 +245,49 @@ public class HttpClientRequester extends AbstractRequester {
 	 */
 	@Override
 	public <T> T post(String path, Object body, Class<T> responseType) {
+		return post(path, body, responseType, RequestOptions.defaults());
+	}
+
+	/**
+	 * Sends a POST request to the specified path with the given body and options.
+	 * The Idempotency-Key of the options is sent if present, otherwise one is issued by the provider.
+	 * The deadline of the options is set as the timeout of the HTTP request, and bounds the wait
+	 * for an identical request in flight.
+	 *
+	 * @param path The API endpoint path.
+	 * @param body The request body to send.
+	 * @param responseType The class type to parse the response into.
+	 * @param options The options of the request.
+	 */
+	@Override
+	public <T> T post(String path, Object body, Class<T> responseType, RequestOptions options) {
+		checkDeadline(options);
+		String idempotencyKey = resolveIdempotencyKey(path, body, options);
+		InFlightPost inFlightPost = new InFlightPost(path, idempotencyKey, responseType, options.getAuthentication());
+
+		CompletableFuture<T> exchange = new CompletableFuture<>();
+		CompletableFuture<T> inFlight = registerInFlight(inFlightPost, exchange);
+		if (inFlight != null) {
+			return await(inFlight, options);
+		}
+
 		try {
-			return postAsync(path, body, responseType).get();
-		} catch (InterruptedException e) {
-			Thread.currentThread().interrupt();
-			throw new RuntimeException("Request was interrupted", e);
-		} catch (ExecutionException e) {
-			throw new RuntimeException(e);
+			HttpRequest.Builder builder = createPostRequestBuilder(path, body, idempotencyKey, options);
+			T response = send(POST, path, builder, responseType, options);
+			completeInFlight(inFlightPost, exchange, response, null);
+
+			return response;
+		} catch (RuntimeException e) {
+			completeInFlight(inFlightPost, exchange, null, e);
+			throw e;
 		}
 	}
 
 	/**
 	 * Sends a POST request to the specified path with the given body asynchronously.
+	 * Concurrent requests sharing the same path, Idempotency-Key and response type are collapsed
+	 * into a single HTTP exchange. Each caller gets its own future, but the response instance is shared
+	 * by every caller, so it must not be modified.
 	 *
 	 * @param path The API endpoint path.
 	 * @param body The request body to send.
@@ -121,47 +295,428 @@ public class HttpClientRequester extends AbstractRequester {
 	 */
 	@Override
 	public <T> CompletableFuture<T> postAsync(String path, Object body, Class<T> responseType) {
+		return postAsync(path, body, responseType, RequestOptions.defaults());
+	}
+
+	/**
+	 * Sends a POST request to the specified path with the given body and options asynchronously.
+	 * The Idempotency-Key of the options is sent if present, otherwise one is issued by the provider.
+	 * The returned future fails once the deadline of the options passes. The HTTP exchange may be shared
+	 * with identical requests, so it is only bounded by the timeout of the HTTP request,
+	 * and its response instance is shared by every caller, so it must not be modified.
+	 *
+	 * @param path The API endpoint path.
+	 * @param body The request body to send.
+	 * @param responseType The class type to parse the response into.
+	 * @param options The options of the request.
+	 */
+	@Override
+	public <T> CompletableFuture<T> postAsync(String path, Object body, Class<T> responseType, RequestOptions options) {
+		if (options.isExpired()) {
+			return CompletableFuture.failedFuture(new DeadlineExceededException(options.getDeadline()));
+		}
+		String idempotencyKey = resolveIdempotencyKey(path, body, options);
+		InFlightPost inFlightPost = new InFlightPost(path, idempotencyKey, responseType, options.getAuthentication());
+
+		CompletableFuture<T> exchange = new CompletableFuture<>();
+		CompletableFuture<T> inFlight = registerInFlight(inFlightPost, exchange);
+		if (inFlight != null) {
+			return withDeadline(inFlight.copy(), options);
+		}
+
 		try {
-			String stringBody = objectMapper.writeValueAsString(body);
-			HttpRequest request = createRequestBuilder(path)
-				.POST(HttpRequest.BodyPublishers.ofString(stringBody))
-				.build();
+			HttpRequest.Builder builder = createPostRequestBuilder(path, body, idempotencyKey, options);
+			sendAsync(POST, path, builder, responseType, options)
+				.whenComplete((response, throwable) -> completeInFlight(inFlightPost, exchange, response, throwable));
+		} catch (RuntimeException e) {
+			completeInFlight(inFlightPost, exchange, null, e);
+			throw e;
+		}
+
+		return withDeadline(exchange.copy(), options);
+	}
+
+	/**
+	 * Returns the Idempotency-Key of the options, or issues one with the provider.
+	 *
+	 * @param path The API endpoint path.
+	 * @param body The request body to send.
+	 * @param options The options of the request.
+	 * @return The Idempotency-Key to send.
+	 */
+	private String resolveIdempotencyKey(String path, Object body, RequestOptions options) {
+		if (options.getIdempotencyKey() != null) {
+			return options.getIdempotencyKey();
+		}
+
+		return idempotencyKeyProvider.getIdempotencyKey(path, body);
+	}
+
+	/**
+	 * Registers the exchange of a POST request, unless an identical request is already in flight.
+	 *
+	 * @param inFlightPost The identity of the POST request.
+	 * @param exchange The exchange of the request.
+	 * @return The exchange of the identical request in flight, or null if the given exchange was registered.
+	 */
+	@SuppressWarnings("unchecked") // the response type is part of the in-flight key
+	private <T> CompletableFuture<T> registerInFlight(InFlightPost inFlightPost, CompletableFuture<T> exchange) {
+		return (CompletableFuture<T>)inFlightPosts.putIfAbsent(inFlightPost, exchange);
+	}
+
+	/**
+	 * Unregisters the exchange of a POST request and completes it with the result.
+	 * The exchange is removed before completing, so callers seeing the result never join the finished exchange.
+	 *
+	 * @param inFlightPost The identity of the POST request.
+	 * @param exchange The exchange of the request.
+	 * @param response The parsed response, if the request succeeded.
+	 * @param throwable The cause of the failure, if the request failed.
+	 */
+	private <T> void completeInFlight(
+		InFlightPost inFlightPost,
+		CompletableFuture<T> exchange,
+		T response,
+		Throwable throwable
+	) {
+		inFlightPosts.remove(inFlightPost, exchange);
+		if (throwable != null) {
+			exchange.completeExceptionally(throwable);
+		} else {
+			exchange.complete(response);
+		}
+	}
 
-			return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
-				.thenApply(response -> parseResponse(response, responseType));
+	/**
+	 * Serializes the body and creates the builder of the POST request with the given Idempotency-Key.
+	 *
+	 * @param path The API endpoint path.
+	 * @param body The request body to send.
+	 * @param idempotencyKey The Idempotency-Key of the request.
+	 * @param options The options of the request.
+	 * @return The builder of the POST request.
+	 */
+	private HttpRequest.Builder createPostRequestBuilder(
+		String path,
+		Object body,
+		String idempotencyKey,
+		RequestOptions options
+	) {
+		try {
+			byte[] bytesBody = codec.writeValueAsBytes(body);
+
+			return createRequestBuilder(path, options)
+				.header(IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+				.POST(HttpRequest.BodyPublishers.ofByteArray(bytesBody));
+		} catch (JsonProcessingException e) {
+			throw new RuntimeException("Failed to serialize request body", e);
+		}
+	}
+
+	/**
+	 * Sends the request on the calling thread and parses the response body as it is read from the connection,
+	 * recording the exchange if a metrics listener is set, and tracing it as an attempt if the call is traced.
+	 *
+	 * @param method The HTTP method of the request.
+	 * @param path The API endpoint path.
+	 * @param builder The builder of the request to send.
+	 * @param responseType The class type to parse the response into.
+	 * @param options The options of the request.
+	 * @return The parsed response body.
+	 */
+	private <T> T send(
+		String method,
+		String path,
+		HttpRequest.Builder builder,
+		Class<T> responseType,
+		RequestOptions options
+	) {
+		TraceSpan attempt = startAttempt(method, path, builder, options);
+		HttpRequest request = builder.build();
+		ExchangeRecorder recorder = ExchangeRecorder.start(metricsListener, path, request, options);
+		try (TraceScope ignored = attempt != null ? attempt.makeCurrent() : null) {
+			T response = send(request, responseType, options, recorder);
+			recorder.end(null);
+			endAttempt(attempt, null);
+
+			return response;
+		} catch (RuntimeException e) {
+			recorder.end(e);
+			endAttempt(attempt, e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Sends the request asynchronously, the response body being parsed as it arrives by {@link JsonBodyHandler}.
+	 * The exchange is recorded if a metrics listener is set, and traced as an attempt if the call is traced,
+	 * the span of the attempt being current while the response is checked.
+	 * Cancelling the returned future aborts the HTTP exchange.
+	 *
+	 * @param method The HTTP method of the request.
+	 * @param path The API endpoint path.
+	 * @param builder The builder of the request to send.
+	 * @param responseType The class type to parse the response into.
+	 * @param options The options of the request.
+	 * @return The future of the parsed response body.
+	 */
+	private <T> CompletableFuture<T> sendAsync(
+		String method,
+		String path,
+		HttpRequest.Builder builder,
+		Class<T> responseType,
+		RequestOptions options
+	) {
+		TraceSpan attempt = startAttempt(method, path, builder, options);
+		HttpRequest request = builder.build();
+		ExchangeRecorder recorder = ExchangeRecorder.start(metricsListener, path, request, options);
+		CompletableFuture<HttpResponse<T>> exchange;
+		try {
+			exchange = httpClient.sendAsync(request, new JsonBodyHandler<T>(codec.reader(responseType), recorder));
+		} catch (RuntimeException e) {
+			recorder.end(e);
+			endAttempt(attempt, e);
+			throw e;
+		}
+
+		Function<HttpResponse<T>, T> parser = attempt == null ? this::parseResponse : response -> {
+			try (TraceScope ignored = attempt.makeCurrent()) {
+				return parseResponse(response);
+			}
+		};
+		CompletableFuture<T> response = exchange.thenApply(parser)
+			.whenComplete((body, throwable) -> {
+				recorder.end(throwable);
+				endAttempt(attempt, throwable);
+			});
+		response.whenComplete((body, throwable) -> {
+			if (throwable instanceof CancellationException) {
+				exchange.cancel(true);
+			}
+		});
+
+		return response;
+	}
+
+	/**
+	 * Starts the span of an attempt of the traced call the request belongs to, and sends its trace context
+	 * in the {@value TraceContext#TRACEPARENT_HEADER} header.
+	 *
+	 * @param method The HTTP method of the request.
+	 * @param path The API endpoint path.
+	 * @param builder The builder of the request.
+	 * @param options The options of the request, carrying the span of the call if it is traced.
+	 * @return The span of the attempt, null if the call is not traced.
+	 */
+	private static TraceSpan startAttempt(
+		String method,
+		String path,
+		HttpRequest.Builder builder,
+		RequestOptions options
+	) {
+		if (options.getTraceSpan() == null) {
+			return null;
+		}
+
+		TraceSpan attempt = options.getTraceSpan().startAttempt(method, path);
+		TraceContext context = attempt.getContext();
+		if (context != null) {
+			builder.setHeader(TraceContext.TRACEPARENT_HEADER, context.toTraceparent());
+		}
+
+		return attempt;
+	}
+
+	/**
+	 * Ends the span of an attempt, if the call is traced.
+	 *
+	 * @param attempt The span of the attempt, null if the call is not traced.
+	 * @param failure The cause of the failure of the attempt, null if it succeeded.
+	 */
+	private static void endAttempt(TraceSpan attempt, Throwable failure) {
+		if (attempt != null) {
+			attempt.end(failure instanceof CompletionException && failure.getCause() != null
+				? failure.getCause()
+				: failure);
+		}
+	}
+
+	/**
+	 * Sends the request on the calling thread and parses the response body as it is read from the connection.
+	 *
+	 * @param request The request to send.
+	 * @param responseType The class type to parse the response into.
+	 * @param options The options of the request.
+	 * @param recorder The recorder of the exchange.
+	 * @return The parsed response body.
+	 */
+	private <T> T send(HttpRequest request, Class<T> responseType, RequestOptions options, ExchangeRecorder recorder) {
+		try {
+			HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+
+			return readResponse(response, responseType, recorder);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt(); // Restore interrupted status
+			throw new RuntimeException("Request was interrupted", e);
 		} catch (JsonProcessingException e) {
 			throw new RuntimeException("Failed to parse response body", e);
+		} catch (HttpConnectTimeoutException e) {
+			throw new RuntimeException(e);
+		} catch (HttpTimeoutException e) { // the request timeout is only set from the deadline
+			throw new DeadlineExceededException(options.getDeadline(), e);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
 		}
 	}
 
 	/**
-	 * Creates a new HttpRequest.Builder with the default headers and the specified path.
+	 * Checks the status of the streamed HttpResponse and parses its body.
+	 * The body of a failed response is drained, so the connection can be reused.
+	 * The body is parsed as it streams in, so the parse time recorded for the exchange includes receiving it.
+	 *
+	 * @param response The HttpResponse to read.
+	 * @param responseType The class type to parse the response into.
+	 * @param recorder The recorder of the exchange.
+	 * @return The parsed response body.
+	 * @throws IOException if reading the body fails.
+	 */
+	private <T> T readResponse(
+		HttpResponse<InputStream> response,
+		Class<T> responseType,
+		ExchangeRecorder recorder
+	) throws IOException {
+		recorder.onResponse(response.statusCode());
+		try (InputStream body = recorder.counting(response.body())) {
+			if (300 <= response.statusCode()) {
+				body.transferTo(OutputStream.nullOutputStream());
+				throw new TossApiException(response.statusCode());
+			}
+
+			recorder.onParseStart();
+
+			return new JsonBodyHandler<T>(codec.reader(responseType)).parse(body, response.headers());
+		}
+	}
+
+	/**
+	 * Waits for the exchange of an identical request in flight, until the deadline of the options.
+	 *
+	 * @param exchange The exchange to wait for.
+	 * @param options The options of the request.
+	 * @return The parsed response body.
+	 */
+	private static <T> T await(CompletableFuture<T> exchange, RequestOptions options) {
+		try {
+			return exchange.get(options.remainingNanos(), TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			throw new DeadlineExceededException(options.getDeadline(), e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Request was interrupted", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new RuntimeException(e.getCause());
+		}
+	}
+
+	/**
+	 * Creates a new HttpRequest.Builder with the default headers and the specified path,
+	 * authenticated with the credential of the options if any, and timing out at the deadline of the options.
 	 * @param path The API endpoint path.
+	 * @param options The options of the request.
 	 * @return A new HttpRequest.Builder instance.
 	 */
-	private HttpRequest.Builder createRequestBuilder(String path) {
-		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(endpoint + path));
-		defaultHeaders.forEach(builder::header);
+	private HttpRequest.Builder createRequestBuilder(String path, RequestOptions options) {
+		HttpRequest.Builder builder = requestTemplate.newBuilder(path);
+		if (options.getAuthentication() != null) {
+			builder.setHeader(AUTHORIZATION_HEADER, options.getAuthentication().getAuthorizationHeader());
+		}
+		if (options.getDeadline() != null) {
+			builder.timeout(Duration.ofNanos(Math.max(options.remainingNanos(), 1)));
+		}
 
 		return builder;
 	}
 
 	/**
-	 * Parses the HttpResponse and returns the response body parsed into the specified type.
-	 * @param response The HttpResponse to parse.
-	 * @param responseType The class type to parse the response into.
+	 * Throws if the deadline of the options has passed, so that the request is not sent.
+	 * @param options The options of the request.
+	 * @throws DeadlineExceededException if the deadline has passed.
+	 */
+	private static void checkDeadline(RequestOptions options) {
+		if (options.isExpired()) {
+			throw new DeadlineExceededException(options.getDeadline());
+		}
+	}
+
+	/**
+	 * Returns a future completed with the response, or failed with a {@link DeadlineExceededException}
+	 * once the deadline of the options passes, whichever comes first.
+	 * A timeout of the HTTP request is reported as the deadline passing,
+	 * and the response is cancelled when the returned future completes first.
+	 * @param response The future of the response.
+	 * @param options The options of the request.
+	 * @return The future of the response bounded by the deadline, or the response itself if there is none.
+	 */
+	private static <T> CompletableFuture<T> withDeadline(CompletableFuture<T> response, RequestOptions options) {
+		Instant deadline = options.getDeadline();
+		if (deadline == null) {
+			return response;
+		}
+
+		CompletableFuture<T> result = new CompletableFuture<>();
+		ScheduledFuture<?> timer = SharedScheduler.getInstance().schedule(
+			() -> result.completeExceptionally(new DeadlineExceededException(deadline)),
+			options.remainingNanos(),
+			TimeUnit.NANOSECONDS
+		);
+		response.whenComplete((body, throwable) -> {
+			Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+			if (throwable == null) {
+				result.complete(body);
+			} else if (cause instanceof HttpTimeoutException && !(cause instanceof HttpConnectTimeoutException)) {
+				result.completeExceptionally(new DeadlineExceededException(deadline, cause));
+			} else {
+				result.completeExceptionally(throwable);
+			}
+		});
+		result.whenComplete((body, throwable) -> {
+			timer.cancel(false);
+			response.cancel(true);
+		});
+
+		return result;
+	}
+
+	/**
+	 * Checks the status of the HttpResponse and returns the response body already parsed by {@link JsonBodyHandler}.
+	 * @param response The HttpResponse to check.
 	 * @return The parsed response body.
 	 */
-	private <T> T parseResponse(HttpResponse<String> response, Class<T> responseType) {
+	private <T> T parseResponse(HttpResponse<T> response) {
 		if (300 <= response.statusCode()) { // 100 ~ 199 status codes are not delivered from http client
 			throw new TossApiException(response.statusCode());
 		}
 
-		try {
-			return objectMapper.readValue(response.body(), responseType);
-		} catch (JsonProcessingException e) {
-			throw new RuntimeException("Failed to parse response body", e);
-		}
+		return response.body();
+	}
+
+	/**
+	 * Identifies a POST exchange that concurrent identical requests can share.
+	 * @param path The API endpoint path.
+	 * @param idempotencyKey The Idempotency-Key of the request.
+	 * @param responseType The class type the response is parsed into.
+	 * @param authentication The credential the request is sent with, null for the credential of the requester,
+	 *                       so merchants sharing the requester and an Idempotency-Key never share an exchange.
+	 */
+	private record InFlightPost(
+		String path,
+		String idempotencyKey,
+		Class<?> responseType,
+		TossPaymentsAuthentication authentication
+	) {
 	}
 
 }
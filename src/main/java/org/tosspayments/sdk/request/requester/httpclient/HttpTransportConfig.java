@@ -0,0 +1,246 @@
+package org.tosspayments.sdk.request.requester.httpclient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import lombok.Getter;
+
+/**
+ * Transport configuration of {@link HttpClientRequester}.
+ * The {@link HttpClient} is created on first use and shared by every requester using the same configuration,
+ * so many requesters can share one connection pool and selector thread by sharing one configuration instance.
+ * An externally managed client can also be supplied with {@link Builder#withHttpClient(HttpClient)}.
+ * <p>
+ * The size and keep-alive timeout of the connection pool are JVM wide properties of the JDK HttpClient,
+ * shared with every other HttpClient of the application and read once when the first connection pool is used,
+ * so the SDK does not set them: the application sets them itself if needed, at startup,
+ * e.g. {@code -Djdk.httpclient.connectionPoolSize=32 -Djdk.httpclient.keepalive.timeout=30}.
+ */
+@Getter
+public class HttpTransportConfig {
+
+	/**
+	 * Default connection timeout.
+	 */
+	public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+	/**
+	 * Connection timeout.
+	 */
+	private final Duration connectTimeout;
+
+	/**
+	 * Preferred HTTP version, null for the HttpClient default (HTTP/2 with HTTP/1.1 fallback).
+	 */
+	private final HttpClient.Version version;
+
+	/**
+	 * Redirect policy.
+	 */
+	private final HttpClient.Redirect redirectPolicy;
+
+	/**
+	 * Executor running the asynchronous tasks of the HttpClient, null for the HttpClient default.
+	 */
+	private final Executor executor;
+
+	/**
+	 * Whether gzip compressed responses are accepted.
+	 */
+	private final boolean responseCompression;
+
+	private HttpClient httpClient;
+
+	/**
+	 * Creates a new HttpTransportConfig from the builder.
+	 * @param builder The builder holding the settings.
+	 */
+	private HttpTransportConfig(Builder builder) {
+		this.connectTimeout = builder.connectTimeout;
+		this.version = builder.version;
+		this.redirectPolicy = builder.redirectPolicy;
+		this.executor = builder.executor;
+		this.responseCompression = builder.responseCompression;
+		this.httpClient = builder.httpClient;
+	}
+
+	/**
+	 * Creates a new builder with the default settings.
+	 * @return A new builder.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Returns the HttpClient of this configuration, creating it on first use.
+	 * @return The HttpClient shared by every requester using this configuration.
+	 */
+	public synchronized HttpClient getHttpClient() {
+		if (httpClient == null) {
+			httpClient = createHttpClient();
+		}
+
+		return httpClient;
+	}
+
+	/**
+	 * Creates a new HttpClient with the settings of this configuration.
+	 * @return A new HttpClient.
+	 */
+	private HttpClient createHttpClient() {
+		HttpClient.Builder builder = HttpClient.newBuilder()
+			.connectTimeout(connectTimeout)
+			.followRedirects(redirectPolicy);
+		if (version != null) {
+			builder.version(version);
+		}
+		if (executor != null) {
+			builder.executor(executor);
+		}
+
+		return builder.build();
+	}
+
+	/**
+	 * Builder for {@link HttpTransportConfig}.
+	 */
+	public static class Builder {
+
+		private static ExecutorService virtualThreadExecutor;
+
+		private Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+
+		private HttpClient.Version version = null;
+
+		private HttpClient.Redirect redirectPolicy = HttpClient.Redirect.NEVER;
+
+		private Executor executor = null;
+
+		private boolean responseCompression = true;
+
+		private HttpClient httpClient = null;
+
+		/**
+		 * Creates a new builder with the default settings.
+		 */
+		private Builder() {
+		}
+
+		/**
+		 * Sets the connection timeout.
+		 * @param connectTimeout the connection timeout.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withConnectTimeout(Duration connectTimeout) {
+			this.connectTimeout = connectTimeout;
+
+			return this;
+		}
+
+		/**
+		 * Sets the preferred HTTP version, e.g. to force HTTP/1.1.
+		 * @param version the HTTP version.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withVersion(HttpClient.Version version) {
+			this.version = version;
+
+			return this;
+		}
+
+		/**
+		 * Sets the redirect policy. Defaults to {@link HttpClient.Redirect#NEVER}.
+		 * @param redirectPolicy the redirect policy.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withRedirectPolicy(HttpClient.Redirect redirectPolicy) {
+			this.redirectPolicy = redirectPolicy;
+
+			return this;
+		}
+
+		/**
+		 * Sets the executor running the asynchronous tasks of the HttpClient.
+		 * The executor is not shut down by the SDK.
+		 * @param executor the executor.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withExecutor(Executor executor) {
+			this.executor = executor;
+
+			return this;
+		}
+
+		/**
+		 * Runs the asynchronous tasks of the HttpClient on a new virtual thread per task.
+		 * The executor is shared by every configuration and lives as long as the process: it is never shut down,
+		 * which holds no resources as it keeps no thread once its tasks end.
+		 * @return the Builder instance for method chaining.
+		 * @throws UnsupportedOperationException if the runtime does not support virtual threads (Java 21 or later).
+		 */
+		public Builder withVirtualThreadExecutor() {
+			return withExecutor(getVirtualThreadExecutor());
+		}
+
+		/**
+		 * Sets whether gzip compressed responses are accepted, advertised with an {@code Accept-Encoding: gzip} header.
+		 * Compressed bodies are inflated as they are parsed, without buffering the inflated body.
+		 * Defaults to true, disable it when the network is cheaper than the CPU spent inflating, e.g. on loopback.
+		 * @param responseCompression whether gzip compressed responses are accepted.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withResponseCompression(boolean responseCompression) {
+			this.responseCompression = responseCompression;
+
+			return this;
+		}
+
+		/**
+		 * Uses an externally managed HttpClient instead of creating one.
+		 * The settings of the HttpClient itself (connection timeout, HTTP version, redirect policy and executor)
+		 * are then ignored, while response compression, which is applied per request, still applies.
+		 * @param httpClient the HttpClient to use.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withHttpClient(HttpClient httpClient) {
+			this.httpClient = httpClient;
+
+			return this;
+		}
+
+		/**
+		 * Builds the HttpTransportConfig instance.
+		 * @return the HttpTransportConfig instance.
+		 */
+		public HttpTransportConfig build() {
+			return new HttpTransportConfig(this);
+		}
+
+		/**
+		 * Returns the shared virtual thread per task executor, creating it on first use.
+		 * It is looked up reflectively as the SDK targets Java 17.
+		 * @return the shared virtual thread per task executor.
+		 */
+		private static synchronized ExecutorService getVirtualThreadExecutor() {
+			if (virtualThreadExecutor != null) {
+				return virtualThreadExecutor;
+			}
+			try {
+				virtualThreadExecutor = (ExecutorService)Executors.class
+					.getMethod("newVirtualThreadPerTaskExecutor")
+					.invoke(null);
+
+				return virtualThreadExecutor;
+			} catch (NoSuchMethodException e) {
+				throw new UnsupportedOperationException("Virtual threads require Java 21 or later", e);
+			} catch (ReflectiveOperationException e) {
+				throw new IllegalStateException("Failed to create virtual thread executor", e);
+			}
+		}
+	}
+
+}
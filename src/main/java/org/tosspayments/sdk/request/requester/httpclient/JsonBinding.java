@@ -0,0 +1,25 @@
+package org.tosspayments.sdk.request.requester.httpclient;
+
+import org.tosspayments.sdk.payment.PaymentJsonModule;
+
+/**
+ * How {@link HttpClientRequester} binds request bodies and responses to and from JSON.
+ * Every binding produces and accepts the same JSON, so they can be switched freely.
+ */
+public enum JsonBinding {
+
+	/**
+	 * Binds the fields of the types, whatever their visibility, through reflection.
+	 */
+	REFLECTION,
+
+	/**
+	 * Binds the payment requests and responses of the SDK with the hand-written streaming (de)serializers
+	 * of {@link PaymentJsonModule}, with no bean introspection and no reflective access.
+	 * Other types, e.g. the response types given by the caller, are bound as with {@link #REFLECTION}.
+	 * It halves the first confirmation of a fresh JVM, which skips building the bean (de)serializers,
+	 * while later calls are as fast as with {@link #REFLECTION}.
+	 */
+	STREAMING
+
+}
@@ -0,0 +1,163 @@
+package org.tosspayments.sdk.request.requester.httpclient;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * {@link HttpResponse.BodyHandler} that parses JSON response bodies directly from the received bytes.
+ * The body is only buffered into a String when debug logging is enabled, so that it can be logged.
+ * Gzip compressed bodies are inflated through a {@link GZIPInputStream} read by the parser,
+ * so the inflated body is never held as a whole either.
+ * Bodies of failed responses are not parsed.
+ * The status, size and receipt of the response are recorded by the {@link ExchangeRecorder} of the exchange.
+ *
+ * @param <T> the type of the response
+ */
+class JsonBodyHandler<T> implements HttpResponse.BodyHandler<T> {
+
+	/**
+	 * The gzip content coding.
+	 */
+	static final String GZIP = "gzip";
+
+	private static final String CONTENT_ENCODING_HEADER = "Content-Encoding";
+
+	private static final int INFLATER_BUFFER_SIZE = 8192;
+
+	private static final Logger log = LoggerFactory.getLogger(JsonBodyHandler.class);
+
+	private final ObjectReader reader;
+
+	private final ExchangeRecorder recorder;
+
+	/**
+	 * Constructor for JsonBodyHandler of an exchange without metrics.
+	 * @param reader ObjectReader of the response type, used to parse the response body.
+	 */
+	JsonBodyHandler(ObjectReader reader) {
+		this(reader, ExchangeRecorder.DISABLED);
+	}
+
+	/**
+	 * Constructor for JsonBodyHandler.
+	 * @param reader ObjectReader of the response type, used to parse the response body.
+	 * @param recorder Recorder of the exchange.
+	 */
+	JsonBodyHandler(ObjectReader reader, ExchangeRecorder recorder) {
+		this.reader = reader;
+		this.recorder = recorder;
+	}
+
+	/**
+	 * Creates the body subscriber for the received response.
+	 * @param responseInfo The status code and headers of the response.
+	 * @return A body subscriber parsing the response body, or discarding it when the request failed.
+	 */
+	@Override
+	public HttpResponse.BodySubscriber<T> apply(HttpResponse.ResponseInfo responseInfo) {
+		recorder.onResponse(responseInfo.statusCode());
+		if (300 <= responseInfo.statusCode()) {
+			if (recorder.isEnabled()) {
+				return HttpResponse.BodySubscribers.mapping(
+					HttpResponse.BodySubscribers.ofByteArray(),
+					bytes -> {
+						recorder.onBytes(bytes.length);
+						return null;
+					}
+				);
+			}
+			return HttpResponse.BodySubscribers.replacing(null);
+		}
+
+		boolean gzip = isGzip(responseInfo.headers());
+		if (log.isDebugEnabled()) {
+			return HttpResponse.BodySubscribers.mapping(
+				HttpResponse.BodySubscribers.ofByteArray(),
+				bytes -> {
+					recorder.onBytes(bytes.length);
+					recorder.onParseStart();
+					return parseLogged(new ByteArrayInputStream(bytes), gzip);
+				}
+			);
+		}
+
+		return new JsonBodySubscriber<>(reader, gzip, recorder);
+	}
+
+	/**
+	 * Parses a response body read from the stream, used when the response is read on the calling thread.
+	 * @param body The response body stream.
+	 * @param headers The headers of the response, telling whether the body is compressed.
+	 * @return The parsed response body.
+	 * @throws IOException if reading or parsing the body fails.
+	 */
+	T parse(InputStream body, HttpHeaders headers) throws IOException {
+		boolean gzip = isGzip(headers);
+		if (log.isDebugEnabled()) {
+			return parseLogged(body, gzip);
+		}
+
+		return reader.readValue(decode(body, gzip));
+	}
+
+	/**
+	 * Returns whether the body of the response is gzip compressed.
+	 * @param headers The headers of the response.
+	 * @return true if the Content-Encoding of the response is gzip.
+	 */
+	static boolean isGzip(HttpHeaders headers) {
+		return headers.firstValue(CONTENT_ENCODING_HEADER).filter(GZIP::equalsIgnoreCase).isPresent();
+	}
+
+	/**
+	 * Returns the stream of the decoded body, inflating it as it is read when it is compressed.
+	 * @param body The body as received.
+	 * @param gzip Whether the body is gzip compressed.
+	 * @return The stream of the decoded body.
+	 * @throws IOException if the gzip header cannot be read.
+	 */
+	static InputStream decode(InputStream body, boolean gzip) throws IOException {
+		return gzip ? new GZIPInputStream(body, INFLATER_BUFFER_SIZE) : body;
+	}
+
+	/**
+	 * Buffers the decoded response body into a String, logs it and parses it.
+	 * @param body The body as received.
+	 * @param gzip Whether the body is gzip compressed.
+	 * @return The parsed response body.
+	 */
+	private T parseLogged(InputStream body, boolean gzip) {
+		try {
+			return parseLogged(new String(decode(body, gzip).readAllBytes(), StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			throw new RuntimeException("Failed to parse response body", e);
+		}
+	}
+
+	/**
+	 * Logs the buffered response body and parses it.
+	 * @param body The response body.
+	 * @return The parsed response body.
+	 */
+	private T parseLogged(String body) {
+		log.debug("Toss Api response body: {}", body);
+
+		try {
+			return reader.readValue(body);
+		} catch (JsonProcessingException e) {
+			throw new RuntimeException("Failed to parse response body", e);
+		}
+	}
+
+}
@@ -0,0 +1,207 @@
+package org.tosspayments.sdk.request.requester.httpclient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * {@link HttpResponse.BodySubscriber} that keeps the received response buffers as they arrive
+ * and binds them with Jackson once the body is complete.
+ * The buffers are read through an {@link InputStream} view, so the body is never copied into
+ * an intermediate byte array or decoded into a String. A gzip compressed body is inflated as the parser reads it.
+ *
+ * @param <T> the type of the response
+ */
+class JsonBodySubscriber<T> implements HttpResponse.BodySubscriber<T> {
+
+	private final ObjectReader reader;
+
+	private final boolean gzip;
+
+	private final ExchangeRecorder recorder;
+
+	private final List<ByteBuffer> buffers = new ArrayList<>();
+
+	private final CompletableFuture<T> result = new CompletableFuture<>();
+
+	/**
+	 * Constructor for JsonBodySubscriber of an uncompressed body.
+	 * @param reader ObjectReader of the response type, used to bind the response body.
+	 */
+	JsonBodySubscriber(ObjectReader reader) {
+		this(reader, false);
+	}
+
+	/**
+	 * Constructor for JsonBodySubscriber.
+	 * @param reader ObjectReader of the response type, used to bind the response body.
+	 * @param gzip Whether the body is gzip compressed.
+	 */
+	JsonBodySubscriber(ObjectReader reader, boolean gzip) {
+		this(reader, gzip, ExchangeRecorder.DISABLED);
+	}
+
+	/**
+	 * Constructor for JsonBodySubscriber recording the size and receipt of the body.
+	 * @param reader ObjectReader of the response type, used to bind the response body.
+	 * @param gzip Whether the body is gzip compressed.
+	 * @param recorder Recorder of the exchange.
+	 */
+	JsonBodySubscriber(ObjectReader reader, boolean gzip, ExchangeRecorder recorder) {
+		this.reader = reader;
+		this.gzip = gzip;
+		this.recorder = recorder;
+	}
+
+	/**
+	 * Requests the whole body, the buffers are only held until the body is complete.
+	 * @param subscription The subscription of the response body publisher.
+	 */
+	@Override
+	public void onSubscribe(Flow.Subscription subscription) {
+		subscription.request(Long.MAX_VALUE);
+	}
+
+	/**
+	 * Keeps the received buffers. HttpClient does not reuse buffers once they are handed over.
+	 * @param items The received buffers.
+	 */
+	@Override
+	public void onNext(List<ByteBuffer> items) {
+		if (recorder.isEnabled()) {
+			for (ByteBuffer item : items) {
+				recorder.onBytes(item.remaining());
+			}
+		}
+		buffers.addAll(items);
+	}
+
+	/**
+	 * Completes the body exceptionally when receiving the response fails.
+	 * @param throwable The cause of the failure.
+	 */
+	@Override
+	public void onError(Throwable throwable) {
+		buffers.clear();
+		result.completeExceptionally(throwable);
+	}
+
+	/**
+	 * Binds the received buffers into the response type.
+	 */
+	@Override
+	public void onComplete() {
+		recorder.onParseStart();
+		try (InputStream inputStream = JsonBodyHandler.decode(new ByteBufferListInputStream(buffers), gzip)) {
+			result.complete(reader.readValue(inputStream));
+		} catch (IOException e) {
+			result.completeExceptionally(new RuntimeException("Failed to parse response body", e));
+		} catch (RuntimeException e) {
+			// e.g. thrown by a custom deserializer, which would otherwise escape to the HttpClient and hang the body
+			result.completeExceptionally(e);
+		} finally {
+			buffers.clear();
+		}
+	}
+
+	/**
+	 * Returns the stage completed with the parsed response body.
+	 * @return The parsed response body.
+	 */
+	@Override
+	public CompletionStage<T> getBody() {
+		return result;
+	}
+
+	/**
+	 * {@link InputStream} reading through a list of {@link ByteBuffer}s in order without copying them.
+	 */
+	static class ByteBufferListInputStream extends InputStream {
+
+		private final List<ByteBuffer> buffers;
+
+		private int index = 0;
+
+		/**
+		 * Constructor for ByteBufferListInputStream.
+		 * @param buffers The buffers to read, in order.
+		 */
+		ByteBufferListInputStream(List<ByteBuffer> buffers) {
+			this.buffers = buffers;
+		}
+
+		/**
+		 * Reads a single byte.
+		 * @return The next byte, or -1 at the end of the buffers.
+		 */
+		@Override
+		public int read() {
+			ByteBuffer current = current();
+			if (current == null) {
+				return -1;
+			}
+
+			return current.get() & 0xFF;
+		}
+
+		/**
+		 * Reads up to {@code length} bytes from the current buffer.
+		 * @param bytes The destination array.
+		 * @param offset The start offset in the destination array.
+		 * @param length The maximum number of bytes to read.
+		 * @return The number of bytes read, or -1 at the end of the buffers.
+		 */
+		@Override
+		public int read(byte[] bytes, int offset, int length) {
+			if (length == 0) {
+				return 0;
+			}
+
+			ByteBuffer current = current();
+			if (current == null) {
+				return -1;
+			}
+
+			int count = Math.min(length, current.remaining());
+			current.get(bytes, offset, count);
+
+			return count;
+		}
+
+		/**
+		 * Returns the number of bytes left in the current buffer.
+		 * @return The number of bytes that can be read without moving to the next buffer.
+		 */
+		@Override
+		public int available() {
+			ByteBuffer current = current();
+
+			return current == null ? 0 : current.remaining();
+		}
+
+		/**
+		 * Returns the first buffer that still has remaining bytes.
+		 * @return The current buffer, or null at the end of the buffers.
+		 */
+		private ByteBuffer current() {
+			while (index < buffers.size()) {
+				ByteBuffer buffer = buffers.get(index);
+				if (buffer.hasRemaining()) {
+					return buffer;
+				}
+				index++;
+			}
+
+			return null;
+		}
+	}
+
+}
@@ -0,0 +1,125 @@
+package org.tosspayments.sdk.request.requester.httpclient;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.tosspayments.sdk.payment.PaymentJsonModule;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * JSON binding of a requester, resolving the {@link ObjectReader} and {@link ObjectWriter} of each type once.
+ * {@link ObjectMapper#readValue} and {@link ObjectMapper#writeValueAsBytes} look up the root (de)serializer of the
+ * type on every call, while a reader or writer for the type holds it, so reusing them skips the lookup.
+ * Readers and writers are immutable and thread-safe, and there is one per class used as a request body
+ * or response type, so the caches are not bounded.
+ * One codec per {@link JsonBinding} is shared by every requester, through {@link #of(JsonBinding)},
+ * so the (de)serializers of a type are resolved once however many requesters are created.
+ */
+class JsonCodec {
+
+	private static final Map<JsonBinding, JsonCodec> SHARED = sharedCodecs();
+
+	private final ObjectMapper objectMapper;
+
+	private final ConcurrentMap<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructor for JsonCodec binding the fields of the types, whatever their visibility.
+	 */
+	JsonCodec() {
+		this(fieldMapper());
+	}
+
+	/**
+	 * Constructor for JsonCodec.
+	 * @param objectMapper ObjectMapper the readers and writers are created from.
+	 */
+	JsonCodec(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * Returns the codec shared by every requester binding through reflection.
+	 * @return The shared codec.
+	 */
+	static JsonCodec shared() {
+		return of(JsonBinding.REFLECTION);
+	}
+
+	/**
+	 * Returns the codec of the binding shared by every requester.
+	 * @param binding How the codec binds the types.
+	 * @return The shared codec of the binding.
+	 */
+	static JsonCodec of(JsonBinding binding) {
+		return SHARED.get(binding);
+	}
+
+	/**
+	 * Returns the reader of the type, resolved on first use.
+	 * @param type The class type to parse into.
+	 * @return The reader of the type.
+	 */
+	ObjectReader reader(Class<?> type) {
+		ObjectReader reader = readers.get(type);
+
+		return reader != null ? reader : readers.computeIfAbsent(type, objectMapper::readerFor);
+	}
+
+	/**
+	 * Returns the writer of the type, resolved on first use.
+	 * @param type The class type to serialize.
+	 * @return The writer of the type.
+	 */
+	ObjectWriter writer(Class<?> type) {
+		ObjectWriter writer = writers.get(type);
+
+		return writer != null ? writer : writers.computeIfAbsent(type, objectMapper::writerFor);
+	}
+
+	/**
+	 * Serializes the body with the writer of its class straight to UTF-8 bytes.
+	 * The generator encodes into the recycled buffers of Jackson's buffer pool, and the only allocation sized
+	 * to the body is the returned array, where going through a String would also allocate its characters
+	 * and encode them again when the request is published.
+	 * The array is not pooled, as the HttpClient may still read it after the response future completes,
+	 * e.g. when the exchange is aborted by a cancellation.
+	 * @param body The body to serialize, may be null.
+	 * @return The UTF-8 encoded JSON representation of the body.
+	 * @throws JsonProcessingException if the body cannot be serialized.
+	 */
+	byte[] writeValueAsBytes(Object body) throws JsonProcessingException {
+		return writer(body != null ? body.getClass() : Object.class).writeValueAsBytes(body);
+	}
+
+	/**
+	 * Creates the shared codec of each binding.
+	 * @return The codec of each binding.
+	 */
+	private static Map<JsonBinding, JsonCodec> sharedCodecs() {
+		Map<JsonBinding, JsonCodec> codecs = new EnumMap<>(JsonBinding.class);
+		codecs.put(JsonBinding.REFLECTION, new JsonCodec());
+		codecs.put(JsonBinding.STREAMING, new JsonCodec(fieldMapper().registerModule(new PaymentJsonModule())));
+
+		return codecs;
+	}
+
+	/**
+	 * Creates a mapper binding the fields of the types, whatever their visibility.
+	 * @return A new ObjectMapper.
+	 */
+	private static ObjectMapper fieldMapper() {
+		return new ObjectMapper().setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+	}
+
+}
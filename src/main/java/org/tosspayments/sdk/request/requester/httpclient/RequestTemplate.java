@@ -0,0 +1,42 @@
+package org.tosspayments.sdk.request.requester.httpclient;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.Map;
+
+/**
+ * Immutable per-requester template of the parts shared by every request: the endpoint and the default headers.
+ * The headers are set once on a prototype builder, which validates them when the template is created,
+ * so invalid values fail at construction. Each request starts from a {@link HttpRequest.Builder#copy()}
+ * of the prototype, which copies the validated headers instead of validating them again.
+ * The prototype is never modified after construction, so copying it concurrently is safe.
+ * The URI of each request is parsed from its path: paths carry ids (e.g. /payments/{paymentKey}),
+ * so they are mostly unique and a cache keyed by path would be missed on most requests.
+ */
+class RequestTemplate {
+
+	private final String endpoint;
+
+	private final HttpRequest.Builder prototype;
+
+	/**
+	 * Constructor for RequestTemplate.
+	 * @param endpoint Base URL for the API endpoint.
+	 * @param headers Headers sent with every request.
+	 */
+	RequestTemplate(String endpoint, Map<String, String> headers) {
+		this.endpoint = endpoint;
+		this.prototype = HttpRequest.newBuilder();
+		headers.forEach(prototype::header);
+	}
+
+	/**
+	 * Creates a new HttpRequest.Builder for the path with the template headers.
+	 * @param path The API endpoint path.
+	 * @return A new HttpRequest.Builder instance.
+	 */
+	HttpRequest.Builder newBuilder(String path) {
+		return prototype.copy().uri(URI.create(endpoint + path));
+	}
+
+}
@@ -0,0 +1,11 @@
+package org.tosspayments.sdk.request.requester.metrics;
+
+/**
+ * Key of the statistics collected by {@link RequestMetrics}: the operation of the requests and the class
+ * of the status of their responses.
+ *
+ * @param operation   the operation of the requests, e.g. {@code confirm}
+ * @param statusClass the class of the status of their responses, e.g. {@code 2xx}
+ */
+public record EndpointKey(String operation, String statusClass) {
+}
@@ -0,0 +1,78 @@
+package org.tosspayments.sdk.request.requester.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.Getter;
+
+/**
+ * Statistics of the exchanges of an operation ending with the same status class, collected by
+ * {@link RequestMetrics} without locking.
+ */
+public class EndpointStats {
+
+	/**
+	 * Time the requests waited before being sent, for the requests whose submission time was recorded.
+	 */
+	@Getter
+	private final LatencyHistogram queueTime = new LatencyHistogram();
+
+	/**
+	 * Time between the requests being sent and their responses being received.
+	 */
+	@Getter
+	private final LatencyHistogram networkTime = new LatencyHistogram();
+
+	/**
+	 * Time spent parsing the response bodies.
+	 */
+	@Getter
+	private final LatencyHistogram parseTime = new LatencyHistogram();
+
+	private final LongAdder requests = new LongAdder();
+
+	private final LongAdder requestBytes = new LongAdder();
+
+	private final LongAdder responseBytes = new LongAdder();
+
+	/**
+	 * Records an exchange.
+	 * @param event the timings and outcome of the exchange.
+	 */
+	void record(RequestEvent event) {
+		requests.increment();
+		if (event.getQueueNanos() != RequestEvent.NOT_MEASURED) {
+			queueTime.record(event.getQueueNanos());
+		}
+		networkTime.record(event.getNetworkNanos());
+		if (event.getParseNanos() != RequestEvent.NOT_MEASURED) {
+			parseTime.record(event.getParseNanos());
+		}
+		requestBytes.add(event.getRequestBytes());
+		responseBytes.add(event.getResponseBytes());
+	}
+
+	/**
+	 * Returns the number of exchanges.
+	 * @return the number of exchanges.
+	 */
+	public long getRequestCount() {
+		return requests.sum();
+	}
+
+	/**
+	 * Returns the number of bytes of the request bodies sent.
+	 * @return the number of bytes sent.
+	 */
+	public long getRequestBytesTotal() {
+		return requestBytes.sum();
+	}
+
+	/**
+	 * Returns the number of bytes of the response bodies received, as received.
+	 * @return the number of bytes received.
+	 */
+	public long getResponseBytesTotal() {
+		return responseBytes.sum();
+	}
+
+}
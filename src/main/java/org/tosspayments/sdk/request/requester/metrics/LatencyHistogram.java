@@ -0,0 +1,127 @@
+package org.tosspayments.sdk.request.requester.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of durations in nanoseconds, with log-linear buckets as in HdrHistogram:
+ * each power of two is split into {@value #SUB_BUCKETS} linear buckets, so any recorded value is known within 1/16
+ * (6.25%) of its magnitude, from 1 nanosecond to the largest long, in a fixed array of 960 counters.
+ * Recording increments a single counter and two {@link LongAdder}-like accumulators without locking,
+ * and percentiles are computed from a racy but consistent enough snapshot of the counters when read.
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 4;
+
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+	private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+	private final LongAdder total = new LongAdder();
+
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+	/**
+	 * Records a duration. Negative durations, e.g. from an adjusted clock, are recorded as zero.
+	 * @param nanos the duration in nanoseconds.
+	 */
+	public void record(long nanos) {
+		long value = Math.max(nanos, 0);
+		counts.incrementAndGet(indexOf(value));
+		total.add(value);
+		max.accumulate(value);
+	}
+
+	/**
+	 * Returns the number of recorded durations.
+	 * @return the number of recorded durations.
+	 */
+	public long getCount() {
+		long count = 0;
+		for (int index = 0; index < BUCKETS; index++) {
+			count += counts.get(index);
+		}
+
+		return count;
+	}
+
+	/**
+	 * Returns the sum of the recorded durations.
+	 * @return the sum of the recorded durations in nanoseconds.
+	 */
+	public long getTotalNanos() {
+		return total.sum();
+	}
+
+	/**
+	 * Returns the longest recorded duration.
+	 * @return the longest recorded duration in nanoseconds, 0 if none was recorded.
+	 */
+	public long getMaxNanos() {
+		return max.get();
+	}
+
+	/**
+	 * Returns the duration below which the given percentage of the recorded durations fall,
+	 * as the upper bound of the bucket holding it, capped by the longest recorded duration.
+	 * @param percentile the percentage, from 0 to 100, e.g. 99 for the 99th percentile.
+	 * @return the duration in nanoseconds, 0 if none was recorded.
+	 */
+	public long getValueAtPercentile(double percentile) {
+		long[] snapshot = new long[BUCKETS];
+		long count = 0;
+		for (int index = 0; index < BUCKETS; index++) {
+			snapshot[index] = counts.get(index);
+			count += snapshot[index];
+		}
+
+		long rank = Math.max(1, (long)Math.ceil(Math.min(Math.max(percentile, 0), 100) / 100 * count));
+		long seen = 0;
+		for (int index = 0; index < BUCKETS; index++) {
+			seen += snapshot[index];
+			if (seen >= rank) {
+				return Math.min(upperBoundOf(index), getMaxNanos());
+			}
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Returns the index of the bucket of a value: values below {@value #SUB_BUCKETS} have a bucket of their own,
+	 * larger ones are bucketed by their highest bit and the {@value #SUB_BUCKET_BITS} bits below it.
+	 * @param value the non-negative value.
+	 * @return the index of its bucket.
+	 */
+	static int indexOf(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int)value;
+		}
+
+		int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+		int subBucket = (int)(value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	/**
+	 * Returns the largest value of a bucket.
+	 * @param index the index of the bucket.
+	 * @return the largest value falling into the bucket.
+	 */
+	static long upperBoundOf(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+
+		int shift = index / SUB_BUCKETS - 1;
+		long lowerBound = (long)(SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+
+		return lowerBound + (1L << shift) - 1;
+	}
+
+}
@@ -0,0 +1,128 @@
+package org.tosspayments.sdk.request.requester.metrics;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.tosspayments.sdk.request.requester.RequestOptions;
+import org.tosspayments.sdk.request.requester.Requester;
+
+/**
+ * {@link Requester} decorator recording when each call is submitted into its {@link RequestOptions},
+ * so the transport can report the time the request waited in the other decorators before being sent,
+ * e.g. for a rate limit token, a concurrency limit permit or a retry backoff.
+ * The submission time given by the caller is kept, so a caller can include its own queues.
+ */
+public class MetricsRequester implements Requester {
+
+	private final Requester delegate;
+
+	/**
+	 * Creates a new MetricsRequester.
+	 * @param delegate the requester sending the requests.
+	 */
+	public MetricsRequester(Requester delegate) {
+		this.delegate = delegate;
+	}
+
+	/**
+	 * Sends a GET request, recording its submission time.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> T get(String url, Class<T> responseType) {
+		return get(url, responseType, RequestOptions.defaults());
+	}
+
+	/**
+	 * Sends a GET request with options, recording its submission time.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> T get(String url, Class<T> responseType, RequestOptions options) {
+		return delegate.get(url, responseType, submitted(options));
+	}
+
+	/**
+	 * Sends a GET request asynchronously, recording its submission time.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> CompletableFuture<T> getAsync(String url, Class<T> responseType) {
+		return getAsync(url, responseType, RequestOptions.defaults());
+	}
+
+	/**
+	 * Sends a GET request with options asynchronously, recording its submission time.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> CompletableFuture<T> getAsync(String url, Class<T> responseType, RequestOptions options) {
+		return delegate.getAsync(url, responseType, submitted(options));
+	}
+
+	/**
+	 * Sends a POST request, recording its submission time.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> T post(String url, Object requestBody, Class<T> responseType) {
+		return post(url, requestBody, responseType, RequestOptions.defaults());
+	}
+
+	/**
+	 * Sends a POST request with options, recording its submission time.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> T post(String url, Object requestBody, Class<T> responseType, RequestOptions options) {
+		return delegate.post(url, requestBody, responseType, submitted(options));
+	}
+
+	/**
+	 * Sends a POST request asynchronously, recording its submission time.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> CompletableFuture<T> postAsync(String url, Object requestBody, Class<T> responseType) {
+		return postAsync(url, requestBody, responseType, RequestOptions.defaults());
+	}
+
+	/**
+	 * Sends a POST request with options asynchronously, recording its submission time.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> CompletableFuture<T> postAsync(
+		String url,
+		Object requestBody,
+		Class<T> responseType,
+		RequestOptions options
+	) {
+		return delegate.postAsync(url, requestBody, responseType, submitted(options));
+	}
+
+	/**
+	 * Records the submission time into the options, unless the caller already did.
+	 * @param options the options of the request.
+	 * @return the options with a submission time.
+	 */
+	private static RequestOptions submitted(RequestOptions options) {
+		return options.getSubmittedAt() != null ? options : options.withSubmittedAt(System.nanoTime());
+	}
+
+}
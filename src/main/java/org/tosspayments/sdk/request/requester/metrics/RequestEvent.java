@@ -0,0 +1,117 @@
+package org.tosspayments.sdk.request.requester.metrics;
+
+import lombok.Getter;
+
+/**
+ * Timings and outcome of an HTTP exchange, reported to {@link RequestMetricsListener#onRequestEnd(RequestEvent)}.
+ * The time of the exchange is split into the time the request waited before being sent, the network time
+ * until the response body was received, and the time spent parsing it.
+ * When the body is parsed as it streams in, as for synchronous calls, the network time ends with the response
+ * headers and the parse time includes receiving the body.
+ */
+@Getter
+public class RequestEvent {
+
+	/**
+	 * Value of the times that were not measured.
+	 */
+	public static final long NOT_MEASURED = -1;
+
+	/**
+	 * Status class of the exchanges that ended without a response.
+	 */
+	public static final String NO_RESPONSE = "none";
+
+	private static final String[] STATUS_CLASSES = {NO_RESPONSE, "1xx", "2xx", "3xx", "4xx", "5xx"};
+
+	/**
+	 * HTTP method of the request.
+	 */
+	private final String method;
+
+	/**
+	 * API endpoint path of the request.
+	 */
+	private final String path;
+
+	/**
+	 * Status code of the response, 0 if no response was received.
+	 */
+	private final int statusCode;
+
+	/**
+	 * Time between the submission of the call and the request being sent, in nanoseconds,
+	 * or {@link #NOT_MEASURED} if the submission time was not recorded in the options of the request.
+	 */
+	private final long queueNanos;
+
+	/**
+	 * Time between the request being sent and the response being received, in nanoseconds.
+	 */
+	private final long networkNanos;
+
+	/**
+	 * Time spent parsing the response body, in nanoseconds, or {@link #NOT_MEASURED} if it was not parsed.
+	 */
+	private final long parseNanos;
+
+	/**
+	 * Number of bytes of the request body.
+	 */
+	private final long requestBytes;
+
+	/**
+	 * Number of bytes of the response body as received, i.e. compressed if it was.
+	 */
+	private final long responseBytes;
+
+	/**
+	 * Cause of the failure of the exchange, null if it succeeded.
+	 */
+	private final Throwable failure;
+
+	/**
+	 * Creates a new RequestEvent.
+	 * @param method HTTP method of the request.
+	 * @param path API endpoint path of the request.
+	 * @param statusCode Status code of the response, 0 if no response was received.
+	 * @param queueNanos Time before the request was sent, or {@link #NOT_MEASURED}.
+	 * @param networkNanos Time until the response was received.
+	 * @param parseNanos Time spent parsing the response body, or {@link #NOT_MEASURED}.
+	 * @param requestBytes Number of bytes of the request body.
+	 * @param responseBytes Number of bytes of the response body as received.
+	 * @param failure Cause of the failure of the exchange, null if it succeeded.
+	 */
+	public RequestEvent(
+		String method,
+		String path,
+		int statusCode,
+		long queueNanos,
+		long networkNanos,
+		long parseNanos,
+		long requestBytes,
+		long responseBytes,
+		Throwable failure
+	) {
+		this.method = method;
+		this.path = path;
+		this.statusCode = statusCode;
+		this.queueNanos = queueNanos;
+		this.networkNanos = networkNanos;
+		this.parseNanos = parseNanos;
+		this.requestBytes = requestBytes;
+		this.responseBytes = responseBytes;
+		this.failure = failure;
+	}
+
+	/**
+	 * Returns the class of the status of the response, e.g. {@code 2xx} or {@code 4xx}.
+	 * @return the status class, or {@value #NO_RESPONSE} if no response was received.
+	 */
+	public String getStatusClass() {
+		int statusClass = statusCode / 100;
+
+		return statusClass < STATUS_CLASSES.length ? STATUS_CLASSES[statusClass] : statusClass + "xx";
+	}
+
+}
@@ -0,0 +1,140 @@
+package org.tosspayments.sdk.request.requester.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.tosspayments.sdk.request.requester.DefaultOperationResolver;
+import org.tosspayments.sdk.request.requester.OperationResolver;
+
+/**
+ * Default {@link RequestMetricsListener}, collecting in memory the statistics of the exchanges by operation
+ * and status class, the number of requests in flight, and the state last reported by the concurrency limiter.
+ * Paths are grouped into operations by an {@link OperationResolver}, so paths carrying ids share their statistics.
+ * Recording an exchange updates {@link LongAdder}s and {@link LatencyHistogram} counters without locking.
+ */
+public class RequestMetrics implements RequestMetricsListener {
+
+	private final OperationResolver operationResolver;
+
+	private final LongAdder inFlight = new LongAdder();
+
+	private final ConcurrentMap<EndpointKey, EndpointStats> stats = new ConcurrentHashMap<>();
+
+	private volatile int concurrencyLimit = 0;
+
+	private volatile int concurrencyInFlight = 0;
+
+	private volatile int concurrencyQueued = 0;
+
+	/**
+	 * Creates a new RequestMetrics grouping the requests by Toss Payments operation,
+	 * with a {@link DefaultOperationResolver}.
+	 */
+	public RequestMetrics() {
+		this(new DefaultOperationResolver());
+	}
+
+	/**
+	 * Creates a new RequestMetrics.
+	 * @param operationResolver the resolver grouping the requests into operations.
+	 */
+	public RequestMetrics(OperationResolver operationResolver) {
+		this.operationResolver = operationResolver;
+	}
+
+	/**
+	 * Counts the request as in flight.
+	 * @param method the HTTP method of the request.
+	 * @param path the API endpoint path of the request.
+	 */
+	@Override
+	public void onRequestStart(String method, String path) {
+		inFlight.increment();
+	}
+
+	/**
+	 * Records the exchange into the statistics of its operation and status class.
+	 * @param event the timings and outcome of the exchange.
+	 */
+	@Override
+	public void onRequestEnd(RequestEvent event) {
+		inFlight.decrement();
+
+		EndpointKey key = new EndpointKey(
+			operationResolver.resolve(event.getMethod(), event.getPath()),
+			event.getStatusClass()
+		);
+		EndpointStats endpointStats = stats.get(key);
+		if (endpointStats == null) {
+			endpointStats = stats.computeIfAbsent(key, ignored -> new EndpointStats());
+		}
+		endpointStats.record(event);
+	}
+
+	/**
+	 * Keeps the state of the concurrency limiter.
+	 * @param limit the current in-flight request limit.
+	 * @param inFlight the number of requests holding a permit.
+	 * @param queued the number of requests waiting in the queue.
+	 */
+	@Override
+	public void onConcurrencyLimit(int limit, int inFlight, int queued) {
+		concurrencyLimit = limit;
+		concurrencyInFlight = inFlight;
+		concurrencyQueued = queued;
+	}
+
+	/**
+	 * Returns the number of requests in flight.
+	 * @return the number of requests sent whose exchange has not ended.
+	 */
+	public long getInFlight() {
+		return inFlight.sum();
+	}
+
+	/**
+	 * Returns the in-flight request limit last reported by the concurrency limiter.
+	 * @return the limit, 0 if no concurrency limiter reported it.
+	 */
+	public int getConcurrencyLimit() {
+		return concurrencyLimit;
+	}
+
+	/**
+	 * Returns the number of requests holding a permit of the concurrency limiter, as last reported.
+	 * @return the number of requests holding a permit.
+	 */
+	public int getConcurrencyInFlight() {
+		return concurrencyInFlight;
+	}
+
+	/**
+	 * Returns the number of requests waiting in the queue of the concurrency limiter, as last reported.
+	 * @return the queue depth.
+	 */
+	public int getConcurrencyQueued() {
+		return concurrencyQueued;
+	}
+
+	/**
+	 * Returns the statistics of an operation and status class.
+	 * @param operation the operation, e.g. {@code confirm}.
+	 * @param statusClass the status class, e.g. {@code 2xx}.
+	 * @return the statistics, null if no exchange of the operation ended with the status class.
+	 */
+	public EndpointStats getStats(String operation, String statusClass) {
+		return stats.get(new EndpointKey(operation, statusClass));
+	}
+
+	/**
+	 * Returns the statistics of every operation and status class exchanges ended with.
+	 * @return an unmodifiable view of the statistics.
+	 */
+	public Map<EndpointKey, EndpointStats> getStats() {
+		return Collections.unmodifiableMap(stats);
+	}
+
+}
@@ -0,0 +1,40 @@
+package org.tosspayments.sdk.request.requester.metrics;
+
+/**
+ * Listener notified of each HTTP exchange of the default requester, to collect metrics such as latencies,
+ * the mix of statuses, the bytes sent and received, or the number of requests in flight.
+ * Listeners are called on the threads sending and receiving the requests, so they must be thread-safe and fast,
+ * e.g. {@link RequestMetrics}, or {@code MicrometerRequestMetricsListener} of the {@code micrometer} feature
+ * to publish to a Micrometer registry.
+ */
+public interface RequestMetricsListener {
+
+	/**
+	 * Called when a request is handed to the HTTP client.
+	 *
+	 * @param method the HTTP method of the request
+	 * @param path   the API endpoint path of the request
+	 */
+	void onRequestStart(String method, String path);
+
+	/**
+	 * Called when the exchange of a request started with {@link #onRequestStart(String, String)} ends,
+	 * whether it succeeded, failed or was cancelled.
+	 *
+	 * @param event the timings and outcome of the exchange
+	 */
+	void onRequestEnd(RequestEvent event);
+
+	/**
+	 * Called by a {@link org.tosspayments.sdk.request.requester.concurrency.ConcurrencyLimitRequester} when a request
+	 * takes or releases a permit, or joins or leaves its queue, with the state of the limiter after the change.
+	 * Concurrent changes may be reported out of order, so the values are a recent state rather than the latest.
+	 * Does nothing by default.
+	 *
+	 * @param limit    the current in-flight request limit
+	 * @param inFlight the number of requests holding a permit
+	 * @param queued   the number of requests waiting in the queue
+	 */
+	default void onConcurrencyLimit(int limit, int inFlight, int queued) {
+	}
+}
@@ -0,0 +1,48 @@
+package org.tosspayments.sdk.request.requester.ratelimit;
+
+import lombok.Getter;
+
+/**
+ * Rate and burst of a token bucket.
+ */
+@Getter
+public class RateLimit {
+
+	/**
+	 * Number of tokens added per second.
+	 */
+	private final double permitsPerSecond;
+
+	/**
+	 * Maximum number of tokens the bucket holds, i.e. the largest burst sent without waiting.
+	 */
+	private final int burst;
+
+	/**
+	 * Creates a new RateLimit.
+	 * @param permitsPerSecond the number of tokens added per second.
+	 * @param burst the maximum number of tokens the bucket holds.
+	 */
+	private RateLimit(double permitsPerSecond, int burst) {
+		this.permitsPerSecond = permitsPerSecond;
+		this.burst = burst;
+	}
+
+	/**
+	 * Creates a new RateLimit.
+	 * @param permitsPerSecond the number of tokens added per second.
+	 * @param burst the maximum number of tokens the bucket holds.
+	 * @return the rate limit.
+	 */
+	public static RateLimit of(double permitsPerSecond, int burst) {
+		if (!(permitsPerSecond > 0)) {
+			throw new IllegalArgumentException("Permits per second must be positive");
+		}
+		if (burst < 1) {
+			throw new IllegalArgumentException("Burst must be at least 1");
+		}
+
+		return new RateLimit(permitsPerSecond, burst);
+	}
+
+}
@@ -0,0 +1,207 @@
+package org.tosspayments.sdk.request.requester.ratelimit;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.tosspayments.sdk.request.requester.DefaultOperationResolver;
+import org.tosspayments.sdk.request.requester.OperationResolver;
+import org.tosspayments.sdk.request.requester.SharedScheduler;
+
+import lombok.Getter;
+
+/**
+ * Configuration of the token buckets of {@link RateLimitRequester}.
+ * Each operation has its own bucket, limited by the limit configured for the operation or the default limit.
+ */
+@Getter
+public class RateLimitConfig {
+
+	/**
+	 * Limit of the operations without a limit of their own, by default.
+	 */
+	public static final RateLimit DEFAULT_LIMIT = RateLimit.of(100, 100);
+
+	/**
+	 * Limit of the operations without a limit of their own.
+	 */
+	private final RateLimit defaultLimit;
+
+	/**
+	 * Limits by operation name.
+	 */
+	private final Map<String, RateLimit> limits;
+
+	/**
+	 * Longest time a synchronous request waits for a token before failing.
+	 */
+	private final Duration maxWait;
+
+	/**
+	 * Longest time an asynchronous request waits for a token before failing.
+	 */
+	private final Duration maxAsyncWait;
+
+	/**
+	 * Resolves the operation, and so the bucket, of each request.
+	 */
+	private final OperationResolver operationResolver;
+
+	/**
+	 * Scheduler firing the timers of the asynchronous requests waiting for their token.
+	 */
+	private final ScheduledExecutorService scheduler;
+
+	/**
+	 * Executor sending the asynchronous requests once their token is available.
+	 */
+	private final Executor executor;
+
+	/**
+	 * Creates a new RateLimitConfig from the builder.
+	 * @param builder The builder holding the settings.
+	 */
+	private RateLimitConfig(Builder builder) {
+		this.defaultLimit = builder.defaultLimit;
+		this.limits = Map.copyOf(builder.limits);
+		this.maxWait = builder.maxWait;
+		this.maxAsyncWait = builder.maxAsyncWait;
+		this.operationResolver = builder.operationResolver;
+		this.scheduler = builder.scheduler != null ? builder.scheduler : SharedScheduler.getInstance();
+		this.executor = builder.executor != null ? builder.executor : SharedScheduler.getExecutor();
+	}
+
+	/**
+	 * Creates a new builder with the default settings.
+	 * @return A new builder.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Returns the limit of an operation.
+	 * @param operation The name of the operation.
+	 * @return The limit of the operation, or the default limit.
+	 */
+	public RateLimit getLimit(String operation) {
+		return limits.getOrDefault(operation, defaultLimit);
+	}
+
+	/**
+	 * Builder for {@link RateLimitConfig}.
+	 */
+	public static class Builder {
+
+		private RateLimit defaultLimit = DEFAULT_LIMIT;
+
+		private final Map<String, RateLimit> limits = new HashMap<>();
+
+		private Duration maxWait = Duration.ofSeconds(1);
+
+		private Duration maxAsyncWait = Duration.ofSeconds(30);
+
+		private OperationResolver operationResolver = new DefaultOperationResolver();
+
+		private ScheduledExecutorService scheduler = null;
+
+		private Executor executor = null;
+
+		/**
+		 * Creates a new builder with the default settings.
+		 */
+		private Builder() {
+		}
+
+		/**
+		 * Sets the limit of the operations without a limit of their own. Defaults to {@link #DEFAULT_LIMIT}.
+		 * @param defaultLimit the default limit.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withDefaultLimit(RateLimit defaultLimit) {
+			this.defaultLimit = defaultLimit;
+
+			return this;
+		}
+
+		/**
+		 * Sets the limit of an operation, e.g. {@link DefaultOperationResolver#CONFIRM}.
+		 * @param operation the name of the operation.
+		 * @param limit the limit of the operation.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withLimit(String operation, RateLimit limit) {
+			this.limits.put(operation, limit);
+
+			return this;
+		}
+
+		/**
+		 * Sets the longest time a synchronous request waits for a token before failing. Defaults to 1 second.
+		 * @param maxWait the maximum wait, zero to fail right away.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withMaxWait(Duration maxWait) {
+			this.maxWait = maxWait;
+
+			return this;
+		}
+
+		/**
+		 * Sets the longest time an asynchronous request waits for a token before failing. Defaults to 30 seconds.
+		 * @param maxAsyncWait the maximum wait, zero to fail right away.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withMaxAsyncWait(Duration maxAsyncWait) {
+			this.maxAsyncWait = maxAsyncWait;
+
+			return this;
+		}
+
+		/**
+		 * Sets how requests are grouped into buckets. Defaults to {@link DefaultOperationResolver}.
+		 * @param operationResolver the operation resolver.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withOperationResolver(OperationResolver operationResolver) {
+			this.operationResolver = operationResolver;
+
+			return this;
+		}
+
+		/**
+		 * Sets the scheduler firing the timers of the asynchronous requests waiting for their token.
+		 * Defaults to the scheduler shared by the SDK.
+		 * @param scheduler the scheduler.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withScheduler(ScheduledExecutorService scheduler) {
+			this.scheduler = scheduler;
+
+			return this;
+		}
+
+		/**
+		 * Sets the executor sending the asynchronous requests once their token is available,
+		 * so the scheduler only fires the timers. Defaults to {@link SharedScheduler#getExecutor()}.
+		 * @param executor the executor.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withExecutor(Executor executor) {
+			this.executor = executor;
+
+			return this;
+		}
+
+		/**
+		 * Builds the RateLimitConfig instance.
+		 * @return the RateLimitConfig instance.
+		 */
+		public RateLimitConfig build() {
+			return new RateLimitConfig(this);
+		}
+	}
+
+}
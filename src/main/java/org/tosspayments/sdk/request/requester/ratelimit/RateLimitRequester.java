@@ -0,0 +1,311 @@
+package org.tosspayments.sdk.request.requester.ratelimit;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.tosspayments.sdk.exception.DeadlineExceededException;
+import org.tosspayments.sdk.exception.RateLimitExceededException;
+import org.tosspayments.sdk.request.requester.RequestOptions;
+import org.tosspayments.sdk.request.requester.Requester;
+
+/**
+ * {@link Requester} decorator limiting the rate of requests of each operation with its own {@link TokenBucket}.
+ * Asynchronous requests finding the bucket empty reserve the next token, and the scheduler hands them to the
+ * configured executor once it is available, so no thread waits for them and the timer thread never sends them.
+ * A waiter cancelled before its turn returns its token to the bucket.
+ * Synchronous requests wait on the calling thread, which is blocked for the whole call anyway.
+ * A request whose token is further away than the configured maximum wait fails
+ * with a {@link RateLimitExceededException} without being sent,
+ * or with a {@link DeadlineExceededException} if it is further away than the deadline of its {@link RequestOptions}.
+ */
+public class RateLimitRequester implements Requester {
+
+	private static final String GET = "GET";
+
+	private static final String POST = "POST";
+
+	private final Requester delegate;
+
+	private final RateLimitConfig config;
+
+	private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new RateLimitRequester.
+	 * @param delegate the requester sending the requests.
+	 * @param config the configuration of the buckets.
+	 */
+	public RateLimitRequester(Requester delegate, RateLimitConfig config) {
+		this.delegate = delegate;
+		this.config = config;
+	}
+
+	/**
+	 * Returns the bucket of an operation, creating it if no request of the operation was sent yet.
+	 * @param operation the name of the operation.
+	 * @return the bucket.
+	 */
+	public TokenBucket getBucket(String operation) {
+		return buckets.computeIfAbsent(operation, name -> new TokenBucket(name, config.getLimit(name)));
+	}
+
+	/**
+	 * Returns the buckets of the operations requests were sent to, by operation name.
+	 * @return an unmodifiable view of the buckets.
+	 */
+	public Map<String, TokenBucket> getBuckets() {
+		return Collections.unmodifiableMap(buckets);
+	}
+
+	/**
+	 * Sends a GET request once a token is available.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> T get(String url, Class<T> responseType) {
+		return execute(GET, url, RequestOptions.defaults(), () -> delegate.get(url, responseType));
+	}
+
+	/**
+	 * Sends a GET request with options once a token is available.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> T get(String url, Class<T> responseType, RequestOptions options) {
+		return execute(GET, url, options, () -> delegate.get(url, responseType, options));
+	}
+
+	/**
+	 * Sends a GET request asynchronously once a token is available.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> CompletableFuture<T> getAsync(String url, Class<T> responseType) {
+		return executeAsync(GET, url, RequestOptions.defaults(), () -> delegate.getAsync(url, responseType));
+	}
+
+	/**
+	 * Sends a GET request with options asynchronously once a token is available.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> CompletableFuture<T> getAsync(String url, Class<T> responseType, RequestOptions options) {
+		return executeAsync(GET, url, options, () -> delegate.getAsync(url, responseType, options));
+	}
+
+	/**
+	 * Sends a POST request once a token is available.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> T post(String url, Object requestBody, Class<T> responseType) {
+		return execute(POST, url, RequestOptions.defaults(), () -> delegate.post(url, requestBody, responseType));
+	}
+
+	/**
+	 * Sends a POST request with options once a token is available.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> T post(String url, Object requestBody, Class<T> responseType, RequestOptions options) {
+		return execute(POST, url, options, () -> delegate.post(url, requestBody, responseType, options));
+	}
+
+	/**
+	 * Sends a POST request asynchronously once a token is available.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> CompletableFuture<T> postAsync(String url, Object requestBody, Class<T> responseType) {
+		return executeAsync(
+			POST,
+			url,
+			RequestOptions.defaults(),
+			() -> delegate.postAsync(url, requestBody, responseType)
+		);
+	}
+
+	/**
+	 * Sends a POST request with options asynchronously once a token is available.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> CompletableFuture<T> postAsync(
+		String url,
+		Object requestBody,
+		Class<T> responseType,
+		RequestOptions options
+	) {
+		return executeAsync(POST, url, options, () -> delegate.postAsync(url, requestBody, responseType, options));
+	}
+
+	/**
+	 * Runs the synchronous call once a token is available, waiting on the calling thread.
+	 * @param method the HTTP method of the request.
+	 * @param url the URL of the request.
+	 * @param options the options of the request.
+	 * @param call the call sending the request.
+	 * @return the response.
+	 */
+	private <T> T execute(String method, String url, RequestOptions options, Supplier<T> call) {
+		TokenBucket bucket = getBucket(config.getOperationResolver().resolve(method, url));
+		long waitNanos = reserve(bucket, config.getMaxWait().toNanos(), options);
+		if (waitNanos > 0) {
+			sleep(waitNanos);
+		}
+
+		return call.get();
+	}
+
+	/**
+	 * Runs the asynchronous call once a token is available, scheduling it if the bucket is empty.
+	 * @param method the HTTP method of the request.
+	 * @param url the URL of the request.
+	 * @param options the options of the request.
+	 * @param call the call sending the request.
+	 * @return the future of the response.
+	 */
+	private <T> CompletableFuture<T> executeAsync(
+		String method,
+		String url,
+		RequestOptions options,
+		Supplier<CompletableFuture<T>> call
+	) {
+		TokenBucket bucket = getBucket(config.getOperationResolver().resolve(method, url));
+		long waitNanos;
+		try {
+			waitNanos = reserve(bucket, config.getMaxAsyncWait().toNanos(), options);
+		} catch (RateLimitExceededException | DeadlineExceededException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+		if (waitNanos == 0) {
+			return call.get();
+		}
+
+		CompletableFuture<T> result = new CompletableFuture<>();
+		AtomicBoolean claimed = new AtomicBoolean();
+		result.whenComplete((response, throwable) -> {
+			if (claimed.compareAndSet(false, true)) {
+				bucket.release(); // given up before its turn
+			}
+		});
+		config.getScheduler().schedule(
+			() -> dispatchScheduled(call, result, claimed),
+			waitNanos,
+			TimeUnit.NANOSECONDS
+		);
+
+		return result;
+	}
+
+	/**
+	 * Hands a scheduled asynchronous call whose token is available to the configured executor,
+	 * so the timer thread does not send it.
+	 * @param call the call sending the request.
+	 * @param result the result returned to the caller.
+	 * @param claimed whether the token was claimed, by the request or by the caller giving up on it.
+	 */
+	private <T> void dispatchScheduled(
+		Supplier<CompletableFuture<T>> call,
+		CompletableFuture<T> result,
+		AtomicBoolean claimed
+	) {
+		try {
+			config.getExecutor().execute(() -> sendScheduled(call, result, claimed));
+		} catch (RejectedExecutionException e) {
+			result.completeExceptionally(e);
+		}
+	}
+
+	/**
+	 * Sends a scheduled asynchronous call, unless the caller has given up on the result in the meantime.
+	 * Cancelling the result afterwards cancels the request sent.
+	 * @param call the call sending the request.
+	 * @param result the result returned to the caller.
+	 * @param claimed whether the token was claimed, by the request or by the caller giving up on it.
+	 */
+	private <T> void sendScheduled(
+		Supplier<CompletableFuture<T>> call,
+		CompletableFuture<T> result,
+		AtomicBoolean claimed
+	) {
+		if (!claimed.compareAndSet(false, true)) {
+			return;
+		}
+
+		try {
+			CompletableFuture<T> sent = call.get();
+			sent.whenComplete((response, throwable) -> {
+				if (throwable == null) {
+					result.complete(response);
+				} else {
+					result.completeExceptionally(throwable);
+				}
+			});
+			result.whenComplete((response, throwable) -> sent.cancel(true)); // propagates cancellation
+		} catch (RuntimeException e) {
+			result.completeExceptionally(e);
+		}
+	}
+
+	/**
+	 * Reserves a token from the bucket of the request, waiting no longer than the deadline of the options.
+	 * @param bucket the bucket of the request.
+	 * @param maxWaitNanos the longest wait allowed by the configuration, in nanoseconds.
+	 * @param options the options of the request.
+	 * @return the wait before the token is available, in nanoseconds.
+	 * @throws RateLimitExceededException if the token is further away than the configured wait.
+	 * @throws DeadlineExceededException if the token is further away than the deadline.
+	 */
+	private long reserve(TokenBucket bucket, long maxWaitNanos, RequestOptions options) {
+		long remainingNanos = options.remainingNanos();
+		if (remainingNanos <= 0) {
+			throw new DeadlineExceededException(options.getDeadline());
+		}
+		long waitNanos = bucket.reserve(Math.min(maxWaitNanos, remainingNanos));
+		if (waitNanos == TokenBucket.NOT_RESERVED) {
+			throw remainingNanos < maxWaitNanos
+				? new DeadlineExceededException(options.getDeadline())
+				: new RateLimitExceededException(bucket.getName());
+		}
+
+		return waitNanos;
+	}
+
+	/**
+	 * Waits on the calling thread for the reserved token.
+	 * @param nanos the wait in nanoseconds.
+	 */
+	private static void sleep(long nanos) {
+		try {
+			TimeUnit.NANOSECONDS.sleep(nanos);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Request was interrupted", e);
+		}
+	}
+
+}
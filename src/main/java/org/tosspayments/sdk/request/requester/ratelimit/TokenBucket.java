@@ -0,0 +1,98 @@
+package org.tosspayments.sdk.request.requester.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import lombok.Getter;
+
+/**
+ * Lock-free token bucket.
+ * Instead of a token count, the bucket keeps the time at which it was empty: a full bucket is one that was empty
+ * {@code burst} intervals ago, and taking a token moves that time forward by one interval.
+ * Taking a token is a single compare-and-set, and a caller finding the bucket empty reserves the next free token
+ * and learns how long to wait for it, so waiters are served in order without being woken up or polling.
+ */
+public class TokenBucket {
+
+	/**
+	 * Returned by {@link #reserve(long)} when the next token is further away than the allowed wait.
+	 */
+	public static final long NOT_RESERVED = -1;
+
+	/**
+	 * Name of the bucket.
+	 */
+	@Getter
+	private final String name;
+
+	private final long intervalNanos;
+
+	private final long capacityNanos;
+
+	private final LongSupplier nanoClock;
+
+	private final AtomicLong emptyAtNanos;
+
+	/**
+	 * Creates a new full TokenBucket.
+	 * @param name the name of the bucket.
+	 * @param limit the rate and burst of the bucket.
+	 */
+	public TokenBucket(String name, RateLimit limit) {
+		this(name, limit, System::nanoTime);
+	}
+
+	/**
+	 * Creates a new full TokenBucket with the given clock.
+	 * @param name the name of the bucket.
+	 * @param limit the rate and burst of the bucket.
+	 * @param nanoClock the clock, in nanoseconds.
+	 */
+	TokenBucket(String name, RateLimit limit, LongSupplier nanoClock) {
+		this.name = name;
+		this.intervalNanos = Math.max(1, (long)(1_000_000_000L / limit.getPermitsPerSecond()));
+		this.capacityNanos = intervalNanos * limit.getBurst();
+		this.nanoClock = nanoClock;
+		this.emptyAtNanos = new AtomicLong(nanoClock.getAsLong() - capacityNanos);
+	}
+
+	/**
+	 * Reserves a token if it is available within the allowed wait.
+	 * @param maxWaitNanos the longest wait allowed, in nanoseconds.
+	 * @return the wait before the reserved token is available in nanoseconds, 0 if available now,
+	 *     or {@link #NOT_RESERVED} if it is further away than the allowed wait.
+	 */
+	public long reserve(long maxWaitNanos) {
+		while (true) {
+			long emptyAt = emptyAtNanos.get();
+			long now = nanoClock.getAsLong();
+			long next = Math.max(emptyAt, now - capacityNanos) + intervalNanos;
+			long wait = Math.max(0, next - now);
+			if (wait > maxWaitNanos) {
+				return NOT_RESERVED;
+			}
+			if (emptyAtNanos.compareAndSet(emptyAt, next)) {
+				return wait;
+			}
+		}
+	}
+
+	/**
+	 * Returns a reserved token that will not be used, e.g. by a waiter cancelled before its turn,
+	 * so the next waiter can take it. A bucket is never refilled past its burst by returned tokens.
+	 */
+	public void release() {
+		emptyAtNanos.addAndGet(-intervalNanos);
+	}
+
+	/**
+	 * Returns the number of tokens available now.
+	 * @return the number of available tokens, 0 if callers are already waiting.
+	 */
+	public int getAvailablePermits() {
+		long available = nanoClock.getAsLong() - emptyAtNanos.get();
+
+		return available <= 0 ? 0 : (int)(Math.min(available, capacityNanos) / intervalNanos);
+	}
+
+}
@@ -0,0 +1,70 @@
+package org.tosspayments.sdk.request.requester.retry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket bounding retries to a ratio of the requests, so retries cannot amplify an outage.
+ * Every request deposits {@code retryRatio} of a token and every retry withdraws a whole token.
+ * The bucket starts full, allowing short bursts of retries up to its capacity.
+ * Tokens are counted in thousandths in a single atomic counter, so the budget never blocks.
+ */
+public class RetryBudget {
+
+	private static final long TOKEN = 1000;
+
+	private final long deposit;
+
+	private final long capacity;
+
+	private final AtomicLong balance;
+
+	/**
+	 * Creates a new RetryBudget.
+	 * @param retryRatio the sustained number of retries allowed per request, between 0 and 1.
+	 * @param capacity the maximum number of retries that can be saved up.
+	 */
+	public RetryBudget(double retryRatio, int capacity) {
+		if (retryRatio < 0 || retryRatio > 1) {
+			throw new IllegalArgumentException("Retry ratio must be between 0 and 1");
+		}
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Capacity must not be negative");
+		}
+
+		this.deposit = Math.round(retryRatio * TOKEN);
+		this.capacity = capacity * TOKEN;
+		this.balance = new AtomicLong(this.capacity);
+	}
+
+	/**
+	 * Records a request, depositing its share of a retry.
+	 */
+	public void onRequest() {
+		balance.updateAndGet(current -> Math.min(capacity, current + deposit));
+	}
+
+	/**
+	 * Withdraws a token for a retry if one is available.
+	 * @return true if the retry is allowed.
+	 */
+	public boolean tryRetry() {
+		long current = balance.get();
+		while (current >= TOKEN) {
+			if (balance.compareAndSet(current, current - TOKEN)) {
+				return true;
+			}
+			current = balance.get();
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns the number of retries currently available.
+	 * @return the number of whole tokens in the bucket.
+	 */
+	public long getAvailableRetries() {
+		return balance.get() / TOKEN;
+	}
+
+}
@@ -0,0 +1,264 @@
+package org.tosspayments.sdk.request.requester.retry;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.tosspayments.sdk.exception.DeadlineExceededException;
+import org.tosspayments.sdk.exception.TossApiException;
+import org.tosspayments.sdk.request.requester.SharedScheduler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import lombok.Getter;
+
+/**
+ * Policy of {@link RetryRequester}: which failures are retried, how often, and how long to wait between attempts.
+ * Waits use exponential backoff with full jitter: the wait before retry {@code n} is uniformly random
+ * between zero and {@code min(maxDelay, baseDelay * 2^(n - 1))}.
+ */
+@Getter
+public class RetryPolicy {
+
+	/**
+	 * Statuses retried by default: too many requests and transient server errors.
+	 */
+	public static final Set<Integer> DEFAULT_RETRYABLE_STATUSES = Set.of(429, 500, 502, 503, 504);
+
+	/**
+	 * Maximum number of attempts, including the first one.
+	 */
+	private final int maxAttempts;
+
+	/**
+	 * Upper bound of the wait before the first retry.
+	 */
+	private final Duration baseDelay;
+
+	/**
+	 * Upper bound of any wait.
+	 */
+	private final Duration maxDelay;
+
+	/**
+	 * HTTP statuses of failed responses that are retried.
+	 */
+	private final Set<Integer> retryableStatuses;
+
+	/**
+	 * Whether I/O errors, such as connection failures and timeouts, are retried.
+	 */
+	private final boolean retryOnIoException;
+
+	/**
+	 * Budget bounding the ratio of retries to requests.
+	 */
+	private final RetryBudget budget;
+
+	/**
+	 * Scheduler running the backoff timers of asynchronous requests.
+	 */
+	private final ScheduledExecutorService scheduler;
+
+	/**
+	 * Executor sending the retries of asynchronous requests once their backoff has elapsed.
+	 */
+	private final Executor executor;
+
+	/**
+	 * Creates a new RetryPolicy from the builder.
+	 * @param builder The builder holding the settings.
+	 */
+	private RetryPolicy(Builder builder) {
+		this.maxAttempts = builder.maxAttempts;
+		this.baseDelay = builder.baseDelay;
+		this.maxDelay = builder.maxDelay;
+		this.retryableStatuses = Set.copyOf(builder.retryableStatuses);
+		this.retryOnIoException = builder.retryOnIoException;
+		this.budget = builder.budget;
+		this.scheduler = builder.scheduler != null ? builder.scheduler : SharedScheduler.getInstance();
+		this.executor = builder.executor != null ? builder.executor : SharedScheduler.getExecutor();
+	}
+
+	/**
+	 * Creates a new builder with the default settings.
+	 * @return A new builder.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Decides whether a failure is retryable, looking through the wrapping exceptions for its cause.
+	 * A passed deadline is never retried, even when detected by an I/O timeout, as no time is left for a retry.
+	 * Neither is a body failing to be serialized or parsed: although an IOException, it fails again on every attempt.
+	 * @param throwable The failure of an attempt.
+	 * @return true if the failure is retryable.
+	 */
+	public boolean isRetryable(Throwable throwable) {
+		for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+			if (cause instanceof DeadlineExceededException) {
+				return false;
+			}
+			if (cause instanceof TossApiException tossApiException) {
+				return retryableStatuses.contains(tossApiException.getStatusCode());
+			}
+			if (cause instanceof JsonProcessingException) {
+				return false;
+			}
+			if (cause instanceof IOException) {
+				return retryOnIoException;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns the wait before the given retry, with full jitter.
+	 * @param retry The number of the retry, starting at 1.
+	 * @return The wait in milliseconds.
+	 */
+	public long backoffMillis(int retry) {
+		long ceiling = baseDelay.toMillis() << Math.min(retry - 1, 30);
+		if (ceiling < 0 || ceiling > maxDelay.toMillis()) {
+			ceiling = maxDelay.toMillis();
+		}
+
+		return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+	}
+
+	/**
+	 * Builder for {@link RetryPolicy}.
+	 */
+	public static class Builder {
+
+		private int maxAttempts = 3;
+
+		private Duration baseDelay = Duration.ofMillis(100);
+
+		private Duration maxDelay = Duration.ofSeconds(2);
+
+		private Set<Integer> retryableStatuses = DEFAULT_RETRYABLE_STATUSES;
+
+		private boolean retryOnIoException = true;
+
+		private RetryBudget budget = new RetryBudget(0.1, 10);
+
+		private ScheduledExecutorService scheduler = null;
+
+		private Executor executor = null;
+
+		/**
+		 * Creates a new builder with the default settings.
+		 */
+		private Builder() {
+		}
+
+		/**
+		 * Sets the maximum number of attempts, including the first one. Defaults to 3.
+		 * @param maxAttempts the maximum number of attempts.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withMaxAttempts(int maxAttempts) {
+			if (maxAttempts < 1) {
+				throw new IllegalArgumentException("Max attempts must be at least 1");
+			}
+			this.maxAttempts = maxAttempts;
+
+			return this;
+		}
+
+		/**
+		 * Sets the upper bound of the wait before the first retry. Defaults to 100 milliseconds.
+		 * @param baseDelay the base delay.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withBaseDelay(Duration baseDelay) {
+			this.baseDelay = baseDelay;
+
+			return this;
+		}
+
+		/**
+		 * Sets the upper bound of any wait. Defaults to 2 seconds.
+		 * @param maxDelay the maximum delay.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withMaxDelay(Duration maxDelay) {
+			this.maxDelay = maxDelay;
+
+			return this;
+		}
+
+		/**
+		 * Sets the HTTP statuses that are retried. Defaults to {@link RetryPolicy#DEFAULT_RETRYABLE_STATUSES}.
+		 * @param retryableStatuses the retryable statuses.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withRetryableStatuses(Set<Integer> retryableStatuses) {
+			this.retryableStatuses = retryableStatuses;
+
+			return this;
+		}
+
+		/**
+		 * Sets whether I/O errors are retried. Defaults to true.
+		 * @param retryOnIoException whether I/O errors are retried.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withRetryOnIoException(boolean retryOnIoException) {
+			this.retryOnIoException = retryOnIoException;
+
+			return this;
+		}
+
+		/**
+		 * Sets the retry budget. Defaults to 10% of the requests with up to 10 saved retries.
+		 * Policies sharing a budget share its tokens.
+		 * @param budget the retry budget.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withBudget(RetryBudget budget) {
+			this.budget = budget;
+
+			return this;
+		}
+
+		/**
+		 * Sets the scheduler running the backoff timers of asynchronous requests.
+		 * Defaults to the {@link SharedScheduler}.
+		 * @param scheduler the scheduler.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withScheduler(ScheduledExecutorService scheduler) {
+			this.scheduler = scheduler;
+
+			return this;
+		}
+
+		/**
+		 * Sets the executor sending the retries of asynchronous requests, so the scheduler only fires the timers.
+		 * Defaults to {@link SharedScheduler#getExecutor()}.
+		 * @param executor the executor.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withExecutor(Executor executor) {
+			this.executor = executor;
+
+			return this;
+		}
+
+		/**
+		 * Builds the RetryPolicy instance.
+		 * @return the RetryPolicy instance.
+		 */
+		public RetryPolicy build() {
+			return new RetryPolicy(this);
+		}
+	}
+
+}
@@ -0,0 +1,309 @@
+package org.tosspayments.sdk.request.requester.retry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.tosspayments.sdk.request.idempotency.IdempotencyKeyProvider;
+import org.tosspayments.sdk.request.idempotency.RandomIdempotencyKeyProvider;
+import org.tosspayments.sdk.request.requester.RequestOptions;
+import org.tosspayments.sdk.request.requester.Requester;
+
+/**
+ * {@link Requester} decorator retrying failed requests according to a {@link RetryPolicy}.
+ * The Idempotency-Key of a POST request is issued once before the first attempt and sent with every retry,
+ * so Toss Payments processes a retried POST only once.
+ * Asynchronous requests wait for their backoff on the policy's scheduler without holding a thread,
+ * and are then sent on the policy's executor. Cancelling the returned future cancels the attempt in flight.
+ * Synchronous requests wait on the calling thread, which is blocked for the whole call anyway.
+ * A request is not retried if its backoff would end past the deadline of its {@link RequestOptions}.
+ */
+public class RetryRequester implements Requester {
+
+	private final Requester delegate;
+
+	private final RetryPolicy policy;
+
+	private final IdempotencyKeyProvider idempotencyKeyProvider;
+
+	/**
+	 * Creates a new RetryRequester issuing random Idempotency-Keys.
+	 * @param delegate the requester sending the requests.
+	 * @param policy the retry policy.
+	 */
+	public RetryRequester(Requester delegate, RetryPolicy policy) {
+		this(delegate, policy, new RandomIdempotencyKeyProvider());
+	}
+
+	/**
+	 * Creates a new RetryRequester.
+	 * @param delegate the requester sending the requests.
+	 * @param policy the retry policy.
+	 * @param idempotencyKeyProvider provider of the Idempotency-Key shared by all attempts of a POST request.
+	 */
+	public RetryRequester(Requester delegate, RetryPolicy policy, IdempotencyKeyProvider idempotencyKeyProvider) {
+		this.delegate = delegate;
+		this.policy = policy;
+		this.idempotencyKeyProvider = idempotencyKeyProvider;
+	}
+
+	/**
+	 * Sends a GET request, retrying retryable failures.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> T get(String url, Class<T> responseType) {
+		return execute(() -> delegate.get(url, responseType), RequestOptions.defaults());
+	}
+
+	/**
+	 * Sends a GET request with options, retrying retryable failures until the deadline.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> T get(String url, Class<T> responseType, RequestOptions options) {
+		return execute(() -> delegate.get(url, responseType, options), options);
+	}
+
+	/**
+	 * Sends a GET request asynchronously, retrying retryable failures.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> CompletableFuture<T> getAsync(String url, Class<T> responseType) {
+		return executeAsync(() -> delegate.getAsync(url, responseType), RequestOptions.defaults());
+	}
+
+	/**
+	 * Sends a GET request with options asynchronously, retrying retryable failures until the deadline.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> CompletableFuture<T> getAsync(String url, Class<T> responseType, RequestOptions options) {
+		return executeAsync(() -> delegate.getAsync(url, responseType, options), options);
+	}
+
+	/**
+	 * Sends a POST request, retrying retryable failures with the same Idempotency-Key.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> T post(String url, Object requestBody, Class<T> responseType) {
+		return post(url, requestBody, responseType, RequestOptions.defaults());
+	}
+
+	/**
+	 * Sends a POST request with options, retrying retryable failures with the same Idempotency-Key.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> T post(String url, Object requestBody, Class<T> responseType, RequestOptions options) {
+		RequestOptions pinned = pinIdempotencyKey(url, requestBody, options);
+
+		return execute(() -> delegate.post(url, requestBody, responseType, pinned), options);
+	}
+
+	/**
+	 * Sends a POST request asynchronously, retrying retryable failures with the same Idempotency-Key.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> CompletableFuture<T> postAsync(String url, Object requestBody, Class<T> responseType) {
+		return postAsync(url, requestBody, responseType, RequestOptions.defaults());
+	}
+
+	/**
+	 * Sends a POST request with options asynchronously, retrying retryable failures with the same Idempotency-Key.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> CompletableFuture<T> postAsync(
+		String url,
+		Object requestBody,
+		Class<T> responseType,
+		RequestOptions options
+	) {
+		RequestOptions pinned = pinIdempotencyKey(url, requestBody, options);
+
+		return executeAsync(() -> delegate.postAsync(url, requestBody, responseType, pinned), options);
+	}
+
+	/**
+	 * Returns options carrying the Idempotency-Key shared by all attempts, issuing one if the options have none.
+	 * @param url the URL of the POST request.
+	 * @param requestBody the body of the POST request.
+	 * @param options the options of the request.
+	 * @return the options with an Idempotency-Key.
+	 */
+	private RequestOptions pinIdempotencyKey(String url, Object requestBody, RequestOptions options) {
+		if (options.getIdempotencyKey() != null) {
+			return options;
+		}
+
+		return options.withIdempotencyKey(idempotencyKeyProvider.getIdempotencyKey(url, requestBody));
+	}
+
+	/**
+	 * Runs the synchronous call until it succeeds or its failure is not retried.
+	 * @param call the call sending one attempt.
+	 * @param options the options of the request.
+	 * @return the response of the successful attempt.
+	 */
+	private <T> T execute(Supplier<T> call, RequestOptions options) {
+		policy.getBudget().onRequest();
+
+		for (int attempt = 1; ; attempt++) {
+			try {
+				return call.get();
+			} catch (RuntimeException e) {
+				long backoffMillis = policy.backoffMillis(attempt);
+				if (!shouldRetry(e, attempt, backoffMillis, options)) {
+					throw e;
+				}
+				sleep(backoffMillis);
+			}
+		}
+	}
+
+	/**
+	 * Runs the asynchronous call until it succeeds or its failure is not retried.
+	 * @param call the call sending one attempt.
+	 * @param options the options of the request.
+	 * @return a CompletableFuture completed with the result of the last attempt.
+	 */
+	private <T> CompletableFuture<T> executeAsync(Supplier<CompletableFuture<T>> call, RequestOptions options) {
+		policy.getBudget().onRequest();
+
+		CompletableFuture<T> result = new CompletableFuture<>();
+		onAttemptComplete(call, call.get(), 1, options, result);
+
+		return result;
+	}
+
+	/**
+	 * Completes the result with the attempt, or schedules the next attempt if the failure is retried.
+	 * @param call the call sending one attempt.
+	 * @param attemptFuture the future of the attempt.
+	 * @param attempt the number of the attempt, starting at 1.
+	 * @param options the options of the request.
+	 * @param result the result returned to the caller.
+	 */
+	private <T> void onAttemptComplete(
+		Supplier<CompletableFuture<T>> call,
+		CompletableFuture<T> attemptFuture,
+		int attempt,
+		RequestOptions options,
+		CompletableFuture<T> result
+	) {
+		result.whenComplete((response, throwable) -> attemptFuture.cancel(true)); // propagates cancellation
+		attemptFuture.whenComplete((response, throwable) -> {
+			if (throwable == null) {
+				result.complete(response);
+				return;
+			}
+
+			long backoffMillis = policy.backoffMillis(attempt);
+			if (result.isDone() || !shouldRetry(throwable, attempt, backoffMillis, options)) {
+				result.completeExceptionally(throwable);
+			} else {
+				policy.getScheduler().schedule(
+					() -> dispatchRetry(call, attempt + 1, options, result),
+					backoffMillis,
+					TimeUnit.MILLISECONDS
+				);
+			}
+		});
+	}
+
+	/**
+	 * Hands a retry whose backoff has elapsed to the policy's executor, so the timer thread does not send it.
+	 * @param call the call sending one attempt.
+	 * @param attempt the number of the attempt.
+	 * @param options the options of the request.
+	 * @param result the result returned to the caller.
+	 */
+	private <T> void dispatchRetry(
+		Supplier<CompletableFuture<T>> call,
+		int attempt,
+		RequestOptions options,
+		CompletableFuture<T> result
+	) {
+		try {
+			policy.getExecutor().execute(() -> retryAsync(call, attempt, options, result));
+		} catch (RejectedExecutionException e) {
+			result.completeExceptionally(e);
+		}
+	}
+
+	/**
+	 * Sends a retry, unless the caller has given up on the result in the meantime.
+	 * @param call the call sending one attempt.
+	 * @param attempt the number of the attempt.
+	 * @param options the options of the request.
+	 * @param result the result returned to the caller.
+	 */
+	private <T> void retryAsync(
+		Supplier<CompletableFuture<T>> call,
+		int attempt,
+		RequestOptions options,
+		CompletableFuture<T> result
+	) {
+		if (result.isDone()) {
+			return;
+		}
+
+		CompletableFuture<T> attemptFuture;
+		try {
+			attemptFuture = call.get();
+		} catch (RuntimeException e) {
+			attemptFuture = CompletableFuture.failedFuture(e);
+		}
+		onAttemptComplete(call, attemptFuture, attempt, options, result);
+	}
+
+	/**
+	 * Decides whether a failed attempt is retried, withdrawing from the budget if so.
+	 * @param throwable the failure of the attempt.
+	 * @param attempt the number of the attempt.
+	 * @param backoffMillis the wait before the retry, in milliseconds.
+	 * @param options the options of the request.
+	 * @return true if the attempt is retried.
+	 */
+	private boolean shouldRetry(Throwable throwable, int attempt, long backoffMillis, RequestOptions options) {
+		return attempt < policy.getMaxAttempts()
+			&& policy.isRetryable(throwable)
+			&& TimeUnit.MILLISECONDS.toNanos(backoffMillis) < options.remainingNanos()
+			&& policy.getBudget().tryRetry();
+	}
+
+	/**
+	 * Waits on the calling thread before a synchronous retry.
+	 * @param millis the wait in milliseconds.
+	 */
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Request was interrupted", e);
+		}
+	}
+
+}
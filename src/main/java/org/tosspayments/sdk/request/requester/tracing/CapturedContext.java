@@ -0,0 +1,22 @@
+package org.tosspayments.sdk.request.requester.tracing;
+
+/**
+ * Trace context of a caller, captured by {@link RequestTracer#captureContext()} when an asynchronous call is made,
+ * and made current again while the future of the call completes, so the stages the caller chains on it run in
+ * the caller's own context rather than in the context of the thread completing the call.
+ */
+public interface CapturedContext {
+
+	/**
+	 * Context restoring nothing, for tracers without a notion of current context.
+	 */
+	CapturedContext NONE = () -> () -> {
+	};
+
+	/**
+	 * Makes the captured context current on the calling thread until the returned scope is closed.
+	 *
+	 * @return the scope to close to restore the previous context
+	 */
+	TraceScope makeCurrent();
+}
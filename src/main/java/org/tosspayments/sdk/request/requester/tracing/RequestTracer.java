@@ -0,0 +1,32 @@
+package org.tosspayments.sdk.request.requester.tracing;
+
+/**
+ * Tracer starting a span for each {@link org.tosspayments.sdk.request.requester.Requester} call,
+ * adapting the SDK to a tracing library such as OpenTelemetry without the SDK depending on it.
+ * The span of a call starts the spans of its HTTP attempts, whose {@link TraceContext} is sent to Toss Payments
+ * in the W3C {@code traceparent} header.
+ * Tracing is enabled with {@link org.tosspayments.sdk.request.requester.RequesterBuilder#withTracer(RequestTracer)}:
+ * without a tracer no span is started and no header is sent.
+ */
+public interface RequestTracer {
+
+	/**
+	 * Starts the span of a call, as a child of the context current on the calling thread.
+	 *
+	 * @param method the HTTP method of the call
+	 * @param path   the API endpoint path of the call
+	 * @return the span of the call
+	 */
+	TraceSpan startCall(String method, String path);
+
+	/**
+	 * Captures the context current on the calling thread, made current again while the future of an asynchronous
+	 * call completes, e.g. with OpenTelemetry {@code Context.current()} and {@code Context.makeCurrent()}.
+	 * Defaults to {@link CapturedContext#NONE}.
+	 *
+	 * @return the captured context
+	 */
+	default CapturedContext captureContext() {
+		return CapturedContext.NONE;
+	}
+}
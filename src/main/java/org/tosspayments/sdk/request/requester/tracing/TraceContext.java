@@ -0,0 +1,164 @@
+package org.tosspayments.sdk.request.requester.tracing;
+
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+
+import lombok.Getter;
+
+/**
+ * W3C Trace Context of a span: the ids of its trace and of itself, and whether it is sampled,
+ * as sent in the {@code traceparent} header, e.g. {@code 00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01}.
+ * Instances are immutable.
+ */
+@Getter
+public class TraceContext {
+
+	/**
+	 * Name of the header carrying the trace context.
+	 */
+	public static final String TRACEPARENT_HEADER = "traceparent";
+
+	private static final String VERSION = "00";
+
+	private static final int TRACE_ID_LENGTH = 32;
+
+	private static final int SPAN_ID_LENGTH = 16;
+
+	private static final int TRACEPARENT_LENGTH = 55;
+
+	private static final int SAMPLED_FLAG = 0x01;
+
+	private static final HexFormat HEX = HexFormat.of();
+
+	/**
+	 * Id of the trace, 32 lowercase hexadecimal digits.
+	 */
+	private final String traceId;
+
+	/**
+	 * Id of the span, 16 lowercase hexadecimal digits.
+	 */
+	private final String spanId;
+
+	/**
+	 * Whether the caller may have recorded the span.
+	 */
+	private final boolean sampled;
+
+	/**
+	 * Creates a new TraceContext.
+	 * @param traceId id of the trace, 32 lowercase hexadecimal digits, not all zeros.
+	 * @param spanId id of the span, 16 lowercase hexadecimal digits, not all zeros.
+	 * @param sampled whether the caller may have recorded the span.
+	 * @throws IllegalArgumentException if an id is invalid.
+	 */
+	public TraceContext(String traceId, String spanId, boolean sampled) {
+		if (!isValidId(traceId, TRACE_ID_LENGTH)) {
+			throw new IllegalArgumentException("Invalid trace id: " + traceId);
+		}
+		if (!isValidId(spanId, SPAN_ID_LENGTH)) {
+			throw new IllegalArgumentException("Invalid span id: " + spanId);
+		}
+		this.traceId = traceId;
+		this.spanId = spanId;
+		this.sampled = sampled;
+	}
+
+	/**
+	 * Creates the context of a span starting a new trace, with random ids.
+	 * @param sampled whether the span is recorded.
+	 * @return the new context.
+	 */
+	public static TraceContext newRoot(boolean sampled) {
+		return new TraceContext(randomId() + randomId(), randomId(), sampled);
+	}
+
+	/**
+	 * Creates the context of a child span: the same trace and sampling, with a new random span id.
+	 * @return the context of the child span.
+	 */
+	public TraceContext newChild() {
+		return new TraceContext(traceId, randomId(), sampled);
+	}
+
+	/**
+	 * Parses a {@code traceparent} header value.
+	 * Values of future versions are accepted as long as they start like a version {@value #VERSION} value.
+	 * @param traceparent the header value.
+	 * @return the trace context, or null if the value is missing or invalid.
+	 */
+	public static TraceContext parse(String traceparent) {
+		if (traceparent == null || traceparent.length() < TRACEPARENT_LENGTH
+			|| traceparent.charAt(2) != '-' || traceparent.charAt(35) != '-' || traceparent.charAt(52) != '-') {
+			return null;
+		}
+
+		String version = traceparent.substring(0, 2);
+		String flags = traceparent.substring(53, TRACEPARENT_LENGTH);
+		if (!isHex(version) || "ff".equals(version) || !isHex(flags)) {
+			return null;
+		}
+		boolean exactLength = traceparent.length() == TRACEPARENT_LENGTH;
+		if (VERSION.equals(version) ? !exactLength : !exactLength && traceparent.charAt(TRACEPARENT_LENGTH) != '-') {
+			return null;
+		}
+
+		String traceId = traceparent.substring(3, 35);
+		String spanId = traceparent.substring(36, 52);
+		if (!isValidId(traceId, TRACE_ID_LENGTH) || !isValidId(spanId, SPAN_ID_LENGTH)) {
+			return null;
+		}
+
+		return new TraceContext(traceId, spanId, (HexFormat.fromHexDigits(flags) & SAMPLED_FLAG) != 0);
+	}
+
+	/**
+	 * Returns the {@code traceparent} header value of the context.
+	 * @return the header value.
+	 */
+	public String toTraceparent() {
+		return VERSION + '-' + traceId + '-' + spanId + (sampled ? "-01" : "-00");
+	}
+
+	/**
+	 * Returns the {@code traceparent} header value of the context.
+	 * @return the header value.
+	 */
+	@Override
+	public String toString() {
+		return toTraceparent();
+	}
+
+	/**
+	 * Returns a random span id.
+	 * @return 16 lowercase hexadecimal digits, not all zeros.
+	 */
+	private static String randomId() {
+		long id;
+		do {
+			id = ThreadLocalRandom.current().nextLong();
+		} while (id == 0);
+
+		return HEX.toHexDigits(id);
+	}
+
+	/**
+	 * Returns whether the id has the given length of lowercase hexadecimal digits, not all zeros.
+	 * @param id the id to check.
+	 * @param length the length of the id.
+	 * @return true if the id is valid.
+	 */
+	private static boolean isValidId(String id, int length) {
+		return id != null && id.length() == length && isHex(id) && !id.chars().allMatch(digit -> digit == '0');
+	}
+
+	/**
+	 * Returns whether the value only has lowercase hexadecimal digits.
+	 * @param value the value to check.
+	 * @return true if every character is a lowercase hexadecimal digit.
+	 */
+	private static boolean isHex(String value) {
+		return value.chars().allMatch(digit -> '0' <= digit && digit <= '9' || 'a' <= digit && digit <= 'f');
+	}
+
+}
@@ -0,0 +1,13 @@
+package org.tosspayments.sdk.request.requester.tracing;
+
+/**
+ * Scope in which a {@link TraceSpan} is current, returned by {@link TraceSpan#makeCurrent()}.
+ */
+public interface TraceScope extends AutoCloseable {
+
+	/**
+	 * Restores the context that was current before the scope was opened.
+	 */
+	@Override
+	void close();
+}
@@ -0,0 +1,42 @@
+package org.tosspayments.sdk.request.requester.tracing;
+
+/**
+ * Span started by a {@link RequestTracer}, for a call or for one of its HTTP attempts.
+ * Implementations must be thread-safe: the attempts of asynchronous calls start and end on the threads
+ * of the HTTP client.
+ */
+public interface TraceSpan {
+
+	/**
+	 * Returns the W3C trace context of the span, sent in the {@code traceparent} header of its attempts.
+	 *
+	 * @return the trace context, or null to send no header, e.g. when the span is not recorded
+	 */
+	TraceContext getContext();
+
+	/**
+	 * Starts the span of an HTTP attempt of this call, as a child of this span.
+	 * Every attempt of a call, e.g. each retry or hedged copy, is started from the span of the call,
+	 * so the attempts of a call are linked through it.
+	 *
+	 * @param method the HTTP method of the attempt
+	 * @param path   the API endpoint path of the attempt
+	 * @return the span of the attempt
+	 */
+	TraceSpan startAttempt(String method, String path);
+
+	/**
+	 * Makes the span current on the calling thread until the returned scope is closed,
+	 * so that the work done in the scope, e.g. logging or parsing the response, is attributed to the span.
+	 *
+	 * @return the scope to close to restore the previous context
+	 */
+	TraceScope makeCurrent();
+
+	/**
+	 * Ends the span.
+	 *
+	 * @param failure the cause of the failure of the call or attempt, null if it succeeded
+	 */
+	void end(Throwable failure);
+}
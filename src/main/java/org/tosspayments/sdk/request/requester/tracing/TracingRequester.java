@@ -0,0 +1,206 @@
+package org.tosspayments.sdk.request.requester.tracing;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import org.tosspayments.sdk.request.requester.RequestOptions;
+import org.tosspayments.sdk.request.requester.Requester;
+
+/**
+ * {@link Requester} decorator tracing each call with a span started by a {@link RequestTracer}.
+ * The span of the call is passed down in the {@link RequestOptions}, so the requester sending the requests starts
+ * a span for each attempt from it, and it is current while synchronous calls run.
+ * Asynchronous calls complete their future with the context of the caller current, as
+ * {@link RequestTracer#captureContext() captured} when the call was made, so the stages the caller chains on it
+ * keep running in the caller's own context, although they run on the threads of the HTTP client
+ * after the span of the call has ended.
+ */
+public class TracingRequester implements Requester {
+
+	private static final String GET = "GET";
+
+	private static final String POST = "POST";
+
+	private final Requester delegate;
+
+	private final RequestTracer tracer;
+
+	/**
+	 * Creates a new TracingRequester.
+	 * @param delegate the requester sending the requests.
+	 * @param tracer the tracer starting the span of each call.
+	 */
+	public TracingRequester(Requester delegate, RequestTracer tracer) {
+		this.delegate = delegate;
+		this.tracer = tracer;
+	}
+
+	/**
+	 * Sends a traced GET request.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> T get(String url, Class<T> responseType) {
+		return get(url, responseType, RequestOptions.defaults());
+	}
+
+	/**
+	 * Sends a traced GET request with options.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> T get(String url, Class<T> responseType, RequestOptions options) {
+		TraceSpan span = tracer.startCall(GET, url);
+
+		return trace(span, () -> delegate.get(url, responseType, options.withTraceSpan(span)));
+	}
+
+	/**
+	 * Sends a traced GET request asynchronously.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> CompletableFuture<T> getAsync(String url, Class<T> responseType) {
+		return getAsync(url, responseType, RequestOptions.defaults());
+	}
+
+	/**
+	 * Sends a traced GET request with options asynchronously.
+	 * @param url the URL to send the GET request to.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> CompletableFuture<T> getAsync(String url, Class<T> responseType, RequestOptions options) {
+		CapturedContext caller = tracer.captureContext();
+		TraceSpan span = tracer.startCall(GET, url);
+
+		return traceAsync(caller, span, () -> delegate.getAsync(url, responseType, options.withTraceSpan(span)));
+	}
+
+	/**
+	 * Sends a traced POST request.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> T post(String url, Object requestBody, Class<T> responseType) {
+		return post(url, requestBody, responseType, RequestOptions.defaults());
+	}
+
+	/**
+	 * Sends a traced POST request with options.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> T post(String url, Object requestBody, Class<T> responseType, RequestOptions options) {
+		TraceSpan span = tracer.startCall(POST, url);
+
+		return trace(span, () -> delegate.post(url, requestBody, responseType, options.withTraceSpan(span)));
+	}
+
+	/**
+	 * Sends a traced POST request asynchronously.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 */
+	@Override
+	public <T> CompletableFuture<T> postAsync(String url, Object requestBody, Class<T> responseType) {
+		return postAsync(url, requestBody, responseType, RequestOptions.defaults());
+	}
+
+	/**
+	 * Sends a traced POST request with options asynchronously.
+	 * @param url the URL to send the POST request to.
+	 * @param requestBody the body of the POST request.
+	 * @param responseType the class of the response type.
+	 * @param options the options of the request.
+	 */
+	@Override
+	public <T> CompletableFuture<T> postAsync(
+		String url,
+		Object requestBody,
+		Class<T> responseType,
+		RequestOptions options
+	) {
+		CapturedContext caller = tracer.captureContext();
+		TraceSpan span = tracer.startCall(POST, url);
+
+		return traceAsync(
+			caller,
+			span,
+			() -> delegate.postAsync(url, requestBody, responseType, options.withTraceSpan(span))
+		);
+	}
+
+	/**
+	 * Runs a synchronous call with its span current, and ends the span with the outcome of the call.
+	 * @param span the span of the call.
+	 * @param call the call to run.
+	 * @return the response of the call.
+	 */
+	private static <T> T trace(TraceSpan span, Supplier<T> call) {
+		try (TraceScope ignored = span.makeCurrent()) {
+			T response = call.get();
+			span.end(null);
+
+			return response;
+		} catch (RuntimeException e) {
+			span.end(e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Starts an asynchronous call and ends its span with the outcome of the call.
+	 * The returned future is completed with the context of the caller current, and cancelling it cancels the call.
+	 * @param caller the context of the caller, captured when the call was made.
+	 * @param span the span of the call.
+	 * @param call the call to start.
+	 * @return the future of the response.
+	 */
+	private static <T> CompletableFuture<T> traceAsync(
+		CapturedContext caller,
+		TraceSpan span,
+		Supplier<CompletableFuture<T>> call
+	) {
+		CompletableFuture<T> response;
+		try {
+			response = call.get();
+		} catch (RuntimeException e) {
+			span.end(e);
+			throw e;
+		}
+
+		CompletableFuture<T> result = new CompletableFuture<>();
+		response.whenComplete((body, throwable) -> {
+			span.end(throwable instanceof CompletionException ? throwable.getCause() : throwable);
+			try (TraceScope ignored = caller.makeCurrent()) {
+				if (throwable != null) {
+					result.completeExceptionally(throwable);
+				} else {
+					result.complete(body);
+				}
+			}
+		});
+		result.whenComplete((body, throwable) -> {
+			if (throwable instanceof CancellationException) {
+				response.cancel(true);
+			}
+		});
+
+		return result;
+	}
+
+}
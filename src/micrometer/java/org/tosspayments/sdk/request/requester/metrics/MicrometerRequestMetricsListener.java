@@ -0,0 +1,217 @@
+package org.tosspayments.sdk.request.requester.metrics;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.tosspayments.sdk.request.requester.DefaultOperationResolver;
+import org.tosspayments.sdk.request.requester.OperationResolver;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link RequestMetricsListener} publishing the metrics of the exchanges to a Micrometer {@link MeterRegistry}:
+ * the {@value #REQUESTS} timer tagged with the operation, the status class and the phase
+ * ({@code queue}, {@code network} or {@code parse}), the {@value #REQUEST_BYTES} and {@value #RESPONSE_BYTES}
+ * distribution summaries tagged with the operation and the status class, the {@value #IN_FLIGHT} gauge,
+ * and the {@value #CONCURRENCY_LIMIT}, {@value #CONCURRENCY_IN_FLIGHT} and {@value #CONCURRENCY_QUEUED} gauges
+ * of the concurrency limiter.
+ * Micrometer is an optional dependency of the SDK: this listener is built from the {@code micrometer} source set
+ * into the {@code micrometer} feature variant, which brings {@code io.micrometer:micrometer-core},
+ * while the SDK jar neither contains it nor depends on Micrometer.
+ * The meters of each operation and status class are registered once and kept, so recording an exchange
+ * does not look the meters up in the registry.
+ */
+public class MicrometerRequestMetricsListener implements RequestMetricsListener {
+
+	/**
+	 * Name of the timer of the phases of the exchanges.
+	 */
+	public static final String REQUESTS = "tosspayments.requests";
+
+	/**
+	 * Name of the distribution summary of the bytes of the request bodies.
+	 */
+	public static final String REQUEST_BYTES = "tosspayments.requests.request.bytes";
+
+	/**
+	 * Name of the distribution summary of the bytes of the response bodies.
+	 */
+	public static final String RESPONSE_BYTES = "tosspayments.requests.response.bytes";
+
+	/**
+	 * Name of the gauge of the requests in flight.
+	 */
+	public static final String IN_FLIGHT = "tosspayments.requests.in.flight";
+
+	/**
+	 * Name of the gauge of the in-flight request limit of the concurrency limiter.
+	 */
+	public static final String CONCURRENCY_LIMIT = "tosspayments.concurrency.limit";
+
+	/**
+	 * Name of the gauge of the requests holding a permit of the concurrency limiter.
+	 */
+	public static final String CONCURRENCY_IN_FLIGHT = "tosspayments.concurrency.in.flight";
+
+	/**
+	 * Name of the gauge of the requests waiting in the queue of the concurrency limiter.
+	 */
+	public static final String CONCURRENCY_QUEUED = "tosspayments.concurrency.queued";
+
+	private final MeterRegistry registry;
+
+	private final OperationResolver operationResolver;
+
+	private final AtomicLong inFlight;
+
+	private final AtomicInteger concurrencyLimit;
+
+	private final AtomicInteger concurrencyInFlight;
+
+	private final AtomicInteger concurrencyQueued;
+
+	private final ConcurrentMap<EndpointKey, EndpointMeters> meters = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new MicrometerRequestMetricsListener grouping the requests by Toss Payments operation,
+	 * with a {@link DefaultOperationResolver}.
+	 * @param registry the registry to publish the metrics to.
+	 */
+	public MicrometerRequestMetricsListener(MeterRegistry registry) {
+		this(registry, new DefaultOperationResolver());
+	}
+
+	/**
+	 * Creates a new MicrometerRequestMetricsListener.
+	 * @param registry the registry to publish the metrics to.
+	 * @param operationResolver the resolver grouping the requests into operations.
+	 */
+	public MicrometerRequestMetricsListener(MeterRegistry registry, OperationResolver operationResolver) {
+		this.registry = registry;
+		this.operationResolver = operationResolver;
+		this.inFlight = registry.gauge(IN_FLIGHT, new AtomicLong());
+		this.concurrencyLimit = registry.gauge(CONCURRENCY_LIMIT, new AtomicInteger());
+		this.concurrencyInFlight = registry.gauge(CONCURRENCY_IN_FLIGHT, new AtomicInteger());
+		this.concurrencyQueued = registry.gauge(CONCURRENCY_QUEUED, new AtomicInteger());
+	}
+
+	/**
+	 * Counts the request as in flight.
+	 * @param method the HTTP method of the request.
+	 * @param path the API endpoint path of the request.
+	 */
+	@Override
+	public void onRequestStart(String method, String path) {
+		inFlight.incrementAndGet();
+	}
+
+	/**
+	 * Records the exchange into the meters of its operation and status class.
+	 * @param event the timings and outcome of the exchange.
+	 */
+	@Override
+	public void onRequestEnd(RequestEvent event) {
+		inFlight.decrementAndGet();
+
+		EndpointKey key = new EndpointKey(
+			operationResolver.resolve(event.getMethod(), event.getPath()),
+			event.getStatusClass()
+		);
+		EndpointMeters endpointMeters = meters.get(key);
+		if (endpointMeters == null) {
+			endpointMeters = meters.computeIfAbsent(key, EndpointMeters::new);
+		}
+		endpointMeters.record(event);
+	}
+
+	/**
+	 * Sets the gauges of the concurrency limiter.
+	 * @param limit the current in-flight request limit.
+	 * @param inFlight the number of requests holding a permit.
+	 * @param queued the number of requests waiting in the queue.
+	 */
+	@Override
+	public void onConcurrencyLimit(int limit, int inFlight, int queued) {
+		concurrencyLimit.set(limit);
+		concurrencyInFlight.set(inFlight);
+		concurrencyQueued.set(queued);
+	}
+
+	/**
+	 * Meters of an operation and status class.
+	 */
+	private class EndpointMeters {
+
+		private final Timer queue;
+
+		private final Timer network;
+
+		private final Timer parse;
+
+		private final DistributionSummary requestBytes;
+
+		private final DistributionSummary responseBytes;
+
+		/**
+		 * Registers the meters of an operation and status class.
+		 * @param key the operation and status class.
+		 */
+		EndpointMeters(EndpointKey key) {
+			this.queue = timer(key, "queue");
+			this.network = timer(key, "network");
+			this.parse = timer(key, "parse");
+			this.requestBytes = summary(REQUEST_BYTES, key);
+			this.responseBytes = summary(RESPONSE_BYTES, key);
+		}
+
+		/**
+		 * Records an exchange.
+		 * @param event the timings and outcome of the exchange.
+		 */
+		void record(RequestEvent event) {
+			if (event.getQueueNanos() != RequestEvent.NOT_MEASURED) {
+				queue.record(event.getQueueNanos(), TimeUnit.NANOSECONDS);
+			}
+			network.record(event.getNetworkNanos(), TimeUnit.NANOSECONDS);
+			if (event.getParseNanos() != RequestEvent.NOT_MEASURED) {
+				parse.record(event.getParseNanos(), TimeUnit.NANOSECONDS);
+			}
+			requestBytes.record(event.getRequestBytes());
+			responseBytes.record(event.getResponseBytes());
+		}
+
+		/**
+		 * Registers the timer of a phase.
+		 * @param key the operation and status class.
+		 * @param phase the phase of the exchanges.
+		 * @return the timer.
+		 */
+		private Timer timer(EndpointKey key, String phase) {
+			return Timer.builder(REQUESTS)
+				.tag("operation", key.operation())
+				.tag("status", key.statusClass())
+				.tag("phase", phase)
+				.register(registry);
+		}
+
+		/**
+		 * Registers a distribution summary of bytes.
+		 * @param name the name of the summary.
+		 * @param key the operation and status class.
+		 * @return the distribution summary.
+		 */
+		private DistributionSummary summary(String name, EndpointKey key) {
+			return DistributionSummary.builder(name)
+				.baseUnit("bytes")
+				.tag("operation", key.operation())
+				.tag("status", key.statusClass())
+				.register(registry);
+		}
+	}
+
+}
@@ -0,0 +1,106 @@
+package org.tosspayments.sdk;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Field;
+import java.net.URI;
+
+import org.eclipse.jetty.http.HttpStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.tosspayments.sdk.payment.BillingChargeRequest;
+import org.tosspayments.sdk.payment.PaymentCancelRequest;
+import org.tosspayments.sdk.payment.PaymentConfirmRequest;
+import org.tosspayments.sdk.request.requester.RequesterBuilder;
+import org.tosspayments.sdk.request.requester.httpclient.HttpClientRequester;
+import org.tosspayments.sdk.util.toss.TossApiMockTest;
+import org.tosspayments.sdk.util.toss.TossTestInform;
+
+/**
+ * Tests the URLs of the requests sent by the typed operations of {@link TossPayments}.
+ */
+class TossPaymentsEndpointTest extends TossApiMockTest {
+
+	private static final String API_PATH = URI.create(TossPayments.API_ENDPOINT).getPath();
+
+	private TossPayments tossPayments;
+
+	/**
+	 * Creates a client sending its requests to the API root path on the mock server.
+	 */
+	@BeforeEach
+	void setUp() {
+		wireMockServer.stubFor(any(anyUrl())
+			.willReturn(aResponse()
+				.withStatus(HttpStatus.OK_200)
+				.withBody("{}")
+			)
+		);
+		tossPayments = new TossPayments(
+			TossTestInform.getSecret(),
+			new RequesterBuilder(getEndpoint() + API_PATH, TossTestInform.getSecret()).build()
+		);
+	}
+
+	/**
+	 * Tests that the default requester sends the requests to the API root, not to the Inform endpoint.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void defaultEndpointTest() throws Exception {
+		Object requester = new TossPayments(TossTestInform.getSecret()).getRequester();
+
+		Field templateField = HttpClientRequester.class.getDeclaredField("requestTemplate");
+		templateField.setAccessible(true);
+		Object template = templateField.get(requester);
+		Field endpointField = template.getClass().getDeclaredField("endpoint");
+		endpointField.setAccessible(true);
+		assertEquals("https://api.tosspayments.com/v1", endpointField.get(template));
+		assertEquals("/v1", API_PATH);
+	}
+
+	/**
+	 * Tests the URL of a confirmation.
+	 */
+	@Test
+	void confirmPaymentUrlTest() {
+		tossPayments.confirmPayment(new PaymentConfirmRequest("payment_key", "order_id", 15000));
+
+		wireMockServer.verify(1, postRequestedFor(urlEqualTo("/v1/payments/confirm")));
+	}
+
+	/**
+	 * Tests the URLs of the lookups by payment key and by order ID.
+	 */
+	@Test
+	void getPaymentUrlTest() {
+		tossPayments.getPayment("payment_key");
+		tossPayments.getPaymentByOrderId("order_id");
+
+		wireMockServer.verify(1, getRequestedFor(urlEqualTo("/v1/payments/payment_key")));
+		wireMockServer.verify(1, getRequestedFor(urlEqualTo("/v1/payments/orders/order_id")));
+	}
+
+	/**
+	 * Tests the URL of a cancellation.
+	 */
+	@Test
+	void cancelPaymentUrlTest() {
+		tossPayments.cancelPayment("payment_key", new PaymentCancelRequest("고객 변심"));
+
+		wireMockServer.verify(1, postRequestedFor(urlEqualTo("/v1/payments/payment_key/cancel")));
+	}
+
+	/**
+	 * Tests the URL of a billing charge.
+	 */
+	@Test
+	void chargeBillingUrlTest() {
+		tossPayments.chargeBilling("billing_key", new BillingChargeRequest("customer_key", 15000, "order_id", "order"));
+
+		wireMockServer.verify(1, postRequestedFor(urlEqualTo("/v1/billing/billing_key")));
+	}
+
+}
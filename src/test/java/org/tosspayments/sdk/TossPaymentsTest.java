@@ -1,9 +1,16 @@
 package org.tosspayments.sdk;
 
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.junit.jupiter.api.Test;
+import org.tosspayments.sdk.payment.BillingChargeRequest;
+import org.tosspayments.sdk.payment.Payment;
+import org.tosspayments.sdk.payment.PaymentCancelRequest;
+import org.tosspayments.sdk.payment.PaymentConfirmRequest;
 import org.tosspayments.sdk.request.requester.Requester;
 import org.tosspayments.sdk.util.toss.TossTestInform;
 
@@ -23,5 +30,112 @@ class TossPaymentsTest {
 
 		Requester mockRequester = mock(Requester.class);
 		TossPayments tossPaymentsWithCustomRequester = new TossPayments(TossTestInform.getSecret(), mockRequester);
+
+		assertNotNull(tossPayments.getRequester());
+		assertSame(mockRequester, tossPaymentsWithCustomRequester.getRequester());
+	}
+
+	/**
+	 * Tests that payments are confirmed with a typed request and response.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void confirmPaymentTest() throws Exception {
+		Requester requester = mock(Requester.class);
+		Payment payment = mock(Payment.class);
+		PaymentConfirmRequest request = new PaymentConfirmRequest("payment_key", "order_id", 15000);
+		when(requester.post("/payments/confirm", request, Payment.class)).thenReturn(payment);
+		when(requester.postAsync("/payments/confirm", request, Payment.class))
+			.thenReturn(CompletableFuture.completedFuture(payment));
+		TossPayments tossPayments = new TossPayments(TossTestInform.getSecret(), requester);
+
+		assertSame(payment, tossPayments.confirmPayment(request));
+		assertSame(payment, tossPayments.confirmPaymentAsync(request).get());
+		assertEquals("payment_key", request.getPaymentKey());
+		assertEquals("order_id", request.getOrderId());
+		assertEquals(15000, request.getAmount());
+	}
+
+	/**
+	 * Tests that payments are looked up by payment key and by order ID, with the keys encoded into the path.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void getPaymentTest() throws Exception {
+		Requester requester = mock(Requester.class);
+		Payment payment = mock(Payment.class);
+		when(requester.get("/payments/payment_key", Payment.class)).thenReturn(payment);
+		when(requester.getAsync("/payments/payment_key", Payment.class))
+			.thenReturn(CompletableFuture.completedFuture(payment));
+		when(requester.get("/payments/orders/order%2F1%20a", Payment.class)).thenReturn(payment);
+		when(requester.getAsync("/payments/orders/order%2F1%20a", Payment.class))
+			.thenReturn(CompletableFuture.completedFuture(payment));
+		TossPayments tossPayments = new TossPayments(TossTestInform.getSecret(), requester);
+
+		assertSame(payment, tossPayments.getPayment("payment_key"));
+		assertSame(payment, tossPayments.getPaymentAsync("payment_key").get());
+		assertSame(payment, tossPayments.getPaymentByOrderId("order/1 a"));
+		assertSame(payment, tossPayments.getPaymentByOrderIdAsync("order/1 a").get());
+	}
+
+	/**
+	 * Tests that projections of payments are looked up with the projection as the response type.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void getPaymentProjectionTest() throws Exception {
+		Requester requester = mock(Requester.class);
+		when(requester.get("/payments/payment_key", String.class)).thenReturn("DONE");
+		when(requester.getAsync("/payments/payment_key", String.class))
+			.thenReturn(CompletableFuture.completedFuture("DONE"));
+		TossPayments tossPayments = new TossPayments(TossTestInform.getSecret(), requester);
+
+		assertEquals("DONE", tossPayments.getPayment("payment_key", String.class));
+		assertEquals("DONE", tossPayments.getPaymentAsync("payment_key", String.class).get());
+	}
+
+	/**
+	 * Tests that payments are cancelled with a typed request and response.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void cancelPaymentTest() throws Exception {
+		Requester requester = mock(Requester.class);
+		Payment payment = mock(Payment.class);
+		PaymentCancelRequest request = new PaymentCancelRequest("changed mind");
+		when(requester.post("/payments/payment_key/cancel", request, Payment.class)).thenReturn(payment);
+		when(requester.postAsync("/payments/payment_key/cancel", request, Payment.class))
+			.thenReturn(CompletableFuture.completedFuture(payment));
+		TossPayments tossPayments = new TossPayments(TossTestInform.getSecret(), requester);
+
+		assertSame(payment, tossPayments.cancelPayment("payment_key", request));
+		assertSame(payment, tossPayments.cancelPaymentAsync("payment_key", request).get());
+	}
+
+	/**
+	 * Tests that customers are charged with their billing key, with a typed request and response.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void chargeBillingTest() throws Exception {
+		Requester requester = mock(Requester.class);
+		Payment payment = mock(Payment.class);
+		BillingChargeRequest request = new BillingChargeRequest("customer_key", 4900, "order_id", "subscription");
+		when(requester.post("/billing/billing_key", request, Payment.class)).thenReturn(payment);
+		when(requester.postAsync("/billing/billing_key", request, Payment.class))
+			.thenReturn(CompletableFuture.completedFuture(payment));
+		TossPayments tossPayments = new TossPayments(TossTestInform.getSecret(), requester);
+
+		assertSame(payment, tossPayments.chargeBilling("billing_key", request));
+		assertSame(payment, tossPayments.chargeBillingAsync("billing_key", request).get());
+		assertEquals("customer_key", request.getCustomerKey());
+		assertEquals(4900, request.getAmount());
+		assertEquals("order_id", request.getOrderId());
+		assertEquals("subscription", request.getOrderName());
 	}
 }
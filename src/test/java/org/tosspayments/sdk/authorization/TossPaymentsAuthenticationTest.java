@@ -1,5 +1,7 @@
 package org.tosspayments.sdk.authorization;
 
+import static org.junit.jupiter.api.Assertions.*;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -30,4 +32,31 @@ class TossPaymentsAuthenticationTest {
 		);
 	}
 
+	/**
+	 * Tests that the Authorization header is the Basic encoding of the secret key.
+	 */
+	@Test
+	void authorizationHeaderTest() {
+		TossPaymentsAuthentication authentication = new TossPaymentsAuthentication("test");
+
+		assertEquals("test", authentication.getSecretKey());
+		assertEquals("Basic dGVzdDo=", authentication.getAuthorizationHeader());
+	}
+
+	/**
+	 * Tests that credentials of the same secret key are equal.
+	 */
+	@Test
+	void equalsTest() {
+		TossPaymentsAuthentication authentication = new TossPaymentsAuthentication("test");
+		TossPaymentsAuthentication same = new TossPaymentsAuthentication("test");
+
+		assertEquals(authentication, authentication);
+		assertEquals(authentication, same);
+		assertEquals(authentication.hashCode(), same.hashCode());
+		assertNotEquals(authentication, new TossPaymentsAuthentication("other"));
+		assertNotEquals(authentication, "test");
+		assertNotEquals(authentication, null);
+	}
+
 }
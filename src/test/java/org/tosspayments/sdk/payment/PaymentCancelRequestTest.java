@@ -0,0 +1,50 @@
+package org.tosspayments.sdk.payment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Tests for {@link PaymentCancelRequest}.
+ */
+class PaymentCancelRequestTest {
+
+	private static final ObjectWriter WRITER = new ObjectMapper()
+		.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+		.writerFor(PaymentCancelRequest.class);
+
+	/**
+	 * Tests that a full cancellation is sent without an amount.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void fullCancelTest() throws Exception {
+		PaymentCancelRequest request = new PaymentCancelRequest("changed mind");
+
+		assertNull(request.getCancelAmount());
+		assertEquals("{\"cancelReason\":\"changed mind\"}", WRITER.writeValueAsString(request));
+	}
+
+	/**
+	 * Tests that a partial cancellation is sent with its amount.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void partialCancelTest() throws Exception {
+		PaymentCancelRequest request = new PaymentCancelRequest("changed mind", 5000L);
+
+		assertEquals("changed mind", request.getCancelReason());
+		assertEquals(
+			"{\"cancelReason\":\"changed mind\",\"cancelAmount\":5000}",
+			WRITER.writeValueAsString(request)
+		);
+	}
+
+}
@@ -0,0 +1,156 @@
+package org.tosspayments.sdk.payment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Tests for {@link PaymentJsonModule}.
+ */
+class PaymentJsonModuleTest {
+
+	private static final ObjectMapper REFLECTION = new ObjectMapper()
+		.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+
+	private static final ObjectMapper STREAMING = new ObjectMapper()
+		.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+		.registerModule(new PaymentJsonModule());
+
+	private static final String PAYMENT = """
+		{
+			"mId": "tosspayments",
+			"paymentKey": "payment_key",
+			"orderId": "order_id",
+			"orderName": "order",
+			"status": "PARTIAL_CANCELED",
+			"method": "card",
+			"currency": "KRW",
+			"totalAmount": 15000,
+			"balanceAmount": 10000,
+			"requestedAt": "2024-02-13T12:17:57+09:00",
+			"approvedAt": null,
+			"card": {"issuerCode": "71", "installments": [0, 3]},
+			"cancels": [{
+				"transactionKey": "transaction_key",
+				"cancelReason": "changed mind",
+				"cancelAmount": 5000,
+				"canceledAt": "2024-02-13T12:20:23+09:00",
+				"cancelStatus": "DONE"
+			}]
+		}
+		""";
+
+	/**
+	 * Tests that the requests are written like through their fields.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void serializeRequestsTest() throws Exception {
+		Object[] requests = {
+			new PaymentConfirmRequest("payment_key", "order_id", 15000),
+			new PaymentCancelRequest("changed mind"),
+			new PaymentCancelRequest("changed mind", 5000L),
+			new BillingChargeRequest("customer_key", 15000, "order_id", "order")
+		};
+
+		for (Object request : requests) {
+			assertEquals(REFLECTION.writeValueAsString(request), STREAMING.writeValueAsString(request));
+		}
+	}
+
+	/**
+	 * Tests that a payment is read like through its fields, skipping the fields the SDK does not bind.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void deserializePaymentTest() throws Exception {
+		Payment expected = REFLECTION.readValue(PAYMENT, Payment.class);
+		Payment payment = STREAMING.readValue(PAYMENT, Payment.class);
+
+		assertEquals(expected.getPaymentKey(), payment.getPaymentKey());
+		assertEquals(expected.getOrderId(), payment.getOrderId());
+		assertEquals(expected.getOrderName(), payment.getOrderName());
+		assertEquals(expected.getStatus(), payment.getStatus());
+		assertEquals(expected.getMethod(), payment.getMethod());
+		assertEquals(expected.getCurrency(), payment.getCurrency());
+		assertEquals(expected.getTotalAmount(), payment.getTotalAmount());
+		assertEquals(expected.getBalanceAmount(), payment.getBalanceAmount());
+		assertEquals(expected.getRequestedAt(), payment.getRequestedAt());
+		assertNull(payment.getApprovedAt());
+
+		assertEquals(1, payment.getCancels().size());
+		PaymentCancel cancel = payment.getCancels().get(0);
+		assertEquals("transaction_key", cancel.getTransactionKey());
+		assertEquals("changed mind", cancel.getCancelReason());
+		assertEquals(5000, cancel.getCancelAmount());
+		assertEquals("2024-02-13T12:20:23+09:00", cancel.getCanceledAt());
+		assertThrows(UnsupportedOperationException.class, () -> payment.getCancels().clear());
+	}
+
+	/**
+	 * Tests that every field of a payment and of its cancellations is read like through the fields,
+	 * so a field added to them fails until its deserializer reads it.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void deserializeEveryFieldTest() throws Exception {
+		ObjectNode payment = valuesOf(Payment.class);
+		payment.putArray("cancels").add(valuesOf(PaymentCancel.class));
+		String json = payment.toString();
+
+		assertEquals(
+			REFLECTION.valueToTree(REFLECTION.readValue(json, Payment.class)),
+			REFLECTION.valueToTree(STREAMING.readValue(json, Payment.class))
+		);
+	}
+
+	/**
+	 * Tests that a payment with no or null cancellations has no cancellations, and that amounts sent as strings
+	 * are coerced like through the fields.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void deserializeDefaultsTest() throws Exception {
+		assertTrue(STREAMING.readValue("{\"paymentKey\": \"payment_key\"}", Payment.class).getCancels().isEmpty());
+		assertTrue(STREAMING.readValue("{\"cancels\": null}", Payment.class).getCancels().isEmpty());
+		assertEquals(15000, STREAMING.readValue("{\"totalAmount\": \"15000\"}", Payment.class).getTotalAmount());
+	}
+
+	/**
+	 * Creates a JSON object giving a distinct value to every String and long field of the type.
+	 * @param type The bound type.
+	 * @return The JSON object.
+	 */
+	private static ObjectNode valuesOf(Class<?> type) {
+		ObjectNode node = REFLECTION.createObjectNode();
+		long value = 1;
+		for (Field field : type.getDeclaredFields()) {
+			if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic() || field.getType() == List.class) {
+				continue;
+			}
+			if (field.getType() == String.class) {
+				node.put(field.getName(), field.getName());
+			} else if (field.getType() == long.class) {
+				node.put(field.getName(), value++);
+			} else {
+				fail("Unexpected type of " + field);
+			}
+		}
+
+		return node;
+	}
+
+}
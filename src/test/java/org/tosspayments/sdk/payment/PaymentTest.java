@@ -0,0 +1,84 @@
+package org.tosspayments.sdk.payment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Tests for {@link Payment}.
+ */
+class PaymentTest {
+
+	private static final ObjectReader READER = new ObjectMapper()
+		.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+		.readerFor(Payment.class);
+
+	/**
+	 * Tests that a payment response is bound, ignoring the fields the SDK does not bind.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void bindingTest() throws Exception {
+		Payment payment = READER.readValue("""
+			{
+				"mId": "tosspayments",
+				"paymentKey": "payment_key",
+				"orderId": "order_id",
+				"orderName": "order",
+				"status": "PARTIAL_CANCELED",
+				"method": "card",
+				"currency": "KRW",
+				"totalAmount": 15000,
+				"balanceAmount": 10000,
+				"requestedAt": "2024-02-13T12:17:57+09:00",
+				"approvedAt": "2024-02-13T12:18:14+09:00",
+				"card": {"issuerCode": "71"},
+				"cancels": [{
+					"transactionKey": "transaction_key",
+					"cancelReason": "changed mind",
+					"cancelAmount": 5000,
+					"canceledAt": "2024-02-13T12:20:23+09:00",
+					"cancelStatus": "DONE"
+				}]
+			}
+			""");
+
+		assertEquals("payment_key", payment.getPaymentKey());
+		assertEquals("order_id", payment.getOrderId());
+		assertEquals("order", payment.getOrderName());
+		assertEquals("PARTIAL_CANCELED", payment.getStatus());
+		assertEquals("card", payment.getMethod());
+		assertEquals("KRW", payment.getCurrency());
+		assertEquals(15000, payment.getTotalAmount());
+		assertEquals(10000, payment.getBalanceAmount());
+		assertEquals("2024-02-13T12:17:57+09:00", payment.getRequestedAt());
+		assertEquals("2024-02-13T12:18:14+09:00", payment.getApprovedAt());
+
+		PaymentCancel cancel = payment.getCancels().get(0);
+		assertEquals("transaction_key", cancel.getTransactionKey());
+		assertEquals("changed mind", cancel.getCancelReason());
+		assertEquals(5000, cancel.getCancelAmount());
+		assertEquals("2024-02-13T12:20:23+09:00", cancel.getCanceledAt());
+		assertThrows(UnsupportedOperationException.class, () -> payment.getCancels().clear());
+	}
+
+	/**
+	 * Tests that a payment never cancelled, or with null cancellations, has no cancellations.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void noCancelsTest() throws Exception {
+		Payment payment = READER.readValue("{\"paymentKey\": \"payment_key\"}");
+
+		assertTrue(payment.getCancels().isEmpty());
+		assertTrue(READER.<Payment>readValue("{\"cancels\": null}").getCancels().isEmpty());
+	}
+
+}
@@ -0,0 +1,52 @@
+package org.tosspayments.sdk.request.batch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.tosspayments.sdk.exception.TossApiException;
+
+/**
+ * Tests for {@link BatchConfig}.
+ */
+class BatchConfigTest {
+
+	/**
+	 * Tests the default settings.
+	 */
+	@Test
+	void defaultsTest() {
+		BatchConfig config = BatchConfig.builder().build();
+
+		assertEquals(10, config.getParallelism());
+		assertFalse(config.getFatalError().test(new TossApiException(401)));
+		assertDoesNotThrow(() -> config.getProgressListener().onProgress(1, 0, 1));
+	}
+
+	/**
+	 * Tests the custom settings.
+	 */
+	@Test
+	void customSettingsTest() {
+		BatchProgressListener listener = (completed, failed, total) -> {
+		};
+
+		BatchConfig config = BatchConfig.builder()
+			.withParallelism(2)
+			.withFatalError(throwable -> throwable instanceof TossApiException)
+			.withProgressListener(listener)
+			.build();
+
+		assertEquals(2, config.getParallelism());
+		assertTrue(config.getFatalError().test(new TossApiException(401)));
+		assertSame(listener, config.getProgressListener());
+	}
+
+	/**
+	 * Tests that invalid settings are rejected.
+	 */
+	@Test
+	void invalidSettingsTest() {
+		assertThrows(IllegalArgumentException.class, () -> BatchConfig.builder().withParallelism(0));
+	}
+
+}
@@ -0,0 +1,257 @@
+package org.tosspayments.sdk.request.batch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.tosspayments.sdk.exception.TossApiException;
+import org.tosspayments.sdk.request.requester.RequestOptions;
+import org.tosspayments.sdk.request.requester.Requester;
+
+/**
+ * Tests for {@link BatchExecutor}.
+ */
+class BatchExecutorTest {
+
+	private Requester requester;
+
+	private List<String> progress;
+
+	/**
+	 * Creates the mocked requester and the progress log.
+	 */
+	@BeforeEach
+	void setUp() {
+		requester = mock(Requester.class);
+		progress = new ArrayList<>();
+	}
+
+	/**
+	 * Tests that at most the configured number of operations are in flight,
+	 * and the results are returned in the order of the operations.
+	 */
+	@Test
+	void boundedParallelismTest() {
+		AtomicInteger sent = new AtomicInteger();
+		List<CompletableFuture<String>> responses = new ArrayList<>();
+		List<BatchOperation<String>> operations = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			CompletableFuture<String> response = new CompletableFuture<>();
+			responses.add(response);
+			operations.add(r -> {
+				sent.incrementAndGet();
+				return response;
+			});
+		}
+
+		CompletableFuture<List<BatchResult<String>>> batch = createExecutor(2, throwable -> false).execute(operations);
+		assertEquals(2, sent.get());
+
+		responses.get(1).complete("1");
+		assertEquals(3, sent.get());
+		responses.get(2).completeExceptionally(new CompletionException(new TossApiException(404)));
+		responses.get(0).complete("0");
+		responses.get(4).complete("4");
+		assertFalse(batch.isDone());
+		responses.get(3).complete("3");
+
+		List<BatchResult<String>> results = batch.join();
+		assertEquals(List.of("0", "1", "3", "4"), results.stream()
+			.filter(BatchResult::isSucceeded)
+			.map(BatchResult::getValue)
+			.toList());
+		assertEquals(404, results.get(2).getApiException().getStatusCode());
+		assertEquals(2, results.get(2).getIndex());
+		assertEquals(List.of("1/0/5", "2/1/5", "3/1/5", "4/1/5", "5/1/5"), progress);
+	}
+
+	/**
+	 * Tests that a fatal failure cancels the operations in flight and does not pull the rest.
+	 */
+	@Test
+	void fatalFailureTest() {
+		CompletableFuture<String> inFlight = new CompletableFuture<>();
+		CompletableFuture<String> fatal = new CompletableFuture<>();
+		List<BatchOperation<String>> operations = List.of(r -> inFlight, r -> fatal, r -> {
+			throw new AssertionError("not sent");
+		});
+
+		CompletableFuture<List<BatchResult<String>>> batch = createExecutor(2, throwable ->
+			throwable instanceof TossApiException exception && exception.getStatusCode() == 401
+		).execute(operations);
+		fatal.completeExceptionally(new TossApiException(401));
+
+		List<BatchResult<String>> results = batch.join();
+		assertTrue(inFlight.isCancelled());
+		assertEquals(BatchResult.Status.CANCELLED, results.get(0).getStatus());
+		assertEquals(BatchResult.Status.FAILED, results.get(1).getStatus());
+		assertEquals(2, results.size());
+		assertEquals(List.of("1/1/3", "2/1/3"), progress);
+	}
+
+	/**
+	 * Tests that a cancelled stream of operations is neither drained nor left open,
+	 * and that the results only cover the operations pulled before the cancellation.
+	 */
+	@Test
+	void cancelledStreamTest() {
+		AtomicInteger pulled = new AtomicInteger();
+		AtomicInteger closed = new AtomicInteger();
+		Stream<BatchOperation<Integer>> operations = Stream.<BatchOperation<Integer>>generate(() -> {
+			int index = pulled.getAndIncrement();
+			return r -> index < 2
+				? CompletableFuture.completedFuture(index)
+				: CompletableFuture.failedFuture(new TossApiException(401));
+		}).onClose(closed::incrementAndGet);
+
+		List<BatchResult<Integer>> results = createExecutor(1, throwable -> true).execute(operations).join();
+
+		assertEquals(3, pulled.get());
+		assertEquals(1, closed.get());
+		assertEquals(List.of(0, 1), results.stream()
+			.filter(BatchResult::isSucceeded)
+			.map(BatchResult::getValue)
+			.toList());
+		assertEquals(BatchResult.Status.FAILED, results.get(2).getStatus());
+		assertEquals(3, results.size());
+	}
+
+	/**
+	 * Tests that a stream of operations is closed once it completes, even with operations in flight when cancelled.
+	 */
+	@Test
+	void closedStreamTest() {
+		AtomicInteger closed = new AtomicInteger();
+		CompletableFuture<String> inFlight = new CompletableFuture<>();
+
+		createExecutor(2, throwable -> false)
+			.execute(Stream.<BatchOperation<String>>of(r -> CompletableFuture.completedFuture("done"))
+				.onClose(closed::incrementAndGet))
+			.join();
+		assertEquals(1, closed.get());
+
+		createExecutor(1, throwable -> false)
+			.execute(Stream.<BatchOperation<String>>of(r -> inFlight, r -> {
+				throw new AssertionError("not sent");
+			}).onClose(closed::incrementAndGet))
+			.cancel(true);
+		assertTrue(inFlight.isCancelled());
+		assertEquals(2, closed.get());
+	}
+
+	/**
+	 * Tests that an operation sent while the batch is being cancelled is cancelled too.
+	 */
+	@Test
+	void sentWhileCancellingTest() {
+		CompletableFuture<String> first = new CompletableFuture<>();
+		CompletableFuture<String> second = new CompletableFuture<>();
+		List<BatchOperation<String>> operations = List.of(r -> first, r -> {
+			first.completeExceptionally(new TossApiException(401));
+			return second;
+		});
+
+		List<BatchResult<String>> results = createExecutor(2, throwable -> true).execute(operations).join();
+
+		assertTrue(second.isCancelled());
+		assertEquals(BatchResult.Status.FAILED, results.get(0).getStatus());
+		assertEquals(BatchResult.Status.CANCELLED, results.get(1).getStatus());
+	}
+
+	/**
+	 * Tests that cancelling the returned future cancels the operations in flight and does not pull the rest.
+	 */
+	@Test
+	void cancelReturnedFutureTest() {
+		CompletableFuture<String> inFlight = new CompletableFuture<>();
+		List<BatchOperation<String>> operations = List.of(r -> inFlight, r -> {
+			throw new AssertionError("not sent");
+		});
+
+		createExecutor(1, throwable -> false).execute(operations).cancel(true);
+
+		assertTrue(inFlight.isCancelled());
+	}
+
+	/**
+	 * Tests that a stream of synchronously completed operations runs without growing the stack,
+	 * and that operations failing synchronously are reported as failed.
+	 */
+	@Test
+	void synchronousCompletionTest() {
+		Stream<BatchOperation<Integer>> operations = IntStream.range(0, 100_000)
+			.mapToObj(i -> i % 2 == 0 ? r -> CompletableFuture.completedFuture(i) : r -> {
+				throw new IllegalStateException("send");
+			});
+
+		List<BatchResult<Integer>> results = new BatchExecutor(requester, BatchConfig.builder().build())
+			.execute(operations)
+			.join();
+
+		assertEquals(100_000, results.size());
+		assertEquals(4, results.get(4).getValue());
+		assertInstanceOf(IllegalStateException.class, results.get(5).getException());
+	}
+
+	/**
+	 * Tests that an empty batch completes right away.
+	 */
+	@Test
+	void emptyBatchTest() {
+		List<BatchOperation<String>> operations = List.of();
+
+		assertEquals(List.of(), createExecutor(2, throwable -> false).execute(operations).join());
+		assertEquals(List.of(), progress);
+	}
+
+	/**
+	 * Tests the operations sending GET and POST requests with the requester.
+	 */
+	@Test
+	void operationsTest() {
+		RequestOptions options = RequestOptions.defaults();
+		when(requester.getAsync("/get", String.class)).thenReturn(CompletableFuture.completedFuture("get"));
+		when(requester.getAsync("/get", String.class, options))
+			.thenReturn(CompletableFuture.completedFuture("get options"));
+		when(requester.postAsync("/post", "body", String.class)).thenReturn(CompletableFuture.completedFuture("post"));
+		when(requester.postAsync("/post", "body", String.class, options))
+			.thenReturn(CompletableFuture.completedFuture("post options"));
+
+		List<BatchResult<String>> results = createExecutor(2, throwable -> false).execute(List.of(
+			BatchOperation.get("/get", String.class),
+			BatchOperation.get("/get", String.class, options),
+			BatchOperation.post("/post", "body", String.class),
+			BatchOperation.post("/post", "body", String.class, options)
+		)).join();
+
+		assertEquals(
+			List.of("get", "get options", "post", "post options"),
+			results.stream().map(BatchResult::getValue).toList()
+		);
+	}
+
+	/**
+	 * Creates an executor logging its progress.
+	 * @param parallelism the maximum number of operations in flight.
+	 * @param fatalError the test of fatal failures.
+	 * @return the executor.
+	 */
+	private BatchExecutor createExecutor(int parallelism, Predicate<Throwable> fatalError) {
+		return new BatchExecutor(requester, BatchConfig.builder()
+			.withParallelism(parallelism)
+			.withFatalError(fatalError)
+			.withProgressListener((completed, failed, total) -> progress.add(completed + "/" + failed + "/" + total))
+			.build());
+	}
+
+}
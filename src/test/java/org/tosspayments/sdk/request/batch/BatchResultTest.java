@@ -0,0 +1,60 @@
+package org.tosspayments.sdk.request.batch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CancellationException;
+
+import org.junit.jupiter.api.Test;
+import org.tosspayments.sdk.exception.TossApiException;
+
+/**
+ * Tests for {@link BatchResult}.
+ */
+class BatchResultTest {
+
+	/**
+	 * Tests the result of a successful request.
+	 */
+	@Test
+	void succeededTest() {
+		BatchResult<String> result = BatchResult.succeeded(3, "ok");
+
+		assertEquals(3, result.getIndex());
+		assertEquals(BatchResult.Status.SUCCEEDED, result.getStatus());
+		assertTrue(result.isSucceeded());
+		assertEquals("ok", result.getValue());
+		assertNull(result.getException());
+		assertNull(result.getApiException());
+	}
+
+	/**
+	 * Tests the results of failed requests, with and without an error response.
+	 */
+	@Test
+	void failedTest() {
+		TossApiException apiException = new TossApiException(404);
+		BatchResult<String> apiFailure = BatchResult.failed(0, apiException);
+		BatchResult<String> otherFailure = BatchResult.failed(1, new IllegalStateException());
+
+		assertEquals(BatchResult.Status.FAILED, apiFailure.getStatus());
+		assertFalse(apiFailure.isSucceeded());
+		assertNull(apiFailure.getValue());
+		assertSame(apiException, apiFailure.getApiException());
+		assertNull(otherFailure.getApiException());
+	}
+
+	/**
+	 * Tests the result of a cancelled operation.
+	 */
+	@Test
+	void cancelledTest() {
+		CancellationException cancellation = new CancellationException();
+
+		BatchResult<String> result = BatchResult.cancelled(2, cancellation);
+
+		assertEquals(BatchResult.Status.CANCELLED, result.getStatus());
+		assertSame(cancellation, result.getException());
+		assertNull(BatchResult.cancelled(2, null).getException());
+	}
+
+}
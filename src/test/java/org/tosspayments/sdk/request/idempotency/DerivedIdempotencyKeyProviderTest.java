@@ -0,0 +1,63 @@
+package org.tosspayments.sdk.request.idempotency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link DerivedIdempotencyKeyProvider}.
+ */
+class DerivedIdempotencyKeyProviderTest {
+
+	private final IdempotencyKeyProvider provider = new DerivedIdempotencyKeyProvider(
+		body -> ((Map<?, ?>)body).get("orderId") instanceof String orderId ? orderId : null
+	);
+
+	/**
+	 * Tests that the same operation on the same order gets the same key.
+	 */
+	@Test
+	void sameOrderSameKeyTest() {
+		assertEquals(
+			provider.getIdempotencyKey("/payments/confirm", Map.of("orderId", "order-1", "amount", 1000)),
+			provider.getIdempotencyKey("/payments/confirm", Map.of("orderId", "order-1", "amount", 1000))
+		);
+	}
+
+	/**
+	 * Tests that different operations or orders get different keys.
+	 */
+	@Test
+	void differentOperationOrOrderTest() {
+		String key = provider.getIdempotencyKey("/payments/confirm", Map.of("orderId", "order-1"));
+
+		assertNotEquals(key, provider.getIdempotencyKey("/payments/cancel", Map.of("orderId", "order-1")));
+		assertNotEquals(key, provider.getIdempotencyKey("/payments/confirm", Map.of("orderId", "order-2")));
+	}
+
+	/**
+	 * Tests that a random key is issued when no value can be derived from the body.
+	 */
+	@Test
+	void fallbackToRandomKeyTest() {
+		assertNotEquals(
+			provider.getIdempotencyKey("/payments/confirm", Map.of()),
+			provider.getIdempotencyKey("/payments/confirm", Map.of())
+		);
+		assertNotEquals(
+			provider.getIdempotencyKey("/payments/confirm", null),
+			provider.getIdempotencyKey("/payments/confirm", null)
+		);
+	}
+
+	/**
+	 * Tests null key source validation.
+	 */
+	@Test
+	void nullKeySourceValidation() {
+		assertThrows(IllegalArgumentException.class, () -> new DerivedIdempotencyKeyProvider(null));
+	}
+
+}
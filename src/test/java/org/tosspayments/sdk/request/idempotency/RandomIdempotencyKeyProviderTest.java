@@ -0,0 +1,28 @@
+package org.tosspayments.sdk.request.idempotency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link RandomIdempotencyKeyProvider}.
+ */
+class RandomIdempotencyKeyProviderTest {
+
+	/**
+	 * Tests that every request gets a different key.
+	 */
+	@Test
+	void keyPerRequestTest() {
+		IdempotencyKeyProvider provider = new RandomIdempotencyKeyProvider();
+		Map<String, String> body = Map.of("orderId", "order-1");
+
+		assertNotEquals(
+			provider.getIdempotencyKey("/payments/confirm", body),
+			provider.getIdempotencyKey("/payments/confirm", body)
+		);
+	}
+
+}
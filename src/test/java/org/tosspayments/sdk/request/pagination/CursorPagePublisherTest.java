@@ -0,0 +1,353 @@
+package org.tosspayments.sdk.request.pagination;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.tosspayments.sdk.exception.TossApiException;
+import org.tosspayments.sdk.request.requester.Requester;
+
+/**
+ * Tests for {@link CursorPagePublisher}.
+ */
+class CursorPagePublisherTest {
+
+	private static final String TEST_PATH = "/v1/transactions?startDate=2024-01-01";
+
+	private static final String FIRST_PAGE = TEST_PATH + "&limit=2";
+
+	private Requester requester;
+
+	/**
+	 * Creates the mocked requester.
+	 */
+	@BeforeEach
+	void setUp() {
+		requester = mock(Requester.class);
+	}
+
+	/**
+	 * Tests that the stream reads every page, sending the last item of a page as the cursor of the next one.
+	 */
+	@Test
+	void streamTest() {
+		stubPage(FIRST_PAGE, "a", "b");
+		stubPage(FIRST_PAGE + "&startingAfter=b", "c", "d");
+		stubPage(FIRST_PAGE + "&startingAfter=d", "e");
+
+		try (Stream<String> items = createPublisher(2, 2).stream()) {
+			assertEquals(List.of("a", "b", "c", "d", "e"), items.toList());
+		}
+	}
+
+	/**
+	 * Tests that an empty page ends the list, and that cursors are URL encoded into a path without a query.
+	 */
+	@Test
+	void emptyLastPageTest() {
+		stubPage("/v1/settlements?limit=2", "a b", "c&d");
+		stubPage("/v1/settlements?limit=2&startingAfter=c%26d");
+
+		CursorPagePublisher<String> publisher = new CursorPagePublisher<>(
+			requester,
+			"/v1/settlements",
+			String[].class,
+			Function.identity(),
+			PaginationConfig.builder().withLimit(2).build()
+		);
+
+		assertEquals(List.of("a b", "c&d"), publisher.stream().toList());
+	}
+
+	/**
+	 * Tests that a page without a body ends the list.
+	 */
+	@Test
+	void nullPageTest() {
+		when(requester.getAsync(FIRST_PAGE, String[].class)).thenReturn(CompletableFuture.completedFuture(null));
+
+		RecordingSubscriber subscriber = subscribe(createPublisher(2, 2));
+		subscriber.subscription.request(1);
+
+		assertTrue(subscriber.completed);
+		assertEquals(List.of(), subscriber.items);
+	}
+
+	/**
+	 * Tests that no page is fetched before items are requested, that items are emitted as requested,
+	 * and that the next page is fetched while the current one is consumed, up to the prefetch.
+	 */
+	@Test
+	void backpressureTest() {
+		CompletableFuture<String[]> second = new CompletableFuture<>();
+		stubPage(FIRST_PAGE, "a", "b");
+		when(requester.getAsync(FIRST_PAGE + "&startingAfter=b", String[].class)).thenReturn(second);
+
+		RecordingSubscriber subscriber = subscribe(createPublisher(2, 2));
+		verifyNoInteractions(requester);
+
+		subscriber.subscription.request(1);
+		assertEquals(List.of("a"), subscriber.items);
+		verify(requester).getAsync(FIRST_PAGE + "&startingAfter=b", String[].class);
+
+		subscriber.subscription.request(2);
+		assertEquals(List.of("a", "b"), subscriber.items);
+		second.complete(new String[] {"c"});
+		assertEquals(List.of("a", "b", "c"), subscriber.items);
+		assertTrue(subscriber.completed);
+	}
+
+	/**
+	 * Tests that with a prefetch of one page, the next page is only fetched once the current one is consumed
+	 * and more items are requested.
+	 */
+	@Test
+	void singlePagePrefetchTest() {
+		stubPage(FIRST_PAGE, "a", "b");
+		stubPage(FIRST_PAGE + "&startingAfter=b", "c", "d");
+
+		RecordingSubscriber subscriber = subscribe(createPublisher(2, 1));
+		subscriber.subscription.request(1);
+		verify(requester, times(1)).getAsync(anyString(), eq(String[].class));
+
+		subscriber.subscription.request(1);
+		verify(requester, times(1)).getAsync(anyString(), eq(String[].class));
+
+		subscriber.subscription.request(1);
+		verify(requester, times(2)).getAsync(anyString(), eq(String[].class));
+		assertEquals(List.of("a", "b", "c"), subscriber.items);
+	}
+
+	/**
+	 * Tests that a failed page is signalled once the items before it were emitted, and no other page is fetched.
+	 */
+	@Test
+	void failedPageTest() {
+		stubPage(FIRST_PAGE, "a", "b");
+		when(requester.getAsync(FIRST_PAGE + "&startingAfter=b", String[].class))
+			.thenReturn(CompletableFuture.failedFuture(new TossApiException(500)));
+
+		RecordingSubscriber subscriber = subscribe(createPublisher(2, 2));
+		subscriber.subscription.request(1);
+		assertNull(subscriber.error);
+
+		subscriber.subscription.request(5);
+		assertEquals(List.of("a", "b"), subscriber.items);
+		assertInstanceOf(TossApiException.class, subscriber.error);
+		verify(requester, times(2)).getAsync(anyString(), eq(String[].class));
+	}
+
+	/**
+	 * Tests that a page failing synchronously is signalled as a failure.
+	 */
+	@Test
+	void synchronousFailureTest() {
+		when(requester.getAsync(FIRST_PAGE, String[].class)).thenThrow(new IllegalStateException("send"));
+
+		RecordingSubscriber subscriber = subscribe(createPublisher(2, 2));
+		subscriber.subscription.request(1);
+
+		assertInstanceOf(IllegalStateException.class, subscriber.error);
+		subscriber.subscription.request(1);
+		verify(requester, times(1)).getAsync(anyString(), eq(String[].class));
+	}
+
+	/**
+	 * Tests that cancelling the subscription cancels the page in flight and stops the signals.
+	 */
+	@Test
+	void cancelTest() {
+		CompletableFuture<String[]> first = new CompletableFuture<>();
+		when(requester.getAsync(FIRST_PAGE, String[].class)).thenReturn(first);
+
+		RecordingSubscriber subscriber = subscribe(createPublisher(2, 2));
+		subscriber.subscription.request(1);
+		subscriber.subscription.cancel();
+		subscriber.subscription.request(1);
+
+		assertTrue(first.isCancelled());
+		assertEquals(List.of(), subscriber.items);
+		assertNull(subscriber.error);
+		assertFalse(subscriber.completed);
+	}
+
+	/**
+	 * Tests that requesting a non-positive number of items fails the subscription right away.
+	 */
+	@Test
+	void invalidRequestTest() {
+		CompletableFuture<String[]> first = new CompletableFuture<>();
+		when(requester.getAsync(FIRST_PAGE, String[].class)).thenReturn(first);
+
+		RecordingSubscriber subscriber = subscribe(createPublisher(2, 2));
+		subscriber.subscription.request(1);
+		subscriber.subscription.request(0);
+
+		assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+		assertTrue(first.isCancelled());
+	}
+
+	/**
+	 * Tests that an unbounded request does not overflow the demand.
+	 */
+	@Test
+	void unboundedRequestTest() {
+		stubPage(FIRST_PAGE, "a", "b");
+		stubPage(FIRST_PAGE + "&startingAfter=b");
+
+		RecordingSubscriber subscriber = subscribe(createPublisher(2, 2));
+		subscriber.subscription.request(Long.MAX_VALUE);
+		subscriber.subscription.request(Long.MAX_VALUE);
+
+		assertEquals(List.of("a", "b"), subscriber.items);
+		assertTrue(subscriber.completed);
+	}
+
+	/**
+	 * Tests that the stream throws the failure of a page, wrapping checked exceptions, after the items before it.
+	 */
+	@Test
+	void streamFailureTest() {
+		stubPage(FIRST_PAGE, "a", "b");
+		when(requester.getAsync(FIRST_PAGE + "&startingAfter=b", String[].class))
+			.thenReturn(CompletableFuture.failedFuture(new TossApiException(500)))
+			.thenReturn(CompletableFuture.failedFuture(new IOException()));
+		CursorPagePublisher<String> publisher = createPublisher(2, 2);
+
+		Iterator<String> items = publisher.stream().iterator();
+		assertEquals("a", items.next());
+		assertEquals("b", items.next());
+		assertThrows(TossApiException.class, items::hasNext);
+
+		RuntimeException exception = assertThrows(RuntimeException.class, () -> publisher.stream().toList());
+		assertInstanceOf(IOException.class, exception.getCause());
+	}
+
+	/**
+	 * Tests the end of the stream iterator, and that closing the stream cancels the page in flight.
+	 */
+	@Test
+	void streamIteratorTest() {
+		CompletableFuture<String[]> second = new CompletableFuture<>();
+		stubPage(FIRST_PAGE, "a");
+		stubPage("/v1/other?limit=2", "a", "b");
+		when(requester.getAsync("/v1/other?limit=2&startingAfter=b", String[].class)).thenReturn(second);
+
+		Iterator<String> items = createPublisher(2, 2).stream().iterator();
+		assertEquals("a", items.next());
+		assertFalse(items.hasNext());
+		assertThrows(NoSuchElementException.class, items::next);
+
+		Stream<String> other = new CursorPagePublisher<>(
+			requester,
+			"/v1/other",
+			String[].class,
+			Function.identity(),
+			PaginationConfig.builder().withLimit(2).build()
+		).stream();
+		assertEquals("a", other.iterator().next());
+		other.close();
+		assertTrue(second.isCancelled());
+	}
+
+	/**
+	 * Tests that an interrupted wait for the next item stops the pagination.
+	 */
+	@Test
+	void streamInterruptedTest() {
+		CompletableFuture<String[]> first = new CompletableFuture<>();
+		when(requester.getAsync(FIRST_PAGE, String[].class)).thenReturn(first);
+		Iterator<String> items = createPublisher(2, 2).stream().iterator();
+
+		Thread.currentThread().interrupt();
+		RuntimeException exception = assertThrows(RuntimeException.class, items::hasNext);
+
+		assertTrue(Thread.interrupted());
+		assertEquals("Request was interrupted", exception.getMessage());
+		assertTrue(first.isCancelled());
+	}
+
+	/**
+	 * Stubs a page of the list.
+	 * @param url the URL of the page.
+	 * @param items the items of the page.
+	 */
+	private void stubPage(String url, String... items) {
+		when(requester.getAsync(url, String[].class)).thenReturn(CompletableFuture.completedFuture(items));
+	}
+
+	/**
+	 * Creates a publisher of the test list, whose items are their own cursors.
+	 * @param limit the number of items per page.
+	 * @param prefetch the maximum number of pages held.
+	 * @return the publisher.
+	 */
+	private CursorPagePublisher<String> createPublisher(int limit, int prefetch) {
+		return new CursorPagePublisher<>(
+			requester,
+			TEST_PATH,
+			String[].class,
+			Function.identity(),
+			PaginationConfig.builder().withLimit(limit).withPrefetch(prefetch).build()
+		);
+	}
+
+	/**
+	 * Subscribes a recording subscriber to the publisher.
+	 * @param publisher the publisher.
+	 * @return the subscriber.
+	 */
+	private static RecordingSubscriber subscribe(CursorPagePublisher<String> publisher) {
+		RecordingSubscriber subscriber = new RecordingSubscriber();
+		publisher.subscribe(subscriber);
+
+		return subscriber;
+	}
+
+	/**
+	 * Subscriber recording the signals it receives, requesting nothing by itself.
+	 */
+	private static class RecordingSubscriber implements Flow.Subscriber<String> {
+
+		private final List<String> items = new ArrayList<>();
+
+		private Flow.Subscription subscription;
+
+		private Throwable error;
+
+		private boolean completed;
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(String item) {
+			items.add(item);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			error = throwable;
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+		}
+	}
+
+}
@@ -0,0 +1,48 @@
+package org.tosspayments.sdk.request.pagination;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link PaginationConfig}.
+ */
+class PaginationConfigTest {
+
+	/**
+	 * Tests the default settings.
+	 */
+	@Test
+	void defaultsTest() {
+		PaginationConfig config = PaginationConfig.builder().build();
+
+		assertEquals(100, config.getLimit());
+		assertEquals(2, config.getPrefetch());
+	}
+
+	/**
+	 * Tests the custom settings.
+	 */
+	@Test
+	void customSettingsTest() {
+		PaginationConfig config = PaginationConfig.builder()
+			.withLimit(10)
+			.withPrefetch(4)
+			.build();
+
+		assertEquals(10, config.getLimit());
+		assertEquals(4, config.getPrefetch());
+	}
+
+	/**
+	 * Tests that invalid settings are rejected.
+	 */
+	@Test
+	void invalidSettingsTest() {
+		PaginationConfig.Builder builder = PaginationConfig.builder();
+
+		assertThrows(IllegalArgumentException.class, () -> builder.withLimit(0));
+		assertThrows(IllegalArgumentException.class, () -> builder.withPrefetch(0));
+	}
+
+}
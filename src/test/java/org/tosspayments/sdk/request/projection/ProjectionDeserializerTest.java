@@ -0,0 +1,285 @@
+package org.tosspayments.sdk.request.projection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+
+/**
+ * Tests for {@link ProjectionDeserializer}.
+ */
+class ProjectionDeserializerTest {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	private static final String PAYMENT = """
+		{
+			"mId": "tosspayments",
+			"paymentKey": "payment_key",
+			"status": "DONE",
+			"method": "card",
+			"totalAmount": 15000,
+			"partialCancelable": true,
+			"metadata": {"status": "ignored", "nested": [{"totalAmount": 1}, [2, 3], null]},
+			"cancels": [{"cancelAmount": 5000, "cancelReason": "changed mind"}],
+			"card": {"company": {"code": "71"}, "issuerCode": "61", "installments": [1, 2, 3]}
+		}
+		""";
+
+	/**
+	 * Tests that the projected fields are bound, including nested ones and the ones of super interfaces.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void projectedFieldsTest() throws Exception {
+		PaymentStatus status = OBJECT_MAPPER.readerFor(PaymentStatus.class).readValue(PAYMENT);
+
+		assertEquals("payment_key", status.getPaymentKey());
+		assertEquals("DONE", status.getStatus());
+		assertEquals("card", status.method());
+		assertEquals(15000, status.getTotalAmount());
+		assertTrue(status.isPartialCancelable());
+		assertEquals("61", status.getIssuerCode());
+		assertEquals(List.of(1, 2, 3), status.getInstallments());
+		assertEquals("DONE by card", status.describe());
+	}
+
+	/**
+	 * Tests that missing and null fields read as null, or the default value of primitive types.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void missingAndNullFieldsTest() throws Exception {
+		PaymentStatus empty = OBJECT_MAPPER.readerFor(PaymentStatus.class).readValue("{\"card\": \"none\"}");
+		PaymentStatus nulls = OBJECT_MAPPER.readerFor(PaymentStatus.class)
+			.readValue("{\"status\": null, \"totalAmount\": null, \"card\": {\"issuerCode\": null}}");
+
+		assertNull(empty.getStatus());
+		assertEquals(0, empty.getTotalAmount());
+		assertFalse(empty.isPartialCancelable());
+		assertNull(empty.getIssuerCode());
+		assertNull(nulls.getStatus());
+		assertEquals(0, nulls.getTotalAmount());
+		assertNull(nulls.getIssuerCode());
+	}
+
+	/**
+	 * Tests that projections of equal values are equal, and are described by their paths and values.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void objectMethodsTest() throws Exception {
+		Amount amount = OBJECT_MAPPER.readerFor(Amount.class).readValue("{\"totalAmount\": 15000}");
+		Amount same = OBJECT_MAPPER.readerFor(Amount.class).readValue("{\"totalAmount\": 15000, \"status\": \"DONE\"}");
+		Amount other = OBJECT_MAPPER.readerFor(Amount.class).readValue("{\"totalAmount\": 10000}");
+
+		assertEquals(amount, same);
+		assertEquals(amount.hashCode(), same.hashCode());
+		assertNotEquals(amount, other);
+		assertNotEquals(amount, null);
+		assertNotEquals(amount, "15000");
+		assertEquals("Amount{totalAmount=15000}", amount.toString());
+	}
+
+	/**
+	 * Tests that a projection is read from an object only.
+	 */
+	@Test
+	void notAnObjectTest() {
+		assertThrows(
+			MismatchedInputException.class,
+			() -> OBJECT_MAPPER.readerFor(Amount.class).readValue("[15000]")
+		);
+	}
+
+	/**
+	 * Tests that projections that are not interfaces or hold invalid methods or paths are rejected.
+	 */
+	@Test
+	void invalidProjectionTest() {
+		for (Class<?> invalid : List.of(
+			NotAnInterface.class,
+			WithParameters.class,
+			DuplicatedPath.class,
+			PathInsideField.class
+		)) {
+			assertThrows(
+				InvalidDefinitionException.class,
+				() -> OBJECT_MAPPER.readerFor(invalid).readValue(PAYMENT),
+				invalid.getSimpleName()
+			);
+		}
+	}
+
+	/**
+	 * Tests that projections can be nested in other response types.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void nestedProjectionTest() throws Exception {
+		Map<String, Amount> amounts = OBJECT_MAPPER.readerFor(OBJECT_MAPPER.getTypeFactory()
+				.constructMapType(Map.class, String.class, Amount.class))
+			.readValue("{\"first\": {\"totalAmount\": 1}, \"second\": {\"totalAmount\": 2}}");
+
+		assertEquals(1, amounts.get("first").getTotalAmount());
+		assertEquals(2, amounts.get("second").getTotalAmount());
+	}
+
+	/**
+	 * Projection of the key of a payment.
+	 */
+	interface Keyed {
+
+		/**
+		 * Returns the payment key.
+		 * @return the payment key.
+		 */
+		String getPaymentKey();
+	}
+
+	/**
+	 * Projection of the status of a payment.
+	 */
+	@Projection
+	interface PaymentStatus extends Keyed {
+
+		/**
+		 * Returns the status.
+		 * @return the status.
+		 */
+		String getStatus();
+
+		/**
+		 * Returns the method.
+		 * @return the method.
+		 */
+		String method();
+
+		/**
+		 * Returns the total amount.
+		 * @return the total amount.
+		 */
+		long getTotalAmount();
+
+		/**
+		 * Returns whether the payment can be partially cancelled.
+		 * @return whether the payment can be partially cancelled.
+		 */
+		boolean isPartialCancelable();
+
+		/**
+		 * Returns the issuer code of the card.
+		 * @return the issuer code.
+		 */
+		@ProjectedPath("card.issuerCode")
+		String getIssuerCode();
+
+		/**
+		 * Returns the installment plans of the card.
+		 * @return the installment plans.
+		 */
+		@ProjectedPath("card.installments")
+		List<Integer> getInstallments();
+
+		/**
+		 * Describes the payment.
+		 * @return the description.
+		 */
+		default String describe() {
+			return getStatus() + " by " + method();
+		}
+
+		/**
+		 * Creates an empty status, not projected.
+		 * @return null.
+		 */
+		static PaymentStatus none() {
+			return null;
+		}
+	}
+
+	/**
+	 * Projection of the amount of a payment.
+	 */
+	@Projection
+	interface Amount {
+
+		/**
+		 * Returns the total amount.
+		 * @return the total amount.
+		 */
+		long getTotalAmount();
+	}
+
+	/**
+	 * Projection that is not an interface.
+	 */
+	@Projection
+	abstract static class NotAnInterface {
+	}
+
+	/**
+	 * Projection with a method taking parameters.
+	 */
+	@Projection
+	interface WithParameters {
+
+		/**
+		 * Returns the status.
+		 * @param defaultStatus the default status.
+		 * @return the status.
+		 */
+		String getStatus(String defaultStatus);
+	}
+
+	/**
+	 * Projection reading the same path twice.
+	 */
+	@Projection
+	interface DuplicatedPath {
+
+		/**
+		 * Returns the status.
+		 * @return the status.
+		 */
+		String getStatus();
+
+		/**
+		 * Returns the status again.
+		 * @return the status.
+		 */
+		@ProjectedPath("status")
+		String status();
+	}
+
+	/**
+	 * Projection reading a path inside a projected field.
+	 */
+	@Projection
+	interface PathInsideField {
+
+		/**
+		 * Returns the issuer code of the card.
+		 * @return the issuer code.
+		 */
+		@ProjectedPath("card.issuerCode")
+		String getIssuerCode();
+
+		/**
+		 * Returns the card.
+		 * @return the card.
+		 */
+		Map<String, Object> getCard();
+	}
+
+}
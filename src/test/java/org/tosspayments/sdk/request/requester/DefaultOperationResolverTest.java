@@ -0,0 +1,43 @@
+package org.tosspayments.sdk.request.requester;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link DefaultOperationResolver}.
+ */
+class DefaultOperationResolverTest {
+
+	private final DefaultOperationResolver resolver = new DefaultOperationResolver();
+
+	/**
+	 * Tests that confirmations and cancellations are resolved by their path suffix.
+	 */
+	@Test
+	void confirmAndCancelTest() {
+		assertEquals("confirm", resolver.resolve("POST", "/payments/confirm"));
+		assertEquals("cancel", resolver.resolve("POST", "/payments/payment_key/cancel"));
+		assertEquals("cancel", resolver.resolve("POST", "/payments/payment_key/cancel?debug=true"));
+	}
+
+	/**
+	 * Tests that GET requests are resolved as lookups.
+	 */
+	@Test
+	void lookupTest() {
+		assertEquals("lookup", resolver.resolve("GET", "/payments/payment_key"));
+		assertEquals("lookup", resolver.resolve("GET", "/payments/orders/order_id?limit=1"));
+	}
+
+	/**
+	 * Tests that other POST requests are resolved by the first segment of their path.
+	 */
+	@Test
+	void otherPostTest() {
+		assertEquals("billing", resolver.resolve("POST", "/billing/billing_key"));
+		assertEquals("billing", resolver.resolve("POST", "billing/billing_key"));
+		assertEquals("virtual-accounts", resolver.resolve("POST", "/virtual-accounts"));
+	}
+
+}
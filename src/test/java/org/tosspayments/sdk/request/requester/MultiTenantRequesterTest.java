@@ -0,0 +1,134 @@
+package org.tosspayments.sdk.request.requester;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatcher;
+import org.tosspayments.sdk.authorization.TossPaymentsAuthentication;
+
+/**
+ * Tests for {@link MultiTenantRequester}.
+ */
+class MultiTenantRequesterTest {
+
+	private static final String URL = "/payments/key";
+
+	private Requester delegate;
+
+	private MultiTenantRequester multiTenantRequester;
+
+	/**
+	 * Initializes the shared requester before each test.
+	 */
+	@BeforeEach
+	void setUp() {
+		delegate = mock(Requester.class);
+		multiTenantRequester = new MultiTenantRequester(delegate);
+	}
+
+	/**
+	 * Tests that the maximum number of tenants is validated.
+	 */
+	@Test
+	void maxTenantsValidationTest() {
+		assertThrows(IllegalArgumentException.class, () -> new MultiTenantRequester(delegate, 0));
+	}
+
+	/**
+	 * Tests that the secret key of a tenant is validated.
+	 */
+	@Test
+	void secretKeyValidationTest() {
+		assertThrows(IllegalArgumentException.class, () -> multiTenantRequester.forTenant((String) null));
+		assertThrows(IllegalArgumentException.class, () -> multiTenantRequester.forTenant(""));
+	}
+
+	/**
+	 * Tests that the view of a tenant is cached by secret key.
+	 */
+	@Test
+	void tenantIsCachedTest() {
+		Requester tenant = multiTenantRequester.forTenant("secret_a");
+
+		assertSame(tenant, multiTenantRequester.forTenant("secret_a"));
+		assertNotSame(tenant, multiTenantRequester.forTenant("secret_b"));
+		assertEquals(2, multiTenantRequester.getTenantCount());
+		assertSame(delegate, multiTenantRequester.getRequester());
+	}
+
+	/**
+	 * Tests that the oldest view not returned since it was cached is evicted when the cache is full.
+	 */
+	@Test
+	void tenantCacheIsBoundedTest() {
+		MultiTenantRequester bounded = new MultiTenantRequester(delegate, 2);
+
+		Requester tenantA = bounded.forTenant("secret_a");
+		Requester tenantB = bounded.forTenant("secret_b");
+		assertSame(tenantA, bounded.forTenant("secret_a"));
+
+		bounded.forTenant("secret_c");
+		assertEquals(2, bounded.getTenantCount());
+		assertSame(tenantA, bounded.forTenant("secret_a"));
+		assertNotSame(tenantB, bounded.forTenant("secret_b"));
+		assertEquals(2, bounded.getTenantCount());
+	}
+
+	/**
+	 * Tests that every call of a tenant is sent with its credential.
+	 */
+	@Test
+	void callsCarryCredentialTest() {
+		Requester tenant = multiTenantRequester.forTenant("secret_a");
+		Object body = new Object();
+		RequestOptions options = RequestOptions.defaults().withIdempotencyKey("key");
+
+		tenant.get(URL, Object.class);
+		tenant.getAsync(URL, Object.class);
+		tenant.get(URL, Object.class, options);
+		tenant.getAsync(URL, Object.class, options);
+		tenant.post(URL, body, Object.class);
+		tenant.postAsync(URL, body, Object.class);
+		tenant.post(URL, body, Object.class, options);
+		tenant.postAsync(URL, body, Object.class, options);
+
+		verify(delegate, times(2)).get(eq(URL), eq(Object.class), argThat(carries("secret_a")));
+		verify(delegate, times(2)).getAsync(eq(URL), eq(Object.class), argThat(carries("secret_a")));
+		verify(delegate, times(2)).post(eq(URL), same(body), eq(Object.class), argThat(carries("secret_a")));
+		verify(delegate, times(2)).postAsync(eq(URL), same(body), eq(Object.class), argThat(carries("secret_a")));
+		verify(delegate).get(eq(URL), eq(Object.class), argThat(option -> "key".equals(option.getIdempotencyKey())));
+		verify(delegate).postAsync(eq(URL), same(body), eq(Object.class),
+			argThat(option -> "key".equals(option.getIdempotencyKey())));
+	}
+
+	/**
+	 * Tests that a credential set in the options of a call is replaced by the credential of the tenant.
+	 */
+	@Test
+	void credentialIsReplacedTest() {
+		when(delegate.getAsync(eq(URL), eq(Object.class), any(RequestOptions.class)))
+			.thenReturn(CompletableFuture.completedFuture("response"));
+		Requester tenant = multiTenantRequester.forTenant(new TossPaymentsAuthentication("secret_a"));
+		RequestOptions options = RequestOptions.defaults()
+			.withAuthentication(new TossPaymentsAuthentication("secret_b"));
+
+		assertEquals("response", tenant.getAsync(URL, Object.class, options).join());
+		verify(delegate).getAsync(eq(URL), eq(Object.class), argThat(carries("secret_a")));
+		assertEquals(0, multiTenantRequester.getTenantCount());
+	}
+
+	/**
+	 * Returns a matcher of the options carrying the credential of a secret key.
+	 * @param secretKey the secret key.
+	 * @return the matcher.
+	 */
+	private static ArgumentMatcher<RequestOptions> carries(String secretKey) {
+		return options -> new TossPaymentsAuthentication(secretKey).equals(options.getAuthentication());
+	}
+
+}
@@ -0,0 +1,120 @@
+package org.tosspayments.sdk.request.requester;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.tosspayments.sdk.authorization.TossPaymentsAuthentication;
+import org.tosspayments.sdk.request.requester.tracing.TraceSpan;
+
+/**
+ * Tests for {@link RequestOptions}.
+ */
+class RequestOptionsTest {
+
+	/**
+	 * Tests that the default options have no deadline.
+	 */
+	@Test
+	void defaultsHaveNoDeadlineTest() {
+		RequestOptions options = RequestOptions.defaults();
+
+		assertNull(options.getDeadline());
+		assertEquals(Long.MAX_VALUE, options.remainingNanos());
+		assertFalse(options.isExpired());
+	}
+
+	/**
+	 * Tests that a timeout sets a deadline that far from now.
+	 */
+	@Test
+	void withTimeoutTest() {
+		RequestOptions options = RequestOptions.defaults().withTimeout(Duration.ofSeconds(10));
+
+		assertTrue(options.remainingNanos() > Duration.ofSeconds(9).toNanos());
+		assertTrue(options.remainingNanos() <= Duration.ofSeconds(10).toNanos());
+		assertFalse(options.isExpired());
+	}
+
+	/**
+	 * Tests that options whose deadline has passed are expired.
+	 */
+	@Test
+	void expiredTest() {
+		RequestOptions options = RequestOptions.defaults().withDeadline(Instant.now().minusSeconds(1));
+
+		assertTrue(options.remainingNanos() < 0);
+		assertTrue(options.isExpired());
+	}
+
+	/**
+	 * Tests that each option is kept when the others are set.
+	 */
+	@Test
+	void optionsAreKeptTest() {
+		Instant deadline = Instant.now().plusSeconds(10);
+		TraceSpan span = mock(TraceSpan.class);
+		TossPaymentsAuthentication authentication = new TossPaymentsAuthentication("secret");
+		assertNull(RequestOptions.defaults().getSubmittedAt());
+		assertNull(RequestOptions.defaults().getTraceSpan());
+		assertNull(RequestOptions.defaults().getAuthentication());
+
+		RequestOptions options = RequestOptions.defaults()
+			.withAuthentication(authentication)
+			.withTraceSpan(span)
+			.withSubmittedAt(42)
+			.withDeadline(deadline)
+			.withIdempotencyKey("key");
+		assertEquals(deadline, options.getDeadline());
+		assertEquals("key", options.getIdempotencyKey());
+		assertEquals(42, options.getSubmittedAt());
+		assertSame(span, options.getTraceSpan());
+		assertSame(authentication, options.getAuthentication());
+
+		options = RequestOptions.defaults()
+			.withIdempotencyKey("key")
+			.withDeadline(deadline)
+			.withSubmittedAt(42)
+			.withTraceSpan(span)
+			.withAuthentication(authentication);
+		assertEquals(deadline, options.getDeadline());
+		assertEquals("key", options.getIdempotencyKey());
+		assertEquals(42, options.getSubmittedAt());
+		assertSame(span, options.getTraceSpan());
+		assertSame(authentication, options.getAuthentication());
+	}
+
+	/**
+	 * Tests that the options of a shared request keep the submission time, span and credential of the call only.
+	 */
+	@Test
+	void forSharedRequestTest() {
+		TraceSpan span = mock(TraceSpan.class);
+		TossPaymentsAuthentication authentication = new TossPaymentsAuthentication("secret");
+		RequestOptions callOnly = RequestOptions.defaults()
+			.withIdempotencyKey("key")
+			.withTimeout(Duration.ofSeconds(1));
+		assertSame(RequestOptions.defaults(), callOnly.forSharedRequest());
+
+		RequestOptions shared = callOnly.withSubmittedAt(42).forSharedRequest();
+		assertEquals(42, shared.getSubmittedAt());
+		assertNull(shared.getDeadline());
+		assertNull(shared.getIdempotencyKey());
+		assertSame(span, callOnly.withTraceSpan(span).forSharedRequest().getTraceSpan());
+		assertSame(authentication,
+			callOnly.withAuthentication(authentication).forSharedRequest().getAuthentication());
+	}
+
+	/**
+	 * Tests that the time left saturates for deadlines too far to count in nanoseconds.
+	 */
+	@Test
+	void remainingSaturatesTest() {
+		assertEquals(Long.MAX_VALUE, RequestOptions.defaults().withDeadline(Instant.MAX).remainingNanos());
+		assertEquals(Long.MIN_VALUE, RequestOptions.defaults().withDeadline(Instant.MIN).remainingNanos());
+	}
+
+}
@@ -0,0 +1,223 @@
+package org.tosspayments.sdk.request.requester;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Field;
+
+import org.junit.jupiter.api.Test;
+import org.tosspayments.sdk.request.idempotency.RandomIdempotencyKeyProvider;
+import org.tosspayments.sdk.request.requester.cache.CacheConfig;
+import org.tosspayments.sdk.request.requester.cache.CachingRequester;
+import org.tosspayments.sdk.request.requester.circuitbreaker.CircuitBreakerConfig;
+import org.tosspayments.sdk.request.requester.circuitbreaker.CircuitBreakerRequester;
+import org.tosspayments.sdk.request.requester.coalescing.CoalescingRequester;
+import org.tosspayments.sdk.request.requester.concurrency.ConcurrencyLimitConfig;
+import org.tosspayments.sdk.request.requester.concurrency.ConcurrencyLimitRequester;
+import org.tosspayments.sdk.request.requester.hedging.HedgingPolicy;
+import org.tosspayments.sdk.request.requester.hedging.HedgingRequester;
+import org.tosspayments.sdk.request.requester.httpclient.HttpClientRequester;
+import org.tosspayments.sdk.request.requester.httpclient.HttpTransportConfig;
+import org.tosspayments.sdk.request.requester.httpclient.JsonBinding;
+import org.tosspayments.sdk.request.requester.metrics.MetricsRequester;
+import org.tosspayments.sdk.request.requester.metrics.RequestMetrics;
+import org.tosspayments.sdk.request.requester.ratelimit.RateLimitConfig;
+import org.tosspayments.sdk.request.requester.ratelimit.RateLimitRequester;
+import org.tosspayments.sdk.request.requester.retry.RetryPolicy;
+import org.tosspayments.sdk.request.requester.retry.RetryRequester;
+import org.tosspayments.sdk.request.requester.tracing.RequestTracer;
+import org.tosspayments.sdk.request.requester.tracing.TracingRequester;
+import org.tosspayments.sdk.util.toss.TossTestInform;
+
+/**
+ * Tests for {@link RequesterBuilder}.
+ */
+class RequesterBuilderTest {
+
+	/**
+	 * Tests that the default requester is built when no custom requester is set.
+	 */
+	@Test
+	void buildDefaultRequesterTest() {
+		Requester requester = new RequesterBuilder(TossTestInform.ENDPOINT, TossTestInform.getSecret())
+			.withIdempotencyKeyProvider(new RandomIdempotencyKeyProvider())
+			.build();
+
+		assertInstanceOf(HttpClientRequester.class, requester);
+	}
+
+	/**
+	 * Tests that requesters built with the same transport configuration share one HttpClient.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void sharedTransportConfigTest() throws Exception {
+		HttpTransportConfig transportConfig = HttpTransportConfig.builder().build();
+
+		Requester first = new RequesterBuilder(TossTestInform.ENDPOINT, TossTestInform.getSecret())
+			.withTransportConfig(transportConfig)
+			.build();
+		Requester second = new RequesterBuilder(TossTestInform.ENDPOINT, "other_secret")
+			.withTransportConfig(transportConfig)
+			.build();
+
+		Field httpClientField = HttpClientRequester.class.getDeclaredField("httpClient");
+		httpClientField.setAccessible(true);
+		assertSame(transportConfig.getHttpClient(), httpClientField.get(first));
+		assertSame(transportConfig.getHttpClient(), httpClientField.get(second));
+	}
+
+	/**
+	 * Tests that requesters share the JSON codec of their binding.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void sharedJsonCodecTest() throws Exception {
+		Requester reflection = new RequesterBuilder(TossTestInform.ENDPOINT, TossTestInform.getSecret()).build();
+		Requester first = new RequesterBuilder(TossTestInform.ENDPOINT, TossTestInform.getSecret())
+			.withJsonBinding(JsonBinding.STREAMING)
+			.build();
+		Requester second = new RequesterBuilder(TossTestInform.ENDPOINT, "other_secret")
+			.withJsonBinding(JsonBinding.STREAMING)
+			.build();
+
+		Field codecField = HttpClientRequester.class.getDeclaredField("codec");
+		codecField.setAccessible(true);
+		assertSame(codecField.get(first), codecField.get(second));
+		assertNotSame(codecField.get(reflection), codecField.get(first));
+	}
+
+	/**
+	 * Tests that the requester is decorated with the retry policy.
+	 */
+	@Test
+	void buildRetryRequesterTest() {
+		Requester requester = new RequesterBuilder(TossTestInform.ENDPOINT, TossTestInform.getSecret())
+			.withRetryPolicy(RetryPolicy.builder().build())
+			.build();
+
+		assertInstanceOf(RetryRequester.class, requester);
+	}
+
+	/**
+	 * Tests that the decorators are layered from the transport outwards:
+	 * concurrency limit, circuit breakers, rate limits, hedging and retries.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void buildDecoratorOrderTest() throws Exception {
+		Requester requester = new RequesterBuilder(TossTestInform.ENDPOINT, TossTestInform.getSecret())
+			.withConcurrencyLimitConfig(ConcurrencyLimitConfig.builder().build())
+			.withCircuitBreakerConfig(CircuitBreakerConfig.builder().build())
+			.withRateLimitConfig(RateLimitConfig.builder().build())
+			.withHedgingPolicy(HedgingPolicy.builder().build())
+			.withRetryPolicy(RetryPolicy.builder().build())
+			.withRequestCoalescing(true)
+			.withCacheConfig(CacheConfig.builder().build())
+			.build();
+
+		assertInstanceOf(CachingRequester.class, requester);
+		Object coalescingRequester = getDelegate(CachingRequester.class, requester);
+		assertInstanceOf(CoalescingRequester.class, coalescingRequester);
+		Object retryRequester = getDelegate(CoalescingRequester.class, coalescingRequester);
+		assertInstanceOf(RetryRequester.class, retryRequester);
+		Object hedgingRequester = getDelegate(RetryRequester.class, retryRequester);
+		assertInstanceOf(HedgingRequester.class, hedgingRequester);
+		Object rateLimitRequester = getDelegate(HedgingRequester.class, hedgingRequester);
+		assertInstanceOf(RateLimitRequester.class, rateLimitRequester);
+		Object circuitBreakerRequester = getDelegate(RateLimitRequester.class, rateLimitRequester);
+		assertInstanceOf(CircuitBreakerRequester.class, circuitBreakerRequester);
+		assertInstanceOf(
+			ConcurrencyLimitRequester.class,
+			getDelegate(CircuitBreakerRequester.class, circuitBreakerRequester)
+		);
+	}
+
+	/**
+	 * Tests that the submission time is recorded outside the cache, and that the listener is passed
+	 * to the default requester.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void buildMetricsRequesterTest() throws Exception {
+		RequestMetrics metrics = new RequestMetrics();
+
+		Requester requester = new RequesterBuilder(TossTestInform.ENDPOINT, TossTestInform.getSecret())
+			.withCacheConfig(CacheConfig.builder().build())
+			.withMetricsListener(metrics)
+			.build();
+
+		assertInstanceOf(MetricsRequester.class, requester);
+		Object cachingRequester = getDelegate(MetricsRequester.class, requester);
+		assertInstanceOf(CachingRequester.class, cachingRequester);
+		Object httpClientRequester = getDelegate(CachingRequester.class, cachingRequester);
+		Field listenerField = HttpClientRequester.class.getDeclaredField("metricsListener");
+		listenerField.setAccessible(true);
+		assertSame(metrics, listenerField.get(httpClientRequester));
+	}
+
+	/**
+	 * Tests that calls are traced outermost, outside the recording of their submission time.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void buildTracingRequesterTest() throws Exception {
+		Requester requester = new RequesterBuilder(TossTestInform.ENDPOINT, TossTestInform.getSecret())
+			.withMetricsListener(new RequestMetrics())
+			.withTracer(mock(RequestTracer.class))
+			.build();
+
+		assertInstanceOf(TracingRequester.class, requester);
+		assertInstanceOf(MetricsRequester.class, getDelegate(TracingRequester.class, requester));
+	}
+
+	/**
+	 * Tests that a requester built without a secret key is shared by the tenants of a multi-tenant requester.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void buildMultiTenantTest() throws Exception {
+		MultiTenantRequester requester = new RequesterBuilder(TossTestInform.ENDPOINT)
+			.withRequestCoalescing(true)
+			.buildMultiTenant();
+
+		assertInstanceOf(CoalescingRequester.class, requester.getRequester());
+		assertInstanceOf(HttpClientRequester.class, getDelegate(CoalescingRequester.class, requester.getRequester()));
+		assertNotNull(requester.forTenant(TossTestInform.getSecret()));
+	}
+
+	/**
+	 * Tests that the custom requester is returned when set.
+	 */
+	@Test
+	void buildCustomRequesterTest() {
+		Requester customRequester = mock(Requester.class);
+
+		Requester requester = new RequesterBuilder(TossTestInform.ENDPOINT, TossTestInform.getSecret())
+			.withRequester(customRequester)
+			.build();
+
+		assertSame(customRequester, requester);
+	}
+
+	/**
+	 * Returns the requester decorated by a decorator.
+	 * @param decoratorType the class of the decorator.
+	 * @param decorator the decorator.
+	 * @return the decorated requester.
+	 * @throws Exception if the field cannot be read.
+	 */
+	private static Object getDelegate(Class<?> decoratorType, Object decorator) throws Exception {
+		Field delegateField = decoratorType.getDeclaredField("delegate");
+		delegateField.setAccessible(true);
+
+		return delegateField.get(decorator);
+	}
+
+}
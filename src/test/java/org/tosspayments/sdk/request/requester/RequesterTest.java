@@ -0,0 +1,75 @@
+package org.tosspayments.sdk.request.requester;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Test;
+import org.tosspayments.sdk.authorization.TossPaymentsAuthentication;
+
+/**
+ * Tests for the default methods of {@link Requester}.
+ */
+class RequesterTest {
+
+	private static final String TEST_PATH = "/payments/test";
+
+	/**
+	 * Tests that requesters not supporting options ignore them.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void optionsIgnoredByDefaultTest() throws Exception {
+		Requester requester = mock(Requester.class);
+		RequestOptions options = RequestOptions.defaults().withIdempotencyKey("key");
+		when(requester.post(TEST_PATH, Map.of(), String.class)).thenReturn("ok");
+		when(requester.postAsync(TEST_PATH, Map.of(), String.class))
+			.thenReturn(CompletableFuture.completedFuture("ok"));
+		when(requester.get(TEST_PATH, String.class)).thenReturn("ok");
+		when(requester.getAsync(TEST_PATH, String.class)).thenReturn(CompletableFuture.completedFuture("ok"));
+		when(requester.post(any(), any(), any(), any(RequestOptions.class))).thenCallRealMethod();
+		when(requester.postAsync(any(), any(), any(), any(RequestOptions.class))).thenCallRealMethod();
+		when(requester.get(any(), any(), nullable(RequestOptions.class))).thenCallRealMethod();
+		when(requester.getAsync(any(), any(), any(RequestOptions.class))).thenCallRealMethod();
+
+		assertEquals("ok", requester.post(TEST_PATH, Map.of(), String.class, options));
+		assertEquals("ok", requester.postAsync(TEST_PATH, Map.of(), String.class, options).get());
+		assertEquals("ok", requester.get(TEST_PATH, String.class, options));
+		assertEquals("ok", requester.getAsync(TEST_PATH, String.class, options).get());
+		assertEquals("ok", requester.get(TEST_PATH, String.class, null));
+	}
+
+	/**
+	 * Tests that requesters not supporting options fail requests carrying a credential, instead of dropping it.
+	 */
+	@Test
+	void credentialNotDroppedByDefaultTest() {
+		Requester requester = mock(Requester.class);
+		RequestOptions options = RequestOptions.defaults().withAuthentication(new TossPaymentsAuthentication("secret"));
+		when(requester.post(any(), any(), any(), any(RequestOptions.class))).thenCallRealMethod();
+		when(requester.postAsync(any(), any(), any(), any(RequestOptions.class))).thenCallRealMethod();
+		when(requester.get(any(), any(), any(RequestOptions.class))).thenCallRealMethod();
+		when(requester.getAsync(any(), any(), any(RequestOptions.class))).thenCallRealMethod();
+
+		assertThrows(UnsupportedOperationException.class,
+			() -> requester.post(TEST_PATH, Map.of(), String.class, options));
+		ExecutionException postFailure = assertThrows(ExecutionException.class,
+			() -> requester.postAsync(TEST_PATH, Map.of(), String.class, options).get());
+		assertInstanceOf(UnsupportedOperationException.class, postFailure.getCause());
+		assertThrows(UnsupportedOperationException.class, () -> requester.get(TEST_PATH, String.class, options));
+		ExecutionException getFailure = assertThrows(ExecutionException.class,
+			() -> requester.getAsync(TEST_PATH, String.class, options).get());
+		assertInstanceOf(UnsupportedOperationException.class, getFailure.getCause());
+		verify(requester, never()).post(any(), any(), any());
+		verify(requester, never()).postAsync(any(), any(), any());
+		verify(requester, never()).get(any(), any());
+		verify(requester, never()).getAsync(any(), any());
+	}
+
+}
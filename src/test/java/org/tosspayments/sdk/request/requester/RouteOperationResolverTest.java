@@ -0,0 +1,33 @@
+package org.tosspayments.sdk.request.requester;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link RouteOperationResolver}.
+ */
+class RouteOperationResolverTest {
+
+	private final RouteOperationResolver resolver = new RouteOperationResolver();
+
+	/**
+	 * Tests that lookups of the same resource share a route, and lookups of different resources do not.
+	 */
+	@Test
+	void idSegmentTest() {
+		assertEquals("GET /payments/{id}", resolver.resolve("GET", "/payments/payment_key"));
+		assertEquals("GET /payments/{id}", resolver.resolve("GET", "/payments/other_key?debug=true"));
+		assertEquals("GET /payments/orders/{id}", resolver.resolve("GET", "/payments/orders/order_id"));
+	}
+
+	/**
+	 * Tests that paths of a single segment are kept as they are, without their query.
+	 */
+	@Test
+	void singleSegmentTest() {
+		assertEquals("GET /transactions", resolver.resolve("GET", "/transactions?startDate=2024-01-01"));
+		assertEquals("POST billing", resolver.resolve("POST", "billing"));
+	}
+
+}
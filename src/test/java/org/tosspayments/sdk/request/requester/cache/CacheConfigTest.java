@@ -0,0 +1,69 @@
+package org.tosspayments.sdk.request.requester.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.function.ToLongFunction;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CacheConfig}.
+ */
+class CacheConfigTest {
+
+	/**
+	 * Tests the default settings.
+	 */
+	@Test
+	void defaultsTest() {
+		CacheConfig config = CacheConfig.builder().build();
+
+		assertEquals(CacheConfig.DEFAULT_TTL, config.getDefaultTtl());
+		assertEquals(CacheConfig.DEFAULT_TTL, config.getTtl("/v1/payments/key"));
+		assertEquals(Duration.ZERO, config.getStaleWhileRevalidate());
+		assertEquals(CacheConfig.DEFAULT_MAX_ENTRIES, config.getMaxEntries());
+		assertEquals(Long.MAX_VALUE, config.getMaxBytes());
+		assertNull(config.getSizeEstimator());
+	}
+
+	/**
+	 * Tests the custom settings.
+	 */
+	@Test
+	void customSettingsTest() {
+		ToLongFunction<Object> sizeEstimator = response -> 100;
+
+		CacheConfig config = CacheConfig.builder()
+			.withDefaultTtl(Duration.ZERO)
+			.withStaleWhileRevalidate(Duration.ofSeconds(30))
+			.withMaxEntries(10)
+			.withMaxBytes(1000, sizeEstimator)
+			.build();
+
+		assertEquals(Duration.ZERO, config.getDefaultTtl());
+		assertEquals(Duration.ofSeconds(30), config.getStaleWhileRevalidate());
+		assertEquals(10, config.getMaxEntries());
+		assertEquals(1000, config.getMaxBytes());
+		assertSame(sizeEstimator, config.getSizeEstimator());
+	}
+
+	/**
+	 * Tests that the rule of the longest matching prefix applies.
+	 */
+	@Test
+	void longestPrefixRuleTest() {
+		CacheConfig config = CacheConfig.builder()
+			.withDefaultTtl(Duration.ofSeconds(1))
+			.withTtl("/v1/payments/", Duration.ofSeconds(10))
+			.withTtl("/v1/payments/orders/", Duration.ofSeconds(20))
+			.withTtl("/v1/", Duration.ofSeconds(5))
+			.build();
+
+		assertEquals(Duration.ofSeconds(10), config.getTtl("/v1/payments/key"));
+		assertEquals(Duration.ofSeconds(20), config.getTtl("/v1/payments/orders/order-1"));
+		assertEquals(Duration.ofSeconds(5), config.getTtl("/v1/settlements"));
+		assertEquals(Duration.ofSeconds(1), config.getTtl("/v2/payments/key"));
+	}
+
+}
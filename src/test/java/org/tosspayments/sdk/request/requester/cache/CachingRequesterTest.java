@@ -0,0 +1,364 @@
+package org.tosspayments.sdk.request.requester.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.tosspayments.sdk.authorization.TossPaymentsAuthentication;
+import org.tosspayments.sdk.exception.TossApiException;
+import org.tosspayments.sdk.request.requester.RequestOptions;
+import org.tosspayments.sdk.request.requester.Requester;
+import org.tosspayments.sdk.request.requester.tracing.TraceSpan;
+
+/**
+ * Tests for {@link CachingRequester}.
+ */
+class CachingRequesterTest {
+
+	private static final String TEST_PATH = "/v1/payments/payment_key";
+
+	private static final String UNCACHED_PATH = "/v1/settlements";
+
+	private Requester delegate;
+
+	private AtomicLong clock;
+
+	private CachingRequester requester;
+
+	/**
+	 * Creates a requester caching payments for 10 seconds, stale for 20 more seconds, on a manual clock.
+	 */
+	@BeforeEach
+	void setUp() {
+		delegate = mock(Requester.class);
+		clock = new AtomicLong();
+		requester = new CachingRequester(delegate, CacheConfig.builder()
+			.withDefaultTtl(Duration.ZERO)
+			.withTtl("/v1/payments/", Duration.ofSeconds(10))
+			.withStaleWhileRevalidate(Duration.ofSeconds(20))
+			.build(), clock::get);
+	}
+
+	/**
+	 * Tests that a synchronous GET response is cached until it expires past its stale window.
+	 */
+	@Test
+	void syncHitAndMissTest() {
+		when(delegate.get(TEST_PATH, String.class)).thenReturn("first").thenReturn("second");
+
+		assertEquals("first", requester.get(TEST_PATH, String.class));
+		assertEquals("first", requester.get(TEST_PATH, String.class));
+		clock.set(Duration.ofSeconds(30).toNanos());
+		assertEquals("second", requester.get(TEST_PATH, String.class));
+
+		assertEquals(1, requester.getHits());
+		assertEquals(2, requester.getMisses());
+		verify(delegate, times(2)).get(TEST_PATH, String.class);
+	}
+
+	/**
+	 * Tests that responses are cached by response type as well as path.
+	 */
+	@Test
+	void keyedByResponseTypeTest() {
+		when(delegate.get(TEST_PATH, String.class)).thenReturn("string");
+		when(delegate.get(TEST_PATH, Object.class)).thenReturn("object");
+
+		assertEquals("string", requester.get(TEST_PATH, String.class));
+		assertEquals("object", requester.get(TEST_PATH, Object.class));
+
+		assertEquals(2, requester.getSize());
+		assertEquals(2, requester.getMisses());
+	}
+
+	/**
+	 * Tests that an asynchronous GET response is cached once it completes, and failures are not.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void asyncHitAndFailureTest() throws Exception {
+		when(delegate.getAsync(TEST_PATH, String.class))
+			.thenReturn(CompletableFuture.failedFuture(new TossApiException(500)))
+			.thenReturn(CompletableFuture.completedFuture("ok"));
+
+		assertThrows(Exception.class, () -> requester.getAsync(TEST_PATH, String.class).get());
+		assertEquals("ok", requester.getAsync(TEST_PATH, String.class).get());
+		assertEquals("ok", requester.getAsync(TEST_PATH, String.class).get());
+
+		assertEquals(1, requester.getHits());
+		assertEquals(2, requester.getMisses());
+	}
+
+	/**
+	 * Tests that GET requests with options are cached too, and sent with their options on a miss.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void optionsTest() throws Exception {
+		RequestOptions options = RequestOptions.defaults().withTimeout(Duration.ofMinutes(1));
+		when(delegate.get(TEST_PATH, String.class, options)).thenReturn("sync");
+		when(delegate.getAsync(TEST_PATH, Object.class, options))
+			.thenReturn(CompletableFuture.completedFuture("async"));
+
+		assertEquals("sync", requester.get(TEST_PATH, String.class, options));
+		assertEquals("sync", requester.getAsync(TEST_PATH, String.class, options).get());
+		assertEquals("async", requester.getAsync(TEST_PATH, Object.class, options).get());
+		assertEquals("async", requester.get(TEST_PATH, Object.class, options));
+
+		assertEquals(2, requester.getHits());
+	}
+
+	/**
+	 * Tests that responses are cached per credential, and refreshed in the background with their credential.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void keyedByCredentialTest() throws Exception {
+		RequestOptions tenantA = RequestOptions.defaults().withAuthentication(new TossPaymentsAuthentication("a"));
+		RequestOptions tenantB = RequestOptions.defaults().withAuthentication(new TossPaymentsAuthentication("b"));
+		when(delegate.get(TEST_PATH, String.class, tenantA)).thenReturn("a");
+		when(delegate.getAsync(TEST_PATH, String.class, tenantB)).thenReturn(CompletableFuture.completedFuture("b"));
+		when(delegate.getAsync(eq(TEST_PATH), eq(String.class), argThat(options -> options != tenantB
+			&& tenantA.getAuthentication().equals(options.getAuthentication()))))
+			.thenReturn(CompletableFuture.completedFuture("refreshed"));
+
+		assertEquals("a", requester.get(TEST_PATH, String.class, tenantA));
+		assertEquals("b", requester.getAsync(TEST_PATH, String.class, tenantB).get());
+		assertEquals("a", requester.get(TEST_PATH, String.class, tenantA));
+		assertEquals(2, requester.getSize());
+		assertEquals(1, requester.getHits());
+
+		clock.set(Duration.ofSeconds(15).toNanos());
+		assertEquals("a", requester.get(TEST_PATH, String.class, tenantA));
+		assertEquals("refreshed", requester.get(TEST_PATH, String.class, tenantA));
+		verify(delegate, never()).getAsync(TEST_PATH, String.class);
+	}
+
+	/**
+	 * Tests that paths with a zero time to live, and null responses, are never cached.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void uncachedTest() throws Exception {
+		when(delegate.get(UNCACHED_PATH, String.class)).thenReturn("sync");
+		when(delegate.getAsync(UNCACHED_PATH, String.class)).thenReturn(CompletableFuture.completedFuture("async"));
+
+		assertEquals("sync", requester.get(UNCACHED_PATH, String.class));
+		assertEquals("sync", requester.get(UNCACHED_PATH, String.class));
+		assertEquals("async", requester.getAsync(UNCACHED_PATH, String.class).get());
+		assertNull(requester.get(TEST_PATH, String.class));
+
+		assertEquals(0, requester.getSize());
+		assertEquals(0, requester.getHits());
+		assertEquals(1, requester.getMisses());
+	}
+
+	/**
+	 * Tests that an expired response is returned while a single background request refreshes it.
+	 */
+	@Test
+	void staleWhileRevalidateTest() {
+		CompletableFuture<String> refresh = new CompletableFuture<>();
+		when(delegate.get(TEST_PATH, String.class)).thenReturn("first");
+		when(delegate.getAsync(TEST_PATH, String.class)).thenReturn(refresh);
+
+		requester.get(TEST_PATH, String.class);
+		clock.set(Duration.ofSeconds(15).toNanos());
+		assertEquals("first", requester.get(TEST_PATH, String.class));
+		assertEquals("first", requester.getAsync(TEST_PATH, String.class).join());
+		verify(delegate, times(1)).getAsync(TEST_PATH, String.class);
+
+		refresh.complete("refreshed");
+		assertEquals("refreshed", requester.get(TEST_PATH, String.class));
+		clock.set(Duration.ofSeconds(24).toNanos());
+		assertEquals("refreshed", requester.get(TEST_PATH, String.class));
+
+		assertEquals(4, requester.getHits());
+		assertEquals(1, requester.getMisses());
+		verify(delegate, times(1)).get(TEST_PATH, String.class);
+	}
+
+	/**
+	 * Tests that a background refresh is sent with the span and submission time of the call finding the response
+	 * expired, without its deadline.
+	 */
+	@Test
+	void refreshCarriesCallOptionsTest() {
+		TraceSpan span = mock(TraceSpan.class);
+		RequestOptions options = RequestOptions.defaults()
+			.withTraceSpan(span)
+			.withSubmittedAt(42)
+			.withTimeout(Duration.ofMinutes(1));
+		when(delegate.get(TEST_PATH, String.class, options)).thenReturn("first");
+		when(delegate.getAsync(eq(TEST_PATH), eq(String.class), any(RequestOptions.class)))
+			.thenReturn(CompletableFuture.completedFuture("refreshed"));
+
+		requester.get(TEST_PATH, String.class, options);
+		clock.set(Duration.ofSeconds(15).toNanos());
+		assertEquals("first", requester.get(TEST_PATH, String.class, options));
+
+		ArgumentCaptor<RequestOptions> refresh = ArgumentCaptor.forClass(RequestOptions.class);
+		verify(delegate).getAsync(eq(TEST_PATH), eq(String.class), refresh.capture());
+		assertSame(span, refresh.getValue().getTraceSpan());
+		assertEquals(42, refresh.getValue().getSubmittedAt());
+		assertNull(refresh.getValue().getDeadline());
+		assertEquals("refreshed", requester.get(TEST_PATH, String.class));
+	}
+
+	/**
+	 * Tests that a failed refresh keeps the stale response and lets a later lookup refresh again.
+	 */
+	@Test
+	void failedRefreshTest() {
+		when(delegate.get(TEST_PATH, String.class)).thenReturn("first");
+		when(delegate.getAsync(TEST_PATH, String.class))
+			.thenReturn(CompletableFuture.failedFuture(new TossApiException(500)))
+			.thenThrow(new IllegalStateException("send"))
+			.thenReturn(CompletableFuture.completedFuture(null))
+			.thenReturn(CompletableFuture.completedFuture("refreshed"));
+
+		requester.get(TEST_PATH, String.class);
+		clock.set(Duration.ofSeconds(15).toNanos());
+		assertEquals("first", requester.get(TEST_PATH, String.class));
+		assertEquals("first", requester.get(TEST_PATH, String.class));
+		assertEquals("first", requester.get(TEST_PATH, String.class));
+		assertEquals("first", requester.get(TEST_PATH, String.class));
+		assertEquals("refreshed", requester.get(TEST_PATH, String.class));
+
+		verify(delegate, times(4)).getAsync(TEST_PATH, String.class);
+	}
+
+	/**
+	 * Tests that a refresh completing after the response was invalidated does not cache it again.
+	 */
+	@Test
+	void refreshAfterInvalidationTest() {
+		CompletableFuture<String> refresh = new CompletableFuture<>();
+		when(delegate.get(TEST_PATH, String.class)).thenReturn("first");
+		when(delegate.getAsync(TEST_PATH, String.class)).thenReturn(refresh);
+
+		requester.get(TEST_PATH, String.class);
+		clock.set(Duration.ofSeconds(15).toNanos());
+		requester.get(TEST_PATH, String.class);
+		assertTrue(requester.invalidate(TEST_PATH, String.class));
+		refresh.complete("refreshed");
+
+		assertEquals(0, requester.getSize());
+		assertFalse(requester.invalidate(TEST_PATH, String.class));
+	}
+
+	/**
+	 * Tests that a response requested before an invalidation and received after it is not cached,
+	 * synchronously and asynchronously.
+	 */
+	@Test
+	void missAfterInvalidationTest() {
+		CompletableFuture<String> inFlight = new CompletableFuture<>();
+		when(delegate.get(TEST_PATH, String.class)).thenAnswer(invocation -> {
+			requester.invalidate(TEST_PATH, String.class);
+			return "before invalidation";
+		}).thenReturn("after invalidation");
+		when(delegate.getAsync(TEST_PATH + "/async", String.class)).thenReturn(inFlight);
+
+		assertEquals("before invalidation", requester.get(TEST_PATH, String.class));
+		assertEquals("after invalidation", requester.get(TEST_PATH, String.class));
+		assertEquals("after invalidation", requester.get(TEST_PATH, String.class));
+
+		CompletableFuture<String> response = requester.getAsync(TEST_PATH + "/async", String.class);
+		requester.invalidateAll();
+		inFlight.complete("async");
+
+		assertEquals("async", response.join());
+		assertEquals(0, requester.getSize());
+		verify(delegate, times(2)).get(TEST_PATH, String.class);
+	}
+
+	/**
+	 * Tests the invalidation of the responses of a path and of all responses.
+	 */
+	@Test
+	void invalidateTest() {
+		when(delegate.get(TEST_PATH, String.class)).thenReturn("string");
+		when(delegate.get(TEST_PATH, Object.class)).thenReturn("object");
+		when(delegate.get(TEST_PATH + "/other", String.class)).thenReturn("other");
+
+		requester.get(TEST_PATH, String.class);
+		requester.get(TEST_PATH, Object.class);
+		requester.get(TEST_PATH + "/other", String.class);
+
+		assertEquals(2, requester.invalidate(TEST_PATH));
+		assertEquals(1, requester.getSize());
+		requester.invalidateAll();
+		assertEquals(0, requester.getSize());
+	}
+
+	/**
+	 * Tests that responses are evicted when the estimated size bound is exceeded.
+	 */
+	@Test
+	void evictionTest() {
+		CachingRequester bounded = new CachingRequester(delegate, CacheConfig.builder()
+			.withMaxBytes(100, response -> ((String)response).length() * 10L)
+			.build(), clock::get);
+		when(delegate.get("/first", String.class)).thenReturn("12345");
+		when(delegate.get("/second", String.class)).thenReturn("123456");
+
+		bounded.get("/first", String.class);
+		assertEquals(50, bounded.getBytes());
+		bounded.get("/second", String.class);
+
+		assertEquals(1, bounded.getSize());
+		assertEquals(60, bounded.getBytes());
+		assertEquals(1, bounded.getEvictions());
+	}
+
+	/**
+	 * Tests that POST requests are passed through without caching.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void postPassedThroughTest() throws Exception {
+		RequestOptions options = RequestOptions.defaults();
+		when(delegate.post(TEST_PATH, "body", String.class)).thenReturn("post");
+		when(delegate.post(TEST_PATH, "body", String.class, options)).thenReturn("post options");
+		when(delegate.postAsync(TEST_PATH, "body", String.class))
+			.thenReturn(CompletableFuture.completedFuture("async"));
+		when(delegate.postAsync(TEST_PATH, "body", String.class, options))
+			.thenReturn(CompletableFuture.completedFuture("async options"));
+
+		assertEquals("post", requester.post(TEST_PATH, "body", String.class));
+		assertEquals("post options", requester.post(TEST_PATH, "body", String.class, options));
+		assertEquals("async", requester.postAsync(TEST_PATH, "body", String.class).get());
+		assertEquals("async options", requester.postAsync(TEST_PATH, "body", String.class, options).get());
+		assertEquals(0, requester.getSize());
+	}
+
+	/**
+	 * Tests the public constructor reading the system clock.
+	 */
+	@Test
+	void systemClockTest() {
+		CachingRequester systemClockRequester = new CachingRequester(delegate, CacheConfig.builder().build());
+		when(delegate.get(TEST_PATH, String.class)).thenReturn("ok");
+
+		systemClockRequester.get(TEST_PATH, String.class);
+
+		assertEquals("ok", systemClockRequester.get(TEST_PATH, String.class));
+		assertEquals(1, systemClockRequester.getHits());
+	}
+
+}
@@ -0,0 +1,196 @@
+package org.tosspayments.sdk.request.requester.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.tosspayments.sdk.authorization.TossPaymentsAuthentication;
+
+/**
+ * Tests for {@link ResponseCache}.
+ */
+class ResponseCacheTest {
+
+	private static final ResponseCache.Key FIRST = new ResponseCache.Key("/payments/1", String.class);
+
+	private static final ResponseCache.Key SECOND = new ResponseCache.Key("/payments/2", String.class);
+
+	private static final ResponseCache.Key THIRD = new ResponseCache.Key("/payments/3", String.class);
+
+	/**
+	 * Tests that the oldest entry not looked up since it was stored is evicted when the entry bound is exceeded.
+	 */
+	@Test
+	void entryBoundTest() {
+		ResponseCache cache = new ResponseCache(2, Long.MAX_VALUE);
+
+		cache.put(FIRST, response("1", 0));
+		cache.put(SECOND, response("2", 0));
+		assertNotNull(cache.get(FIRST, 0));
+		cache.put(THIRD, response("3", 0));
+
+		assertEquals(2, cache.size());
+		assertEquals(1, cache.evictions());
+		assertNotNull(cache.get(FIRST, 0));
+		assertNull(cache.get(SECOND, 0));
+		assertNotNull(cache.get(THIRD, 0));
+	}
+
+	/**
+	 * Tests that entries are evicted while the size bound is exceeded, including an entry too large to keep.
+	 */
+	@Test
+	void sizeBoundTest() {
+		ResponseCache cache = new ResponseCache(10, 100);
+
+		cache.put(FIRST, response("1", 40));
+		cache.put(SECOND, response("2", 40));
+		cache.put(FIRST, response("1", 50));
+		assertEquals(90, cache.bytes());
+
+		cache.put(THIRD, response("3", 60));
+		assertEquals(1, cache.size());
+		assertEquals(60, cache.bytes());
+		assertEquals(2, cache.evictions());
+
+		cache.put(FIRST, response("1", 200));
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.bytes());
+	}
+
+	/**
+	 * Tests that an entry past its stale window is removed when looked up.
+	 */
+	@Test
+	void staleWindowTest() {
+		ResponseCache cache = new ResponseCache(10, Long.MAX_VALUE);
+		cache.put(FIRST, new ResponseCache.CachedResponse("1", 10, 100, 200));
+
+		ResponseCache.CachedResponse expired = cache.get(FIRST, 150);
+		assertNotNull(expired);
+		assertTrue(expired.isExpired(150));
+		assertFalse(expired.isExpired(99));
+
+		assertNull(cache.get(FIRST, 200));
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.bytes());
+		assertEquals(0, cache.evictions());
+	}
+
+	/**
+	 * Tests that an entry is only replaced if it was not replaced or removed in the meantime.
+	 */
+	@Test
+	void replaceTest() {
+		ResponseCache cache = new ResponseCache(10, Long.MAX_VALUE);
+		ResponseCache.CachedResponse first = response("1", 0);
+		ResponseCache.CachedResponse second = response("2", 0);
+		cache.put(FIRST, first);
+
+		assertTrue(cache.replace(FIRST, first, second));
+		assertFalse(cache.replace(FIRST, first, response("3", 0)));
+		assertSame(second, cache.get(FIRST, 0));
+		assertEquals(1, cache.remove(FIRST.path(), String.class));
+		assertFalse(cache.replace(FIRST, second, first));
+		assertEquals(0, cache.remove(FIRST.path(), String.class));
+	}
+
+	/**
+	 * Tests that an entry is not stored after an invalidation of its path,
+	 * and that evicting a stale entry or invalidating another path is not one.
+	 */
+	@Test
+	void putUnlessInvalidatedTest() {
+		ResponseCache cache = new ResponseCache(10, Long.MAX_VALUE);
+		cache.put(FIRST, new ResponseCache.CachedResponse("1", 0, 0, 1));
+		long first = cache.invalidations(FIRST.path());
+		long second = cache.invalidations(SECOND.path());
+
+		assertNull(cache.get(FIRST, 1));
+		cache.remove(SECOND.path(), String.class);
+		assertTrue(cache.putUnlessInvalidated(FIRST, response("1", 0), first));
+		assertFalse(cache.putUnlessInvalidated(SECOND, response("2", 0), second));
+
+		cache.removePath(THIRD.path());
+		cache.clear();
+		assertEquals(first + 1, cache.invalidations(FIRST.path()));
+		assertEquals(second + 2, cache.invalidations(SECOND.path()));
+		assertEquals(0, cache.size());
+	}
+
+	/**
+	 * Tests that the entries of a path and type are removed whatever their credential.
+	 */
+	@Test
+	void removeAcrossCredentialsTest() {
+		ResponseCache cache = new ResponseCache(10, Long.MAX_VALUE);
+		TossPaymentsAuthentication tenant = new TossPaymentsAuthentication("tenant");
+		cache.put(FIRST, response("1", 10));
+		cache.put(new ResponseCache.Key(FIRST.path(), String.class, tenant), response("1", 10));
+		cache.put(new ResponseCache.Key(FIRST.path(), Object.class, tenant), response("1", 10));
+
+		assertEquals(2, cache.remove(FIRST.path(), String.class));
+		assertEquals(1, cache.size());
+		assertEquals(10, cache.bytes());
+	}
+
+	/**
+	 * Tests that the queue nodes of removed entries do not make later entries evicted too early.
+	 */
+	@Test
+	void removedEntriesEvictionTest() {
+		ResponseCache cache = new ResponseCache(2, Long.MAX_VALUE);
+		for (int i = 0; i < 1000; i++) {
+			cache.put(FIRST, response("1", 0));
+			cache.remove(FIRST.path(), String.class);
+		}
+
+		cache.put(SECOND, response("2", 0));
+		cache.put(THIRD, response("3", 0));
+
+		assertEquals(2, cache.size());
+		assertEquals(0, cache.evictions());
+	}
+
+	/**
+	 * Tests the removal of the entries of a path and of all entries.
+	 */
+	@Test
+	void removePathTest() {
+		ResponseCache cache = new ResponseCache(10, Long.MAX_VALUE);
+		cache.put(FIRST, response("1", 10));
+		cache.put(new ResponseCache.Key(FIRST.path(), Object.class), response("1", 10));
+		cache.put(SECOND, response("2", 10));
+
+		assertEquals(2, cache.removePath(FIRST.path()));
+		assertEquals(1, cache.size());
+		assertEquals(10, cache.bytes());
+
+		cache.clear();
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.bytes());
+	}
+
+	/**
+	 * Tests that a single caller claims the refresh of an entry until it fails.
+	 */
+	@Test
+	void refreshClaimTest() {
+		ResponseCache.CachedResponse response = response("1", 0);
+
+		assertTrue(response.startRefresh());
+		assertFalse(response.startRefresh());
+		response.refreshFailed();
+		assertTrue(response.startRefresh());
+	}
+
+	/**
+	 * Creates an entry expiring far in the future.
+	 * @param value the response.
+	 * @param size the estimated size of the response.
+	 * @return the entry.
+	 */
+	private static ResponseCache.CachedResponse response(String value, long size) {
+		return new ResponseCache.CachedResponse(value, size, Long.MAX_VALUE / 2, Long.MAX_VALUE / 2);
+	}
+
+}
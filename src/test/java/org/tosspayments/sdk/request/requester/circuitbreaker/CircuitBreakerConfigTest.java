@@ -0,0 +1,87 @@
+package org.tosspayments.sdk.request.requester.circuitbreaker;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.Test;
+import org.tosspayments.sdk.exception.DeadlineExceededException;
+import org.tosspayments.sdk.exception.TossApiException;
+import org.tosspayments.sdk.request.requester.DefaultOperationResolver;
+
+import com.fasterxml.jackson.core.JsonParseException;
+
+/**
+ * Tests for {@link CircuitBreakerConfig}.
+ */
+class CircuitBreakerConfigTest {
+
+	/**
+	 * Tests the default settings.
+	 */
+	@Test
+	void defaultsTest() {
+		CircuitBreakerConfig config = CircuitBreakerConfig.builder().build();
+
+		assertEquals(100, config.getSlidingWindowSize());
+		assertEquals(20, config.getMinimumCalls());
+		assertEquals(50, config.getFailureRateThreshold());
+		assertEquals(Duration.ofSeconds(5), config.getSlowCallDuration());
+		assertEquals(80, config.getSlowCallRateThreshold());
+		assertEquals(Duration.ofSeconds(30), config.getOpenDuration());
+		assertEquals(5, config.getPermittedHalfOpenCalls());
+		assertInstanceOf(DefaultOperationResolver.class, config.getOperationResolver());
+		assertTrue(config.getListeners().isEmpty());
+	}
+
+	/**
+	 * Tests that the minimum number of calls is capped by the window size.
+	 */
+	@Test
+	void minimumCallsCappedTest() {
+		CircuitBreakerConfig config = CircuitBreakerConfig.builder()
+			.withSlidingWindowSize(10)
+			.withMinimumCalls(50)
+			.build();
+
+		assertEquals(10, config.getMinimumCalls());
+	}
+
+	/**
+	 * Tests that invalid settings are rejected.
+	 */
+	@Test
+	void invalidSettingsTest() {
+		CircuitBreakerConfig.Builder builder = CircuitBreakerConfig.builder();
+
+		assertThrows(IllegalArgumentException.class, () -> builder.withSlidingWindowSize(0));
+		assertThrows(IllegalArgumentException.class, () -> builder.withMinimumCalls(0));
+		assertThrows(IllegalArgumentException.class, () -> builder.withPermittedHalfOpenCalls(0));
+		assertThrows(IllegalArgumentException.class, () -> builder.withFailureRateThreshold(0));
+		assertThrows(IllegalArgumentException.class, () -> builder.withSlowCallRateThreshold(101));
+	}
+
+	/**
+	 * Tests that only I/O errors and server errors are recorded as failures by default,
+	 * not a passed deadline detected by the timeout of the HTTP request,
+	 * nor a response failing to be parsed, wrapped as the HTTP requester wraps it.
+	 */
+	@Test
+	void defaultFailurePredicateTest() {
+		assertTrue(CircuitBreakerConfig.DEFAULT_FAILURE_PREDICATE.test(new TossApiException(503)));
+		assertTrue(CircuitBreakerConfig.DEFAULT_FAILURE_PREDICATE.test(new RuntimeException(new IOException())));
+		assertFalse(CircuitBreakerConfig.DEFAULT_FAILURE_PREDICATE.test(new TossApiException(400)));
+		assertFalse(CircuitBreakerConfig.DEFAULT_FAILURE_PREDICATE.test(new RuntimeException("parse")));
+		assertFalse(CircuitBreakerConfig.DEFAULT_FAILURE_PREDICATE.test(new CompletionException(
+			new RuntimeException("Failed to parse response body", new JsonParseException(null, "Unexpected EOF"))
+		)));
+		assertFalse(CircuitBreakerConfig.DEFAULT_FAILURE_PREDICATE.test(
+			new DeadlineExceededException(Instant.now(), new HttpTimeoutException("request timed out"))
+		));
+	}
+
+}
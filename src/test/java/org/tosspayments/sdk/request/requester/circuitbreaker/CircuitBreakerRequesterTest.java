@@ -0,0 +1,209 @@
+package org.tosspayments.sdk.request.requester.circuitbreaker;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.tosspayments.sdk.exception.CircuitBreakerOpenException;
+import org.tosspayments.sdk.exception.TossApiException;
+import org.tosspayments.sdk.request.requester.RequestOptions;
+import org.tosspayments.sdk.request.requester.Requester;
+
+/**
+ * Tests for {@link CircuitBreakerRequester}.
+ */
+class CircuitBreakerRequesterTest {
+
+	private static final String CONFIRM_PATH = "/payments/confirm";
+
+	private static final String LOOKUP_PATH = "/payments/payment_key";
+
+	private Requester delegate;
+
+	private CircuitBreakerRequester requester;
+
+	/**
+	 * Creates a requester whose circuits open after 2 failed calls.
+	 */
+	@BeforeEach
+	void setUp() {
+		delegate = mock(Requester.class);
+		requester = new CircuitBreakerRequester(delegate, CircuitBreakerConfig.builder()
+			.withSlidingWindowSize(2)
+			.withMinimumCalls(2)
+			.build()
+		);
+	}
+
+	/**
+	 * Tests that an open circuit rejects synchronous requests without sending them.
+	 */
+	@Test
+	void syncOpenCircuitTest() {
+		when(delegate.post(CONFIRM_PATH, "body", String.class)).thenThrow(new TossApiException(503));
+
+		assertThrows(TossApiException.class, () -> requester.post(CONFIRM_PATH, "body", String.class));
+		assertThrows(TossApiException.class, () -> requester.post(CONFIRM_PATH, "body", String.class));
+		CircuitBreakerOpenException exception = assertThrows(
+			CircuitBreakerOpenException.class,
+			() -> requester.post(CONFIRM_PATH, "body", String.class)
+		);
+
+		assertEquals("confirm", exception.getCircuitName());
+		assertEquals(CircuitBreaker.State.OPEN, requester.getCircuitBreaker("confirm").getState());
+		verify(delegate, times(2)).post(CONFIRM_PATH, "body", String.class);
+	}
+
+	/**
+	 * Tests that circuits are independent: an open confirm circuit does not reject lookups.
+	 */
+	@Test
+	void independentCircuitsTest() {
+		RequestOptions options = RequestOptions.defaults();
+		when(delegate.post(CONFIRM_PATH, "body", String.class, options)).thenThrow(new TossApiException(500));
+		when(delegate.get(LOOKUP_PATH, String.class)).thenReturn("ok");
+
+		assertThrows(TossApiException.class, () -> requester.post(CONFIRM_PATH, "body", String.class, options));
+		assertThrows(TossApiException.class, () -> requester.post(CONFIRM_PATH, "body", String.class, options));
+
+		assertEquals("ok", requester.get(LOOKUP_PATH, String.class));
+		assertEquals(CircuitBreaker.State.CLOSED, requester.getCircuitBreakers().get("lookup").getState());
+		assertEquals(CircuitBreaker.State.OPEN, requester.getCircuitBreakers().get("confirm").getState());
+	}
+
+	/**
+	 * Tests that an open circuit fails asynchronous requests with a failed future.
+	 */
+	@Test
+	void asyncOpenCircuitTest() {
+		when(delegate.getAsync(LOOKUP_PATH, String.class))
+			.thenReturn(CompletableFuture.failedFuture(new TossApiException(502)));
+
+		assertThrows(ExecutionException.class, () -> requester.getAsync(LOOKUP_PATH, String.class).get());
+		assertThrows(ExecutionException.class, () -> requester.getAsync(LOOKUP_PATH, String.class).get());
+
+		ExecutionException exception = assertThrows(
+			ExecutionException.class,
+			() -> requester.getAsync(LOOKUP_PATH, String.class).get()
+		);
+		assertInstanceOf(CircuitBreakerOpenException.class, exception.getCause());
+		verify(delegate, times(2)).getAsync(LOOKUP_PATH, String.class);
+	}
+
+	/**
+	 * Tests that asynchronous successes pass through and are recorded.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void asyncSuccessTest() throws Exception {
+		RequestOptions options = RequestOptions.defaults();
+		when(delegate.postAsync(CONFIRM_PATH, "body", String.class))
+			.thenReturn(CompletableFuture.completedFuture("first"));
+		when(delegate.postAsync(CONFIRM_PATH, "body", String.class, options))
+			.thenReturn(CompletableFuture.completedFuture("second"));
+
+		assertEquals("first", requester.postAsync(CONFIRM_PATH, "body", String.class).get());
+		assertEquals("second", requester.postAsync(CONFIRM_PATH, "body", String.class, options).get());
+		assertEquals(0, requester.getCircuitBreaker("confirm").getFailureRate());
+	}
+
+	/**
+	 * Tests that the future of the request is returned, so cancelling it cancels the request.
+	 */
+	@Test
+	void asyncCancellationTest() {
+		CompletableFuture<String> sent = new CompletableFuture<>();
+		when(delegate.getAsync(LOOKUP_PATH, String.class)).thenReturn(sent);
+
+		requester.getAsync(LOOKUP_PATH, String.class).cancel(true);
+
+		assertTrue(sent.isCancelled());
+		assertEquals(CircuitBreaker.State.CLOSED, requester.getCircuitBreaker("lookup").getState());
+	}
+
+	/**
+	 * Tests that cancelled requests are not recorded as slow calls, even when every call is slow.
+	 */
+	@Test
+	void cancelledNotRecordedTest() {
+		CircuitBreakerRequester slowRequester = new CircuitBreakerRequester(delegate, CircuitBreakerConfig.builder()
+			.withSlidingWindowSize(2)
+			.withMinimumCalls(2)
+			.withSlowCallDuration(Duration.ZERO)
+			.build()
+		);
+		when(delegate.getAsync(LOOKUP_PATH, String.class)).thenAnswer(invocation -> new CompletableFuture<>());
+
+		slowRequester.getAsync(LOOKUP_PATH, String.class).cancel(true);
+		slowRequester.getAsync(LOOKUP_PATH, String.class).cancel(true);
+		slowRequester.getAsync(LOOKUP_PATH, String.class).cancel(true);
+
+		assertEquals(CircuitBreaker.State.CLOSED, slowRequester.getCircuitBreaker("lookup").getState());
+		verify(delegate, times(3)).getAsync(LOOKUP_PATH, String.class);
+	}
+
+	/**
+	 * Tests that a cancelled probe request gives its permit back, so another probe can be sent.
+	 */
+	@Test
+	void halfOpenCancelledProbeTest() {
+		CircuitBreakerRequester probingRequester = new CircuitBreakerRequester(delegate, CircuitBreakerConfig.builder()
+			.withSlidingWindowSize(2)
+			.withMinimumCalls(2)
+			.withOpenDuration(Duration.ZERO)
+			.withPermittedHalfOpenCalls(1)
+			.build()
+		);
+		when(delegate.getAsync(LOOKUP_PATH, String.class))
+			.thenReturn(CompletableFuture.failedFuture(new TossApiException(503)))
+			.thenReturn(CompletableFuture.failedFuture(new TossApiException(503)))
+			.thenReturn(new CompletableFuture<>())
+			.thenReturn(CompletableFuture.completedFuture("ok"));
+		probingRequester.getAsync(LOOKUP_PATH, String.class);
+		probingRequester.getAsync(LOOKUP_PATH, String.class);
+
+		probingRequester.getAsync(LOOKUP_PATH, String.class).cancel(true);
+		assertEquals(CircuitBreaker.State.HALF_OPEN, probingRequester.getCircuitBreaker("lookup").getState());
+
+		assertEquals("ok", probingRequester.getAsync(LOOKUP_PATH, String.class).join());
+		assertEquals(CircuitBreaker.State.CLOSED, probingRequester.getCircuitBreaker("lookup").getState());
+	}
+
+	/**
+	 * Tests that a synchronous failure of the asynchronous call is recorded and rethrown.
+	 */
+	@Test
+	void asyncSynchronousFailureTest() {
+		when(delegate.getAsync(LOOKUP_PATH, String.class)).thenThrow(new RuntimeException(new IOException()));
+
+		assertThrows(RuntimeException.class, () -> requester.getAsync(LOOKUP_PATH, String.class));
+		assertThrows(RuntimeException.class, () -> requester.getAsync(LOOKUP_PATH, String.class));
+
+		assertEquals(CircuitBreaker.State.OPEN, requester.getCircuitBreaker("lookup").getState());
+	}
+
+	/**
+	 * Tests that GET requests with options are passed through with their options.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void getWithOptionsTest() throws Exception {
+		RequestOptions options = RequestOptions.defaults().withTimeout(Duration.ofMinutes(1));
+		when(delegate.get(LOOKUP_PATH, String.class, options)).thenReturn("sync");
+		when(delegate.getAsync(LOOKUP_PATH, String.class, options))
+			.thenReturn(CompletableFuture.completedFuture("async"));
+
+		assertEquals("sync", requester.get(LOOKUP_PATH, String.class, options));
+		assertEquals("async", requester.getAsync(LOOKUP_PATH, String.class, options).get());
+		assertEquals(0, requester.getCircuitBreaker("lookup").getFailureRate());
+	}
+
+}
@@ -0,0 +1,235 @@
+package org.tosspayments.sdk.request.requester.circuitbreaker;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.tosspayments.sdk.exception.TossApiException;
+import org.tosspayments.sdk.request.requester.circuitbreaker.CircuitBreaker.State;
+
+/**
+ * Tests for {@link CircuitBreaker}.
+ */
+class CircuitBreakerTest {
+
+	private static final long OPEN_NANOS = Duration.ofSeconds(10).toNanos();
+
+	private static final long SLOW_NANOS = Duration.ofSeconds(1).toNanos();
+
+	private final AtomicLong clock = new AtomicLong();
+
+	private CircuitBreakerListener listener;
+
+	private CircuitBreaker circuitBreaker;
+
+	/**
+	 * Creates a circuit breaker opening at a 50% failure or slow call rate over 4 calls, probing with 2 calls.
+	 */
+	@BeforeEach
+	void setUp() {
+		listener = mock(CircuitBreakerListener.class);
+		circuitBreaker = new CircuitBreaker("confirm", CircuitBreakerConfig.builder()
+			.withSlidingWindowSize(4)
+			.withMinimumCalls(4)
+			.withFailureRateThreshold(50)
+			.withSlowCallDuration(Duration.ofNanos(SLOW_NANOS))
+			.withSlowCallRateThreshold(50)
+			.withOpenDuration(Duration.ofNanos(OPEN_NANOS))
+			.withPermittedHalfOpenCalls(2)
+			.withListener(listener)
+			.build(), clock::get);
+	}
+
+	/**
+	 * Tests that the circuit stays closed below the minimum number of calls.
+	 */
+	@Test
+	void minimumCallsTest() {
+		recordFailures(3);
+
+		assertEquals(State.CLOSED, circuitBreaker.getState());
+		assertEquals(100, circuitBreaker.getFailureRate());
+		assertTrue(circuitBreaker.tryAcquirePermission());
+	}
+
+	/**
+	 * Tests that the circuit opens at the failure rate threshold and rejects calls.
+	 */
+	@Test
+	void opensOnFailureRateTest() {
+		recordSuccesses(2);
+		recordFailures(2);
+
+		assertEquals(State.OPEN, circuitBreaker.getState());
+		assertFalse(circuitBreaker.tryAcquirePermission());
+		verify(listener).onStateChange("confirm", State.CLOSED, State.OPEN);
+	}
+
+	/**
+	 * Tests that the circuit opens at the slow call rate threshold.
+	 */
+	@Test
+	void opensOnSlowCallRateTest() {
+		recordSuccesses(2);
+		circuitBreaker.onResult(SLOW_NANOS, null);
+		circuitBreaker.onResult(SLOW_NANOS, null);
+
+		assertEquals(State.OPEN, circuitBreaker.getState());
+		assertEquals(0, circuitBreaker.getSlowCallRate());
+	}
+
+	/**
+	 * Tests that failures not matching the failure predicate are recorded as successful calls.
+	 */
+	@Test
+	void ignoredFailureTest() {
+		for (int i = 0; i < 4; i++) {
+			circuitBreaker.onResult(0, new TossApiException(400));
+		}
+
+		assertEquals(State.CLOSED, circuitBreaker.getState());
+		assertEquals(0, circuitBreaker.getFailureRate());
+	}
+
+	/**
+	 * Tests that the circuit closes again after the permitted probe calls succeed.
+	 */
+	@Test
+	void halfOpenClosesTest() {
+		recordFailures(4);
+		clock.addAndGet(OPEN_NANOS);
+
+		assertTrue(circuitBreaker.tryAcquirePermission());
+		assertTrue(circuitBreaker.tryAcquirePermission());
+		assertFalse(circuitBreaker.tryAcquirePermission());
+		assertEquals(State.HALF_OPEN, circuitBreaker.getState());
+
+		recordSuccesses(2);
+
+		assertEquals(State.CLOSED, circuitBreaker.getState());
+		assertEquals(0, circuitBreaker.getFailureRate());
+		verify(listener).onStateChange("confirm", State.OPEN, State.HALF_OPEN);
+		verify(listener).onStateChange("confirm", State.HALF_OPEN, State.CLOSED);
+	}
+
+	/**
+	 * Tests that a failed probe call opens the circuit again for another open duration.
+	 */
+	@Test
+	void halfOpenReopensTest() {
+		recordFailures(4);
+		clock.addAndGet(OPEN_NANOS);
+		assertTrue(circuitBreaker.tryAcquirePermission());
+
+		recordFailures(1);
+
+		assertEquals(State.OPEN, circuitBreaker.getState());
+		assertFalse(circuitBreaker.tryAcquirePermission());
+		verify(listener).onStateChange("confirm", State.HALF_OPEN, State.OPEN);
+	}
+
+	/**
+	 * Tests that a slow probe call opens the circuit again.
+	 */
+	@Test
+	void halfOpenSlowProbeTest() {
+		recordFailures(4);
+		clock.addAndGet(OPEN_NANOS);
+		assertTrue(circuitBreaker.tryAcquirePermission());
+
+		circuitBreaker.onResult(SLOW_NANOS, null);
+
+		assertEquals(State.OPEN, circuitBreaker.getState());
+	}
+
+	/**
+	 * Tests that cancelled calls are not recorded while closed, as failed nor as slow calls.
+	 */
+	@Test
+	void cancelledCallNotRecordedTest() {
+		recordSuccesses(2);
+		for (int i = 0; i < 4; i++) {
+			assertTrue(circuitBreaker.tryAcquirePermission());
+			circuitBreaker.onCancelled();
+		}
+
+		assertEquals(State.CLOSED, circuitBreaker.getState());
+		recordSuccesses(1);
+		assertEquals(State.CLOSED, circuitBreaker.getState());
+		recordFailures(1);
+		assertEquals(0, circuitBreaker.getSlowCallRate());
+		assertEquals(25, circuitBreaker.getFailureRate());
+	}
+
+	/**
+	 * Tests that a cancelled probe call neither closes nor opens the circuit, but gives its permit back.
+	 */
+	@Test
+	void halfOpenCancelledProbeTest() {
+		recordFailures(4);
+		clock.addAndGet(OPEN_NANOS);
+		assertTrue(circuitBreaker.tryAcquirePermission());
+		assertTrue(circuitBreaker.tryAcquirePermission());
+
+		circuitBreaker.onCancelled();
+		circuitBreaker.onCancelled();
+		circuitBreaker.onCancelled();
+
+		assertEquals(State.HALF_OPEN, circuitBreaker.getState());
+		assertTrue(circuitBreaker.tryAcquirePermission());
+		assertTrue(circuitBreaker.tryAcquirePermission());
+		assertFalse(circuitBreaker.tryAcquirePermission());
+
+		recordSuccesses(2);
+		assertEquals(State.CLOSED, circuitBreaker.getState());
+	}
+
+	/**
+	 * Tests that results of calls sent before the circuit opened are ignored.
+	 */
+	@Test
+	void resultWhileOpenIgnoredTest() {
+		recordFailures(4);
+
+		recordSuccesses(10);
+
+		assertEquals(State.OPEN, circuitBreaker.getState());
+	}
+
+	/**
+	 * Tests that a failing listener does not fail the state change.
+	 */
+	@Test
+	void failingListenerTest() {
+		doThrow(new IllegalStateException("listener")).when(listener).onStateChange(any(), any(), any());
+
+		recordFailures(4);
+
+		assertEquals(State.OPEN, circuitBreaker.getState());
+	}
+
+	/**
+	 * Records successful calls.
+	 * @param count the number of calls.
+	 */
+	private void recordSuccesses(int count) {
+		for (int i = 0; i < count; i++) {
+			circuitBreaker.onResult(0, null);
+		}
+	}
+
+	/**
+	 * Records failed calls.
+	 * @param count the number of calls.
+	 */
+	private void recordFailures(int count) {
+		for (int i = 0; i < count; i++) {
+			circuitBreaker.onResult(0, new TossApiException(503));
+		}
+	}
+
+}
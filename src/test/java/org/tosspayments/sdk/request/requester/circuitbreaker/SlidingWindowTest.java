@@ -0,0 +1,72 @@
+package org.tosspayments.sdk.request.requester.circuitbreaker;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SlidingWindow}.
+ */
+class SlidingWindowTest {
+
+	/**
+	 * Tests that an empty window has no calls and zero rates.
+	 */
+	@Test
+	void emptyWindowTest() {
+		SlidingWindow window = new SlidingWindow(4);
+
+		assertEquals(0, window.getCalls());
+		assertEquals(0, window.getFailureRate());
+		assertEquals(0, window.getSlowCallRate());
+	}
+
+	/**
+	 * Tests that the rates are computed over the recorded calls.
+	 */
+	@Test
+	void ratesTest() {
+		SlidingWindow window = new SlidingWindow(4);
+
+		window.record(true, false);
+		window.record(false, true);
+		window.record(true, true);
+		window.record(false, false);
+
+		assertEquals(4, window.getCalls());
+		assertEquals(50, window.getFailureRate());
+		assertEquals(50, window.getSlowCallRate());
+	}
+
+	/**
+	 * Tests that the oldest outcomes are replaced once the window is full.
+	 */
+	@Test
+	void slidingTest() {
+		SlidingWindow window = new SlidingWindow(2);
+
+		window.record(true, true);
+		window.record(true, true);
+		window.record(false, false);
+		window.record(false, false);
+
+		assertEquals(2, window.getCalls());
+		assertEquals(0, window.getFailureRate());
+		assertEquals(0, window.getSlowCallRate());
+	}
+
+	/**
+	 * Tests that resetting clears every outcome.
+	 */
+	@Test
+	void resetTest() {
+		SlidingWindow window = new SlidingWindow(4);
+		window.record(true, true);
+
+		window.reset();
+
+		assertEquals(0, window.getCalls());
+		assertEquals(0, window.getFailureRate());
+	}
+
+}
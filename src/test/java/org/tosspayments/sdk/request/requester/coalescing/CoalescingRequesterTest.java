@@ -0,0 +1,376 @@
+package org.tosspayments.sdk.request.requester.coalescing;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.tosspayments.sdk.authorization.TossPaymentsAuthentication;
+import org.tosspayments.sdk.exception.DeadlineExceededException;
+import org.tosspayments.sdk.exception.TossApiException;
+import org.tosspayments.sdk.request.requester.RequestOptions;
+import org.tosspayments.sdk.request.requester.Requester;
+import org.tosspayments.sdk.request.requester.tracing.TraceSpan;
+
+/**
+ * Tests for {@link CoalescingRequester}.
+ */
+class CoalescingRequesterTest {
+
+	private static final String TEST_PATH = "/v1/payments/payment_key";
+
+	private Requester delegate;
+
+	private ScheduledExecutorService scheduler;
+
+	private CoalescingRequester requester;
+
+	/**
+	 * Creates a requester firing deadlines on a mocked scheduler.
+	 */
+	@BeforeEach
+	void setUp() {
+		delegate = mock(Requester.class);
+		scheduler = mock(ScheduledExecutorService.class);
+		requester = new CoalescingRequester(delegate, scheduler);
+	}
+
+	/**
+	 * Tests that concurrent identical requests are sent once and share the response instance.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void sharedResponseTest() throws Exception {
+		CompletableFuture<Object> sent = new CompletableFuture<>();
+		when(delegate.getAsync(TEST_PATH, Object.class)).thenReturn(sent);
+
+		CompletableFuture<Object> first = requester.getAsync(TEST_PATH, Object.class);
+		CompletableFuture<Object> second = requester.getAsync(TEST_PATH, Object.class, RequestOptions.defaults());
+		assertEquals(1, requester.getInFlight());
+		Object response = new Object();
+		sent.complete(response);
+
+		assertSame(response, first.get());
+		assertSame(response, second.get());
+		assertEquals(1, requester.getCoalesced());
+		assertEquals(0, requester.getInFlight());
+		verify(delegate, times(1)).getAsync(TEST_PATH, Object.class);
+	}
+
+	/**
+	 * Tests that requests for different response types, or after the response arrived, are sent separately.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void separateRequestsTest() throws Exception {
+		when(delegate.getAsync(TEST_PATH, String.class))
+			.thenReturn(CompletableFuture.completedFuture("first"))
+			.thenReturn(CompletableFuture.completedFuture("second"));
+		when(delegate.getAsync(TEST_PATH, Object.class)).thenReturn(new CompletableFuture<>());
+
+		requester.getAsync(TEST_PATH, Object.class);
+		assertEquals("first", requester.getAsync(TEST_PATH, String.class).get());
+		assertEquals("second", requester.getAsync(TEST_PATH, String.class).get());
+
+		assertEquals(0, requester.getCoalesced());
+		assertEquals(1, requester.getInFlight());
+	}
+
+	/**
+	 * Tests that identical requests are coalesced per credential, and sent with their credential.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void keyedByCredentialTest() throws Exception {
+		TossPaymentsAuthentication tenantA = new TossPaymentsAuthentication("a");
+		TossPaymentsAuthentication tenantB = new TossPaymentsAuthentication("b");
+		CompletableFuture<Object> sentA = new CompletableFuture<>();
+		CompletableFuture<Object> sentB = new CompletableFuture<>();
+		when(delegate.getAsync(eq(TEST_PATH), eq(Object.class), any(RequestOptions.class)))
+			.thenReturn(sentA)
+			.thenReturn(sentB);
+
+		CompletableFuture<Object> first = requester.getAsync(TEST_PATH, Object.class,
+			RequestOptions.defaults().withAuthentication(tenantA));
+		CompletableFuture<Object> second = requester.getAsync(TEST_PATH, Object.class,
+			RequestOptions.defaults().withAuthentication(tenantB));
+		CompletableFuture<Object> third = requester.getAsync(TEST_PATH, Object.class,
+			RequestOptions.defaults().withAuthentication(new TossPaymentsAuthentication("a")));
+		assertEquals(2, requester.getInFlight());
+		sentA.complete("a");
+		sentB.complete("b");
+
+		assertEquals("a", first.get());
+		assertEquals("b", second.get());
+		assertEquals("a", third.get());
+		assertEquals(1, requester.getCoalesced());
+		ArgumentCaptor<RequestOptions> sent = ArgumentCaptor.forClass(RequestOptions.class);
+		verify(delegate, times(2)).getAsync(eq(TEST_PATH), eq(Object.class), sent.capture());
+		assertEquals(tenantA, sent.getAllValues().get(0).getAuthentication());
+		assertEquals(tenantB, sent.getAllValues().get(1).getAuthentication());
+	}
+
+	/**
+	 * Tests that the shared request is sent with the span and submission time of its first caller,
+	 * without its deadline.
+	 */
+	@Test
+	void sharedRequestCarriesFirstCallerOptionsTest() {
+		TraceSpan span = mock(TraceSpan.class);
+		when(delegate.getAsync(eq(TEST_PATH), eq(Object.class), any(RequestOptions.class)))
+			.thenReturn(new CompletableFuture<>());
+
+		requester.getAsync(TEST_PATH, Object.class, RequestOptions.defaults()
+			.withTraceSpan(span)
+			.withSubmittedAt(42)
+			.withTimeout(Duration.ofMinutes(1)));
+		requester.getAsync(TEST_PATH, Object.class, RequestOptions.defaults().withSubmittedAt(43));
+
+		ArgumentCaptor<RequestOptions> sent = ArgumentCaptor.forClass(RequestOptions.class);
+		verify(delegate).getAsync(eq(TEST_PATH), eq(Object.class), sent.capture());
+		assertSame(span, sent.getValue().getTraceSpan());
+		assertEquals(42, sent.getValue().getSubmittedAt());
+		assertNull(sent.getValue().getDeadline());
+		assertEquals(1, requester.getCoalesced());
+	}
+
+	/**
+	 * Tests that a failure, including a synchronous one, is shared by every caller of the request.
+	 */
+	@Test
+	void sharedFailureTest() {
+		CompletableFuture<String> sent = new CompletableFuture<>();
+		when(delegate.getAsync(TEST_PATH, String.class))
+			.thenReturn(sent)
+			.thenThrow(new IllegalStateException("send"));
+
+		CompletableFuture<String> first = requester.getAsync(TEST_PATH, String.class);
+		CompletableFuture<String> second = requester.getAsync(TEST_PATH, String.class);
+		sent.completeExceptionally(new TossApiException(500));
+
+		assertInstanceOf(TossApiException.class, assertThrows(ExecutionException.class, first::get).getCause());
+		assertInstanceOf(TossApiException.class, assertThrows(ExecutionException.class, second::get).getCause());
+		ExecutionException exception = assertThrows(
+			ExecutionException.class,
+			() -> requester.getAsync(TEST_PATH, String.class).get()
+		);
+		assertInstanceOf(IllegalStateException.class, exception.getCause());
+		assertEquals(0, requester.getInFlight());
+	}
+
+	/**
+	 * Tests that the shared request is only cancelled once every caller has cancelled,
+	 * and that a later caller sends a new request.
+	 */
+	@Test
+	void cancellationTest() {
+		CompletableFuture<String> sent = new CompletableFuture<>();
+		when(delegate.getAsync(TEST_PATH, String.class))
+			.thenReturn(sent)
+			.thenReturn(new CompletableFuture<>());
+
+		CompletableFuture<String> first = requester.getAsync(TEST_PATH, String.class);
+		CompletableFuture<String> second = requester.getAsync(TEST_PATH, String.class);
+
+		first.cancel(true);
+		assertFalse(sent.isCancelled());
+		second.cancel(true);
+		assertTrue(sent.isCancelled());
+		assertEquals(0, requester.getInFlight());
+
+		assertFalse(requester.getAsync(TEST_PATH, String.class).isDone());
+		verify(delegate, times(2)).getAsync(TEST_PATH, String.class);
+	}
+
+	/**
+	 * Tests that a request abandoned by its callers is not joined while it is still being cancelled.
+	 */
+	@Test
+	void abandonedRequestNotJoinedTest() {
+		CompletableFuture<String> uncancellable = new CompletableFuture<>() {
+			@Override
+			public boolean cancel(boolean mayInterruptIfRunning) {
+				return false;
+			}
+		};
+		when(delegate.getAsync(TEST_PATH, String.class))
+			.thenReturn(uncancellable)
+			.thenReturn(CompletableFuture.completedFuture("ok"));
+
+		requester.getAsync(TEST_PATH, String.class).cancel(true);
+		assertEquals(1, requester.getInFlight());
+
+		assertEquals("ok", requester.getAsync(TEST_PATH, String.class).join());
+		assertEquals(0, requester.getCoalesced());
+		uncancellable.complete("late");
+		assertEquals(0, requester.getInFlight());
+	}
+
+	/**
+	 * Tests that the deadline of a caller only fails its own copy of the shared request.
+	 */
+	@Test
+	void callerDeadlineTest() {
+		CompletableFuture<String> sent = new CompletableFuture<>();
+		when(delegate.getAsync(TEST_PATH, String.class)).thenReturn(sent);
+		RequestOptions options = RequestOptions.defaults().withTimeout(Duration.ofSeconds(1));
+
+		CompletableFuture<String> first = requester.getAsync(TEST_PATH, String.class);
+		CompletableFuture<String> second = requester.getAsync(TEST_PATH, String.class, options);
+		ArgumentCaptor<Runnable> timer = ArgumentCaptor.forClass(Runnable.class);
+		verify(scheduler).schedule(timer.capture(), anyLong(), eq(TimeUnit.NANOSECONDS));
+		timer.getValue().run();
+
+		ExecutionException exception = assertThrows(ExecutionException.class, second::get);
+		assertInstanceOf(DeadlineExceededException.class, exception.getCause());
+		assertFalse(sent.isCancelled());
+		sent.complete("ok");
+		assertEquals("ok", first.join());
+	}
+
+	/**
+	 * Tests that the shared request is bounded by the latest deadline of its callers:
+	 * it is only cancelled once the deadline of every caller has passed.
+	 */
+	@Test
+	void latestDeadlineTest() {
+		CompletableFuture<String> sent = new CompletableFuture<>();
+		when(delegate.getAsync(TEST_PATH, String.class)).thenReturn(sent);
+		when(scheduler.schedule(any(Runnable.class), anyLong(), eq(TimeUnit.NANOSECONDS)))
+			.thenAnswer(invocation -> mock(ScheduledFuture.class));
+
+		requester.getAsync(TEST_PATH, String.class, RequestOptions.defaults().withTimeout(Duration.ofSeconds(1)));
+		requester.getAsync(TEST_PATH, String.class, RequestOptions.defaults().withTimeout(Duration.ofSeconds(2)));
+		ArgumentCaptor<Runnable> timers = ArgumentCaptor.forClass(Runnable.class);
+		verify(scheduler, times(2)).schedule(timers.capture(), anyLong(), eq(TimeUnit.NANOSECONDS));
+
+		timers.getAllValues().get(0).run();
+		assertFalse(sent.isCancelled());
+		timers.getAllValues().get(1).run();
+		assertTrue(sent.isCancelled());
+	}
+
+	/**
+	 * Tests that a request whose deadline has passed is neither sent nor joined.
+	 */
+	@Test
+	void expiredDeadlineTest() {
+		RequestOptions options = RequestOptions.defaults().withDeadline(Instant.now().minusMillis(1));
+
+		ExecutionException exception = assertThrows(
+			ExecutionException.class,
+			() -> requester.getAsync(TEST_PATH, String.class, options).get()
+		);
+
+		assertInstanceOf(DeadlineExceededException.class, exception.getCause());
+		verifyNoInteractions(delegate);
+	}
+
+	/**
+	 * Tests that the request is cancelled as soon as it is sent when its only caller left before.
+	 */
+	@Test
+	void abandonedBeforeSentTest() {
+		CompletableFuture<String> sent = new CompletableFuture<>();
+		when(delegate.getAsync(TEST_PATH, String.class)).thenReturn(sent);
+		when(scheduler.schedule(any(Runnable.class), anyLong(), eq(TimeUnit.NANOSECONDS))).thenAnswer(invocation -> {
+			invocation.getArgument(0, Runnable.class).run();
+
+			return null;
+		});
+		RequestOptions options = RequestOptions.defaults().withTimeout(Duration.ofSeconds(1));
+
+		CompletableFuture<String> response = requester.getAsync(TEST_PATH, String.class, options);
+
+		assertTrue(response.isCompletedExceptionally());
+		assertTrue(sent.isCancelled());
+		assertEquals(0, requester.getInFlight());
+	}
+
+	/**
+	 * Tests that synchronous GET requests wait for the shared request and rethrow its failure.
+	 */
+	@Test
+	void syncTest() {
+		RequestOptions options = RequestOptions.defaults();
+		when(delegate.getAsync(TEST_PATH, String.class))
+			.thenReturn(CompletableFuture.completedFuture("ok"))
+			.thenReturn(CompletableFuture.failedFuture(new TossApiException(404)))
+			.thenReturn(CompletableFuture.failedFuture(new IOException()));
+
+		assertEquals("ok", requester.get(TEST_PATH, String.class));
+		assertThrows(TossApiException.class, () -> requester.get(TEST_PATH, String.class, options));
+		RuntimeException exception = assertThrows(RuntimeException.class, () -> requester.get(TEST_PATH, String.class));
+		assertInstanceOf(IOException.class, exception.getCause());
+	}
+
+	/**
+	 * Tests that an interrupted synchronous wait leaves the shared request.
+	 */
+	@Test
+	void syncInterruptedTest() {
+		CompletableFuture<String> sent = new CompletableFuture<>();
+		when(delegate.getAsync(TEST_PATH, String.class)).thenReturn(sent);
+
+		Thread.currentThread().interrupt();
+		RuntimeException exception = assertThrows(RuntimeException.class, () -> requester.get(TEST_PATH, String.class));
+
+		assertTrue(Thread.interrupted());
+		assertEquals("Request was interrupted", exception.getMessage());
+		assertTrue(sent.isCancelled());
+	}
+
+	/**
+	 * Tests that POST requests are passed through without coalescing.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void postPassedThroughTest() throws Exception {
+		RequestOptions options = RequestOptions.defaults();
+		when(delegate.post(TEST_PATH, "body", String.class)).thenReturn("post");
+		when(delegate.post(TEST_PATH, "body", String.class, options)).thenReturn("post options");
+		when(delegate.postAsync(TEST_PATH, "body", String.class))
+			.thenReturn(CompletableFuture.completedFuture("async"));
+		when(delegate.postAsync(TEST_PATH, "body", String.class, options))
+			.thenReturn(CompletableFuture.completedFuture("async options"));
+
+		assertEquals("post", requester.post(TEST_PATH, "body", String.class));
+		assertEquals("post options", requester.post(TEST_PATH, "body", String.class, options));
+		assertEquals("async", requester.postAsync(TEST_PATH, "body", String.class).get());
+		assertEquals("async options", requester.postAsync(TEST_PATH, "body", String.class, options).get());
+		assertEquals(0, requester.getCoalesced());
+	}
+
+	/**
+	 * Tests the constructor firing deadlines on the shared scheduler.
+	 */
+	@Test
+	void sharedSchedulerTest() {
+		CoalescingRequester sharedSchedulerRequester = new CoalescingRequester(delegate);
+		when(delegate.getAsync(TEST_PATH, String.class)).thenReturn(CompletableFuture.completedFuture("ok"));
+
+		assertEquals("ok", sharedSchedulerRequester.get(
+			TEST_PATH,
+			String.class,
+			RequestOptions.defaults().withTimeout(Duration.ofMinutes(1))
+		));
+	}
+
+}
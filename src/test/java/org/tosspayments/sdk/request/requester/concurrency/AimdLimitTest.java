@@ -0,0 +1,107 @@
+package org.tosspayments.sdk.request.requester.concurrency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link AimdLimit}.
+ */
+class AimdLimitTest {
+
+	private static final long FAST = Duration.ofMillis(10).toNanos();
+
+	private static final long SLOW = Duration.ofSeconds(2).toNanos();
+
+	private final AimdLimit limit = new AimdLimit(10, 12, 0.5, Duration.ofSeconds(1));
+
+	/**
+	 * Tests the default settings.
+	 */
+	@Test
+	void defaultsTest() {
+		assertEquals(20, new AimdLimit().getLimit());
+	}
+
+	/**
+	 * Tests that the limit grows by one per successful request while in use, up to the maximum.
+	 */
+	@Test
+	void additiveIncreaseTest() {
+		limit.onSample(FAST, 5, false);
+		assertEquals(11, limit.getLimit());
+
+		limit.onSample(FAST, 10, false);
+		limit.onSample(FAST, 10, false);
+		assertEquals(12, limit.getLimit());
+	}
+
+	/**
+	 * Tests that an unused limit does not grow.
+	 */
+	@Test
+	void unusedLimitTest() {
+		limit.onSample(FAST, 4, false);
+
+		assertEquals(10, limit.getLimit());
+	}
+
+	/**
+	 * Tests that the limit backs off on drops and slow requests, down to 1.
+	 */
+	@Test
+	void multiplicativeDecreaseTest() {
+		AtomicLong clock = new AtomicLong();
+		AimdLimit clockedLimit = new AimdLimit(10, 12, 0.5, Duration.ofSeconds(1), clock::get);
+
+		clock.addAndGet(FAST);
+		clockedLimit.onSample(FAST, 10, true);
+		assertEquals(5, clockedLimit.getLimit());
+
+		clock.addAndGet(SLOW);
+		clockedLimit.onSample(SLOW, 10, false);
+		assertEquals(2, clockedLimit.getLimit());
+
+		clock.addAndGet(FAST);
+		clockedLimit.onSample(FAST, 1, true);
+		clock.addAndGet(FAST);
+		clockedLimit.onSample(FAST, 1, true);
+		assertEquals(1, clockedLimit.getLimit());
+	}
+
+	/**
+	 * Tests that the limit backs off once per window: drops of requests sent before the last backoff are ignored.
+	 */
+	@Test
+	void backoffOncePerWindowTest() {
+		AtomicLong clock = new AtomicLong();
+		AimdLimit clockedLimit = new AimdLimit(10, 12, 0.5, Duration.ofSeconds(1), clock::get);
+
+		clock.addAndGet(FAST);
+		clockedLimit.onSample(FAST, 10, true);
+		clockedLimit.onSample(FAST, 10, true);
+		clock.addAndGet(FAST);
+		clockedLimit.onSample(FAST * 2, 10, true);
+		assertEquals(5, clockedLimit.getLimit());
+
+		clockedLimit.onSample(FAST, 5, true);
+		assertEquals(2, clockedLimit.getLimit());
+	}
+
+	/**
+	 * Tests that invalid settings are rejected.
+	 */
+	@Test
+	void invalidSettingsTest() {
+		Duration tolerance = Duration.ofSeconds(1);
+
+		assertThrows(IllegalArgumentException.class, () -> new AimdLimit(0, 10, 0.5, tolerance));
+		assertThrows(IllegalArgumentException.class, () -> new AimdLimit(10, 5, 0.5, tolerance));
+		assertThrows(IllegalArgumentException.class, () -> new AimdLimit(1, 10, 0, tolerance));
+		assertThrows(IllegalArgumentException.class, () -> new AimdLimit(1, 10, 1, tolerance));
+	}
+
+}
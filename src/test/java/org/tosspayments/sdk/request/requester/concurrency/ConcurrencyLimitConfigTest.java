@@ -0,0 +1,87 @@
+package org.tosspayments.sdk.request.requester.concurrency;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+import org.tosspayments.sdk.exception.TossApiException;
+import org.tosspayments.sdk.request.requester.SharedScheduler;
+
+import com.fasterxml.jackson.core.JsonParseException;
+
+/**
+ * Tests for {@link ConcurrencyLimitConfig}.
+ */
+class ConcurrencyLimitConfigTest {
+
+	/**
+	 * Tests the default settings.
+	 */
+	@Test
+	void defaultsTest() {
+		ConcurrencyLimitConfig config = ConcurrencyLimitConfig.builder().build();
+
+		assertInstanceOf(AimdLimit.class, config.getLimitAlgorithm());
+		assertEquals(OverflowPolicy.QUEUE, config.getOverflowPolicy());
+		assertEquals(1000, config.getMaxQueueSize());
+		assertEquals(Duration.ofSeconds(5), config.getMaxQueueWait());
+		assertSame(ConcurrencyLimitConfig.DEFAULT_DROP_PREDICATE, config.getDropPredicate());
+		assertSame(SharedScheduler.getInstance(), config.getScheduler());
+		assertSame(SharedScheduler.getExecutor(), config.getExecutor());
+	}
+
+	/**
+	 * Tests the custom settings.
+	 */
+	@Test
+	void customSettingsTest() {
+		LimitAlgorithm limitAlgorithm = new VegasLimit();
+		Predicate<Throwable> dropPredicate = throwable -> false;
+		ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+		Executor executor = Runnable::run;
+
+		ConcurrencyLimitConfig config = ConcurrencyLimitConfig.builder()
+			.withLimitAlgorithm(limitAlgorithm)
+			.withOverflowPolicy(OverflowPolicy.REJECT)
+			.withMaxQueueSize(0)
+			.withMaxQueueWait(Duration.ofSeconds(1))
+			.withDropPredicate(dropPredicate)
+			.withScheduler(scheduler)
+			.withExecutor(executor)
+			.build();
+
+		assertSame(limitAlgorithm, config.getLimitAlgorithm());
+		assertEquals(OverflowPolicy.REJECT, config.getOverflowPolicy());
+		assertEquals(0, config.getMaxQueueSize());
+		assertEquals(Duration.ofSeconds(1), config.getMaxQueueWait());
+		assertSame(dropPredicate, config.getDropPredicate());
+		assertSame(scheduler, config.getScheduler());
+		assertSame(executor, config.getExecutor());
+		assertThrows(IllegalArgumentException.class, () -> ConcurrencyLimitConfig.builder().withMaxQueueSize(-1));
+	}
+
+	/**
+	 * Tests that I/O errors, too many requests and server errors signal overload by default,
+	 * but not a response failing to be parsed.
+	 */
+	@Test
+	void defaultDropPredicateTest() {
+		Predicate<Throwable> predicate = ConcurrencyLimitConfig.DEFAULT_DROP_PREDICATE;
+
+		assertTrue(predicate.test(new TossApiException(429)));
+		assertTrue(predicate.test(new TossApiException(503)));
+		assertTrue(predicate.test(new RuntimeException(new IOException())));
+		assertFalse(predicate.test(new TossApiException(400)));
+		assertFalse(predicate.test(new RuntimeException("parse")));
+		assertFalse(predicate.test(
+			new RuntimeException("Failed to parse response body", new JsonParseException(null, "Unexpected EOF"))
+		));
+	}
+
+}
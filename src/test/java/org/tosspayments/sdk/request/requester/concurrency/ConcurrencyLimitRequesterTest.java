@@ -0,0 +1,472 @@
+package org.tosspayments.sdk.request.requester.concurrency;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.tosspayments.sdk.exception.ConcurrencyLimitExceededException;
+import org.tosspayments.sdk.exception.DeadlineExceededException;
+import org.tosspayments.sdk.exception.TossApiException;
+import org.tosspayments.sdk.request.requester.RequestOptions;
+import org.tosspayments.sdk.request.requester.Requester;
+import org.tosspayments.sdk.request.requester.metrics.RequestMetricsListener;
+
+/**
+ * Tests for {@link ConcurrencyLimitRequester}.
+ */
+class ConcurrencyLimitRequesterTest {
+
+	private static final String TEST_PATH = "/payments/test";
+
+	private Requester delegate;
+
+	private LimitAlgorithm limitAlgorithm;
+
+	private ScheduledExecutorService scheduler;
+
+	/**
+	 * Creates the mocked delegate, a fixed limit of 1 and a mocked scheduler.
+	 */
+	@BeforeEach
+	void setUp() {
+		delegate = mock(Requester.class);
+		limitAlgorithm = mock(LimitAlgorithm.class);
+		when(limitAlgorithm.getLimit()).thenReturn(1);
+		scheduler = mock(ScheduledExecutorService.class);
+		doReturn(mock(ScheduledFuture.class)).when(scheduler).schedule(any(Runnable.class), anyLong(), any());
+	}
+
+	/**
+	 * Tests that an asynchronous request over the limit is queued and sent once the request in flight completes.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void asyncQueueTest() throws Exception {
+		ConcurrencyLimitRequester requester = createRequester(OverflowPolicy.QUEUE, 10);
+		CompletableFuture<String> first = new CompletableFuture<>();
+		when(delegate.getAsync(TEST_PATH, String.class))
+			.thenReturn(first)
+			.thenReturn(CompletableFuture.completedFuture("second"));
+
+		CompletableFuture<String> firstResult = requester.getAsync(TEST_PATH, String.class);
+		CompletableFuture<String> secondResult = requester.getAsync(TEST_PATH, String.class);
+
+		assertEquals(1, requester.getLimit());
+		assertEquals(1, requester.getInFlight());
+		assertEquals(1, requester.getQueued());
+		assertFalse(secondResult.isDone());
+		verify(delegate, times(1)).getAsync(TEST_PATH, String.class);
+
+		first.complete("first");
+
+		assertEquals("first", firstResult.get());
+		assertEquals("second", secondResult.get());
+		assertEquals(0, requester.getInFlight());
+		assertEquals(0, requester.getQueued());
+		verify(limitAlgorithm, times(2)).onSample(anyLong(), eq(1), eq(false));
+	}
+
+	/**
+	 * Tests that a queued asynchronous request granted a permit is sent on the executor,
+	 * not on the stack of the request releasing the permit.
+	 */
+	@Test
+	void asyncQueuedSentOnExecutorTest() {
+		List<Runnable> tasks = new ArrayList<>();
+		ConcurrencyLimitRequester requester = new ConcurrencyLimitRequester(delegate, ConcurrencyLimitConfig.builder()
+			.withLimitAlgorithm(limitAlgorithm)
+			.withScheduler(scheduler)
+			.withExecutor(tasks::add)
+			.build()
+		);
+		CompletableFuture<String> first = new CompletableFuture<>();
+		when(delegate.getAsync(TEST_PATH, String.class))
+			.thenReturn(first)
+			.thenReturn(CompletableFuture.completedFuture("second"));
+
+		requester.getAsync(TEST_PATH, String.class);
+		CompletableFuture<String> second = requester.getAsync(TEST_PATH, String.class);
+		first.complete("first");
+
+		verify(delegate, times(1)).getAsync(TEST_PATH, String.class);
+		assertEquals(1, tasks.size());
+		assertEquals(1, requester.getInFlight());
+
+		tasks.get(0).run();
+
+		assertEquals("second", second.join());
+		assertEquals(0, requester.getInFlight());
+	}
+
+	/**
+	 * Tests that a queued request granted a permit gives it back when the executor rejects it.
+	 */
+	@Test
+	void asyncQueuedRejectedByExecutorTest() {
+		ConcurrencyLimitRequester requester = new ConcurrencyLimitRequester(delegate, ConcurrencyLimitConfig.builder()
+			.withLimitAlgorithm(limitAlgorithm)
+			.withScheduler(scheduler)
+			.withExecutor(task -> {
+				throw new RejectedExecutionException("shut down");
+			})
+			.build()
+		);
+		CompletableFuture<String> first = new CompletableFuture<>();
+		when(delegate.getAsync(TEST_PATH, String.class)).thenReturn(first);
+
+		requester.getAsync(TEST_PATH, String.class);
+		CompletableFuture<String> second = requester.getAsync(TEST_PATH, String.class);
+		first.complete("first");
+
+		assertTrue(second.isCompletedExceptionally());
+		assertEquals(0, requester.getInFlight());
+		assertEquals(0, requester.getQueued());
+	}
+
+	/**
+	 * Tests that the limit, the in-flight count and the queue depth are reported to the metrics listener.
+	 */
+	@Test
+	void metricsListenerTest() {
+		RequestMetricsListener listener = mock(RequestMetricsListener.class);
+		ConcurrencyLimitRequester requester = new ConcurrencyLimitRequester(delegate, ConcurrencyLimitConfig.builder()
+			.withLimitAlgorithm(limitAlgorithm)
+			.withScheduler(scheduler)
+			.withExecutor(Runnable::run)
+			.build(), listener);
+		CompletableFuture<String> first = new CompletableFuture<>();
+		when(delegate.getAsync(TEST_PATH, String.class))
+			.thenReturn(first)
+			.thenReturn(CompletableFuture.completedFuture("second"));
+
+		requester.getAsync(TEST_PATH, String.class);
+		verify(listener, atLeastOnce()).onConcurrencyLimit(1, 1, 0);
+		requester.getAsync(TEST_PATH, String.class);
+		verify(listener, atLeastOnce()).onConcurrencyLimit(1, 1, 1);
+		first.complete("first");
+
+		verify(listener, atLeastOnce()).onConcurrencyLimit(1, 0, 0);
+	}
+
+	/**
+	 * Tests that a queued asynchronous request passes on the failure of the request.
+	 */
+	@Test
+	void asyncQueuedFailureTest() {
+		ConcurrencyLimitRequester requester = createRequester(OverflowPolicy.QUEUE, 10);
+		CompletableFuture<String> first = new CompletableFuture<>();
+		RequestOptions options = RequestOptions.defaults();
+		when(delegate.postAsync(TEST_PATH, "body", String.class, options))
+			.thenReturn(first)
+			.thenReturn(CompletableFuture.failedFuture(new TossApiException(503)));
+
+		requester.postAsync(TEST_PATH, "body", String.class, options);
+		CompletableFuture<String> queued = requester.postAsync(TEST_PATH, "body", String.class, options);
+		first.complete("first");
+
+		ExecutionException exception = assertThrows(ExecutionException.class, queued::get);
+		assertInstanceOf(TossApiException.class, exception.getCause());
+		verify(limitAlgorithm).onSample(anyLong(), eq(1), eq(true));
+		assertEquals(0, requester.getInFlight());
+	}
+
+	/**
+	 * Tests that a queued asynchronous request cancelled by the caller gives its permit back without being sent.
+	 */
+	@Test
+	void asyncCancelledWhileQueuedTest() {
+		ConcurrencyLimitRequester requester = createRequester(OverflowPolicy.QUEUE, 10);
+		CompletableFuture<String> first = new CompletableFuture<>();
+		when(delegate.postAsync(TEST_PATH, "body", String.class)).thenReturn(first);
+
+		requester.postAsync(TEST_PATH, "body", String.class);
+		requester.postAsync(TEST_PATH, "body", String.class).cancel(false);
+		first.complete("first");
+
+		verify(delegate, times(1)).postAsync(TEST_PATH, "body", String.class);
+		assertEquals(0, requester.getInFlight());
+		assertEquals(0, requester.getQueued());
+	}
+
+	/**
+	 * Tests that cancelling a queued asynchronous request after it was sent cancels the request.
+	 */
+	@Test
+	void asyncCancelledAfterSentTest() {
+		ConcurrencyLimitRequester requester = createRequester(OverflowPolicy.QUEUE, 10);
+		CompletableFuture<String> first = new CompletableFuture<>();
+		CompletableFuture<String> sent = new CompletableFuture<>();
+		when(delegate.getAsync(TEST_PATH, String.class)).thenReturn(first).thenReturn(sent);
+
+		requester.getAsync(TEST_PATH, String.class);
+		CompletableFuture<String> queued = requester.getAsync(TEST_PATH, String.class);
+		first.complete("first");
+		queued.cancel(true);
+
+		assertTrue(sent.isCancelled());
+		assertEquals(0, requester.getInFlight());
+	}
+
+	/**
+	 * Tests that a queued request times out after the maximum queue wait.
+	 */
+	@Test
+	void queueTimeoutTest() {
+		ConcurrencyLimitRequester requester = createRequester(OverflowPolicy.QUEUE, 10);
+		when(delegate.getAsync(TEST_PATH, String.class)).thenReturn(new CompletableFuture<>());
+
+		requester.getAsync(TEST_PATH, String.class);
+		CompletableFuture<String> queued = requester.getAsync(TEST_PATH, String.class);
+
+		ArgumentCaptor<Runnable> timeout = ArgumentCaptor.forClass(Runnable.class);
+		verify(scheduler).schedule(timeout.capture(), anyLong(), eq(TimeUnit.NANOSECONDS));
+		timeout.getValue().run();
+		timeout.getValue().run();
+
+		ExecutionException exception = assertThrows(ExecutionException.class, queued::get);
+		assertInstanceOf(ConcurrencyLimitExceededException.class, exception.getCause());
+		assertEquals(0, requester.getQueued());
+		assertEquals(1, requester.getRejected());
+	}
+
+	/**
+	 * Tests that a permit released while a timed out request is leaving the queue skips that request.
+	 */
+	@Test
+	void releaseWhileLeavingQueueTest() {
+		ConcurrencyLimitRequester requester = createRequester(OverflowPolicy.QUEUE, 10);
+		CompletableFuture<String> first = new CompletableFuture<>();
+		when(delegate.getAsync(TEST_PATH, String.class)).thenReturn(first);
+
+		requester.getAsync(TEST_PATH, String.class);
+		CompletableFuture<String> queued = requester.getAsync(TEST_PATH, String.class);
+		// runs while the timed out request is failed but still in the queue
+		queued.whenComplete((response, throwable) -> first.complete("first"));
+
+		ArgumentCaptor<Runnable> timeout = ArgumentCaptor.forClass(Runnable.class);
+		verify(scheduler).schedule(timeout.capture(), anyLong(), eq(TimeUnit.NANOSECONDS));
+		timeout.getValue().run();
+
+		assertTrue(queued.isCompletedExceptionally());
+		assertEquals(0, requester.getInFlight());
+		assertEquals(0, requester.getQueued());
+		verify(delegate, times(1)).getAsync(TEST_PATH, String.class);
+	}
+
+	/**
+	 * Tests that concurrent requests racing for permits both get one while the limit allows it.
+	 */
+	@Test
+	void contendedAcquireTest() {
+		ConcurrencyLimitRequester requester = createRequester(OverflowPolicy.REJECT, 10);
+		when(delegate.getAsync(TEST_PATH, String.class)).thenReturn(new CompletableFuture<>());
+		AtomicInteger limitReads = new AtomicInteger();
+		when(limitAlgorithm.getLimit()).thenAnswer(invocation -> {
+			if (limitReads.incrementAndGet() == 1) {
+				requester.getAsync(TEST_PATH, String.class); // takes a permit between the read and the update
+			}
+			return 2;
+		});
+
+		requester.getAsync(TEST_PATH, String.class);
+
+		assertEquals(2, requester.getInFlight());
+		assertEquals(0, requester.getRejected());
+		verify(delegate, times(2)).getAsync(TEST_PATH, String.class);
+	}
+
+	/**
+	 * Tests that requests over the limit fail when the queue is full.
+	 */
+	@Test
+	void queueFullTest() {
+		ConcurrencyLimitRequester requester = createRequester(OverflowPolicy.QUEUE, 0);
+		when(delegate.getAsync(TEST_PATH, String.class)).thenReturn(new CompletableFuture<>());
+
+		requester.getAsync(TEST_PATH, String.class);
+		ExecutionException exception = assertThrows(
+			ExecutionException.class,
+			() -> requester.getAsync(TEST_PATH, String.class).get()
+		);
+
+		assertEquals("In-flight request queue is full", exception.getCause().getMessage());
+		assertEquals(0, requester.getQueued());
+		assertEquals(1, requester.getRejected());
+	}
+
+	/**
+	 * Tests that requests over the limit fail right away with the reject policy.
+	 */
+	@Test
+	void rejectPolicyTest() {
+		ConcurrencyLimitRequester requester = createRequester(OverflowPolicy.REJECT, 10);
+		when(delegate.getAsync(TEST_PATH, String.class)).thenReturn(new CompletableFuture<>());
+
+		requester.getAsync(TEST_PATH, String.class);
+		assertThrows(ConcurrencyLimitExceededException.class, () -> requester.post(TEST_PATH, "body", String.class));
+
+		assertEquals(1, requester.getRejected());
+		verify(delegate, never()).post(TEST_PATH, "body", String.class);
+	}
+
+	/**
+	 * Tests that a synchronous request over the limit waits for the request in flight to complete.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void syncQueueTest() throws Exception {
+		ConcurrencyLimitRequester requester = createRequester(OverflowPolicy.QUEUE, 10);
+		CompletableFuture<String> first = new CompletableFuture<>();
+		RequestOptions options = RequestOptions.defaults();
+		when(delegate.getAsync(TEST_PATH, String.class)).thenReturn(first);
+		when(delegate.post(TEST_PATH, "body", String.class, options)).thenReturn("second");
+
+		requester.getAsync(TEST_PATH, String.class);
+		CompletableFuture<String> second = CompletableFuture.supplyAsync(
+			() -> requester.post(TEST_PATH, "body", String.class, options)
+		);
+		while (requester.getQueued() == 0) {
+			Thread.onSpinWait();
+		}
+		first.complete("first");
+
+		assertEquals("second", second.get(5, TimeUnit.SECONDS));
+		assertEquals(0, requester.getInFlight());
+	}
+
+	/**
+	 * Tests that a synchronous failure is reported to the limit algorithm and rethrown.
+	 */
+	@Test
+	void syncFailureTest() {
+		ConcurrencyLimitRequester requester = createRequester(OverflowPolicy.QUEUE, 10);
+		when(delegate.get(TEST_PATH, String.class)).thenThrow(new TossApiException(503));
+
+		assertThrows(TossApiException.class, () -> requester.get(TEST_PATH, String.class));
+
+		verify(limitAlgorithm).onSample(anyLong(), eq(1), eq(true));
+		assertEquals(0, requester.getInFlight());
+	}
+
+	/**
+	 * Tests that a synchronous request interrupted while queued leaves the queue.
+	 */
+	@Test
+	void syncInterruptedWhileQueuedTest() {
+		ConcurrencyLimitRequester requester = createRequester(OverflowPolicy.QUEUE, 10);
+		when(delegate.getAsync(TEST_PATH, String.class)).thenReturn(new CompletableFuture<>());
+		requester.getAsync(TEST_PATH, String.class);
+
+		Thread.currentThread().interrupt();
+		RuntimeException exception = assertThrows(
+			RuntimeException.class,
+			() -> requester.get(TEST_PATH, String.class)
+		);
+
+		assertTrue(Thread.interrupted());
+		assertEquals("Request was interrupted", exception.getMessage());
+		assertEquals(0, requester.getQueued());
+		assertEquals(1, requester.getInFlight());
+	}
+
+	/**
+	 * Tests that an asynchronous call failing synchronously is reported through the future and frees its permit.
+	 */
+	@Test
+	void asyncSynchronousFailureTest() {
+		ConcurrencyLimitRequester requester = createRequester(OverflowPolicy.QUEUE, 10);
+		when(delegate.postAsync(TEST_PATH, "body", String.class)).thenThrow(new IllegalStateException("send"));
+
+		CompletableFuture<String> result = requester.postAsync(TEST_PATH, "body", String.class);
+
+		ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+		assertInstanceOf(IllegalStateException.class, exception.getCause());
+		verify(limitAlgorithm).onSample(anyLong(), anyInt(), anyBoolean());
+		assertEquals(0, requester.getInFlight());
+	}
+
+	/**
+	 * Tests that a queued request fails at its deadline when it comes before the maximum queue wait,
+	 * without counting as a rejection.
+	 */
+	@Test
+	void queueDeadlineTest() {
+		ConcurrencyLimitRequester requester = createRequester(OverflowPolicy.QUEUE, 10);
+		RequestOptions options = RequestOptions.defaults().withTimeout(Duration.ofMillis(100));
+		when(delegate.getAsync(TEST_PATH, String.class, options)).thenReturn(new CompletableFuture<>());
+
+		requester.getAsync(TEST_PATH, String.class, options);
+		CompletableFuture<String> queued = requester.getAsync(TEST_PATH, String.class, options);
+
+		ArgumentCaptor<Runnable> timeout = ArgumentCaptor.forClass(Runnable.class);
+		verify(scheduler).schedule(
+			timeout.capture(),
+			longThat(delay -> delay <= Duration.ofMillis(100).toNanos()),
+			eq(TimeUnit.NANOSECONDS)
+		);
+		timeout.getValue().run();
+
+		ExecutionException exception = assertThrows(ExecutionException.class, queued::get);
+		assertInstanceOf(DeadlineExceededException.class, exception.getCause());
+		assertEquals(0, requester.getQueued());
+		assertEquals(0, requester.getRejected());
+		verify(delegate, times(1)).getAsync(TEST_PATH, String.class, options);
+	}
+
+	/**
+	 * Tests that a request whose deadline has passed is not sent, even if the limit allows it.
+	 */
+	@Test
+	void expiredDeadlineTest() {
+		ConcurrencyLimitRequester requester = createRequester(OverflowPolicy.QUEUE, 10);
+		RequestOptions options = RequestOptions.defaults().withDeadline(Instant.now().minusMillis(1));
+		RequestOptions later = RequestOptions.defaults().withTimeout(Duration.ofMinutes(1));
+		when(delegate.get(TEST_PATH, String.class, later)).thenReturn("ok");
+
+		assertThrows(DeadlineExceededException.class, () -> requester.get(TEST_PATH, String.class, options));
+		assertEquals("ok", requester.get(TEST_PATH, String.class, later));
+
+		verify(delegate, never()).get(TEST_PATH, String.class, options);
+		assertEquals(0, requester.getInFlight());
+	}
+
+	/**
+	 * Creates a requester with the fixed limit of 1.
+	 * @param overflowPolicy the overflow policy.
+	 * @param maxQueueSize the maximum queue size.
+	 * @return the requester.
+	 */
+	private ConcurrencyLimitRequester createRequester(OverflowPolicy overflowPolicy, int maxQueueSize) {
+		return new ConcurrencyLimitRequester(delegate, ConcurrencyLimitConfig.builder()
+			.withLimitAlgorithm(limitAlgorithm)
+			.withOverflowPolicy(overflowPolicy)
+			.withMaxQueueSize(maxQueueSize)
+			.withScheduler(scheduler)
+			.withExecutor(Runnable::run)
+			.build()
+		);
+	}
+
+}
@@ -0,0 +1,84 @@
+package org.tosspayments.sdk.request.requester.concurrency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link VegasLimit}.
+ */
+class VegasLimitTest {
+
+	private final VegasLimit limit = new VegasLimit(20, 21);
+
+	/**
+	 * Tests the default settings.
+	 */
+	@Test
+	void defaultsTest() {
+		assertEquals(20, new VegasLimit().getLimit());
+	}
+
+	/**
+	 * Tests that the limit grows while few requests are queued, and only while in use, up to the maximum.
+	 */
+	@Test
+	void increaseTest() {
+		limit.onSample(100, 20, false);
+		assertEquals(21, limit.getLimit());
+
+		limit.onSample(100, 20, false);
+		assertEquals(21, limit.getLimit());
+
+		limit.onSample(100, 1, false);
+		assertEquals(21, limit.getLimit());
+	}
+
+	/**
+	 * Tests that the limit is kept while the estimated queue is between alpha and beta.
+	 */
+	@Test
+	void steadyTest() {
+		limit.onSample(100, 20, false);
+		limit.onSample(125, 20, false);
+
+		assertEquals(21, limit.getLimit());
+	}
+
+	/**
+	 * Tests that the limit shrinks when many requests are estimated to be queued.
+	 */
+	@Test
+	void queueingDecreaseTest() {
+		limit.onSample(100, 20, false);
+		limit.onSample(200, 20, false);
+
+		assertEquals(20, limit.getLimit());
+	}
+
+	/**
+	 * Tests that the limit is halved on drops, down to 1.
+	 */
+	@Test
+	void dropTest() {
+		VegasLimit small = new VegasLimit(1, 10);
+
+		limit.onSample(100, 20, true);
+		small.onSample(100, 1, true);
+		small.onSample(100, 1, false);
+		small.onSample(0, 1, false);
+
+		assertEquals(10, limit.getLimit());
+		assertEquals(3, small.getLimit());
+	}
+
+	/**
+	 * Tests that invalid settings are rejected.
+	 */
+	@Test
+	void invalidSettingsTest() {
+		assertThrows(IllegalArgumentException.class, () -> new VegasLimit(0, 10));
+		assertThrows(IllegalArgumentException.class, () -> new VegasLimit(10, 5));
+	}
+
+}
@@ -0,0 +1,80 @@
+package org.tosspayments.sdk.request.requester.hedging;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.junit.jupiter.api.Test;
+import org.tosspayments.sdk.request.requester.OperationResolver;
+import org.tosspayments.sdk.request.requester.RouteOperationResolver;
+import org.tosspayments.sdk.request.requester.SharedScheduler;
+import org.tosspayments.sdk.request.requester.retry.RetryBudget;
+
+/**
+ * Tests for {@link HedgingPolicy}.
+ */
+class HedgingPolicyTest {
+
+	/**
+	 * Tests the default settings.
+	 */
+	@Test
+	void defaultsTest() {
+		HedgingPolicy policy = HedgingPolicy.builder().build();
+
+		assertEquals(0.95, policy.getPercentile());
+		assertEquals(Duration.ofMillis(10), policy.getMinDelay());
+		assertEquals(1000, policy.getWindowSize());
+		assertEquals(100, policy.getMinSamples());
+		assertEquals(10, policy.getBudget().getAvailableRetries());
+		assertInstanceOf(RouteOperationResolver.class, policy.getOperationResolver());
+		assertSame(SharedScheduler.getInstance(), policy.getScheduler());
+		assertSame(SharedScheduler.getExecutor(), policy.getExecutor());
+	}
+
+	/**
+	 * Tests the custom settings.
+	 */
+	@Test
+	void customSettingsTest() {
+		RetryBudget budget = new RetryBudget(0.01, 1);
+		ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+		OperationResolver resolver = mock(OperationResolver.class);
+
+		HedgingPolicy policy = HedgingPolicy.builder()
+			.withPercentile(0.99)
+			.withMinDelay(Duration.ZERO)
+			.withWindowSize(10)
+			.withMinSamples(5)
+			.withBudget(budget)
+			.withOperationResolver(resolver)
+			.withScheduler(scheduler)
+			.withExecutor(scheduler)
+			.build();
+
+		assertEquals(0.99, policy.getPercentile());
+		assertEquals(Duration.ZERO, policy.getMinDelay());
+		assertEquals(10, policy.getWindowSize());
+		assertEquals(5, policy.getMinSamples());
+		assertSame(budget, policy.getBudget());
+		assertSame(resolver, policy.getOperationResolver());
+		assertSame(scheduler, policy.getScheduler());
+		assertSame(scheduler, policy.getExecutor());
+	}
+
+	/**
+	 * Tests that invalid settings are rejected.
+	 */
+	@Test
+	void invalidSettingsTest() {
+		HedgingPolicy.Builder builder = HedgingPolicy.builder();
+
+		assertThrows(IllegalArgumentException.class, () -> builder.withPercentile(0));
+		assertThrows(IllegalArgumentException.class, () -> builder.withPercentile(1.5));
+		assertThrows(IllegalArgumentException.class, () -> builder.withWindowSize(0));
+		assertThrows(IllegalArgumentException.class, () -> builder.withMinSamples(0));
+	}
+
+}
@@ -0,0 +1,341 @@
+package org.tosspayments.sdk.request.requester.hedging;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.tosspayments.sdk.exception.TossApiException;
+import org.tosspayments.sdk.request.requester.RequestOptions;
+import org.tosspayments.sdk.request.requester.Requester;
+import org.tosspayments.sdk.request.requester.retry.RetryBudget;
+
+/**
+ * Tests for {@link HedgingRequester}.
+ */
+class HedgingRequesterTest {
+
+	private static final String TEST_PATH = "/payments/payment_key";
+
+	private static final String ORDER_PATH = "/payments/orders/order_id";
+
+	private Requester delegate;
+
+	private ScheduledExecutorService scheduler;
+
+	private HedgingRequester requester;
+
+	/**
+	 * Creates a requester hedging after the first recorded latency, with the mocked delegate and scheduler.
+	 */
+	@BeforeEach
+	void setUp() {
+		delegate = mock(Requester.class);
+		scheduler = mock(ScheduledExecutorService.class);
+		doReturn(mock(ScheduledFuture.class)).when(scheduler).schedule(any(Runnable.class), anyLong(), any());
+		requester = createRequester(new RetryBudget(0.05, 10));
+	}
+
+	/**
+	 * Tests that no copy is scheduled until enough latencies were recorded.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void noHedgeUntilWarmTest() throws Exception {
+		when(delegate.getAsync(TEST_PATH, String.class)).thenReturn(CompletableFuture.completedFuture("ok"));
+
+		assertEquals("ok", requester.getAsync(TEST_PATH, String.class).get());
+
+		verify(scheduler, never()).schedule(any(Runnable.class), anyLong(), any());
+	}
+
+	/**
+	 * Tests that a slow request is hedged, the copy wins and the slow request is cancelled.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void hedgeWinsTest() throws Exception {
+		warmUp();
+		CompletableFuture<String> slow = new CompletableFuture<>();
+		when(delegate.getAsync(TEST_PATH, String.class))
+			.thenReturn(slow)
+			.thenReturn(CompletableFuture.completedFuture("hedge"));
+
+		CompletableFuture<String> result = requester.getAsync(TEST_PATH, String.class);
+		runTimer();
+
+		assertEquals("hedge", result.get());
+		assertTrue(slow.isCancelled());
+		assertEquals(1, requester.getHedges());
+	}
+
+	/**
+	 * Tests that no copy is sent once the request completed.
+	 */
+	@Test
+	void primaryWinsTest() {
+		warmUp();
+		CompletableFuture<String> primary = new CompletableFuture<>();
+		when(delegate.getAsync(TEST_PATH, String.class)).thenReturn(primary);
+
+		CompletableFuture<String> result = requester.getAsync(TEST_PATH, String.class);
+		primary.complete("primary");
+		runTimer();
+
+		assertEquals("primary", result.join());
+		assertEquals(0, requester.getHedges());
+		verify(delegate, times(2)).getAsync(TEST_PATH, String.class);
+	}
+
+	/**
+	 * Tests that a failure of one request waits for the other one.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void failureWaitsForOtherRequestTest() throws Exception {
+		warmUp();
+		CompletableFuture<String> primary = new CompletableFuture<>();
+		CompletableFuture<String> hedge = new CompletableFuture<>();
+		when(delegate.getAsync(TEST_PATH, String.class)).thenReturn(primary).thenReturn(hedge);
+
+		CompletableFuture<String> result = requester.getAsync(TEST_PATH, String.class);
+		runTimer();
+		primary.completeExceptionally(new TossApiException(503));
+
+		assertFalse(result.isDone());
+		hedge.complete("hedge");
+		assertEquals("hedge", result.get());
+	}
+
+	/**
+	 * Tests that the last failure is returned once every request failed.
+	 */
+	@Test
+	void allFailedTest() {
+		warmUp();
+		CompletableFuture<String> primary = new CompletableFuture<>();
+		when(delegate.getAsync(TEST_PATH, String.class))
+			.thenReturn(primary)
+			.thenThrow(new IllegalStateException("hedge"));
+
+		CompletableFuture<String> result = requester.getAsync(TEST_PATH, String.class);
+		runTimer();
+		assertFalse(result.isDone());
+		primary.completeExceptionally(new TossApiException(503));
+
+		ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+		assertInstanceOf(TossApiException.class, exception.getCause());
+	}
+
+	/**
+	 * Tests that no copy is sent when the budget is used up.
+	 */
+	@Test
+	void budgetExhaustedTest() {
+		requester = createRequester(new RetryBudget(0, 0));
+		warmUp();
+		when(delegate.getAsync(TEST_PATH, String.class)).thenReturn(new CompletableFuture<>());
+
+		requester.getAsync(TEST_PATH, String.class);
+		runTimer();
+
+		assertEquals(0, requester.getHedges());
+		verify(delegate, times(2)).getAsync(TEST_PATH, String.class);
+	}
+
+	/**
+	 * Tests that each route has its own window, so a lookup of another resource is not hedged
+	 * with the latencies of the first one.
+	 */
+	@Test
+	void windowPerRouteTest() {
+		warmUp();
+		when(delegate.getAsync(ORDER_PATH, String.class)).thenReturn(new CompletableFuture<>());
+
+		requester.getAsync(ORDER_PATH, String.class);
+
+		verify(scheduler, never()).schedule(any(Runnable.class), anyLong(), any());
+		assertTrue(requester.getHedgeDelayNanos("GET /payments/{id}").isPresent());
+		assertTrue(requester.getHedgeDelayNanos("GET /payments/orders/{id}").isEmpty());
+		assertEquals(Set.of("GET /payments/{id}", "GET /payments/orders/{id}"), requester.getOperations());
+	}
+
+	/**
+	 * Tests that the latencies of failed requests are recorded too.
+	 */
+	@Test
+	void failureRecordedTest() {
+		when(delegate.getAsync(TEST_PATH, String.class))
+			.thenReturn(CompletableFuture.failedFuture(new TossApiException(404)))
+			.thenReturn(new CompletableFuture<>());
+
+		requester.getAsync(TEST_PATH, String.class);
+		requester.getAsync(TEST_PATH, String.class);
+
+		verify(scheduler).schedule(any(Runnable.class), anyLong(), eq(TimeUnit.NANOSECONDS));
+	}
+
+	/**
+	 * Tests that the timer only hands the copy to the executor, which sends it.
+	 */
+	@Test
+	void hedgeSentOnExecutorTest() {
+		List<Runnable> handedOff = new ArrayList<>();
+		requester = new HedgingRequester(delegate, HedgingPolicy.builder()
+			.withMinSamples(1)
+			.withMinDelay(Duration.ZERO)
+			.withScheduler(scheduler)
+			.withExecutor(handedOff::add)
+			.build()
+		);
+		warmUp();
+		when(delegate.getAsync(TEST_PATH, String.class))
+			.thenReturn(new CompletableFuture<>())
+			.thenReturn(CompletableFuture.completedFuture("hedge"));
+
+		CompletableFuture<String> result = requester.getAsync(TEST_PATH, String.class);
+		runTimer();
+
+		assertEquals(0, requester.getHedges());
+		assertEquals(1, handedOff.size());
+
+		handedOff.get(0).run();
+		assertEquals("hedge", result.join());
+	}
+
+	/**
+	 * Tests that POST requests are passed through without hedging.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void postNeverHedgedTest() throws Exception {
+		RequestOptions options = RequestOptions.defaults();
+		when(delegate.post(TEST_PATH, "body", String.class)).thenReturn("post");
+		when(delegate.post(TEST_PATH, "body", String.class, options)).thenReturn("post options");
+		when(delegate.postAsync(TEST_PATH, "body", String.class))
+			.thenReturn(CompletableFuture.completedFuture("async"));
+		when(delegate.postAsync(TEST_PATH, "body", String.class, options))
+			.thenReturn(CompletableFuture.completedFuture("async options"));
+
+		assertEquals("post", requester.post(TEST_PATH, "body", String.class));
+		assertEquals("post options", requester.post(TEST_PATH, "body", String.class, options));
+		assertEquals("async", requester.postAsync(TEST_PATH, "body", String.class).get());
+		assertEquals("async options", requester.postAsync(TEST_PATH, "body", String.class, options).get());
+		verify(scheduler, never()).schedule(any(Runnable.class), anyLong(), any());
+	}
+
+	/**
+	 * Tests that synchronous GET requests return the response and rethrow failures.
+	 */
+	@Test
+	void syncGetTest() {
+		when(delegate.getAsync(TEST_PATH, String.class))
+			.thenReturn(CompletableFuture.completedFuture("ok"))
+			.thenReturn(CompletableFuture.failedFuture(new TossApiException(404)))
+			.thenReturn(CompletableFuture.failedFuture(new IOException("reset")));
+
+		assertEquals("ok", requester.get(TEST_PATH, String.class));
+		assertThrows(TossApiException.class, () -> requester.get(TEST_PATH, String.class));
+		RuntimeException exception = assertThrows(RuntimeException.class, () -> requester.get(TEST_PATH, String.class));
+		assertInstanceOf(IOException.class, exception.getCause());
+	}
+
+	/**
+	 * Tests that an interrupted synchronous GET request cancels the requests in flight.
+	 */
+	@Test
+	void syncGetInterruptedTest() {
+		CompletableFuture<String> pending = new CompletableFuture<>();
+		when(delegate.getAsync(TEST_PATH, String.class)).thenReturn(pending);
+
+		Thread.currentThread().interrupt();
+		RuntimeException exception = assertThrows(RuntimeException.class, () -> requester.get(TEST_PATH, String.class));
+
+		assertTrue(Thread.interrupted());
+		assertEquals("Request was interrupted", exception.getMessage());
+		assertTrue(pending.isCancelled());
+	}
+
+	/**
+	 * Tests that GET requests with options are hedged with their options,
+	 * and that no copy is sent once their deadline has passed.
+	 */
+	@Test
+	void noHedgePastDeadlineTest() {
+		warmUp();
+		RequestOptions options = RequestOptions.defaults().withDeadline(Instant.now().minusMillis(1));
+		when(delegate.getAsync(TEST_PATH, String.class, options)).thenReturn(new CompletableFuture<>());
+
+		requester.getAsync(TEST_PATH, String.class, options);
+		runTimer();
+
+		assertEquals(0, requester.getHedges());
+		verify(delegate, times(1)).getAsync(TEST_PATH, String.class, options);
+	}
+
+	/**
+	 * Tests that synchronous GET requests with options wait for the hedged response.
+	 */
+	@Test
+	void syncGetWithOptionsTest() {
+		RequestOptions options = RequestOptions.defaults().withTimeout(Duration.ofMinutes(1));
+		when(delegate.getAsync(TEST_PATH, String.class, options)).thenReturn(CompletableFuture.completedFuture("ok"));
+
+		assertEquals("ok", requester.get(TEST_PATH, String.class, options));
+	}
+
+	/**
+	 * Records the latency of one request, so the next requests are hedged.
+	 */
+	private void warmUp() {
+		when(delegate.getAsync(TEST_PATH, String.class)).thenReturn(CompletableFuture.completedFuture("warm"));
+		requester.getAsync(TEST_PATH, String.class).join();
+	}
+
+	/**
+	 * Runs the last hedge timer scheduled on the mocked scheduler.
+	 */
+	private void runTimer() {
+		ArgumentCaptor<Runnable> timer = ArgumentCaptor.forClass(Runnable.class);
+		verify(scheduler, atLeastOnce()).schedule(timer.capture(), anyLong(), eq(TimeUnit.NANOSECONDS));
+		timer.getValue().run();
+	}
+
+	/**
+	 * Creates a requester hedging after one recorded latency.
+	 * @param budget the hedge budget.
+	 * @return the requester.
+	 */
+	private HedgingRequester createRequester(RetryBudget budget) {
+		return new HedgingRequester(delegate, HedgingPolicy.builder()
+			.withMinSamples(1)
+			.withMinDelay(Duration.ZERO)
+			.withBudget(budget)
+			.withScheduler(scheduler)
+			.withExecutor(Runnable::run)
+			.build()
+		);
+	}
+
+
+}
@@ -0,0 +1,57 @@
+package org.tosspayments.sdk.request.requester.hedging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LatencyWindow}.
+ */
+class LatencyWindowTest {
+
+	/**
+	 * Tests that the percentile is not available until the window has enough samples.
+	 */
+	@Test
+	void notAvailableTest() {
+		LatencyWindow window = new LatencyWindow(100, 0.5, 3);
+
+		window.record(10);
+		window.record(20);
+
+		assertEquals(LatencyWindow.NOT_AVAILABLE, window.getPercentileNanos());
+	}
+
+	/**
+	 * Tests that the percentile is computed once the window has enough samples.
+	 */
+	@Test
+	void percentileTest() {
+		LatencyWindow window = new LatencyWindow(100, 0.5, 4);
+
+		window.record(40);
+		window.record(10);
+		window.record(30);
+		window.record(20);
+
+		assertEquals(20, window.getPercentileNanos());
+	}
+
+	/**
+	 * Tests that the percentile is recomputed over the last samples as the window slides.
+	 */
+	@Test
+	void slidingTest() {
+		LatencyWindow window = new LatencyWindow(16, 1, 1);
+
+		window.record(1000);
+		assertEquals(1000, window.getPercentileNanos());
+
+		for (int i = 0; i < 16; i++) {
+			window.record(i);
+		}
+
+		assertEquals(15, window.getPercentileNanos());
+	}
+
+}
@@ -0,0 +1,125 @@
+package org.tosspayments.sdk.request.requester.httpclient;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.tosspayments.sdk.request.requester.RequestOptions;
+import org.tosspayments.sdk.request.requester.metrics.RequestEvent;
+import org.tosspayments.sdk.request.requester.metrics.RequestMetricsListener;
+
+/**
+ * Tests for {@link ExchangeRecorder}.
+ */
+class ExchangeRecorderTest {
+
+	private static final String PATH = "/v1/payments/confirm";
+
+	private static final HttpRequest POST_REQUEST = HttpRequest.newBuilder(URI.create("http://localhost" + PATH))
+		.POST(HttpRequest.BodyPublishers.ofByteArray(new byte[12]))
+		.build();
+
+	private RequestMetricsListener listener;
+
+	/**
+	 * Creates a mocked listener.
+	 */
+	@BeforeEach
+	void setUp() {
+		listener = mock(RequestMetricsListener.class);
+	}
+
+	/**
+	 * Tests that exchanges are not recorded without a listener.
+	 */
+	@Test
+	void disabledTest() {
+		ExchangeRecorder recorder = ExchangeRecorder.start(null, PATH, POST_REQUEST, RequestOptions.defaults());
+		InputStream body = new ByteArrayInputStream(new byte[1]);
+
+		assertSame(ExchangeRecorder.DISABLED, recorder);
+		assertFalse(recorder.isEnabled());
+		assertSame(body, recorder.counting(body));
+		recorder.onResponse(200);
+		recorder.onBytes(1);
+		recorder.onParseStart();
+		recorder.end(null);
+	}
+
+	/**
+	 * Tests the timings, sizes and outcome reported for an exchange, and that it is reported once.
+	 *
+	 * @throws IOException if unexpected error occurs.
+	 */
+	@Test
+	void recordTest() throws IOException {
+		RequestOptions options = RequestOptions.defaults().withSubmittedAt(System.nanoTime() - 1_000_000);
+		ExchangeRecorder recorder = ExchangeRecorder.start(listener, PATH, POST_REQUEST, options);
+		verify(listener).onRequestStart("POST", PATH);
+
+		recorder.onResponse(201);
+		try (InputStream body = recorder.counting(new ByteArrayInputStream(new byte[10]))) {
+			assertEquals(0, body.read());
+			assertEquals(8, body.read(new byte[8], 0, 8));
+			recorder.onParseStart();
+			assertEquals(1, body.read(new byte[8], 0, 8));
+			assertEquals(-1, body.read());
+			assertEquals(-1, body.read(new byte[8], 0, 8));
+		}
+		IllegalStateException failure = new IllegalStateException();
+		recorder.end(new CompletionException(failure));
+		recorder.end(null);
+
+		RequestEvent event = capture();
+		assertEquals("POST", event.getMethod());
+		assertEquals(PATH, event.getPath());
+		assertEquals(201, event.getStatusCode());
+		assertTrue(event.getQueueNanos() >= 1_000_000);
+		assertTrue(event.getNetworkNanos() >= 0);
+		assertTrue(event.getParseNanos() >= 0);
+		assertEquals(12, event.getRequestBytes());
+		assertEquals(10, event.getResponseBytes());
+		assertSame(failure, event.getFailure());
+	}
+
+	/**
+	 * Tests an exchange ending without response: the queue and parse times are not measured.
+	 */
+	@Test
+	void noResponseTest() {
+		HttpRequest getRequest = HttpRequest.newBuilder(URI.create("http://localhost" + PATH)).GET().build();
+		ExchangeRecorder recorder = ExchangeRecorder.start(listener, PATH, getRequest, RequestOptions.defaults());
+		CompletionException failure = new CompletionException(null);
+
+		recorder.end(failure);
+
+		RequestEvent event = capture();
+		assertEquals(RequestEvent.NO_RESPONSE, event.getStatusClass());
+		assertEquals(RequestEvent.NOT_MEASURED, event.getQueueNanos());
+		assertEquals(RequestEvent.NOT_MEASURED, event.getParseNanos());
+		assertEquals(0, event.getRequestBytes());
+		assertEquals(0, event.getResponseBytes());
+		assertSame(failure, event.getFailure());
+	}
+
+	/**
+	 * Returns the event reported to the listener, checking it was reported once.
+	 * @return the reported event.
+	 */
+	private RequestEvent capture() {
+		ArgumentCaptor<RequestEvent> event = ArgumentCaptor.forClass(RequestEvent.class);
+		verify(listener, times(1)).onRequestEnd(event.capture());
+
+		return event.getValue();
+	}
+
+}
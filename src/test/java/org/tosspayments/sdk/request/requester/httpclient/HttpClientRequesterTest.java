@@ -6,24 +6,49 @@ import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.any;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.jetty.http.HttpStatus;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
+import org.tosspayments.sdk.authorization.TossPaymentsAuthentication;
+import org.tosspayments.sdk.exception.DeadlineExceededException;
 import org.tosspayments.sdk.exception.TossApiException;
+import org.tosspayments.sdk.request.idempotency.DerivedIdempotencyKeyProvider;
+import org.tosspayments.sdk.request.idempotency.RandomIdempotencyKeyProvider;
+import org.tosspayments.sdk.request.requester.RequestOptions;
+import org.tosspayments.sdk.request.requester.circuitbreaker.CircuitBreaker;
+import org.tosspayments.sdk.request.requester.circuitbreaker.CircuitBreakerConfig;
+import org.tosspayments.sdk.request.requester.circuitbreaker.CircuitBreakerRequester;
+import org.tosspayments.sdk.request.requester.metrics.EndpointStats;
+import org.tosspayments.sdk.request.requester.metrics.RequestEvent;
+import org.tosspayments.sdk.request.requester.metrics.RequestMetrics;
+import org.tosspayments.sdk.request.requester.retry.RetryPolicy;
+import org.tosspayments.sdk.request.requester.tracing.TraceContext;
+import org.tosspayments.sdk.request.requester.tracing.TraceScope;
+import org.tosspayments.sdk.request.requester.tracing.TraceSpan;
 import org.tosspayments.sdk.util.toss.TossApiMockTest;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.common.Json;
 
 /**
@@ -61,6 +86,233 @@ class HttpClientRequesterTest extends TossApiMockTest {
 		assertNotNull(response);
 	}
 
+	/**
+	 * Tests that gzip compressed responses are accepted and inflated, when read synchronously and asynchronously.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void gzipResponseTest() throws Exception {
+		wireMockServer.stubFor(get(urlEqualTo(TEST_ENDPOINT))
+			.withHeader("Accept-Encoding", equalTo("gzip"))
+			.willReturn(aResponse()
+				.withStatus(HttpStatus.OK_200)
+				.withHeader("Content-Encoding", "gzip")
+				.withBody(JsonBodySubscriberTest.gzip(TEST_BODY))
+			)
+		);
+
+		assertEquals(Map.of("message", "Hello, World!"), requester.get(TEST_ENDPOINT, Map.class));
+		assertEquals(Map.of("message", "Hello, World!"), requester.getAsync(TEST_ENDPOINT, Map.class).get());
+	}
+
+	/**
+	 * Tests that compressed responses are not asked for when response compression is disabled.
+	 */
+	@Test
+	void responseCompressionDisabledTest() {
+		HttpClientRequester uncompressedRequester = new HttpClientRequester(
+			getEndpoint(),
+			getAuthorization(),
+			HttpTransportConfig.builder().withResponseCompression(false).build(),
+			new RandomIdempotencyKeyProvider()
+		);
+		wireMockServer.stubFor(get(urlEqualTo(TEST_ENDPOINT))
+			.withHeader("Accept-Encoding", absent())
+			.willReturn(aResponse()
+				.withStatus(HttpStatus.OK_200)
+				.withBody(TEST_BODY)
+			)
+		);
+
+		assertEquals(Map.of("message", "Hello, World!"), uncompressedRequester.get(TEST_ENDPOINT, Map.class));
+	}
+
+	/**
+	 * Tests the metrics recorded for synchronous exchanges: queue time from the submission time of the options,
+	 * sizes of the bodies, and the failure statuses.
+	 */
+	@Test
+	void syncMetricsTest() {
+		RequestMetrics metrics = new RequestMetrics();
+		HttpClientRequester metricsRequester = metricsRequester(metrics);
+		wireMockServer.stubFor(get(urlEqualTo(TEST_ENDPOINT))
+			.willReturn(aResponse()
+				.withStatus(HttpStatus.OK_200)
+				.withBody(TEST_BODY)
+			)
+		);
+		wireMockServer.stubFor(post(urlEqualTo(TEST_ENDPOINT))
+			.willReturn(aResponse()
+				.withStatus(HttpStatus.INTERNAL_SERVER_ERROR_500)
+				.withBody(TEST_BODY)
+			)
+		);
+
+		RequestOptions options = RequestOptions.defaults().withSubmittedAt(System.nanoTime());
+		metricsRequester.get(TEST_ENDPOINT, Map.class, options);
+		assertThrows(TossApiException.class, () -> metricsRequester.post(TEST_ENDPOINT, Map.of("a", 1), Map.class));
+
+		EndpointStats lookups = metrics.getStats("lookup", "2xx");
+		assertEquals(1, lookups.getRequestCount());
+		assertEquals(1, lookups.getQueueTime().getCount());
+		assertEquals(1, lookups.getParseTime().getCount());
+		assertEquals(0, lookups.getRequestBytesTotal());
+		assertEquals(TEST_BODY.length(), lookups.getResponseBytesTotal());
+
+		EndpointStats failures = metrics.getStats("api", "5xx");
+		assertEquals(1, failures.getRequestCount());
+		assertEquals(0, failures.getQueueTime().getCount());
+		assertEquals(0, failures.getParseTime().getCount());
+		assertEquals("{\"a\":1}".length(), failures.getRequestBytesTotal());
+		assertEquals(TEST_BODY.length(), failures.getResponseBytesTotal());
+		assertEquals(0, metrics.getInFlight());
+	}
+
+	/**
+	 * Tests the metrics recorded for asynchronous exchanges, reported before the returned futures complete.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void asyncMetricsTest() throws Exception {
+		RequestMetrics metrics = new RequestMetrics();
+		HttpClientRequester metricsRequester = metricsRequester(metrics);
+		wireMockServer.stubFor(get(urlEqualTo(TEST_ENDPOINT))
+			.willReturn(aResponse()
+				.withStatus(HttpStatus.OK_200)
+				.withBody(TEST_BODY)
+			)
+		);
+		wireMockServer.stubFor(post(urlEqualTo(TEST_ENDPOINT))
+			.willReturn(aResponse()
+				.withStatus(HttpStatus.BAD_REQUEST_400)
+				.withBody(TEST_BODY)
+			)
+		);
+
+		metricsRequester.getAsync(TEST_ENDPOINT, Map.class).get();
+		assertThrows(
+			ExecutionException.class,
+			() -> metricsRequester.postAsync(TEST_ENDPOINT, Map.of("a", 1), Map.class).get()
+		);
+
+		EndpointStats lookups = metrics.getStats("lookup", "2xx");
+		assertEquals(1, lookups.getRequestCount());
+		assertEquals(TEST_BODY.length(), lookups.getResponseBytesTotal());
+		EndpointStats failures = metrics.getStats("api", "4xx");
+		assertEquals(1, failures.getRequestCount());
+		assertEquals(TEST_BODY.length(), failures.getResponseBytesTotal());
+		assertEquals(0, metrics.getInFlight());
+	}
+
+	/**
+	 * Tests that exchanges failing without a response, or rejected by the HTTP client, are recorded.
+	 */
+	@Test
+	void noResponseMetricsTest() {
+		RequestMetrics metrics = new RequestMetrics();
+		HttpClientRequester metricsRequester = metricsRequester(metrics);
+		HttpClient mockHttpClient = mock(HttpClient.class);
+		try {
+			Mockito.when(mockHttpClient.send(any(), any())).thenThrow(new IOException("connection reset"));
+		} catch (IOException | InterruptedException e) {
+			throw new RuntimeException(e);
+		}
+		Mockito.when(mockHttpClient.sendAsync(any(), any())).thenThrow(new IllegalStateException("shut down"));
+		setHttpClient(metricsRequester, mockHttpClient);
+
+		assertThrows(RuntimeException.class, () -> metricsRequester.get(TEST_ENDPOINT, Map.class));
+		assertThrows(IllegalStateException.class, () -> metricsRequester.getAsync(TEST_ENDPOINT, Map.class));
+		assertThrows(IllegalStateException.class, () -> metricsRequester.postAsync(TEST_ENDPOINT, "body", Map.class));
+
+		assertEquals(2, metrics.getStats("lookup", RequestEvent.NO_RESPONSE).getRequestCount());
+		assertEquals(1, metrics.getStats("api", RequestEvent.NO_RESPONSE).getRequestCount());
+		assertEquals(0, metrics.getInFlight());
+	}
+
+	/**
+	 * Tests that each attempt of a traced synchronous call gets a span, current while it runs,
+	 * whose trace context is sent in the traceparent header.
+	 */
+	@Test
+	void syncTracingTest() {
+		TraceContext context = TraceContext.newRoot(true);
+		TraceSpan attempt = attemptSpan(context);
+		TraceSpan call = mock(TraceSpan.class);
+		Mockito.when(call.startAttempt(anyString(), anyString())).thenReturn(attempt);
+		wireMockServer.stubFor(get(urlEqualTo(TEST_ENDPOINT))
+			.withHeader("traceparent", equalTo(context.toTraceparent()))
+			.willReturn(aResponse()
+				.withStatus(HttpStatus.OK_200)
+				.withBody(TEST_BODY)
+			)
+		);
+		wireMockServer.stubFor(post(urlEqualTo(TEST_ENDPOINT))
+			.withHeader("traceparent", equalTo(context.toTraceparent()))
+			.willReturn(aResponse()
+				.withStatus(HttpStatus.INTERNAL_SERVER_ERROR_500)
+			)
+		);
+		RequestOptions options = RequestOptions.defaults().withTraceSpan(call);
+
+		assertEquals(Map.of("message", "Hello, World!"), requester.get(TEST_ENDPOINT, Map.class, options));
+		TossApiException failure = assertThrows(
+			TossApiException.class,
+			() -> requester.post(TEST_ENDPOINT, "body", Map.class, options)
+		);
+
+		verify(call).startAttempt("GET", TEST_ENDPOINT);
+		verify(call).startAttempt("POST", TEST_ENDPOINT);
+		verify(attempt).end(null);
+		verify(attempt).end(failure);
+		verify(attempt.makeCurrent(), times(2)).close();
+	}
+
+	/**
+	 * Tests that each attempt of a traced asynchronous call gets a span, ended before the call completes,
+	 * and that no traceparent header is sent for spans without a trace context.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void asyncTracingTest() throws Exception {
+		TraceSpan attempt = attemptSpan(null);
+		TraceSpan call = mock(TraceSpan.class);
+		Mockito.when(call.startAttempt(anyString(), anyString())).thenReturn(attempt);
+		wireMockServer.stubFor(get(urlEqualTo(TEST_ENDPOINT))
+			.withHeader("traceparent", absent())
+			.willReturn(aResponse()
+				.withStatus(HttpStatus.OK_200)
+				.withBody(TEST_BODY)
+			)
+		);
+		wireMockServer.stubFor(post(urlEqualTo(TEST_ENDPOINT))
+			.willReturn(aResponse()
+				.withStatus(HttpStatus.BAD_REQUEST_400)
+			)
+		);
+		RequestOptions options = RequestOptions.defaults().withTraceSpan(call);
+
+		assertEquals(Map.of("message", "Hello, World!"), requester.getAsync(TEST_ENDPOINT, Map.class, options).get());
+		verify(attempt).end(null);
+		ExecutionException exception = assertThrows(
+			ExecutionException.class,
+			() -> requester.postAsync(TEST_ENDPOINT, "body", Map.class, options).get()
+		);
+		verify(attempt).end(exception.getCause());
+		verify(attempt.makeCurrent(), times(2)).close();
+
+		Mockito.when(attempt.getContext()).thenReturn(TraceContext.newRoot(false));
+		HttpClient mockHttpClient = mock(HttpClient.class);
+		IllegalStateException rejection = new IllegalStateException("shut down");
+		Mockito.when(mockHttpClient.sendAsync(any(), any())).thenThrow(rejection);
+		setHttpClient(requester, mockHttpClient);
+
+		assertThrows(IllegalStateException.class, () -> requester.getAsync(TEST_ENDPOINT, Map.class, options));
+		verify(attempt).end(rejection);
+	}
+
 	/**
 	 * Test for a simple GET request when failure by bad request status.
 	 */
@@ -165,6 +417,21 @@ class HttpClientRequesterTest extends TossApiMockTest {
 		);
 	}
 
+	/**
+	 * Tests that cancelling an asynchronous GET request aborts the HTTP exchange.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void getAsyncCancellationAbortsExchangeTest() throws Exception {
+		CompletableFuture<HttpResponse<Object>> exchange = new CompletableFuture<>();
+		setHttpClient(requester, mockPendingHttpClient(exchange));
+
+		requester.getAsync(TEST_ENDPOINT, Object.class).cancel(true);
+
+		assertTrue(exchange.isCancelled());
+	}
+
 	/**
 	 * Test for a POST request.
 	 */
@@ -264,6 +531,169 @@ class HttpClientRequesterTest extends TossApiMockTest {
 		assertNotNull(response);
 	}
 
+	/**
+	 * Test that every POST request gets its own Idempotency-Key and GET requests get none.
+	 */
+	@Test
+	void idempotencyKeyPerPostRequestTest() {
+		wireMockServer.stubFor(post(urlEqualTo(TEST_ENDPOINT))
+			.willReturn(aResponse()
+				.withStatus(HttpStatus.OK_200)
+				.withBody(TEST_BODY)
+			)
+		);
+		wireMockServer.stubFor(get(urlEqualTo(TEST_ENDPOINT))
+			.willReturn(aResponse()
+				.withStatus(HttpStatus.OK_200)
+				.withBody(TEST_BODY)
+			)
+		);
+
+		requester.post(TEST_ENDPOINT, Map.of("orderId", "order-1"), Object.class);
+		requester.post(TEST_ENDPOINT, Map.of("orderId", "order-1"), Object.class);
+		requester.get(TEST_ENDPOINT, Object.class);
+
+		List<String> idempotencyKeys = wireMockServer.findAll(postRequestedFor(urlEqualTo(TEST_ENDPOINT))).stream()
+			.map(request -> request.getHeader("Idempotency-Key"))
+			.toList();
+		assertEquals(2, idempotencyKeys.size());
+		assertNotNull(idempotencyKeys.get(0));
+		assertNotEquals(idempotencyKeys.get(0), idempotencyKeys.get(1));
+		wireMockServer.verify(getRequestedFor(urlEqualTo(TEST_ENDPOINT)).withoutHeader("Idempotency-Key"));
+	}
+
+	/**
+	 * Test that the Idempotency-Key given with the options is sent instead of an issued one.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void givenIdempotencyKeyTest() throws Exception {
+		wireMockServer.stubFor(post(urlEqualTo(TEST_ENDPOINT))
+			.willReturn(aResponse()
+				.withStatus(HttpStatus.OK_200)
+				.withBody(TEST_BODY)
+			)
+		);
+		RequestOptions options = RequestOptions.defaults().withIdempotencyKey("given-key");
+
+		requester.post(TEST_ENDPOINT, Map.of(), Object.class, options);
+		requester.postAsync(TEST_ENDPOINT, Map.of(), Object.class, options).get();
+
+		wireMockServer.verify(2, postRequestedFor(urlEqualTo(TEST_ENDPOINT))
+			.withHeader("Idempotency-Key", equalTo("given-key")));
+	}
+
+	/**
+	 * Test that concurrent POST requests sharing an Idempotency-Key are collapsed into a single exchange.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void concurrentIdenticalPostsAreCollapsedTest() throws Exception {
+		wireMockServer.stubFor(post(urlEqualTo(TEST_ENDPOINT))
+			.willReturn(aResponse()
+				.withStatus(HttpStatus.OK_200)
+				.withBody(TEST_BODY)
+				.withFixedDelay(500)
+			)
+		);
+		HttpClientRequester derivedKeyRequester = createDerivedKeyRequester();
+
+		CompletableFuture<Object> first = derivedKeyRequester.postAsync(TEST_ENDPOINT, Map.of(), Object.class);
+		CompletableFuture<Object> second = derivedKeyRequester.postAsync(TEST_ENDPOINT, Map.of(), Object.class);
+
+		assertEquals(first.get(), second.get());
+		wireMockServer.verify(1, postRequestedFor(urlEqualTo(TEST_ENDPOINT)));
+
+		derivedKeyRequester.post(TEST_ENDPOINT, Map.of(), Object.class);
+		wireMockServer.verify(2, postRequestedFor(urlEqualTo(TEST_ENDPOINT)));
+	}
+
+	/**
+	 * Test that concurrent POST requests sharing an Idempotency-Key are not collapsed across credentials.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void concurrentPostsOfTenantsAreNotCollapsedTest() throws Exception {
+		wireMockServer.stubFor(post(urlEqualTo(TEST_ENDPOINT))
+			.willReturn(aResponse()
+				.withStatus(HttpStatus.OK_200)
+				.withBody(TEST_BODY)
+				.withFixedDelay(500)
+			)
+		);
+		HttpClientRequester derivedKeyRequester = createDerivedKeyRequester();
+		RequestOptions tenantA = RequestOptions.defaults().withAuthentication(new TossPaymentsAuthentication("a"));
+		RequestOptions tenantB = RequestOptions.defaults().withAuthentication(new TossPaymentsAuthentication("b"));
+
+		CompletableFuture<Object> first = derivedKeyRequester.postAsync(TEST_ENDPOINT, Map.of(), Object.class,
+			tenantA);
+		CompletableFuture<Object> second = derivedKeyRequester.postAsync(TEST_ENDPOINT, Map.of(), Object.class,
+			tenantB);
+		CompletableFuture<Object> third = derivedKeyRequester.postAsync(TEST_ENDPOINT, Map.of(), Object.class,
+			tenantA);
+
+		first.get();
+		second.get();
+		third.get();
+		wireMockServer.verify(2, postRequestedFor(urlEqualTo(TEST_ENDPOINT)));
+	}
+
+	/**
+	 * Test that a requester without a credential sends the credential of each call, or none.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void perCallCredentialTest() throws Exception {
+		wireMockServer.stubFor(get(urlEqualTo(TEST_ENDPOINT))
+			.willReturn(aResponse()
+				.withStatus(HttpStatus.OK_200)
+				.withBody(TEST_BODY)
+			)
+		);
+		wireMockServer.stubFor(post(urlEqualTo(TEST_ENDPOINT))
+			.willReturn(aResponse()
+				.withStatus(HttpStatus.OK_200)
+				.withBody(TEST_BODY)
+			)
+		);
+		HttpClientRequester sharedRequester = new HttpClientRequester(getEndpoint(), null);
+		RequestOptions options = RequestOptions.defaults().withAuthentication(new TossPaymentsAuthentication("test"));
+
+		sharedRequester.get(TEST_ENDPOINT, Object.class, options);
+		sharedRequester.postAsync(TEST_ENDPOINT, Map.of(), Object.class, options).get();
+		sharedRequester.get(TEST_ENDPOINT, Object.class);
+
+		wireMockServer.verify(getRequestedFor(urlEqualTo(TEST_ENDPOINT))
+			.withHeader("Authorization", equalTo("Basic dGVzdDo=")));
+		wireMockServer.verify(postRequestedFor(urlEqualTo(TEST_ENDPOINT))
+			.withHeader("Authorization", equalTo("Basic dGVzdDo=")));
+		wireMockServer.verify(getRequestedFor(urlEqualTo(TEST_ENDPOINT)).withoutHeader("Authorization"));
+	}
+
+	/**
+	 * Test that the credential of a call replaces the credential of the requester.
+	 */
+	@Test
+	void perCallCredentialOverridesDefaultTest() {
+		wireMockServer.stubFor(get(urlEqualTo(TEST_ENDPOINT))
+			.willReturn(aResponse()
+				.withStatus(HttpStatus.OK_200)
+				.withBody(TEST_BODY)
+			)
+		);
+		RequestOptions options = RequestOptions.defaults().withAuthentication(new TossPaymentsAuthentication("test"));
+
+		requester.get(TEST_ENDPOINT, Object.class, options);
+
+		wireMockServer.verify(1, getRequestedFor(urlEqualTo(TEST_ENDPOINT)));
+		wireMockServer.verify(getRequestedFor(urlEqualTo(TEST_ENDPOINT))
+			.withHeader("Authorization", equalTo("Basic dGVzdDo=")));
+	}
+
 	/**
 	 * Test for an asynchronous POST request when failure.
 	 */
@@ -297,7 +727,7 @@ class HttpClientRequesterTest extends TossApiMockTest {
 	 */
 	@Test
 	void postAsyncFailureByJsonProcessingExceptionTest() {
-		mockWriteValueAsStringErroredObjectMapper(JsonProcessingException.class);
+		mockWriteValueAsBytesErroredObjectMapper(JsonProcessingException.class);
 
 		assertThrows(
 			RuntimeException.class,
@@ -336,56 +766,413 @@ class HttpClientRequesterTest extends TossApiMockTest {
 	}
 
 	/**
-	 * Test for request body when failure by InterruptedException.
+	 * Test for a synchronous GET request when failure by InterruptedException.
 	 */
 	@Test
 	void getThrowsInterruptedException() {
-		// 1) spy 생성
-		HttpClientRequester spyReq = spy(requester);
-
-		// 2) getAsync(...)이 반환할 Future를 만드는데,
-		//    get() 호출 시 InterruptedException을 던지도록 override
-		CompletableFuture<Object> badFuture = new CompletableFuture<>() {
-			@Override
-			public Object get() throws InterruptedException {
-				throw new InterruptedException("simulated interrupt");
-			}
-		};
-
-		// 3) spy의 getAsync를 스텁
-		doReturn(badFuture)
-			.when(spyReq).getAsync(anyString(), any());
+		mockSendAsyncErroredHttpClient(new InterruptedException("simulated interrupt"));
 
-		// 4) get() 호출 → InterruptedException 잡아서 RuntimeException으로 래핑
 		RuntimeException ex = assertThrows(RuntimeException.class, () ->
-			spyReq.get("/foo", Object.class)
+			requester.get("/foo", Object.class)
 		);
 		Assertions.assertTrue(ex.getMessage().contains("Request was interrupted"));
 		Assertions.assertInstanceOf(InterruptedException.class, ex.getCause());
+		Assertions.assertTrue(Thread.interrupted(), "Expected the interrupted status to be restored");
 	}
 
 	/**
-	 * Test for request body when failure by InterruptedException.
+	 * Test for a synchronous POST request when failure by InterruptedException.
 	 */
 	@Test
 	void postThrowsInterruptedException() {
-		HttpClientRequester spyReq = spy(requester);
-
-		CompletableFuture<Object> badFuture = new CompletableFuture<>() {
-			@Override
-			public Object get() throws InterruptedException {
-				throw new InterruptedException("simulated interrupt");
-			}
-		};
-
-		doReturn(badFuture)
-			.when(spyReq).postAsync(anyString(), any(), any());
+		mockSendAsyncErroredHttpClient(new InterruptedException("simulated interrupt"));
 
 		RuntimeException ex = assertThrows(RuntimeException.class, () ->
-			spyReq.post("/foo", Map.of("a", "b"), Object.class)
+			requester.post("/foo", Map.of("a", "b"), Object.class)
 		);
 		Assertions.assertTrue(ex.getMessage().contains("Request was interrupted"));
 		Assertions.assertInstanceOf(InterruptedException.class, ex.getCause());
+		Assertions.assertTrue(Thread.interrupted(), "Expected the interrupted status to be restored");
+	}
+
+	/**
+	 * Test that a synchronous request fails with the TossApiException itself, not a wrapped one.
+	 */
+	@Test
+	void syncFailureStatusThrowsTossApiExceptionTest() {
+		wireMockServer.stubFor(get(urlEqualTo(TEST_ENDPOINT))
+			.willReturn(aResponse()
+				.withStatus(HttpStatus.BAD_REQUEST_400)
+				.withBody(TEST_BODY)
+			)
+		);
+
+		TossApiException exception = assertThrows(
+			TossApiException.class,
+			() -> requester.get(TEST_ENDPOINT, Object.class)
+		);
+		assertEquals(HttpStatus.BAD_REQUEST_400, exception.getStatusCode());
+	}
+
+	/**
+	 * Test for parsing the response body of a synchronous request when failure.
+	 */
+	@Test
+	void syncResponseParsingFailureTest() {
+		wireMockServer.stubFor(get(urlEqualTo(TEST_ENDPOINT))
+			.willReturn(aResponse()
+				.withStatus(HttpStatus.OK_200)
+				.withBody("{\"message\":")
+			)
+		);
+
+		RuntimeException exception = assertThrows(
+			RuntimeException.class,
+			() -> requester.get(TEST_ENDPOINT, Object.class)
+		);
+		assertEquals("Failed to parse response body", exception.getMessage());
+	}
+
+	/**
+	 * Test that a request body failing to serialize is reported as such, without sending the request.
+	 */
+	@Test
+	void requestBodySerializationFailureTest() {
+		RuntimeException exception = assertThrows(
+			RuntimeException.class,
+			() -> requester.post(TEST_ENDPOINT, new Object(), Object.class)
+		);
+		assertEquals("Failed to serialize request body", exception.getMessage());
+		wireMockServer.verify(0, postRequestedFor(urlEqualTo(TEST_ENDPOINT)));
+	}
+
+	/**
+	 * Test that a synchronous POST joins an identical asynchronous POST in flight.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void syncPostJoinsInFlightPostTest() throws Exception {
+		wireMockServer.stubFor(post(urlEqualTo(TEST_ENDPOINT))
+			.willReturn(aResponse()
+				.withStatus(HttpStatus.OK_200)
+				.withBody(TEST_BODY)
+				.withFixedDelay(500)
+			)
+		);
+		HttpClientRequester derivedKeyRequester = createDerivedKeyRequester();
+
+		CompletableFuture<Object> inFlight = derivedKeyRequester.postAsync(TEST_ENDPOINT, Map.of(), Object.class);
+		Object joined = derivedKeyRequester.post(TEST_ENDPOINT, Map.of(), Object.class);
+
+		assertEquals(inFlight.get(), joined);
+		wireMockServer.verify(1, postRequestedFor(urlEqualTo(TEST_ENDPOINT)));
+	}
+
+	/**
+	 * Test that a synchronous POST joining a failed POST fails with the same TossApiException.
+	 */
+	@Test
+	void syncPostJoinsFailedInFlightPostTest() {
+		wireMockServer.stubFor(post(urlEqualTo(TEST_ENDPOINT))
+			.willReturn(aResponse()
+				.withStatus(HttpStatus.BAD_REQUEST_400)
+				.withFixedDelay(500)
+			)
+		);
+		HttpClientRequester derivedKeyRequester = createDerivedKeyRequester();
+
+		derivedKeyRequester.postAsync(TEST_ENDPOINT, Map.of(), Object.class);
+
+		assertThrows(
+			TossApiException.class,
+			() -> derivedKeyRequester.post(TEST_ENDPOINT, Map.of(), Object.class)
+		);
+		wireMockServer.verify(1, postRequestedFor(urlEqualTo(TEST_ENDPOINT)));
+	}
+
+	/**
+	 * Test that a synchronous POST joining a POST failed by IOException fails with a wrapped exception.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void syncPostJoinsInFlightPostFailedByIoExceptionTest() throws Exception {
+		CompletableFuture<HttpResponse<Object>> pending = new CompletableFuture<>();
+		HttpClientRequester derivedKeyRequester = createDerivedKeyRequester();
+		setHttpClient(derivedKeyRequester, mockPendingHttpClient(pending));
+
+		derivedKeyRequester.postAsync(TEST_ENDPOINT, Map.of(), Object.class);
+		CompletableFuture<Object> joined = CompletableFuture.supplyAsync(
+			() -> derivedKeyRequester.post(TEST_ENDPOINT, Map.of(), Object.class)
+		);
+		Thread.sleep(200);
+		pending.completeExceptionally(new IOException("connection reset"));
+
+		ExecutionException exception = assertThrows(ExecutionException.class, joined::get);
+		assertInstanceOf(RuntimeException.class, exception.getCause());
+		assertInstanceOf(IOException.class, exception.getCause().getCause());
+	}
+
+	/**
+	 * Test that a synchronous POST waiting for an identical POST in flight can be interrupted.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void syncPostJoiningInFlightPostInterruptedTest() throws Exception {
+		HttpClientRequester derivedKeyRequester = createDerivedKeyRequester();
+		setHttpClient(derivedKeyRequester, mockPendingHttpClient(new CompletableFuture<>()));
+		AtomicReference<RuntimeException> thrown = new AtomicReference<>();
+
+		derivedKeyRequester.postAsync(TEST_ENDPOINT, Map.of(), Object.class);
+		Thread joining = new Thread(() -> {
+			try {
+				derivedKeyRequester.post(TEST_ENDPOINT, Map.of(), Object.class);
+			} catch (RuntimeException e) {
+				thrown.set(e);
+			}
+		});
+		joining.start();
+		Thread.sleep(200);
+		joining.interrupt();
+		joining.join(5000);
+
+		assertNotNull(thrown.get());
+		assertEquals("Request was interrupted", thrown.get().getMessage());
+	}
+
+	/**
+	 * Test that requests with time left before their deadline succeed.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void deadlineSuccessTest() throws Exception {
+		wireMockServer.stubFor(WireMock.any(urlEqualTo(TEST_ENDPOINT))
+			.willReturn(aResponse()
+				.withStatus(HttpStatus.OK_200)
+				.withBody(TEST_BODY)
+			)
+		);
+		RequestOptions options = RequestOptions.defaults().withTimeout(Duration.ofSeconds(10));
+
+		assertNotNull(requester.get(TEST_ENDPOINT, Object.class, options));
+		assertNotNull(requester.getAsync(TEST_ENDPOINT, Object.class, options).get());
+		assertNotNull(requester.post(TEST_ENDPOINT, Map.of(), Object.class, options));
+		assertNotNull(requester.postAsync(TEST_ENDPOINT, Map.of(), Object.class, options).get());
+	}
+
+	/**
+	 * Test that requests whose deadline has passed are not sent.
+	 */
+	@Test
+	void expiredDeadlineNotSentTest() {
+		RequestOptions options = RequestOptions.defaults().withDeadline(Instant.now().minusMillis(1));
+
+		assertThrows(DeadlineExceededException.class, () -> requester.get(TEST_ENDPOINT, Object.class, options));
+		assertThrows(
+			DeadlineExceededException.class,
+			() -> requester.post(TEST_ENDPOINT, Map.of(), Object.class, options)
+		);
+		ExecutionException exception = assertThrows(
+			ExecutionException.class,
+			() -> requester.getAsync(TEST_ENDPOINT, Object.class, options).get()
+		);
+		assertInstanceOf(DeadlineExceededException.class, exception.getCause());
+		exception = assertThrows(
+			ExecutionException.class,
+			() -> requester.postAsync(TEST_ENDPOINT, Map.of(), Object.class, options).get()
+		);
+		assertInstanceOf(DeadlineExceededException.class, exception.getCause());
+
+		wireMockServer.verify(0, anyRequestedFor(anyUrl()));
+	}
+
+	/**
+	 * Test that a synchronous GET request times out at its deadline.
+	 */
+	@Test
+	void getDeadlineTimeoutTest() {
+		wireMockServer.stubFor(get(urlEqualTo(TEST_ENDPOINT))
+			.willReturn(aResponse()
+				.withStatus(HttpStatus.OK_200)
+				.withBody(TEST_BODY)
+				.withFixedDelay(3000)
+			)
+		);
+		RequestOptions options = RequestOptions.defaults().withTimeout(Duration.ofMillis(200));
+
+		long start = System.nanoTime();
+		DeadlineExceededException exception = assertThrows(
+			DeadlineExceededException.class,
+			() -> requester.get(TEST_ENDPOINT, Object.class, options)
+		);
+
+		assertTrue(System.nanoTime() - start < Duration.ofMillis(2000).toNanos());
+		assertEquals(options.getDeadline(), exception.getDeadline());
+		assertInstanceOf(HttpTimeoutException.class, exception.getCause());
+	}
+
+	/**
+	 * Test that a synchronous GET request timing out at its deadline is neither a server failure
+	 * opening the circuit, nor retried, although the timeout of the HTTP request is its cause.
+	 */
+	@Test
+	void getDeadlineTimeoutIsNotServerFailureTest() {
+		wireMockServer.stubFor(get(urlEqualTo(TEST_ENDPOINT))
+			.willReturn(aResponse()
+				.withStatus(HttpStatus.OK_200)
+				.withBody(TEST_BODY)
+				.withFixedDelay(3000)
+			)
+		);
+		CircuitBreakerRequester circuitBreakerRequester = new CircuitBreakerRequester(
+			requester,
+			CircuitBreakerConfig.builder().withSlidingWindowSize(1).withMinimumCalls(1).build()
+		);
+		RequestOptions options = RequestOptions.defaults().withTimeout(Duration.ofMillis(200));
+
+		DeadlineExceededException exception = assertThrows(
+			DeadlineExceededException.class,
+			() -> circuitBreakerRequester.get(TEST_ENDPOINT, Object.class, options)
+		);
+
+		assertInstanceOf(HttpTimeoutException.class, exception.getCause());
+		assertEquals(CircuitBreaker.State.CLOSED, circuitBreakerRequester.getCircuitBreaker("lookup").getState());
+		assertEquals(0, circuitBreakerRequester.getCircuitBreaker("lookup").getFailureRate());
+		assertFalse(RetryPolicy.builder().build().isRetryable(exception));
+	}
+
+	/**
+	 * Test that an asynchronous GET request fails at its deadline.
+	 */
+	@Test
+	void getAsyncDeadlineTimeoutTest() {
+		wireMockServer.stubFor(get(urlEqualTo(TEST_ENDPOINT))
+			.willReturn(aResponse()
+				.withStatus(HttpStatus.OK_200)
+				.withBody(TEST_BODY)
+				.withFixedDelay(3000)
+			)
+		);
+		RequestOptions options = RequestOptions.defaults().withTimeout(Duration.ofMillis(200));
+
+		long start = System.nanoTime();
+		ExecutionException exception = assertThrows(
+			ExecutionException.class,
+			() -> requester.getAsync(TEST_ENDPOINT, Object.class, options).get()
+		);
+
+		assertTrue(System.nanoTime() - start < Duration.ofMillis(2000).toNanos());
+		assertInstanceOf(DeadlineExceededException.class, exception.getCause());
+	}
+
+	/**
+	 * Test that the deadline of an asynchronous GET request aborts the HTTP exchange.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void getAsyncDeadlineAbortsExchangeTest() throws Exception {
+		CompletableFuture<HttpResponse<Object>> exchange = new CompletableFuture<>();
+		setHttpClient(requester, mockPendingHttpClient(exchange));
+		RequestOptions options = RequestOptions.defaults().withTimeout(Duration.ofMillis(50));
+
+		CompletableFuture<Object> response = requester.getAsync(TEST_ENDPOINT, Object.class, options);
+
+		ExecutionException exception = assertThrows(ExecutionException.class, response::get);
+		assertInstanceOf(DeadlineExceededException.class, exception.getCause());
+		for (int i = 0; i < 100 && !exchange.isCancelled(); i++) {
+			Thread.sleep(10);
+		}
+		assertTrue(exchange.isCancelled());
+	}
+
+	/**
+	 * Test that the request timeout of an asynchronous request is reported as its deadline passing,
+	 * while a connect timeout is passed on as is.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void getAsyncRequestTimeoutTest() throws Exception {
+		CompletableFuture<HttpResponse<Object>> exchange = new CompletableFuture<>();
+		setHttpClient(requester, mockPendingHttpClient(exchange));
+		RequestOptions options = RequestOptions.defaults().withTimeout(Duration.ofMinutes(1));
+
+		CompletableFuture<Object> timedOut = requester.getAsync(TEST_ENDPOINT, Object.class, options);
+		exchange.completeExceptionally(new HttpTimeoutException("request timed out"));
+
+		ExecutionException exception = assertThrows(ExecutionException.class, timedOut::get);
+		assertInstanceOf(DeadlineExceededException.class, exception.getCause());
+		assertInstanceOf(HttpTimeoutException.class, exception.getCause().getCause());
+
+		CompletableFuture<HttpResponse<Object>> connecting = new CompletableFuture<>();
+		setHttpClient(requester, mockPendingHttpClient(connecting));
+		CompletableFuture<Object> notConnected = requester.getAsync(TEST_ENDPOINT, Object.class, options);
+		connecting.completeExceptionally(new HttpConnectTimeoutException("connect timed out"));
+
+		exception = assertThrows(ExecutionException.class, notConnected::get);
+		assertInstanceOf(HttpConnectTimeoutException.class, exception.getCause());
+	}
+
+	/**
+	 * Test that POST requests joining an identical POST in flight stop waiting at their deadline,
+	 * leaving the shared exchange to the other callers.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void postJoiningInFlightPostDeadlineTest() throws Exception {
+		CompletableFuture<HttpResponse<Object>> pending = new CompletableFuture<>();
+		HttpClientRequester derivedKeyRequester = createDerivedKeyRequester();
+		setHttpClient(derivedKeyRequester, mockPendingHttpClient(pending));
+		RequestOptions options = RequestOptions.defaults().withTimeout(Duration.ofMillis(100));
+
+		CompletableFuture<Object> inFlight = derivedKeyRequester.postAsync(TEST_ENDPOINT, Map.of(), Object.class);
+		assertThrows(
+			DeadlineExceededException.class,
+			() -> derivedKeyRequester.post(TEST_ENDPOINT, Map.of(), Object.class, options)
+		);
+		ExecutionException exception = assertThrows(
+			ExecutionException.class,
+			() -> derivedKeyRequester.postAsync(TEST_ENDPOINT, Map.of(), Object.class, options).get()
+		);
+
+		assertInstanceOf(DeadlineExceededException.class, exception.getCause());
+		assertFalse(inFlight.isDone());
+		assertFalse(pending.isCancelled());
+	}
+
+	/**
+	 * Creates a requester deriving the same Idempotency-Key for every POST request.
+	 *
+	 * @return the requester.
+	 */
+	private HttpClientRequester createDerivedKeyRequester() {
+		return new HttpClientRequester(
+			getEndpoint(),
+			getAuthorization(),
+			10,
+			new DerivedIdempotencyKeyProvider(body -> "order-1")
+		);
+	}
+
+	/**
+	 * Creates an HTTP client whose asynchronous exchanges complete with the given future.
+	 * Synchronous exchanges fail, as the tests using it expect every POST to join the pending exchange.
+	 *
+	 * @param pending the future of the asynchronous exchanges.
+	 * @return the mocked HTTP client.
+	 * @throws Exception if unexpected error occurs.
+	 */
+	private HttpClient mockPendingHttpClient(CompletableFuture<HttpResponse<Object>> pending) throws Exception {
+		HttpClient mockHttpClient = mock(HttpClient.class);
+		doReturn(pending).when(mockHttpClient).sendAsync(any(), any());
+		doThrow(new IOException("connection reset")).when(mockHttpClient).send(any(), any());
+
+		return mockHttpClient;
 	}
 
 	/**
@@ -408,7 +1195,7 @@ class HttpClientRequesterTest extends TossApiMockTest {
 	}
 
 	/**
-	 * Makes the HTTP client's sendAsync method throw an error.
+	 * Makes the HTTP client's send and sendAsync methods throw an error.
 	 *
 	 * @param exception the exception to throw.
 	 * @param <E> the type of exception.
@@ -416,71 +1203,156 @@ class HttpClientRequesterTest extends TossApiMockTest {
 	private <E extends Throwable> void mockSendAsyncErroredHttpClient(E exception) {
 		HttpClient mockHttpClient = mock(HttpClient.class);
 		Mockito.when(mockHttpClient.sendAsync(any(), any())).thenReturn(CompletableFuture.failedFuture(exception));
+		try {
+			// like HttpClient, send only throws IOException, InterruptedException or unchecked exceptions
+			Throwable sendException = exception instanceof IOException || exception instanceof InterruptedException
+				|| exception instanceof RuntimeException ? exception : new IOException(exception);
+			Mockito.when(mockHttpClient.send(any(), any())).thenThrow(sendException);
+		} catch (IOException | InterruptedException e) {
+			throw new RuntimeException(e);
+		}
+
+		setHttpClient(this.requester, mockHttpClient);
+	}
 
+	/**
+	 * Creates the mocked span of an attempt.
+	 *
+	 * @param context the trace context of the span.
+	 * @return the span, whose scope is the same mocked scope every time it is made current.
+	 */
+	private static TraceSpan attemptSpan(TraceContext context) {
+		TraceSpan attempt = mock(TraceSpan.class);
+		TraceScope scope = mock(TraceScope.class);
+		Mockito.when(attempt.getContext()).thenReturn(context);
+		Mockito.when(attempt.makeCurrent()).thenReturn(scope);
+
+		return attempt;
+	}
+
+	/**
+	 * Creates a requester reporting its exchanges to the metrics.
+	 * Response compression is disabled, so the recorded sizes are the sizes of the stubbed bodies.
+	 *
+	 * @param metrics the metrics to report to.
+	 * @return the requester.
+	 */
+	private HttpClientRequester metricsRequester(RequestMetrics metrics) {
+		return new HttpClientRequester(
+			getEndpoint(),
+			getAuthorization(),
+			HttpTransportConfig.builder().withResponseCompression(false).build(),
+			new RandomIdempotencyKeyProvider(),
+			metrics
+		);
+	}
+
+	/**
+	 * Replaces the HTTP client of the requester.
+	 *
+	 * @param target the requester to modify.
+	 * @param httpClient the HTTP client to set.
+	 */
+	private void setHttpClient(HttpClientRequester target, HttpClient httpClient) {
 		try {
-			Field httpClientField = this.requester.getClass().getDeclaredField("httpClient");
+			Field httpClientField = target.getClass().getDeclaredField("httpClient");
 			httpClientField.setAccessible(true);
-			httpClientField.set(this.requester, mockHttpClient);
+			httpClientField.set(target, httpClient);
 		} catch (NoSuchFieldException | IllegalAccessException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
 	/**
-	 * Makes the ObjectMapper's writeValueAsString method throw an error of the specified type.
+	 * Makes the ObjectWriter's writeValueAsBytes method throw an error of the specified type.
 	 *
 	 * @param exceptionType the type of exception to throw.
 	 * @param <E> the type of exception.
 	 */
-	private <E extends Throwable> void mockWriteValueAsStringErroredObjectMapper(Class<E> exceptionType) {
+	private <E extends Throwable> void mockWriteValueAsBytesErroredObjectMapper(Class<E> exceptionType) {
 		ObjectMapper mockObjectMapper = mock(ObjectMapper.class);
+		ObjectWriter mockObjectWriter = mock(ObjectWriter.class);
 		try {
-			Constructor<E> exceptionConstructor = exceptionType
-				.getDeclaredConstructor(String.class);
-			exceptionConstructor.setAccessible(true);
-			E exception = exceptionConstructor.newInstance("custom exception message");
-
-			when(mockObjectMapper.writeValueAsString(any())).thenThrow(exception);
+			when(mockObjectWriter.writeValueAsBytes(any())).thenThrow(newException(exceptionType));
 		} catch (Exception e) {
 			throw new RuntimeException(e);
 		}
+		when(mockObjectMapper.writerFor(any(Class.class))).thenReturn(mockObjectWriter);
 
-		try {
-			Field objectMapperField = this.requester.getClass().getDeclaredField("objectMapper");
-			objectMapperField.setAccessible(true);
-			objectMapperField.set(this.requester, mockObjectMapper);
-		} catch (NoSuchFieldException | IllegalAccessException e) {
-			throw new RuntimeException(e);
-		}
+		setCodec(new JsonCodec(mockObjectMapper));
 	}
 
 	/**
-	 * Makes the ObjectMapper's readValue method throw an error of the specified type.
+	 * Makes the ObjectReader's readValue methods throw an error of the specified type.
 	 *
 	 * @param exceptionType the type of exception to throw.
 	 * @param <E> the type of exception.
 	 */
 	private <E extends Throwable> void mockReadValueErroredObjectMapper(Class<E> exceptionType) {
 		ObjectMapper mockObjectMapper = mock(ObjectMapper.class);
+		ObjectReader mockObjectReader = mock(ObjectReader.class);
 		try {
-			Constructor<E> exceptionConstructor = exceptionType
-				.getDeclaredConstructor(String.class);
-			exceptionConstructor.setAccessible(true);
-			E exception = exceptionConstructor.newInstance("custom exception message");
-
-			doThrow(exception).when(mockObjectMapper).readValue(anyString(), ArgumentMatchers.<Class<Object>>any());
+			E exception = newException(exceptionType);
+			doThrow(exception).when(mockObjectReader).readValue(anyString());
+			doThrow(exception).when(mockObjectReader).readValue(any(InputStream.class));
 		} catch (Exception e) {
 			throw new RuntimeException(e);
 		}
+		when(mockObjectMapper.readerFor(any(Class.class))).thenReturn(mockObjectReader);
+
+		setCodec(new JsonCodec(mockObjectMapper));
+	}
 
+	/**
+	 * Creates an exception of the specified type with a message.
+	 *
+	 * @param exceptionType the type of exception to create.
+	 * @param <E> the type of exception.
+	 * @return the exception.
+	 * @throws Exception if the exception cannot be created.
+	 */
+	private static <E extends Throwable> E newException(Class<E> exceptionType) throws Exception {
+		Constructor<E> exceptionConstructor = exceptionType.getDeclaredConstructor(String.class);
+		exceptionConstructor.setAccessible(true);
+
+		return exceptionConstructor.newInstance("custom exception message");
+	}
+
+	/**
+	 * Replaces the JSON codec of the requester.
+	 *
+	 * @param codec the codec to use.
+	 */
+	private void setCodec(JsonCodec codec) {
 		try {
-			Field objectMapperField = this.requester.getClass().getDeclaredField("objectMapper");
-			objectMapperField.setAccessible(true);
-			objectMapperField.set(this.requester, mockObjectMapper);
+			Field codecField = this.requester.getClass().getDeclaredField("codec");
+			codecField.setAccessible(true);
+			codecField.set(this.requester, codec);
 		} catch (NoSuchFieldException | IllegalAccessException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
+	/**
+	 * Message with a private field and no accessors.
+	 */
+	private static class Message {
+
+		private String message;
+
+		/**
+		 * Constructor for deserialization.
+		 */
+		Message() {
+		}
+
+		/**
+		 * Constructor for Message.
+		 * @param message the message.
+		 */
+		Message(String message) {
+			this.message = message;
+		}
+	}
 
 }
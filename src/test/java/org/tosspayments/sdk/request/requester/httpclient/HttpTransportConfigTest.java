@@ -0,0 +1,95 @@
+package org.tosspayments.sdk.request.requester.httpclient;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link HttpTransportConfig}.
+ */
+class HttpTransportConfigTest {
+
+	/**
+	 * Tests the HttpClient created with the default settings.
+	 */
+	@Test
+	void defaultSettingsTest() {
+		HttpClient httpClient = HttpTransportConfig.builder().build().getHttpClient();
+
+		assertEquals(Optional.of(HttpTransportConfig.DEFAULT_CONNECT_TIMEOUT), httpClient.connectTimeout());
+		assertEquals(HttpClient.Redirect.NEVER, httpClient.followRedirects());
+		assertEquals(Optional.empty(), httpClient.executor());
+		assertTrue(HttpTransportConfig.builder().build().isResponseCompression());
+	}
+
+	/**
+	 * Tests that the settings are applied to the created HttpClient.
+	 */
+	@Test
+	void customSettingsTest() {
+		Executor executor = Executors.newSingleThreadExecutor();
+		HttpTransportConfig config = HttpTransportConfig.builder()
+			.withConnectTimeout(Duration.ofSeconds(3))
+			.withVersion(HttpClient.Version.HTTP_1_1)
+			.withRedirectPolicy(HttpClient.Redirect.NORMAL)
+			.withExecutor(executor)
+			.withResponseCompression(false)
+			.build();
+
+		HttpClient httpClient = config.getHttpClient();
+
+		assertEquals(Optional.of(Duration.ofSeconds(3)), httpClient.connectTimeout());
+		assertEquals(HttpClient.Version.HTTP_1_1, httpClient.version());
+		assertEquals(HttpClient.Redirect.NORMAL, httpClient.followRedirects());
+		assertEquals(Optional.of(executor), httpClient.executor());
+		assertNull(System.getProperty("jdk.httpclient.connectionPoolSize"));
+		assertNull(System.getProperty("jdk.httpclient.keepalive.timeout"));
+		assertFalse(config.isResponseCompression());
+	}
+
+	/**
+	 * Tests that the HttpClient is created once and shared.
+	 */
+	@Test
+	void sharedHttpClientTest() {
+		HttpTransportConfig config = HttpTransportConfig.builder().build();
+
+		assertSame(config.getHttpClient(), config.getHttpClient());
+	}
+
+	/**
+	 * Tests that an externally managed HttpClient is used as is.
+	 */
+	@Test
+	void externalHttpClientTest() {
+		HttpClient httpClient = mock(HttpClient.class);
+
+		assertSame(httpClient, HttpTransportConfig.builder().withHttpClient(httpClient).build().getHttpClient());
+	}
+
+	/**
+	 * Tests the virtual thread executor, which is only available from Java 21 and is shared by every configuration.
+	 */
+	@Test
+	void virtualThreadExecutorTest() {
+		if (Runtime.version().feature() >= 21) {
+			Executor executor = HttpTransportConfig.builder().withVirtualThreadExecutor().build().getExecutor();
+
+			assertNotNull(executor);
+			assertSame(executor, HttpTransportConfig.builder().withVirtualThreadExecutor().build().getExecutor());
+		} else {
+			assertThrows(
+				UnsupportedOperationException.class,
+				() -> HttpTransportConfig.builder().withVirtualThreadExecutor()
+			);
+		}
+	}
+
+}
@@ -0,0 +1,289 @@
+package org.tosspayments.sdk.request.requester.httpclient;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.slf4j.LoggerFactory;
+import org.tosspayments.sdk.request.requester.RequestOptions;
+import org.tosspayments.sdk.request.requester.metrics.RequestEvent;
+import org.tosspayments.sdk.request.requester.metrics.RequestMetricsListener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+
+/**
+ * Tests for {@link JsonBodyHandler}.
+ */
+class JsonBodyHandlerTest {
+
+	private static final String TEST_BODY = "{\"message\":\"Hello, World!\"}";
+
+	private final Logger handlerLogger = (Logger)LoggerFactory.getLogger(JsonBodyHandler.class);
+
+	private final JsonBodyHandler<Map> handler = new JsonBodyHandler<>(new ObjectMapper().readerFor(Map.class));
+
+	/**
+	 * Restores the logger level after each test.
+	 */
+	@AfterEach
+	void resetLevel() {
+		handlerLogger.setLevel(null);
+	}
+
+	/**
+	 * Tests that the body is parsed straight from bytes when debug logging is disabled.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void parseFromBytesTest() throws Exception {
+		handlerLogger.setLevel(Level.INFO);
+
+		HttpResponse.BodySubscriber<Map> subscriber = handler.apply(responseInfo(200));
+
+		assertInstanceOf(JsonBodySubscriber.class, subscriber);
+		assertEquals(Map.of("message", "Hello, World!"), receive(subscriber, TEST_BODY));
+	}
+
+	/**
+	 * Tests that the body is buffered as a String and parsed when debug logging is enabled.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void parseLoggedTest() throws Exception {
+		handlerLogger.setLevel(Level.DEBUG);
+
+		HttpResponse.BodySubscriber<Map> subscriber = handler.apply(responseInfo(200));
+
+		assertFalse(subscriber instanceof JsonBodySubscriber);
+		assertEquals(Map.of("message", "Hello, World!"), receive(subscriber, TEST_BODY));
+	}
+
+	/**
+	 * Tests that a gzip compressed body is inflated, with and without debug logging.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void parseGzipTest() throws Exception {
+		byte[] compressed = JsonBodySubscriberTest.gzip(TEST_BODY);
+
+		handlerLogger.setLevel(Level.INFO);
+		assertEquals(Map.of("message", "Hello, World!"), receive(handler.apply(responseInfo(200, "gzip")), compressed));
+
+		handlerLogger.setLevel(Level.DEBUG);
+		assertEquals(Map.of("message", "Hello, World!"), receive(handler.apply(responseInfo(200, "GZIP")), compressed));
+	}
+
+	/**
+	 * Tests that a body that is not gzip compressed as announced fails when debug logging is enabled.
+	 */
+	@Test
+	void parseLoggedCorruptGzipTest() {
+		handlerLogger.setLevel(Level.DEBUG);
+
+		HttpResponse.BodySubscriber<Map> subscriber = handler.apply(responseInfo(200, "gzip"));
+
+		ExecutionException exception = assertThrows(ExecutionException.class, () -> receive(subscriber, TEST_BODY));
+		assertInstanceOf(RuntimeException.class, exception.getCause());
+	}
+
+	/**
+	 * Tests that a malformed body fails when debug logging is enabled.
+	 */
+	@Test
+	void parseLoggedFailureTest() {
+		handlerLogger.setLevel(Level.DEBUG);
+
+		HttpResponse.BodySubscriber<Map> subscriber = handler.apply(responseInfo(200));
+
+		ExecutionException exception = assertThrows(ExecutionException.class, () -> receive(subscriber, "{"));
+		assertInstanceOf(RuntimeException.class, exception.getCause());
+	}
+
+	/**
+	 * Tests that the body of a failed response is not parsed.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void failedResponseBodyIsDiscardedTest() throws Exception {
+		HttpResponse.BodySubscriber<Map> subscriber = handler.apply(responseInfo(400));
+
+		assertNull(receive(subscriber, "not a json"));
+	}
+
+	/**
+	 * Tests parsing a streamed body with and without debug logging.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void parseStreamTest() throws Exception {
+		HttpHeaders identity = responseInfo(200).headers();
+		HttpHeaders gzip = responseInfo(200, "gzip").headers();
+		byte[] compressed = JsonBodySubscriberTest.gzip(TEST_BODY);
+
+		handlerLogger.setLevel(Level.INFO);
+		assertEquals(Map.of("message", "Hello, World!"), handler.parse(stream(TEST_BODY), identity));
+		assertEquals(Map.of("message", "Hello, World!"), handler.parse(new ByteArrayInputStream(compressed), gzip));
+
+		handlerLogger.setLevel(Level.DEBUG);
+		assertEquals(Map.of("message", "Hello, World!"), handler.parse(stream(TEST_BODY), identity));
+		assertEquals(Map.of("message", "Hello, World!"), handler.parse(new ByteArrayInputStream(compressed), gzip));
+	}
+
+	/**
+	 * Tests that the status and size of the responses are recorded, whether their body is parsed as it arrives,
+	 * buffered to be logged, or discarded.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void recordedTest() throws Exception {
+		int length = TEST_BODY.getBytes(StandardCharsets.UTF_8).length;
+
+		handlerLogger.setLevel(Level.INFO);
+		assertEquals(200, record(200).getStatusCode());
+		assertEquals(length, record(200).getResponseBytes());
+		assertTrue(record(200).getParseNanos() >= 0);
+
+		handlerLogger.setLevel(Level.DEBUG);
+		assertEquals(length, record(200).getResponseBytes());
+		assertTrue(record(200).getParseNanos() >= 0);
+
+		RequestEvent failed = record(500);
+		assertEquals("5xx", failed.getStatusClass());
+		assertEquals(length, failed.getResponseBytes());
+		assertEquals(RequestEvent.NOT_MEASURED, failed.getParseNanos());
+	}
+
+	/**
+	 * Receives the test body through a handler recording the exchange, and returns the recorded event.
+	 *
+	 * @param statusCode the status code of the response.
+	 * @return the recorded event.
+	 * @throws Exception if the body could not be received.
+	 */
+	private static RequestEvent record(int statusCode) throws Exception {
+		RequestMetricsListener listener = mock(RequestMetricsListener.class);
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost/v1/payments/key")).build();
+		ExchangeRecorder recorder = ExchangeRecorder.start(
+			listener,
+			"/v1/payments/key",
+			request,
+			RequestOptions.defaults()
+		);
+		JsonBodyHandler<Map> recordingHandler = new JsonBodyHandler<>(
+			new ObjectMapper().readerFor(Map.class),
+			recorder
+		);
+
+		receive(recordingHandler.apply(responseInfo(statusCode)), TEST_BODY);
+		recorder.end(null);
+
+		ArgumentCaptor<RequestEvent> event = ArgumentCaptor.forClass(RequestEvent.class);
+		verify(listener).onRequestEnd(event.capture());
+
+		return event.getValue();
+	}
+
+	/**
+	 * Creates a stream of the UTF-8 bytes of the body.
+	 *
+	 * @param body the body.
+	 * @return the stream.
+	 */
+	private static InputStream stream(String body) {
+		return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Feeds the body to the subscriber and waits for the parsed result.
+	 *
+	 * @param subscriber the subscriber to feed.
+	 * @param body the response body.
+	 * @return the parsed body.
+	 * @throws Exception if the body could not be parsed.
+	 */
+	private static Map receive(HttpResponse.BodySubscriber<Map> subscriber, String body) throws Exception {
+		return receive(subscriber, body.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Feeds the body bytes to the subscriber and waits for the parsed result.
+	 *
+	 * @param subscriber the subscriber to feed.
+	 * @param body the response body bytes.
+	 * @return the parsed body.
+	 * @throws Exception if the body could not be parsed.
+	 */
+	private static Map receive(HttpResponse.BodySubscriber<Map> subscriber, byte[] body) throws Exception {
+		subscriber.onSubscribe(mock(Flow.Subscription.class));
+		subscriber.onNext(List.of(ByteBuffer.wrap(body)));
+		subscriber.onComplete();
+
+		return subscriber.getBody().toCompletableFuture().get();
+	}
+
+	/**
+	 * Creates response information with the given status code.
+	 *
+	 * @param statusCode the status code of the response.
+	 * @return the response information.
+	 */
+	private static HttpResponse.ResponseInfo responseInfo(int statusCode) {
+		return responseInfo(statusCode, null);
+	}
+
+	/**
+	 * Creates response information with the given status code and content coding.
+	 *
+	 * @param statusCode the status code of the response.
+	 * @param contentEncoding the Content-Encoding of the response, null for none.
+	 * @return the response information.
+	 */
+	private static HttpResponse.ResponseInfo responseInfo(int statusCode, String contentEncoding) {
+		Map<String, List<String>> headers = contentEncoding == null
+			? Map.of()
+			: Map.of("Content-Encoding", List.of(contentEncoding));
+
+		return new HttpResponse.ResponseInfo() {
+			@Override
+			public int statusCode() {
+				return statusCode;
+			}
+
+			@Override
+			public HttpHeaders headers() {
+				return HttpHeaders.of(headers, (name, value) -> true);
+			}
+
+			@Override
+			public HttpClient.Version version() {
+				return HttpClient.Version.HTTP_1_1;
+			}
+		};
+	}
+
+}
@@ -0,0 +1,199 @@
+package org.tosspayments.sdk.request.requester.httpclient;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * Tests for {@link JsonBodySubscriber}.
+ */
+class JsonBodySubscriberTest {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	/**
+	 * Tests that a body split into several buffers is parsed as a whole.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void parseSplitBodyTest() throws Exception {
+		JsonBodySubscriber<Map> subscriber = new JsonBodySubscriber<>(OBJECT_MAPPER.readerFor(Map.class));
+		Flow.Subscription subscription = mock(Flow.Subscription.class);
+
+		subscriber.onSubscribe(subscription);
+		subscriber.onNext(List.of(buffer("{\"message\":"), buffer("")));
+		subscriber.onNext(List.of(buffer("\"Hello, World!\"}")));
+		subscriber.onComplete();
+
+		verify(subscription).request(Long.MAX_VALUE);
+		assertEquals(Map.of("message", "Hello, World!"), subscriber.getBody().toCompletableFuture().get());
+	}
+
+	/**
+	 * Tests that a gzip compressed body split into several buffers is inflated and parsed as a whole.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void parseGzipBodyTest() throws Exception {
+		JsonBodySubscriber<Map> subscriber = new JsonBodySubscriber<>(OBJECT_MAPPER.readerFor(Map.class), true);
+		byte[] compressed = gzip("{\"message\":\"Hello, World!\"}");
+
+		subscriber.onNext(List.of(ByteBuffer.wrap(compressed, 0, 10)));
+		subscriber.onNext(List.of(ByteBuffer.wrap(compressed, 10, compressed.length - 10)));
+		subscriber.onComplete();
+
+		assertEquals(Map.of("message", "Hello, World!"), subscriber.getBody().toCompletableFuture().get());
+	}
+
+	/**
+	 * Tests that a body that is not gzip compressed as announced completes the body exceptionally.
+	 */
+	@Test
+	void parseCorruptGzipBodyTest() {
+		JsonBodySubscriber<Map> subscriber = new JsonBodySubscriber<>(OBJECT_MAPPER.readerFor(Map.class), true);
+
+		subscriber.onNext(List.of(buffer("{\"message\":\"Hello, World!\"}")));
+		subscriber.onComplete();
+
+		ExecutionException exception = assertThrows(
+			ExecutionException.class,
+			() -> subscriber.getBody().toCompletableFuture().get()
+		);
+		assertInstanceOf(IOException.class, exception.getCause().getCause());
+	}
+
+	/**
+	 * Tests that a malformed body completes the body exceptionally.
+	 */
+	@Test
+	void parseFailureTest() {
+		JsonBodySubscriber<Map> subscriber = new JsonBodySubscriber<>(OBJECT_MAPPER.readerFor(Map.class));
+
+		subscriber.onNext(List.of(buffer("{\"message\":")));
+		subscriber.onComplete();
+
+		ExecutionException exception = assertThrows(
+			ExecutionException.class,
+			() -> subscriber.getBody().toCompletableFuture().get()
+		);
+		assertInstanceOf(RuntimeException.class, exception.getCause());
+		assertInstanceOf(IOException.class, exception.getCause().getCause());
+	}
+
+	/**
+	 * Tests that a runtime exception thrown while binding, e.g. by a custom deserializer,
+	 * completes the body exceptionally instead of escaping.
+	 */
+	@Test
+	void bindingRuntimeExceptionTest() {
+		IllegalArgumentException cause = new IllegalArgumentException("unsupported value");
+		ObjectMapper objectMapper = new ObjectMapper().registerModule(new SimpleModule()
+			.addDeserializer(Map.class, new JsonDeserializer<Map>() {
+				@Override
+				public Map deserialize(JsonParser parser, DeserializationContext ctxt) {
+					throw cause;
+				}
+			}));
+		JsonBodySubscriber<Map> subscriber = new JsonBodySubscriber<>(objectMapper.readerFor(Map.class));
+
+		subscriber.onNext(List.of(buffer("{\"message\":\"Hello, World!\"}")));
+		subscriber.onComplete();
+
+		ExecutionException exception = assertThrows(
+			ExecutionException.class,
+			() -> subscriber.getBody().toCompletableFuture().get()
+		);
+		assertSame(cause, exception.getCause());
+	}
+
+	/**
+	 * Tests that a receiving error completes the body exceptionally.
+	 */
+	@Test
+	void receiveFailureTest() {
+		JsonBodySubscriber<Map> subscriber = new JsonBodySubscriber<>(OBJECT_MAPPER.readerFor(Map.class));
+		IOException cause = new IOException("connection reset");
+
+		subscriber.onNext(List.of(buffer("{")));
+		subscriber.onError(cause);
+
+		ExecutionException exception = assertThrows(
+			ExecutionException.class,
+			() -> subscriber.getBody().toCompletableFuture().get()
+		);
+		assertSame(cause, exception.getCause());
+	}
+
+	/**
+	 * Tests reading through the buffers byte by byte and by chunks.
+	 *
+	 * @throws IOException if unexpected error occurs.
+	 */
+	@Test
+	void byteBufferListInputStreamTest() throws IOException {
+		try (InputStream inputStream = new JsonBodySubscriber.ByteBufferListInputStream(
+			List.of(buffer("ab"), buffer(""), buffer("cde"))
+		)) {
+			assertEquals(2, inputStream.available());
+			assertEquals('a', inputStream.read());
+			assertEquals(0, inputStream.read(new byte[4], 0, 0));
+
+			byte[] bytes = new byte[4];
+			assertEquals(1, inputStream.read(bytes, 0, 4));
+			assertEquals('b', bytes[0]);
+			assertEquals(3, inputStream.read(bytes, 0, 4));
+			assertEquals("cde", new String(bytes, 0, 3, StandardCharsets.UTF_8));
+
+			assertEquals(0, inputStream.available());
+			assertEquals(-1, inputStream.read());
+			assertEquals(-1, inputStream.read(bytes, 0, 4));
+		}
+	}
+
+	/**
+	 * Compresses the UTF-8 bytes of the given text with gzip.
+	 *
+	 * @param text the text to compress.
+	 * @return the compressed bytes.
+	 * @throws IOException if compressing fails.
+	 */
+	static byte[] gzip(String text) throws IOException {
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		try (GZIPOutputStream outputStream = new GZIPOutputStream(compressed)) {
+			outputStream.write(text.getBytes(StandardCharsets.UTF_8));
+		}
+
+		return compressed.toByteArray();
+	}
+
+	/**
+	 * Creates a buffer holding the UTF-8 bytes of the given text.
+	 *
+	 * @param text the text to hold.
+	 * @return the buffer.
+	 */
+	private static ByteBuffer buffer(String text) {
+		return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
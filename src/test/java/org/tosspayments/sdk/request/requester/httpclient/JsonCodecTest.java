@@ -0,0 +1,115 @@
+package org.tosspayments.sdk.request.requester.httpclient;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.tosspayments.sdk.payment.PaymentConfirmRequest;
+
+/**
+ * Tests for {@link JsonCodec}.
+ */
+class JsonCodecTest {
+
+	private final JsonCodec codec = new JsonCodec();
+
+	/**
+	 * Tests that the reader and writer of a type are resolved once and reused.
+	 */
+	@Test
+	void cachedPerTypeTest() {
+		assertSame(codec.reader(Map.class), codec.reader(Map.class));
+		assertSame(codec.writer(Map.class), codec.writer(Map.class));
+		assertNotSame(codec.reader(Map.class), codec.reader(Body.class));
+	}
+
+	/**
+	 * Tests that bodies are bound through their fields, whatever their visibility.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void fieldBindingTest() throws Exception {
+		byte[] json = codec.writeValueAsBytes(new Body("value"));
+
+		assertEquals("{\"name\":\"value\"}", new String(json, StandardCharsets.UTF_8));
+		assertEquals("value", codec.reader(Body.class).<Body>readValue(json).name);
+		assertEquals("null", new String(codec.writeValueAsBytes(null), StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Tests that bodies are encoded to UTF-8, outside of ASCII too.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void utf8EncodingTest() throws Exception {
+		byte[] json = codec.writeValueAsBytes(new Body("토스페이먼츠"));
+
+		assertArrayEquals("{\"name\":\"토스페이먼츠\"}".getBytes(StandardCharsets.UTF_8), json);
+	}
+
+	/**
+	 * Tests that the shared codec is a single instance binding fields like any other codec.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void sharedTest() throws Exception {
+		JsonCodec shared = JsonCodec.shared();
+
+		assertSame(shared, JsonCodec.shared());
+		assertNotSame(codec, shared);
+
+		byte[] json = shared.writeValueAsBytes(new Body("value"));
+		assertArrayEquals(codec.writeValueAsBytes(new Body("value")), json);
+		assertEquals("value", shared.reader(Body.class).<Body>readValue(json).name);
+	}
+
+	/**
+	 * Tests that the codec of each binding is shared, and that the streaming binding writes the payment requests
+	 * like reflection and binds other types through their fields.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void bindingTest() throws Exception {
+		JsonCodec streaming = JsonCodec.of(JsonBinding.STREAMING);
+
+		assertSame(streaming, JsonCodec.of(JsonBinding.STREAMING));
+		assertSame(JsonCodec.shared(), JsonCodec.of(JsonBinding.REFLECTION));
+		assertNotSame(JsonCodec.shared(), streaming);
+
+		PaymentConfirmRequest request = new PaymentConfirmRequest("payment_key", "order_id", 15000);
+		assertArrayEquals(codec.writeValueAsBytes(request), streaming.writeValueAsBytes(request));
+
+		byte[] json = streaming.writeValueAsBytes(new Body("value"));
+		assertArrayEquals(codec.writeValueAsBytes(new Body("value")), json);
+		assertEquals("value", streaming.reader(Body.class).<Body>readValue(json).name);
+	}
+
+	/**
+	 * Body with a private field and no accessors.
+	 */
+	private static class Body {
+
+		private String name;
+
+		/**
+		 * Constructor for deserialization.
+		 */
+		Body() {
+		}
+
+		/**
+		 * Constructor for Body.
+		 * @param name the name.
+		 */
+		Body(String name) {
+			this.name = name;
+		}
+	}
+
+}
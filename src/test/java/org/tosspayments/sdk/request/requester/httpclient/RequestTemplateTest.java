@@ -0,0 +1,69 @@
+package org.tosspayments.sdk.request.requester.httpclient;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link RequestTemplate}.
+ */
+class RequestTemplateTest {
+
+	private static final String ENDPOINT = "http://localhost:8080/v1";
+
+	private static final Map<String, String> HEADERS = Map.of(
+		"Accept", "application/json",
+		"Authorization", "Basic dGVzdDo="
+	);
+
+	/**
+	 * Tests that the built request carries the endpoint, the path and the template headers.
+	 */
+	@Test
+	void newBuilderTest() {
+		RequestTemplate template = new RequestTemplate(ENDPOINT, HEADERS);
+
+		HttpRequest request = template.newBuilder("/payments/confirm").GET().build();
+
+		assertEquals(URI.create(ENDPOINT + "/payments/confirm"), request.uri());
+		assertEquals(List.of("application/json"), request.headers().allValues("Accept"));
+		assertEquals(List.of("Basic dGVzdDo="), request.headers().allValues("Authorization"));
+	}
+
+	/**
+	 * Tests that each builder starts from the template headers, unaffected by the headers set on other builders.
+	 */
+	@Test
+	void independentBuildersTest() {
+		RequestTemplate template = new RequestTemplate(ENDPOINT, HEADERS);
+
+		HttpRequest first = template.newBuilder("/payments/payment_key_1")
+			.header("Idempotency-Key", "key")
+			.GET()
+			.build();
+		HttpRequest second = template.newBuilder("/payments/payment_key_2").GET().build();
+
+		assertEquals(URI.create(ENDPOINT + "/payments/payment_key_1"), first.uri());
+		assertEquals(URI.create(ENDPOINT + "/payments/payment_key_2"), second.uri());
+		assertEquals(List.of("key"), first.headers().allValues("Idempotency-Key"));
+		assertTrue(second.headers().firstValue("Idempotency-Key").isEmpty());
+		assertEquals(List.of("Basic dGVzdDo="), second.headers().allValues("Authorization"));
+	}
+
+	/**
+	 * Tests that invalid headers fail when the template is created.
+	 */
+	@Test
+	void invalidHeaderValidation() {
+		assertThrows(
+			IllegalArgumentException.class,
+			() -> new RequestTemplate(ENDPOINT, Map.of("Content-Length", "10"))
+		);
+	}
+
+}
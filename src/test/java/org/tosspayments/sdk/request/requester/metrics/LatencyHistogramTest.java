@@ -0,0 +1,69 @@
+package org.tosspayments.sdk.request.requester.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LatencyHistogram}.
+ */
+class LatencyHistogramTest {
+
+	/**
+	 * Tests that every value falls into a bucket whose upper bound is within 1/16 of it.
+	 */
+	@Test
+	void bucketPrecisionTest() {
+		long[] values = {0, 1, 15, 16, 17, 31, 32, 33, 1000, 999_999, 1_000_000_007L, Long.MAX_VALUE};
+
+		for (long value : values) {
+			int index = LatencyHistogram.indexOf(value);
+			long upperBound = LatencyHistogram.upperBoundOf(index);
+
+			assertTrue(value <= upperBound, "value " + value);
+			assertTrue(upperBound - value <= value / 16, "value " + value);
+			if (index > 0) {
+				assertTrue(LatencyHistogram.upperBoundOf(index - 1) < value, "value " + value);
+			}
+		}
+		assertEquals(Long.MAX_VALUE, LatencyHistogram.upperBoundOf(LatencyHistogram.indexOf(Long.MAX_VALUE)));
+	}
+
+	/**
+	 * Tests the count, total, max and percentiles of the recorded durations.
+	 */
+	@Test
+	void recordTest() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (long value = 1; value <= 100; value++) {
+			histogram.record(value * 1_000);
+		}
+
+		assertEquals(100, histogram.getCount());
+		assertEquals(5_050_000, histogram.getTotalNanos());
+		assertEquals(100_000, histogram.getMaxNanos());
+		assertEquals(50_000, histogram.getValueAtPercentile(50), 50_000 / 16);
+		assertEquals(99_000, histogram.getValueAtPercentile(99), 99_000 / 16);
+		assertEquals(100_000, histogram.getValueAtPercentile(100));
+		assertEquals(1_000, histogram.getValueAtPercentile(0), 1_000 / 16);
+		assertEquals(100_000, histogram.getValueAtPercentile(200));
+	}
+
+	/**
+	 * Tests that an empty histogram reports zeros and that negative durations are recorded as zero.
+	 */
+	@Test
+	void emptyAndNegativeTest() {
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getValueAtPercentile(99));
+
+		histogram.record(-5);
+
+		assertEquals(1, histogram.getCount());
+		assertEquals(0, histogram.getTotalNanos());
+		assertEquals(0, histogram.getValueAtPercentile(99));
+	}
+
+}
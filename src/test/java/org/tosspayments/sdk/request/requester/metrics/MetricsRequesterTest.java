@@ -0,0 +1,90 @@
+package org.tosspayments.sdk.request.requester.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.tosspayments.sdk.request.requester.RequestOptions;
+import org.tosspayments.sdk.request.requester.Requester;
+
+/**
+ * Tests for {@link MetricsRequester}.
+ */
+class MetricsRequesterTest {
+
+	private static final String PATH = "/v1/payments/confirm";
+
+	private Requester delegate;
+
+	private MetricsRequester requester;
+
+	/**
+	 * Creates a requester recording submission times into the options sent to a mocked requester.
+	 */
+	@BeforeEach
+	void setUp() {
+		delegate = mock(Requester.class);
+		requester = new MetricsRequester(delegate);
+	}
+
+	/**
+	 * Tests that every call is delegated with its submission time, taken before delegating.
+	 */
+	@Test
+	void submissionTimeRecordedTest() {
+		when(delegate.get(eq(PATH), eq(String.class), any())).thenReturn("get");
+		when(delegate.getAsync(eq(PATH), eq(String.class), any())).thenReturn(CompletableFuture.completedFuture("ga"));
+		when(delegate.post(eq(PATH), eq("body"), eq(String.class), any())).thenReturn("post");
+		when(delegate.postAsync(eq(PATH), eq("body"), eq(String.class), any()))
+			.thenReturn(CompletableFuture.completedFuture("pa"));
+
+		long before = System.nanoTime();
+		assertEquals("get", requester.get(PATH, String.class));
+		assertEquals("ga", requester.getAsync(PATH, String.class).join());
+		assertEquals("post", requester.post(PATH, "body", String.class));
+		assertEquals("pa", requester.postAsync(PATH, "body", String.class).join());
+		long after = System.nanoTime();
+
+		ArgumentCaptor<RequestOptions> options = ArgumentCaptor.forClass(RequestOptions.class);
+		verify(delegate).get(eq(PATH), eq(String.class), options.capture());
+		verify(delegate).getAsync(eq(PATH), eq(String.class), options.capture());
+		verify(delegate).post(eq(PATH), eq("body"), eq(String.class), options.capture());
+		verify(delegate).postAsync(eq(PATH), eq("body"), eq(String.class), options.capture());
+		assertEquals(4, options.getAllValues().size());
+		for (RequestOptions value : options.getAllValues()) {
+			assertTrue(before - value.getSubmittedAt() <= 0);
+			assertTrue(value.getSubmittedAt() - after <= 0);
+		}
+	}
+
+	/**
+	 * Tests that the submission time given by the caller is kept, and that the other options are kept.
+	 */
+	@Test
+	void givenSubmissionTimeKeptTest() {
+		RequestOptions options = RequestOptions.defaults().withIdempotencyKey("key").withSubmittedAt(42);
+
+		requester.get(PATH, String.class, options);
+		requester.getAsync(PATH, String.class, options);
+		requester.post(PATH, "body", String.class, options);
+		requester.postAsync(PATH, "body", String.class, options);
+
+		verify(delegate).get(PATH, String.class, options);
+		verify(delegate).getAsync(PATH, String.class, options);
+		verify(delegate).post(PATH, "body", String.class, options);
+		verify(delegate).postAsync(PATH, "body", String.class, options);
+
+		RequestOptions withoutTime = RequestOptions.defaults().withIdempotencyKey("key");
+		requester.post(PATH, "other", String.class, withoutTime);
+
+		ArgumentCaptor<RequestOptions> captor = ArgumentCaptor.forClass(RequestOptions.class);
+		verify(delegate).post(eq(PATH), eq("other"), eq(String.class), captor.capture());
+		assertEquals("key", captor.getValue().getIdempotencyKey());
+		assertNotNull(captor.getValue().getSubmittedAt());
+	}
+
+}
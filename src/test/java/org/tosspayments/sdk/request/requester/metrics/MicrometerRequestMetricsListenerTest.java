@@ -0,0 +1,90 @@
+package org.tosspayments.sdk.request.requester.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for {@link MicrometerRequestMetricsListener}.
+ */
+class MicrometerRequestMetricsListenerTest {
+
+	/**
+	 * Tests that the exchanges are published as timers per phase, byte summaries and an in-flight gauge,
+	 * tagged with the operation and status class.
+	 */
+	@Test
+	void publishTest() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		MicrometerRequestMetricsListener listener = new MicrometerRequestMetricsListener(registry);
+
+		listener.onRequestStart("POST", "/v1/payments/confirm");
+		listener.onRequestStart("POST", "/v1/payments/confirm");
+		assertEquals(2, registry.get(MicrometerRequestMetricsListener.IN_FLIGHT).gauge().value());
+
+		listener.onRequestEnd(new RequestEvent("POST", "/v1/payments/confirm", 200, 1_000, 2_000, 3_000, 40, 50, null));
+		listener.onRequestEnd(new RequestEvent(
+			"POST", "/v1/payments/confirm", 200,
+			RequestEvent.NOT_MEASURED, 4_000, RequestEvent.NOT_MEASURED, 60, 70, null
+		));
+
+		assertEquals(0, registry.get(MicrometerRequestMetricsListener.IN_FLIGHT).gauge().value());
+		assertEquals(1, timer(registry, "queue").count());
+		assertEquals(1_000, timer(registry, "queue").totalTime(TimeUnit.NANOSECONDS));
+		assertEquals(2, timer(registry, "network").count());
+		assertEquals(6_000, timer(registry, "network").totalTime(TimeUnit.NANOSECONDS));
+		assertEquals(1, timer(registry, "parse").count());
+
+		DistributionSummary requestBytes = registry.get(MicrometerRequestMetricsListener.REQUEST_BYTES)
+			.tag("operation", "confirm")
+			.summary();
+		assertEquals(100, requestBytes.totalAmount());
+		DistributionSummary responseBytes = registry.get(MicrometerRequestMetricsListener.RESPONSE_BYTES)
+			.tag("status", "2xx")
+			.summary();
+		assertEquals(120, responseBytes.totalAmount());
+	}
+
+	/**
+	 * Tests that the exchanges are grouped by the given operation resolver.
+	 */
+	@Test
+	void operationResolverTest() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		MicrometerRequestMetricsListener listener = new MicrometerRequestMetricsListener(
+			registry,
+			(method, path) -> "custom"
+		);
+
+		listener.onRequestStart("GET", "/v1/payments/key");
+		listener.onRequestEnd(new RequestEvent("GET", "/v1/payments/key", 0, 0, 5, 0, 0, 0, null));
+
+		Timer network = registry.get(MicrometerRequestMetricsListener.REQUESTS)
+			.tag("operation", "custom")
+			.tag("status", RequestEvent.NO_RESPONSE)
+			.tag("phase", "network")
+			.timer();
+		assertEquals(1, network.count());
+	}
+
+	/**
+	 * Returns the timer of a phase of confirmations.
+	 * @param registry the registry the timer is registered in.
+	 * @param phase the phase.
+	 * @return the timer.
+	 */
+	private static Timer timer(SimpleMeterRegistry registry, String phase) {
+		return registry.get(MicrometerRequestMetricsListener.REQUESTS)
+			.tag("operation", "confirm")
+			.tag("status", "2xx")
+			.tag("phase", phase)
+			.timer();
+	}
+
+}
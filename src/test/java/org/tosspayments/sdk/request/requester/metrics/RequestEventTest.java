@@ -0,0 +1,52 @@
+package org.tosspayments.sdk.request.requester.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link RequestEvent}.
+ */
+class RequestEventTest {
+
+	/**
+	 * Tests the status class of the responses, and of exchanges without a response.
+	 */
+	@Test
+	void statusClassTest() {
+		assertEquals(RequestEvent.NO_RESPONSE, event(0).getStatusClass());
+		assertEquals("2xx", event(200).getStatusClass());
+		assertEquals("4xx", event(404).getStatusClass());
+		assertEquals("5xx", event(503).getStatusClass());
+		assertEquals("6xx", event(600).getStatusClass());
+	}
+
+	/**
+	 * Tests that the event keeps its timings and outcome.
+	 */
+	@Test
+	void gettersTest() {
+		IllegalStateException failure = new IllegalStateException();
+		RequestEvent event = new RequestEvent("POST", "/v1/payments/confirm", 500, 1, 2, 3, 4, 5, failure);
+
+		assertEquals("POST", event.getMethod());
+		assertEquals("/v1/payments/confirm", event.getPath());
+		assertEquals(500, event.getStatusCode());
+		assertEquals(1, event.getQueueNanos());
+		assertEquals(2, event.getNetworkNanos());
+		assertEquals(3, event.getParseNanos());
+		assertEquals(4, event.getRequestBytes());
+		assertEquals(5, event.getResponseBytes());
+		assertSame(failure, event.getFailure());
+	}
+
+	/**
+	 * Creates an event with the status code.
+	 * @param statusCode the status code of the response.
+	 * @return the event.
+	 */
+	private static RequestEvent event(int statusCode) {
+		return new RequestEvent("GET", "/v1/payments/key", statusCode, 0, 0, 0, 0, 0, null);
+	}
+
+}
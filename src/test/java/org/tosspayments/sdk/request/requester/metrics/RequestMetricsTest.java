@@ -0,0 +1,82 @@
+package org.tosspayments.sdk.request.requester.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link RequestMetrics}.
+ */
+class RequestMetricsTest {
+
+	/**
+	 * Tests that the exchanges are grouped by operation and status class, and counted in flight until they end.
+	 */
+	@Test
+	void recordTest() {
+		RequestMetrics metrics = new RequestMetrics();
+
+		metrics.onRequestStart("GET", "/v1/payments/key_1");
+		metrics.onRequestStart("GET", "/v1/payments/key_2");
+		metrics.onRequestStart("POST", "/v1/payments/confirm");
+		assertEquals(3, metrics.getInFlight());
+
+		metrics.onRequestEnd(new RequestEvent("GET", "/v1/payments/key_1", 200, 10, 1_000, 100, 0, 300, null));
+		metrics.onRequestEnd(new RequestEvent("GET", "/v1/payments/key_2", 200, 20, 2_000, 200, 0, 500, null));
+		metrics.onRequestEnd(new RequestEvent(
+			"POST", "/v1/payments/confirm", 0,
+			RequestEvent.NOT_MEASURED, 3_000, RequestEvent.NOT_MEASURED, 50, 0, new IllegalStateException()
+		));
+
+		assertEquals(0, metrics.getInFlight());
+		assertEquals(2, metrics.getStats().size());
+
+		EndpointStats lookups = metrics.getStats("lookup", "2xx");
+		assertEquals(2, lookups.getRequestCount());
+		assertEquals(2, lookups.getQueueTime().getCount());
+		assertEquals(3_000, lookups.getNetworkTime().getTotalNanos());
+		assertEquals(300, lookups.getParseTime().getTotalNanos());
+		assertEquals(0, lookups.getRequestBytesTotal());
+		assertEquals(800, lookups.getResponseBytesTotal());
+
+		EndpointStats confirms = metrics.getStats("confirm", RequestEvent.NO_RESPONSE);
+		assertEquals(1, confirms.getRequestCount());
+		assertEquals(0, confirms.getQueueTime().getCount());
+		assertEquals(1, confirms.getNetworkTime().getCount());
+		assertEquals(0, confirms.getParseTime().getCount());
+		assertEquals(50, confirms.getRequestBytesTotal());
+
+		assertNull(metrics.getStats("confirm", "2xx"));
+		assertThrows(UnsupportedOperationException.class, () -> metrics.getStats().clear());
+	}
+
+	/**
+	 * Tests that the exchanges are grouped by the given operation resolver.
+	 */
+	@Test
+	void operationResolverTest() {
+		RequestMetrics metrics = new RequestMetrics((method, path) -> method);
+
+		metrics.onRequestStart("GET", "/v1/payments/key");
+		metrics.onRequestEnd(new RequestEvent("GET", "/v1/payments/key", 404, 0, 0, 0, 0, 0, null));
+
+		assertEquals(1, metrics.getStats("GET", "4xx").getRequestCount());
+		assertEquals(new EndpointKey("GET", "4xx"), metrics.getStats().keySet().iterator().next());
+	}
+
+	/**
+	 * Tests that the last reported state of the concurrency limiter is kept.
+	 */
+	@Test
+	void concurrencyLimitTest() {
+		RequestMetrics metrics = new RequestMetrics();
+
+		metrics.onConcurrencyLimit(10, 10, 3);
+		metrics.onConcurrencyLimit(8, 7, 2);
+
+		assertEquals(8, metrics.getConcurrencyLimit());
+		assertEquals(7, metrics.getConcurrencyInFlight());
+		assertEquals(2, metrics.getConcurrencyQueued());
+	}
+
+}
@@ -0,0 +1,64 @@
+package org.tosspayments.sdk.request.requester.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.junit.jupiter.api.Test;
+import org.tosspayments.sdk.request.requester.DefaultOperationResolver;
+import org.tosspayments.sdk.request.requester.OperationResolver;
+import org.tosspayments.sdk.request.requester.SharedScheduler;
+
+/**
+ * Tests for {@link RateLimitConfig}.
+ */
+class RateLimitConfigTest {
+
+	/**
+	 * Tests the default settings.
+	 */
+	@Test
+	void defaultsTest() {
+		RateLimitConfig config = RateLimitConfig.builder().build();
+
+		assertSame(RateLimitConfig.DEFAULT_LIMIT, config.getDefaultLimit());
+		assertSame(RateLimitConfig.DEFAULT_LIMIT, config.getLimit(DefaultOperationResolver.CONFIRM));
+		assertEquals(Duration.ofSeconds(1), config.getMaxWait());
+		assertEquals(Duration.ofSeconds(30), config.getMaxAsyncWait());
+		assertInstanceOf(DefaultOperationResolver.class, config.getOperationResolver());
+		assertSame(SharedScheduler.getInstance(), config.getScheduler());
+		assertSame(SharedScheduler.getExecutor(), config.getExecutor());
+	}
+
+	/**
+	 * Tests the custom settings.
+	 */
+	@Test
+	void customSettingsTest() {
+		RateLimit defaultLimit = RateLimit.of(5, 5);
+		RateLimit confirmLimit = RateLimit.of(1, 1);
+		OperationResolver resolver = mock(OperationResolver.class);
+		ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+
+		RateLimitConfig config = RateLimitConfig.builder()
+			.withDefaultLimit(defaultLimit)
+			.withLimit(DefaultOperationResolver.CONFIRM, confirmLimit)
+			.withMaxWait(Duration.ZERO)
+			.withMaxAsyncWait(Duration.ofSeconds(5))
+			.withOperationResolver(resolver)
+			.withScheduler(scheduler)
+			.withExecutor(scheduler)
+			.build();
+
+		assertSame(confirmLimit, config.getLimit(DefaultOperationResolver.CONFIRM));
+		assertSame(defaultLimit, config.getLimit(DefaultOperationResolver.LOOKUP));
+		assertEquals(Duration.ZERO, config.getMaxWait());
+		assertEquals(Duration.ofSeconds(5), config.getMaxAsyncWait());
+		assertSame(resolver, config.getOperationResolver());
+		assertSame(scheduler, config.getScheduler());
+		assertSame(scheduler, config.getExecutor());
+	}
+
+}
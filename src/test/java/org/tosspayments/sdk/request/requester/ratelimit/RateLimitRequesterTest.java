@@ -0,0 +1,298 @@
+package org.tosspayments.sdk.request.requester.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.tosspayments.sdk.exception.DeadlineExceededException;
+import org.tosspayments.sdk.exception.RateLimitExceededException;
+import org.tosspayments.sdk.exception.TossApiException;
+import org.tosspayments.sdk.request.requester.RequestOptions;
+import org.tosspayments.sdk.request.requester.Requester;
+
+/**
+ * Tests for {@link RateLimitRequester}.
+ */
+class RateLimitRequesterTest {
+
+	private static final String CONFIRM_PATH = "/payments/confirm";
+
+	private static final String LOOKUP_PATH = "/payments/payment_key";
+
+	private Requester delegate;
+
+	private ScheduledExecutorService scheduler;
+
+	/**
+	 * Creates the mocked delegate and scheduler.
+	 */
+	@BeforeEach
+	void setUp() {
+		delegate = mock(Requester.class);
+		scheduler = mock(ScheduledExecutorService.class);
+	}
+
+	/**
+	 * Tests that synchronous requests within the burst are sent right away,
+	 * and a request over the limit fails without being sent when it may not wait.
+	 */
+	@Test
+	void syncLimitTest() {
+		RateLimitRequester requester = createRequester(Duration.ZERO);
+		when(delegate.post(CONFIRM_PATH, "body", String.class)).thenReturn("ok");
+
+		assertEquals("ok", requester.post(CONFIRM_PATH, "body", String.class));
+		RateLimitExceededException exception = assertThrows(
+			RateLimitExceededException.class,
+			() -> requester.post(CONFIRM_PATH, "body", String.class)
+		);
+
+		assertEquals("confirm", exception.getBucketName());
+		verify(delegate, times(1)).post(CONFIRM_PATH, "body", String.class);
+	}
+
+	/**
+	 * Tests that a synchronous request waits for the next token within the maximum wait.
+	 */
+	@Test
+	void syncWaitTest() {
+		RateLimitRequester requester = createRequester(Duration.ofSeconds(1));
+		RequestOptions options = RequestOptions.defaults();
+		when(delegate.post(CONFIRM_PATH, "body", String.class, options)).thenReturn("ok");
+		when(delegate.get(LOOKUP_PATH, String.class)).thenReturn("lookup");
+
+		long start = System.nanoTime();
+		assertEquals("ok", requester.post(CONFIRM_PATH, "body", String.class, options));
+		assertEquals("ok", requester.post(CONFIRM_PATH, "body", String.class, options));
+
+		assertTrue(System.nanoTime() - start >= Duration.ofMillis(50).toNanos());
+		assertEquals("lookup", requester.get(LOOKUP_PATH, String.class));
+		assertEquals(2, requester.getBuckets().size());
+	}
+
+	/**
+	 * Tests that an interrupted synchronous wait fails without sending the request.
+	 */
+	@Test
+	void syncInterruptedTest() {
+		RateLimitRequester requester = createRequester(Duration.ofSeconds(1));
+		requester.getBucket("lookup").reserve(0);
+
+		Thread.currentThread().interrupt();
+		RuntimeException exception = assertThrows(
+			RuntimeException.class,
+			() -> requester.get(LOOKUP_PATH, String.class)
+		);
+
+		assertTrue(Thread.interrupted());
+		assertEquals("Request was interrupted", exception.getMessage());
+		verify(delegate, never()).get(LOOKUP_PATH, String.class);
+	}
+
+	/**
+	 * Tests that an asynchronous request over the limit is sent by the scheduler once its token is available.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void asyncScheduledTest() throws Exception {
+		RateLimitRequester requester = createRequester(Duration.ofSeconds(1));
+		when(delegate.getAsync(LOOKUP_PATH, String.class))
+			.thenReturn(CompletableFuture.completedFuture("first"))
+			.thenReturn(CompletableFuture.completedFuture("second"));
+
+		assertEquals("first", requester.getAsync(LOOKUP_PATH, String.class).get());
+		CompletableFuture<String> second = requester.getAsync(LOOKUP_PATH, String.class);
+
+		assertFalse(second.isDone());
+		verify(delegate, times(1)).getAsync(LOOKUP_PATH, String.class);
+
+		runScheduled();
+		assertEquals("second", second.get());
+	}
+
+	/**
+	 * Tests that a scheduled asynchronous request passes on the failure of the request.
+	 */
+	@Test
+	void asyncScheduledFailureTest() {
+		RateLimitRequester requester = createRequester(Duration.ofSeconds(1));
+		when(delegate.postAsync(CONFIRM_PATH, "body", String.class))
+			.thenReturn(CompletableFuture.completedFuture("first"))
+			.thenReturn(CompletableFuture.failedFuture(new TossApiException(500)))
+			.thenThrow(new IllegalStateException("send"));
+
+		requester.postAsync(CONFIRM_PATH, "body", String.class);
+		CompletableFuture<String> failed = requester.postAsync(CONFIRM_PATH, "body", String.class);
+		runScheduled();
+
+		ExecutionException exception = assertThrows(ExecutionException.class, failed::get);
+		assertInstanceOf(TossApiException.class, exception.getCause());
+
+		CompletableFuture<String> thrown = requester.postAsync(CONFIRM_PATH, "body", String.class);
+		runScheduled();
+
+		exception = assertThrows(ExecutionException.class, thrown::get);
+		assertInstanceOf(IllegalStateException.class, exception.getCause());
+	}
+
+	/**
+	 * Tests that cancelling a scheduled asynchronous request after it was sent cancels the request.
+	 */
+	@Test
+	void asyncCancelledAfterSentTest() {
+		RateLimitRequester requester = createRequester(Duration.ofSeconds(1));
+		CompletableFuture<String> sent = new CompletableFuture<>();
+		when(delegate.getAsync(LOOKUP_PATH, String.class))
+			.thenReturn(CompletableFuture.completedFuture("first"))
+			.thenReturn(sent);
+
+		requester.getAsync(LOOKUP_PATH, String.class);
+		CompletableFuture<String> second = requester.getAsync(LOOKUP_PATH, String.class);
+		runScheduled();
+		second.cancel(true);
+
+		assertTrue(sent.isCancelled());
+	}
+
+	/**
+	 * Tests that a scheduled asynchronous request cancelled by the caller is not sent,
+	 * and returns its token to the bucket for the next waiter.
+	 */
+	@Test
+	void asyncCancelledTest() {
+		RateLimitRequester requester = createRequester(Duration.ofSeconds(1));
+		RequestOptions options = RequestOptions.defaults();
+		when(delegate.postAsync(CONFIRM_PATH, "body", String.class, options))
+			.thenReturn(CompletableFuture.completedFuture("first"));
+
+		requester.postAsync(CONFIRM_PATH, "body", String.class, options);
+		CompletableFuture<String> cancelled = requester.postAsync(CONFIRM_PATH, "body", String.class, options);
+		cancelled.cancel(false);
+		runScheduled();
+
+		verify(delegate, times(1)).postAsync(CONFIRM_PATH, "body", String.class, options);
+		assertTrue(requester.getBucket("confirm").reserve(Long.MAX_VALUE) <= Duration.ofMillis(100).toNanos());
+	}
+
+	/**
+	 * Tests that the timer only hands a scheduled asynchronous request to the executor, which sends it.
+	 */
+	@Test
+	void asyncSentOnExecutorTest() {
+		List<Runnable> handedOff = new ArrayList<>();
+		RateLimitRequester requester = new RateLimitRequester(delegate, RateLimitConfig.builder()
+			.withDefaultLimit(RateLimit.of(10, 1))
+			.withScheduler(scheduler)
+			.withExecutor(handedOff::add)
+			.build()
+		);
+		when(delegate.getAsync(LOOKUP_PATH, String.class)).thenReturn(CompletableFuture.completedFuture("ok"));
+
+		requester.getAsync(LOOKUP_PATH, String.class);
+		CompletableFuture<String> scheduled = requester.getAsync(LOOKUP_PATH, String.class);
+		runScheduled();
+
+		verify(delegate, times(1)).getAsync(LOOKUP_PATH, String.class);
+		assertEquals(1, handedOff.size());
+
+		handedOff.get(0).run();
+		assertEquals("ok", scheduled.join());
+	}
+
+	/**
+	 * Tests that an asynchronous request whose token is too far away fails with a failed future.
+	 */
+	@Test
+	void asyncLimitTest() {
+		RateLimitRequester requester = createRequester(Duration.ZERO);
+		requester.getBucket("lookup").reserve(0);
+
+		ExecutionException exception = assertThrows(
+			ExecutionException.class,
+			() -> requester.getAsync(LOOKUP_PATH, String.class).get()
+		);
+
+		assertInstanceOf(RateLimitExceededException.class, exception.getCause());
+		verify(delegate, never()).getAsync(LOOKUP_PATH, String.class);
+	}
+
+	/**
+	 * Tests that a request whose token is further away than its deadline fails without being sent,
+	 * while a request with time left is sent with its options.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void deadlineBoundsWaitTest() throws Exception {
+		RateLimitRequester requester = createRequester(Duration.ofSeconds(1));
+		RequestOptions options = RequestOptions.defaults().withTimeout(Duration.ofMillis(10));
+		RequestOptions later = RequestOptions.defaults().withTimeout(Duration.ofMinutes(1));
+		when(delegate.getAsync(LOOKUP_PATH, String.class, later)).thenReturn(CompletableFuture.completedFuture("ok"));
+
+		assertEquals("ok", requester.getAsync(LOOKUP_PATH, String.class, later).get());
+		assertThrows(DeadlineExceededException.class, () -> requester.get(LOOKUP_PATH, String.class, options));
+		ExecutionException exception = assertThrows(
+			ExecutionException.class,
+			() -> requester.getAsync(LOOKUP_PATH, String.class, options).get()
+		);
+
+		assertInstanceOf(DeadlineExceededException.class, exception.getCause());
+		verify(delegate, never()).get(LOOKUP_PATH, String.class, options);
+		verify(delegate, never()).getAsync(LOOKUP_PATH, String.class, options);
+	}
+
+	/**
+	 * Tests that a request whose deadline has passed is not sent, even if a token is available.
+	 */
+	@Test
+	void expiredDeadlineTest() {
+		RateLimitRequester requester = createRequester(Duration.ofSeconds(1));
+		RequestOptions options = RequestOptions.defaults().withDeadline(Instant.now().minusMillis(1));
+
+		assertThrows(DeadlineExceededException.class, () -> requester.get(LOOKUP_PATH, String.class, options));
+
+		verify(delegate, never()).get(LOOKUP_PATH, String.class, options);
+		assertEquals(1, requester.getBucket("lookup").getAvailablePermits());
+	}
+
+	/**
+	 * Creates a requester allowing 10 requests per second with a burst of 1 per operation.
+	 * @param maxWait the maximum wait of both synchronous and asynchronous requests.
+	 * @return the requester.
+	 */
+	private RateLimitRequester createRequester(Duration maxWait) {
+		return new RateLimitRequester(delegate, RateLimitConfig.builder()
+			.withDefaultLimit(RateLimit.of(10, 1))
+			.withMaxWait(maxWait)
+			.withMaxAsyncWait(maxWait)
+			.withScheduler(scheduler)
+			.withExecutor(Runnable::run)
+			.build()
+		);
+	}
+
+	/**
+	 * Runs the last task scheduled on the mocked scheduler.
+	 */
+	private void runScheduled() {
+		ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+		verify(scheduler, atLeastOnce()).schedule(task.capture(), anyLong(), eq(TimeUnit.NANOSECONDS));
+		task.getValue().run();
+	}
+
+}
@@ -0,0 +1,33 @@
+package org.tosspayments.sdk.request.requester.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link RateLimit}.
+ */
+class RateLimitTest {
+
+	/**
+	 * Tests that a valid limit is created.
+	 */
+	@Test
+	void ofTest() {
+		RateLimit limit = RateLimit.of(2.5, 5);
+
+		assertEquals(2.5, limit.getPermitsPerSecond());
+		assertEquals(5, limit.getBurst());
+	}
+
+	/**
+	 * Tests that invalid limits are rejected.
+	 */
+	@Test
+	void invalidLimitTest() {
+		assertThrows(IllegalArgumentException.class, () -> RateLimit.of(0, 1));
+		assertThrows(IllegalArgumentException.class, () -> RateLimit.of(Double.NaN, 1));
+		assertThrows(IllegalArgumentException.class, () -> RateLimit.of(1, 0));
+	}
+
+}
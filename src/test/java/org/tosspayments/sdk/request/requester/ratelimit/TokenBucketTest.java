@@ -0,0 +1,106 @@
+package org.tosspayments.sdk.request.requester.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link TokenBucket}.
+ */
+class TokenBucketTest {
+
+	private static final long INTERVAL = 100_000_000L;
+
+	private final AtomicLong clock = new AtomicLong(1_000_000_000_000L);
+
+	private final TokenBucket bucket = new TokenBucket("confirm", RateLimit.of(10, 3), clock::get);
+
+	/**
+	 * Tests that a new bucket is full and its burst is taken without waiting.
+	 */
+	@Test
+	void burstTest() {
+		assertEquals("confirm", bucket.getName());
+		assertEquals(3, bucket.getAvailablePermits());
+
+		for (int i = 0; i < 3; i++) {
+			assertEquals(0, bucket.reserve(0));
+		}
+
+		assertEquals(0, bucket.getAvailablePermits());
+		assertEquals(TokenBucket.NOT_RESERVED, bucket.reserve(0));
+	}
+
+	/**
+	 * Tests that waiters reserve the next tokens in order.
+	 */
+	@Test
+	void reserveAheadTest() {
+		for (int i = 0; i < 3; i++) {
+			bucket.reserve(0);
+		}
+
+		assertEquals(INTERVAL, bucket.reserve(Long.MAX_VALUE));
+		assertEquals(2 * INTERVAL, bucket.reserve(Long.MAX_VALUE));
+		assertEquals(TokenBucket.NOT_RESERVED, bucket.reserve(2 * INTERVAL));
+		assertEquals(0, bucket.getAvailablePermits());
+	}
+
+	/**
+	 * Tests that a reservation racing with another one retries with the updated state.
+	 */
+	@Test
+	void contendedReserveTest() {
+		TokenBucket[] contended = new TokenBucket[1];
+		AtomicLong clockReads = new AtomicLong();
+		contended[0] = new TokenBucket("lookup", RateLimit.of(10, 2), () -> {
+			if (clockReads.incrementAndGet() == 2) {
+				contended[0].reserve(0);
+			}
+			return clock.get();
+		});
+
+		assertEquals(0, contended[0].reserve(0));
+		assertEquals(4, clockReads.get());
+		assertEquals(0, contended[0].getAvailablePermits());
+	}
+
+	/**
+	 * Tests that tokens are refilled over time up to the burst.
+	 */
+	@Test
+	void refillTest() {
+		for (int i = 0; i < 3; i++) {
+			bucket.reserve(0);
+		}
+
+		clock.addAndGet(INTERVAL);
+		assertEquals(1, bucket.getAvailablePermits());
+
+		clock.addAndGet(100 * INTERVAL);
+		assertEquals(3, bucket.getAvailablePermits());
+		assertEquals(0, bucket.reserve(0));
+		assertEquals(2, bucket.getAvailablePermits());
+	}
+
+	/**
+	 * Tests that a returned token is taken by the next waiter, but never refills the bucket past its burst.
+	 */
+	@Test
+	void releaseTest() {
+		for (int i = 0; i < 3; i++) {
+			bucket.reserve(0);
+		}
+		assertEquals(INTERVAL, bucket.reserve(Long.MAX_VALUE));
+
+		bucket.release();
+		assertEquals(INTERVAL, bucket.reserve(Long.MAX_VALUE));
+
+		clock.addAndGet(100 * INTERVAL);
+		bucket.release();
+		assertEquals(3, bucket.getAvailablePermits());
+	}
+
+}
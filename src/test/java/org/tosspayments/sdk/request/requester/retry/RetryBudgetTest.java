@@ -0,0 +1,54 @@
+package org.tosspayments.sdk.request.requester.retry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link RetryBudget}.
+ */
+class RetryBudgetTest {
+
+	/**
+	 * Tests that the budget starts full and is exhausted by retries.
+	 */
+	@Test
+	void exhaustTest() {
+		RetryBudget budget = new RetryBudget(0.1, 2);
+
+		assertEquals(2, budget.getAvailableRetries());
+		assertTrue(budget.tryRetry());
+		assertTrue(budget.tryRetry());
+		assertFalse(budget.tryRetry());
+	}
+
+	/**
+	 * Tests that requests refill the budget by their ratio, up to the capacity.
+	 */
+	@Test
+	void refillTest() {
+		RetryBudget budget = new RetryBudget(0.5, 1);
+		assertTrue(budget.tryRetry());
+
+		budget.onRequest();
+		assertFalse(budget.tryRetry());
+
+		budget.onRequest();
+		budget.onRequest();
+		budget.onRequest();
+		assertEquals(1, budget.getAvailableRetries());
+		assertTrue(budget.tryRetry());
+		assertFalse(budget.tryRetry());
+	}
+
+	/**
+	 * Tests argument validation.
+	 */
+	@Test
+	void argumentValidation() {
+		assertThrows(IllegalArgumentException.class, () -> new RetryBudget(-0.1, 1));
+		assertThrows(IllegalArgumentException.class, () -> new RetryBudget(1.1, 1));
+		assertThrows(IllegalArgumentException.class, () -> new RetryBudget(0.1, -1));
+	}
+
+}
@@ -0,0 +1,119 @@
+package org.tosspayments.sdk.request.requester.retry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.junit.jupiter.api.Test;
+import org.tosspayments.sdk.exception.DeadlineExceededException;
+import org.tosspayments.sdk.exception.TossApiException;
+import org.tosspayments.sdk.request.requester.SharedScheduler;
+
+import com.fasterxml.jackson.core.JsonParseException;
+
+/**
+ * Tests for {@link RetryPolicy}.
+ */
+class RetryPolicyTest {
+
+	/**
+	 * Tests which failures are retryable by default.
+	 */
+	@Test
+	void defaultRetryableTest() {
+		RetryPolicy policy = RetryPolicy.builder().build();
+
+		assertTrue(policy.isRetryable(new TossApiException(503)));
+		assertTrue(policy.isRetryable(new TossApiException(429)));
+		assertFalse(policy.isRetryable(new TossApiException(400)));
+		assertTrue(policy.isRetryable(new CompletionException(new TossApiException(500))));
+		assertTrue(policy.isRetryable(new RuntimeException(new HttpTimeoutException("timeout"))));
+		assertFalse(policy.isRetryable(new IllegalStateException("not retryable")));
+		assertFalse(policy.isRetryable(
+			new DeadlineExceededException(Instant.now(), new HttpTimeoutException("request timed out"))
+		));
+	}
+
+	/**
+	 * Tests that a body failing to be serialized or parsed is not retried, although its failure is an IOException.
+	 */
+	@Test
+	void bindingFailureNotRetryableTest() {
+		RetryPolicy policy = RetryPolicy.builder().build();
+		JsonParseException parseFailure = new JsonParseException(null, "Unexpected end-of-input");
+
+		assertFalse(policy.isRetryable(new RuntimeException("Failed to parse response body", parseFailure)));
+		assertFalse(policy.isRetryable(
+			new CompletionException(new RuntimeException("Failed to parse response body", parseFailure))
+		));
+	}
+
+	/**
+	 * Tests custom retryable statuses and disabling I/O error retries.
+	 */
+	@Test
+	void customRetryableTest() {
+		RetryPolicy policy = RetryPolicy.builder()
+			.withRetryableStatuses(Set.of(409))
+			.withRetryOnIoException(false)
+			.build();
+
+		assertTrue(policy.isRetryable(new TossApiException(409)));
+		assertFalse(policy.isRetryable(new TossApiException(503)));
+		assertFalse(policy.isRetryable(new RuntimeException(new IOException("connection reset"))));
+	}
+
+	/**
+	 * Tests that the backoff is bounded by the exponential ceiling and the maximum delay.
+	 */
+	@Test
+	void backoffTest() {
+		RetryPolicy policy = RetryPolicy.builder()
+			.withBaseDelay(Duration.ofMillis(100))
+			.withMaxDelay(Duration.ofMillis(300))
+			.build();
+
+		for (int i = 0; i < 100; i++) {
+			assertTrue(policy.backoffMillis(1) <= 100);
+			assertTrue(policy.backoffMillis(2) <= 200);
+			assertTrue(policy.backoffMillis(3) <= 300);
+			assertTrue(policy.backoffMillis(64) <= 300);
+		}
+
+		RetryPolicy noDelay = RetryPolicy.builder().withBaseDelay(Duration.ZERO).build();
+		assertEquals(0, noDelay.backoffMillis(1));
+	}
+
+	/**
+	 * Tests the configured settings and the default scheduler and executor.
+	 */
+	@Test
+	void settingsTest() {
+		ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+		RetryBudget budget = new RetryBudget(0.2, 5);
+
+		RetryPolicy policy = RetryPolicy.builder()
+			.withMaxAttempts(5)
+			.withBudget(budget)
+			.withScheduler(scheduler)
+			.withExecutor(scheduler)
+			.build();
+
+		assertEquals(5, policy.getMaxAttempts());
+		assertSame(budget, policy.getBudget());
+		assertSame(scheduler, policy.getScheduler());
+		assertSame(scheduler, policy.getExecutor());
+		assertSame(SharedScheduler.getInstance(), RetryPolicy.builder().build().getScheduler());
+		assertSame(SharedScheduler.getExecutor(), RetryPolicy.builder().build().getExecutor());
+		assertThrows(IllegalArgumentException.class, () -> RetryPolicy.builder().withMaxAttempts(0));
+		scheduler.shutdown();
+	}
+
+}
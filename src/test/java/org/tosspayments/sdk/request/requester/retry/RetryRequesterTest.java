@@ -0,0 +1,326 @@
+package org.tosspayments.sdk.request.requester.retry;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.tosspayments.sdk.exception.TossApiException;
+import org.tosspayments.sdk.request.requester.RequestOptions;
+import org.tosspayments.sdk.request.requester.Requester;
+
+/**
+ * Tests for {@link RetryRequester}.
+ */
+class RetryRequesterTest {
+
+	private static final String TEST_PATH = "/payments/test";
+
+	private Requester delegate;
+
+	private RetryRequester requester;
+
+	/**
+	 * Creates a requester retrying up to 3 attempts without delay.
+	 */
+	@BeforeEach
+	void setUp() {
+		delegate = mock(Requester.class);
+		requester = new RetryRequester(delegate, RetryPolicy.builder()
+			.withMaxAttempts(3)
+			.withBaseDelay(Duration.ZERO)
+			.build()
+		);
+	}
+
+	/**
+	 * Tests that a retryable failure is retried until success.
+	 */
+	@Test
+	void syncRetryUntilSuccessTest() {
+		when(delegate.get(TEST_PATH, String.class))
+			.thenThrow(new TossApiException(503))
+			.thenReturn("ok");
+
+		assertEquals("ok", requester.get(TEST_PATH, String.class));
+		verify(delegate, times(2)).get(TEST_PATH, String.class);
+	}
+
+	/**
+	 * Tests that a non retryable failure is thrown right away.
+	 */
+	@Test
+	void syncNonRetryableTest() {
+		when(delegate.get(TEST_PATH, String.class)).thenThrow(new TossApiException(400));
+
+		assertThrows(TossApiException.class, () -> requester.get(TEST_PATH, String.class));
+		verify(delegate, times(1)).get(TEST_PATH, String.class);
+	}
+
+	/**
+	 * Tests that the last failure is thrown once the attempts are used up.
+	 */
+	@Test
+	void syncMaxAttemptsTest() {
+		when(delegate.get(TEST_PATH, String.class)).thenThrow(new TossApiException(503));
+
+		assertThrows(TossApiException.class, () -> requester.get(TEST_PATH, String.class));
+		verify(delegate, times(3)).get(TEST_PATH, String.class);
+	}
+
+	/**
+	 * Tests that retries stop when the budget is exhausted.
+	 */
+	@Test
+	void budgetExhaustedTest() {
+		RetryRequester noBudgetRequester = new RetryRequester(delegate, RetryPolicy.builder()
+			.withBaseDelay(Duration.ZERO)
+			.withBudget(new RetryBudget(0, 0))
+			.build()
+		);
+		when(delegate.get(TEST_PATH, String.class)).thenThrow(new TossApiException(503));
+
+		assertThrows(TossApiException.class, () -> noBudgetRequester.get(TEST_PATH, String.class));
+		verify(delegate, times(1)).get(TEST_PATH, String.class);
+	}
+
+	/**
+	 * Tests that a waiting synchronous retry can be interrupted.
+	 */
+	@Test
+	void syncRetryInterruptedTest() {
+		when(delegate.get(TEST_PATH, String.class)).thenThrow(new TossApiException(503));
+		Thread.currentThread().interrupt();
+
+		RuntimeException exception = assertThrows(RuntimeException.class, () -> requester.get(TEST_PATH, String.class));
+
+		assertEquals("Request was interrupted", exception.getMessage());
+		assertTrue(Thread.interrupted());
+	}
+
+	/**
+	 * Tests that every attempt of a POST request sends the same Idempotency-Key.
+	 */
+	@Test
+	void syncPostReusesIdempotencyKeyTest() {
+		Map<String, String> body = Map.of("orderId", "order-1");
+		when(delegate.post(eq(TEST_PATH), eq(body), eq(String.class), any(RequestOptions.class)))
+			.thenThrow(new TossApiException(500))
+			.thenReturn("ok");
+
+		assertEquals("ok", requester.post(TEST_PATH, body, String.class));
+
+		ArgumentCaptor<RequestOptions> options = ArgumentCaptor.forClass(RequestOptions.class);
+		verify(delegate, times(2)).post(eq(TEST_PATH), eq(body), eq(String.class), options.capture());
+		List<RequestOptions> attempts = options.getAllValues();
+		assertNotNull(attempts.get(0).getIdempotencyKey());
+		assertEquals(attempts.get(0).getIdempotencyKey(), attempts.get(1).getIdempotencyKey());
+	}
+
+	/**
+	 * Tests that a given Idempotency-Key is kept for every attempt of an asynchronous POST request.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void asyncPostKeepsGivenIdempotencyKeyTest() throws Exception {
+		RequestOptions given = RequestOptions.defaults().withIdempotencyKey("given-key");
+		when(delegate.postAsync(eq(TEST_PATH), any(), eq(String.class), any(RequestOptions.class)))
+			.thenReturn(CompletableFuture.failedFuture(new TossApiException(502)))
+			.thenReturn(CompletableFuture.completedFuture("ok"));
+
+		assertEquals("ok", requester.postAsync(TEST_PATH, Map.of(), String.class, given).get());
+
+		ArgumentCaptor<RequestOptions> options = ArgumentCaptor.forClass(RequestOptions.class);
+		verify(delegate, times(2)).postAsync(eq(TEST_PATH), any(), eq(String.class), options.capture());
+		options.getAllValues().forEach(attempt -> assertSame(given, attempt));
+	}
+
+	/**
+	 * Tests that an asynchronous POST without options issues a key and is retried.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void asyncPostRetryTest() throws Exception {
+		when(delegate.postAsync(eq(TEST_PATH), any(), eq(String.class), any(RequestOptions.class)))
+			.thenReturn(CompletableFuture.failedFuture(new TossApiException(429)))
+			.thenReturn(CompletableFuture.completedFuture("ok"));
+
+		assertEquals("ok", requester.postAsync(TEST_PATH, Map.of(), String.class).get());
+		verify(delegate, times(2)).postAsync(eq(TEST_PATH), any(), eq(String.class), any(RequestOptions.class));
+	}
+
+	/**
+	 * Tests that an asynchronous request is retried, also when an attempt fails synchronously.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void asyncRetryUntilSuccessTest() throws Exception {
+		when(delegate.getAsync(TEST_PATH, String.class))
+			.thenReturn(CompletableFuture.failedFuture(new TossApiException(503)))
+			.thenThrow(new TossApiException(503))
+			.thenReturn(CompletableFuture.completedFuture("ok"));
+
+		assertEquals("ok", requester.getAsync(TEST_PATH, String.class).get());
+		verify(delegate, times(3)).getAsync(TEST_PATH, String.class);
+	}
+
+	/**
+	 * Tests that an asynchronous request fails with the last failure once the attempts are used up.
+	 */
+	@Test
+	void asyncMaxAttemptsTest() {
+		when(delegate.getAsync(TEST_PATH, String.class))
+			.thenReturn(CompletableFuture.failedFuture(new TossApiException(503)));
+
+		ExecutionException exception = assertThrows(
+			ExecutionException.class,
+			() -> requester.getAsync(TEST_PATH, String.class).get()
+		);
+		assertInstanceOf(TossApiException.class, exception.getCause());
+		verify(delegate, times(3)).getAsync(TEST_PATH, String.class);
+	}
+
+	/**
+	 * Tests that no retry is sent once the caller cancelled the request.
+	 */
+	@Test
+	void asyncCancelledStopsRetryingTest() {
+		CompletableFuture<String> pending = new CompletableFuture<>();
+		when(delegate.getAsync(TEST_PATH, String.class)).thenReturn(pending);
+
+		CompletableFuture<String> result = requester.getAsync(TEST_PATH, String.class);
+		result.cancel(true);
+		pending.completeExceptionally(new TossApiException(503));
+
+		verify(delegate, times(1)).getAsync(TEST_PATH, String.class);
+	}
+
+	/**
+	 * Tests that a scheduled retry is dropped when the caller cancelled the request during the backoff.
+	 */
+	@Test
+	void asyncCancelledDuringBackoffTest() {
+		ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+		RetryRequester scheduledRequester = new RetryRequester(delegate, RetryPolicy.builder()
+			.withScheduler(scheduler)
+			.withExecutor(Runnable::run)
+			.build()
+		);
+		when(delegate.getAsync(TEST_PATH, String.class))
+			.thenReturn(CompletableFuture.failedFuture(new TossApiException(503)));
+
+		CompletableFuture<String> result = scheduledRequester.getAsync(TEST_PATH, String.class);
+		ArgumentCaptor<Runnable> retry = ArgumentCaptor.forClass(Runnable.class);
+		verify(scheduler).schedule(retry.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+
+		result.cancel(true);
+		retry.getValue().run();
+
+		verify(delegate, times(1)).getAsync(TEST_PATH, String.class);
+	}
+
+	/**
+	 * Tests that GET requests with options are retried with the same options.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void getWithOptionsRetryTest() throws Exception {
+		RequestOptions options = RequestOptions.defaults().withTimeout(Duration.ofMinutes(1));
+		when(delegate.get(TEST_PATH, String.class, options))
+			.thenThrow(new TossApiException(503))
+			.thenReturn("ok");
+		when(delegate.getAsync(TEST_PATH, String.class, options))
+			.thenReturn(CompletableFuture.failedFuture(new TossApiException(503)))
+			.thenReturn(CompletableFuture.completedFuture("ok"));
+
+		assertEquals("ok", requester.get(TEST_PATH, String.class, options));
+		assertEquals("ok", requester.getAsync(TEST_PATH, String.class, options).get());
+		verify(delegate, times(2)).get(TEST_PATH, String.class, options);
+		verify(delegate, times(2)).getAsync(TEST_PATH, String.class, options);
+	}
+
+	/**
+	 * Tests that a request is not retried when its backoff would end past the deadline.
+	 */
+	@Test
+	void noRetryPastDeadlineTest() {
+		RetryRequester slowRequester = new RetryRequester(delegate, RetryPolicy.builder()
+			.withBaseDelay(Duration.ofSeconds(10))
+			.withMaxDelay(Duration.ofSeconds(10))
+			.build()
+		);
+		RequestOptions options = RequestOptions.defaults().withDeadline(Instant.now().minusMillis(1));
+		when(delegate.get(TEST_PATH, String.class, options)).thenThrow(new TossApiException(503));
+		when(delegate.getAsync(TEST_PATH, String.class, options))
+			.thenReturn(CompletableFuture.failedFuture(new TossApiException(503)));
+
+		assertThrows(TossApiException.class, () -> slowRequester.get(TEST_PATH, String.class, options));
+		ExecutionException exception = assertThrows(
+			ExecutionException.class,
+			() -> slowRequester.getAsync(TEST_PATH, String.class, options).get()
+		);
+		assertInstanceOf(TossApiException.class, exception.getCause());
+		verify(delegate, times(1)).get(TEST_PATH, String.class, options);
+		verify(delegate, times(1)).getAsync(TEST_PATH, String.class, options);
+	}
+
+	/**
+	 * Tests that cancelling the result cancels the attempt in flight, so the request is not left running.
+	 */
+	@Test
+	void asyncCancelPropagatesToAttemptTest() {
+		CompletableFuture<String> pending = new CompletableFuture<>();
+		when(delegate.getAsync(TEST_PATH, String.class)).thenReturn(pending);
+
+		requester.getAsync(TEST_PATH, String.class).cancel(true);
+
+		assertTrue(pending.isCancelled());
+	}
+
+	/**
+	 * Tests that the timer only hands the retry to the executor, which sends it.
+	 */
+	@Test
+	void asyncRetrySentOnExecutorTest() {
+		ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+		List<Runnable> handedOff = new ArrayList<>();
+		RetryRequester scheduledRequester = new RetryRequester(delegate, RetryPolicy.builder()
+			.withScheduler(scheduler)
+			.withExecutor(handedOff::add)
+			.build()
+		);
+		when(delegate.getAsync(TEST_PATH, String.class))
+			.thenReturn(CompletableFuture.failedFuture(new TossApiException(503)))
+			.thenReturn(CompletableFuture.completedFuture("ok"));
+
+		CompletableFuture<String> result = scheduledRequester.getAsync(TEST_PATH, String.class);
+		ArgumentCaptor<Runnable> retry = ArgumentCaptor.forClass(Runnable.class);
+		verify(scheduler).schedule(retry.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+		retry.getValue().run();
+
+		verify(delegate, times(1)).getAsync(TEST_PATH, String.class);
+		assertEquals(1, handedOff.size());
+
+		handedOff.get(0).run();
+		assertEquals("ok", result.join());
+	}
+
+}
@@ -0,0 +1,94 @@
+package org.tosspayments.sdk.request.requester.tracing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link TraceContext}.
+ */
+class TraceContextTest {
+
+	private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+	private static final String SPAN_ID = "00f067aa0ba902b7";
+
+	private static final String TRACEPARENT = "00-" + TRACE_ID + "-" + SPAN_ID + "-01";
+
+	/**
+	 * Tests parsing and formatting a traceparent header value.
+	 */
+	@Test
+	void parseTest() {
+		TraceContext context = TraceContext.parse(TRACEPARENT);
+
+		assertEquals(TRACE_ID, context.getTraceId());
+		assertEquals(SPAN_ID, context.getSpanId());
+		assertTrue(context.isSampled());
+		assertEquals(TRACEPARENT, context.toTraceparent());
+		assertEquals(TRACEPARENT, context.toString());
+
+		TraceContext notSampled = TraceContext.parse("00-" + TRACE_ID + "-" + SPAN_ID + "-02");
+		assertFalse(notSampled.isSampled());
+		assertEquals("00-" + TRACE_ID + "-" + SPAN_ID + "-00", notSampled.toTraceparent());
+	}
+
+	/**
+	 * Tests that values of future versions are parsed, ignoring what follows the fields of version 00.
+	 */
+	@Test
+	void parseFutureVersionTest() {
+		assertEquals(SPAN_ID, TraceContext.parse("01-" + TRACE_ID + "-" + SPAN_ID + "-01").getSpanId());
+		assertEquals(SPAN_ID, TraceContext.parse("01-" + TRACE_ID + "-" + SPAN_ID + "-01-future").getSpanId());
+		assertNull(TraceContext.parse("01-" + TRACE_ID + "-" + SPAN_ID + "-01future"));
+	}
+
+	/**
+	 * Tests that malformed values are rejected.
+	 */
+	@Test
+	void parseInvalidTest() {
+		String zeroTraceId = "00000000000000000000000000000000";
+		String zeroSpanId = "0000000000000000";
+
+		assertNull(TraceContext.parse(null));
+		assertNull(TraceContext.parse("00-" + TRACE_ID + "-" + SPAN_ID));
+		assertNull(TraceContext.parse(TRACEPARENT + "-extra"));
+		assertNull(TraceContext.parse("ff-" + TRACE_ID + "-" + SPAN_ID + "-01"));
+		assertNull(TraceContext.parse("0g-" + TRACE_ID + "-" + SPAN_ID + "-01"));
+		assertNull(TraceContext.parse("00-" + TRACE_ID + "-" + SPAN_ID + "-0x"));
+		assertNull(TraceContext.parse("00_" + TRACE_ID + "-" + SPAN_ID + "-01"));
+		assertNull(TraceContext.parse("00-" + TRACE_ID + "_" + SPAN_ID + "-01"));
+		assertNull(TraceContext.parse("00-" + TRACE_ID + "-" + SPAN_ID + "_01"));
+		assertNull(TraceContext.parse("00-" + TRACE_ID.toUpperCase() + "-" + SPAN_ID + "-01"));
+		assertNull(TraceContext.parse("00-" + zeroTraceId + "-" + SPAN_ID + "-01"));
+		assertNull(TraceContext.parse("00-" + TRACE_ID + "-" + zeroSpanId + "-01"));
+	}
+
+	/**
+	 * Tests that invalid ids are rejected.
+	 */
+	@Test
+	void invalidIdTest() {
+		assertThrows(IllegalArgumentException.class, () -> new TraceContext(null, SPAN_ID, true));
+		assertThrows(IllegalArgumentException.class, () -> new TraceContext(SPAN_ID, SPAN_ID, true));
+		assertThrows(IllegalArgumentException.class, () -> new TraceContext(TRACE_ID, TRACE_ID, true));
+	}
+
+	/**
+	 * Tests that new roots start distinct traces and that children stay in the trace of their parent.
+	 */
+	@Test
+	void newRootAndChildTest() {
+		TraceContext root = TraceContext.newRoot(true);
+		TraceContext child = root.newChild();
+
+		assertNotEquals(root.getTraceId(), TraceContext.newRoot(true).getTraceId());
+		assertEquals(root.getTraceId(), child.getTraceId());
+		assertNotEquals(root.getSpanId(), child.getSpanId());
+		assertTrue(child.isSampled());
+		assertFalse(TraceContext.newRoot(false).newChild().isSampled());
+		assertEquals(root.toTraceparent(), TraceContext.parse(root.toTraceparent()).toTraceparent());
+	}
+
+}
@@ -0,0 +1,219 @@
+package org.tosspayments.sdk.request.requester.tracing;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.tosspayments.sdk.exception.TossApiException;
+import org.tosspayments.sdk.request.requester.RequestOptions;
+import org.tosspayments.sdk.request.requester.Requester;
+import org.tosspayments.sdk.request.requester.coalescing.CoalescingRequester;
+import org.tosspayments.sdk.request.requester.metrics.MetricsRequester;
+
+/**
+ * Tests for {@link TracingRequester}.
+ */
+class TracingRequesterTest {
+
+	private static final String PATH = "/v1/payments/confirm";
+
+	private Requester delegate;
+
+	private TraceSpan span;
+
+	private TraceScope scope;
+
+	private TraceScope callerScope;
+
+	private RequestTracer tracer;
+
+	private TracingRequester requester;
+
+	/**
+	 * Creates a requester tracing the calls of a mocked requester with a mocked tracer.
+	 */
+	@BeforeEach
+	void setUp() {
+		delegate = mock(Requester.class);
+		span = mock(TraceSpan.class);
+		scope = mock(TraceScope.class);
+		when(span.makeCurrent()).thenReturn(scope);
+		callerScope = mock(TraceScope.class);
+		CapturedContext caller = mock(CapturedContext.class);
+		when(caller.makeCurrent()).thenReturn(callerScope);
+		tracer = mock(RequestTracer.class);
+		when(tracer.startCall(anyString(), anyString())).thenReturn(span);
+		when(tracer.captureContext()).thenReturn(caller);
+		requester = new TracingRequester(delegate, tracer);
+	}
+
+	/**
+	 * Tests that synchronous calls run with their span current and pass it down in the options.
+	 */
+	@Test
+	void syncTest() {
+		when(delegate.get(eq(PATH), eq(String.class), any())).thenReturn("get");
+		when(delegate.post(eq(PATH), eq("body"), eq(String.class), any())).thenReturn("post");
+
+		assertEquals("get", requester.get(PATH, String.class));
+		assertEquals("post", requester.post(PATH, "body", String.class));
+
+		ArgumentCaptor<RequestOptions> options = ArgumentCaptor.forClass(RequestOptions.class);
+		verify(delegate).get(eq(PATH), eq(String.class), options.capture());
+		verify(delegate).post(eq(PATH), eq("body"), eq(String.class), options.capture());
+		options.getAllValues().forEach(value -> assertSame(span, value.getTraceSpan()));
+		verify(span, times(2)).end(null);
+		verify(scope, times(2)).close();
+	}
+
+	/**
+	 * Tests that the span of a failed synchronous call ends with the failure.
+	 */
+	@Test
+	void syncFailureTest() {
+		TossApiException failure = new TossApiException(500);
+		RequestOptions options = RequestOptions.defaults().withIdempotencyKey("key");
+		when(delegate.post(eq(PATH), eq("body"), eq(String.class), any())).thenThrow(failure);
+
+		assertSame(failure, assertThrows(
+			TossApiException.class,
+			() -> requester.post(PATH, "body", String.class, options)
+		));
+
+		InOrder inOrder = inOrder(span, scope);
+		inOrder.verify(scope).close();
+		inOrder.verify(span).end(failure);
+		ArgumentCaptor<RequestOptions> captor = ArgumentCaptor.forClass(RequestOptions.class);
+		verify(delegate).post(eq(PATH), eq("body"), eq(String.class), captor.capture());
+		assertEquals("key", captor.getValue().getIdempotencyKey());
+	}
+
+	/**
+	 * Tests that asynchronous calls end their span, then complete with the context of the caller current,
+	 * captured when the call was made, not the ended span of the call.
+	 *
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void asyncTest() throws Exception {
+		CompletableFuture<String> response = new CompletableFuture<>();
+		when(delegate.getAsync(eq(PATH), eq(String.class), any())).thenReturn(response);
+		AtomicBoolean completedInCallerScope = new AtomicBoolean();
+
+		CompletableFuture<String> result = requester.getAsync(PATH, String.class);
+		CompletableFuture<String> chained = result.thenApply(body -> {
+			completedInCallerScope.set(mockingDetails(callerScope).getInvocations().isEmpty());
+			return body + "!";
+		});
+		verify(span, never()).end(any());
+
+		response.complete("ok");
+
+		assertEquals("ok!", chained.get());
+		assertTrue(completedInCallerScope.get());
+		InOrder inOrder = inOrder(tracer, span, callerScope);
+		inOrder.verify(tracer).captureContext();
+		inOrder.verify(tracer).startCall("GET", PATH);
+		inOrder.verify(span).end(null);
+		inOrder.verify(callerScope).close();
+		verify(span, never()).makeCurrent();
+	}
+
+	/**
+	 * Tests that tracers without a notion of current context complete asynchronous calls in no particular context.
+	 */
+	@Test
+	void noCapturedContextTest() {
+		RequestTracer contextless = (method, path) -> span;
+		when(delegate.postAsync(eq(PATH), eq("body"), eq(String.class), any()))
+			.thenReturn(CompletableFuture.completedFuture("ok"));
+
+		assertSame(CapturedContext.NONE, contextless.captureContext());
+		assertEquals("ok", new TracingRequester(delegate, contextless).postAsync(PATH, "body", String.class).join());
+		verify(span).end(null);
+		verify(span, never()).makeCurrent();
+	}
+
+	/**
+	 * Tests that a GET request coalescing traced calls is sent with the span and submission time of its first call,
+	 * so its attempts are traced and its queue time measured.
+	 */
+	@Test
+	void coalescedCallsTest() {
+		TraceSpan second = mock(TraceSpan.class);
+		when(second.makeCurrent()).thenReturn(scope);
+		when(tracer.startCall(anyString(), anyString())).thenReturn(span).thenReturn(second);
+		CompletableFuture<String> response = new CompletableFuture<>();
+		when(delegate.getAsync(eq(PATH), eq(String.class), any())).thenReturn(response);
+		Requester traced = new TracingRequester(new MetricsRequester(new CoalescingRequester(delegate)), tracer);
+
+		CompletableFuture<String> first = traced.getAsync(PATH, String.class);
+		CompletableFuture<String> joined = traced.getAsync(PATH, String.class);
+		response.complete("ok");
+
+		assertEquals("ok", first.join());
+		assertEquals("ok", joined.join());
+		ArgumentCaptor<RequestOptions> options = ArgumentCaptor.forClass(RequestOptions.class);
+		verify(delegate).getAsync(eq(PATH), eq(String.class), options.capture());
+		assertSame(span, options.getValue().getTraceSpan());
+		assertNotNull(options.getValue().getSubmittedAt());
+		verify(span).end(null);
+		verify(second).end(null);
+	}
+
+	/**
+	 * Tests that the span of a failed asynchronous call ends with the cause of the failure.
+	 */
+	@Test
+	void asyncFailureTest() {
+		TossApiException failure = new TossApiException(503);
+		when(delegate.postAsync(eq(PATH), eq("body"), eq(String.class), any()))
+			.thenReturn(CompletableFuture.supplyAsync(() -> {
+				throw failure;
+			}));
+
+		ExecutionException exception = assertThrows(
+			ExecutionException.class,
+			() -> requester.postAsync(PATH, "body", String.class).get()
+		);
+
+		assertSame(failure, exception.getCause());
+		verify(span).end(failure);
+	}
+
+	/**
+	 * Tests that a call rejected before returning a future ends its span.
+	 */
+	@Test
+	void asyncRejectedTest() {
+		IllegalStateException failure = new IllegalStateException();
+		when(delegate.getAsync(eq(PATH), eq(String.class), any())).thenThrow(failure);
+
+		assertThrows(IllegalStateException.class, () -> requester.getAsync(PATH, String.class));
+
+		verify(span).end(failure);
+	}
+
+	/**
+	 * Tests that cancelling the returned future cancels the call, whose span ends.
+	 */
+	@Test
+	void cancelTest() {
+		CompletableFuture<String> response = new CompletableFuture<>();
+		when(delegate.postAsync(eq(PATH), eq("body"), eq(String.class), any())).thenReturn(response);
+
+		requester.postAsync(PATH, "body", String.class).cancel(true);
+
+		assertTrue(response.isCancelled());
+		verify(span).end(any(CancellationException.class));
+	}
+
+}
@@ -0,0 +1,150 @@
+package org.tosspayments.sdk.testing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests for {@link FakePaymentStore}.
+ */
+class FakePaymentStoreTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final FakePaymentStore store = new FakePaymentStore();
+
+	/**
+	 * Tests that a confirmed payment can be looked up by its payment key and its order ID.
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void confirmAndGetTest() throws Exception {
+		FakeResponse response = store.confirm(json("{\"paymentKey\":\"pk\",\"orderId\":\"o1\",\"amount\":1000}"));
+		JsonNode confirmed = assertOk(response);
+
+		assertEquals("pk", confirmed.get("paymentKey").asText());
+		assertEquals("o1", confirmed.get("orderId").asText());
+		assertEquals("DONE", confirmed.get("status").asText());
+		assertEquals(1000, confirmed.get("totalAmount").asLong());
+		assertEquals(1000, confirmed.get("balanceAmount").asLong());
+		assertTrue(confirmed.get("approvedAt").asText().endsWith("+09:00"));
+		assertEquals(0, confirmed.get("cancels").size());
+		assertEquals(confirmed, assertOk(store.get("pk")));
+		assertEquals(confirmed, assertOk(store.getByOrderId("o1")));
+		assertEquals(1, store.size());
+	}
+
+	/**
+	 * Tests that invalid and duplicate confirmations are rejected without changing the store.
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void confirmRejectedTest() throws Exception {
+		store.confirm(json("{\"paymentKey\":\"pk\",\"orderId\":\"o1\",\"amount\":1000}"));
+
+		assertError(400, "INVALID_REQUEST", store.confirm(json("{\"paymentKey\":\"pk2\",\"amount\":1000}")));
+		assertError(400, "INVALID_REQUEST", store.confirm(json("{\"orderId\":\"o2\",\"amount\":1000}")));
+		assertError(400, "INVALID_REQUEST", store.confirm(json("{\"paymentKey\":\"pk2\",\"orderId\":\"o2\"}")));
+		assertError(
+			400,
+			"ALREADY_PROCESSED_PAYMENT",
+			store.confirm(json("{\"paymentKey\":\"pk\",\"orderId\":\"o2\",\"amount\":1000}"))
+		);
+		assertError(
+			400,
+			"DUPLICATED_ORDER_ID",
+			store.confirm(json("{\"paymentKey\":\"pk2\",\"orderId\":\"o1\",\"amount\":1000}"))
+		);
+		assertEquals(1, store.size());
+		assertError(404, "NOT_FOUND_PAYMENT", store.get("pk2"));
+		assertError(404, "NOT_FOUND_PAYMENT", store.getByOrderId("o2"));
+	}
+
+	/**
+	 * Tests partial and full cancellations and the balance and status they leave.
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void cancelTest() throws Exception {
+		store.confirm(json("{\"paymentKey\":\"pk\",\"orderId\":\"o1\",\"amount\":1000}"));
+
+		JsonNode partial = assertOk(store.cancel("pk", json("{\"cancelReason\":\"partial\",\"cancelAmount\":300}")));
+
+		assertEquals("PARTIAL_CANCELED", partial.get("status").asText());
+		assertEquals(700, partial.get("balanceAmount").asLong());
+		assertEquals(1, partial.get("cancels").size());
+		assertEquals(300, partial.get("cancels").get(0).get("cancelAmount").asLong());
+		assertEquals("partial", partial.get("cancels").get(0).get("cancelReason").asText());
+		assertEquals(32, partial.get("cancels").get(0).get("transactionKey").asText().length());
+
+		assertError(
+			400,
+			"NOT_CANCELABLE_AMOUNT",
+			store.cancel("pk", json("{\"cancelReason\":\"too much\",\"cancelAmount\":701}"))
+		);
+
+		JsonNode full = assertOk(store.cancel("pk", json("{\"cancelReason\":\"rest\"}")));
+
+		assertEquals("CANCELED", full.get("status").asText());
+		assertEquals(0, full.get("balanceAmount").asLong());
+		assertEquals(700, full.get("cancels").get(1).get("cancelAmount").asLong());
+		assertEquals(full, assertOk(store.get("pk")));
+
+		assertError(400, "ALREADY_CANCELED_PAYMENT", store.cancel("pk", json("{\"cancelReason\":\"again\"}")));
+	}
+
+	/**
+	 * Tests that cancellations of unknown payments or without a reason are rejected.
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void cancelRejectedTest() throws Exception {
+		store.confirm(json("{\"paymentKey\":\"pk\",\"orderId\":\"o1\",\"amount\":1000}"));
+
+		assertError(404, "NOT_FOUND_PAYMENT", store.cancel("unknown", json("{\"cancelReason\":\"reason\"}")));
+		assertError(400, "INVALID_REQUEST", store.cancel("pk", json("{\"cancelAmount\":100}")));
+		assertEquals(1000, assertOk(store.get("pk")).get("balanceAmount").asLong());
+	}
+
+	/**
+	 * Parses a JSON request body.
+	 * @param body The JSON text.
+	 * @return The JSON tree.
+	 * @throws Exception if unexpected error occurs.
+	 */
+	private JsonNode json(String body) throws Exception {
+		return objectMapper.readTree(body);
+	}
+
+	/**
+	 * Asserts that a response is a 200 and returns its body.
+	 * @param response The response.
+	 * @return The JSON tree of its body.
+	 * @throws Exception if unexpected error occurs.
+	 */
+	private JsonNode assertOk(FakeResponse response) throws Exception {
+		assertEquals(200, response.status(), new String(response.body(), StandardCharsets.UTF_8));
+
+		return objectMapper.readTree(response.body());
+	}
+
+	/**
+	 * Asserts that a response is an error in the format of the Toss Payments API.
+	 * @param status The expected status code.
+	 * @param code The expected error code.
+	 * @param response The response.
+	 * @throws Exception if unexpected error occurs.
+	 */
+	private void assertError(int status, String code, FakeResponse response) throws Exception {
+		assertEquals(status, response.status());
+		JsonNode error = objectMapper.readTree(response.body());
+		assertEquals(code, error.get("code").asText());
+		assertFalse(error.get("message").asText().isEmpty());
+	}
+
+}
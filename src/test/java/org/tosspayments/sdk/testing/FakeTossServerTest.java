@@ -0,0 +1,261 @@
+package org.tosspayments.sdk.testing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.tosspayments.sdk.TossPayments;
+import org.tosspayments.sdk.exception.TossApiException;
+import org.tosspayments.sdk.payment.Payment;
+import org.tosspayments.sdk.payment.PaymentCancelRequest;
+import org.tosspayments.sdk.payment.PaymentConfirmRequest;
+import org.tosspayments.sdk.request.requester.RequesterBuilder;
+import org.tosspayments.sdk.request.requester.httpclient.HttpTransportConfig;
+
+/**
+ * Tests for {@link FakeTossServer}.
+ */
+class FakeTossServerTest {
+
+	private static final String AUTHORIZATION = "Basic dGVzdF9zazo=";
+
+	private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+	/**
+	 * Tests that the SDK confirms, looks up and cancels payments against the server.
+	 */
+	@Test
+	void paymentLifecycleTest() {
+		try (FakeTossServer server = FakeTossServer.builder().build()) {
+			TossPayments tossPayments = tossPayments(server);
+
+			Payment confirmed = tossPayments.confirmPayment(new PaymentConfirmRequest("pk 1/a", "order-1", 1000));
+
+			assertEquals("pk 1/a", confirmed.getPaymentKey());
+			assertEquals("DONE", confirmed.getStatus());
+			assertEquals(1000, confirmed.getTotalAmount());
+			assertEquals("order-1", tossPayments.getPayment("pk 1/a").getOrderId());
+			assertEquals("pk 1/a", tossPayments.getPaymentByOrderId("order-1").getPaymentKey());
+
+			Payment cancelled = tossPayments.cancelPaymentAsync("pk 1/a", new PaymentCancelRequest("변심", 400L)).join();
+
+			assertEquals("PARTIAL_CANCELED", cancelled.getStatus());
+			assertEquals(600, cancelled.getBalanceAmount());
+			assertEquals(400, cancelled.getCancels().get(0).getCancelAmount());
+
+			TossApiException notFound = assertThrows(TossApiException.class, () -> tossPayments.getPayment("unknown"));
+
+			assertEquals(404, notFound.getStatusCode());
+			assertEquals(1, server.getPaymentCount());
+			assertEquals(5, server.getRequestCount());
+			assertTrue(server.getEndpoint().startsWith("http://127.0.0.1:"));
+			assertTrue(server.getEndpoint().endsWith(":" + server.getPort() + FakeTossServer.BASE_PATH));
+		}
+	}
+
+	/**
+	 * Tests that a POST request sent again with the same Idempotency-Key gets the response of the first one.
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void idempotencyTest() throws Exception {
+		try (FakeTossServer server = FakeTossServer.builder().build()) {
+			String confirm = "{\"paymentKey\":\"pk\",\"orderId\":\"o1\",\"amount\":1000}";
+
+			HttpResponse<String> first = post(server, "/payments/confirm", confirm, "key-1");
+			HttpResponse<String> replayed = post(server, "/payments/confirm", confirm, "key-1");
+			HttpResponse<String> duplicate = post(server, "/payments/confirm", confirm, "key-2");
+			HttpResponse<String> withoutKey = post(server, "/payments/confirm", confirm, null);
+
+			assertEquals(200, first.statusCode());
+			assertEquals(200, replayed.statusCode());
+			assertEquals(first.body(), replayed.body());
+			assertEquals(400, duplicate.statusCode());
+			assertTrue(duplicate.body().contains("ALREADY_PROCESSED_PAYMENT"));
+			assertEquals(400, withoutKey.statusCode());
+		}
+	}
+
+	/**
+	 * Tests the responses to unauthenticated, malformed and unknown requests.
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void invalidRequestTest() throws Exception {
+		try (FakeTossServer server = FakeTossServer.builder().build()) {
+			HttpResponse<String> unauthorized = httpClient.send(
+				HttpRequest.newBuilder(URI.create(server.getEndpoint() + "/payments/pk")).build(),
+				HttpResponse.BodyHandlers.ofString()
+			);
+
+			assertEquals(401, unauthorized.statusCode());
+			assertTrue(unauthorized.body().contains("UNAUTHORIZED_KEY"));
+			assertEquals(400, post(server, "/payments/confirm", "not json", null).statusCode());
+			assertEquals(400, post(server, "/payments/pk/cancel", "{", null).statusCode());
+			assertEquals(404, post(server, "/payments/pk/refund", "{}", null).statusCode());
+			assertEquals(404, post(server, "/payments/pk", "{}", null).statusCode());
+			assertEquals(404, get(server, "/payments/orders/o1/extra").statusCode());
+			assertEquals(404, get(server, "/payments/pk/cancel").statusCode());
+			assertEquals("application/json", get(server, "/payments/pk").headers().firstValue("Content-Type").get());
+		}
+	}
+
+	/**
+	 * Tests that every request gets a 500 at an error rate of 1.
+	 */
+	@Test
+	void errorInjectionTest() {
+		try (FakeTossServer server = FakeTossServer.builder().withErrorRate(1).build()) {
+			TossApiException exception = assertThrows(
+				TossApiException.class,
+				() -> tossPayments(server).confirmPayment(new PaymentConfirmRequest("pk", "o1", 1000))
+			);
+
+			assertEquals(500, exception.getStatusCode());
+			assertEquals(0, server.getPaymentCount());
+		}
+	}
+
+	/**
+	 * Tests that every request gets a 429 with a Retry-After header at a throttle rate of 1.
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void throttleInjectionTest() throws Exception {
+		try (FakeTossServer server = FakeTossServer.builder().withThrottleRate(1).build()) {
+			HttpResponse<String> response = get(server, "/payments/pk");
+
+			assertEquals(429, response.statusCode());
+			assertEquals("1", response.headers().firstValue("Retry-After").get());
+			assertTrue(response.body().contains("TOO_MANY_REQUESTS"));
+		}
+	}
+
+	/**
+	 * Tests that every connection is dropped without a response at a reset rate of 1.
+	 */
+	@Test
+	void resetInjectionTest() {
+		try (FakeTossServer server = FakeTossServer.builder().withResetRate(1).build()) {
+			assertThrows(IOException.class, () -> get(server, "/payments/pk"));
+			RuntimeException exception = assertThrows(
+				RuntimeException.class,
+				() -> tossPayments(server).getPayment("pk")
+			);
+
+			assertInstanceOf(IOException.class, exception.getCause());
+			// the HttpClient may send a GET again once over a new connection after the first one is closed
+			assertTrue(server.getRequestCount() >= 2);
+		}
+	}
+
+	/**
+	 * Tests that the latency is added to each request, and that closing the server drops the waiting requests.
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void latencyTest() throws Exception {
+		try (FakeTossServer server = FakeTossServer.builder()
+			.withLatency(LatencyDistribution.fixed(Duration.ofMillis(100)))
+			.build()) {
+			long startedAt = System.nanoTime();
+
+			assertEquals(404, get(server, "/payments/pk").statusCode());
+			assertTrue(System.nanoTime() - startedAt >= 100_000_000);
+		}
+
+		FakeTossServer slowServer = FakeTossServer.builder()
+			.withLatency(LatencyDistribution.fixed(Duration.ofSeconds(30)))
+			.build();
+		CompletableFuture<HttpResponse<String>> pending = httpClient.sendAsync(
+			request(slowServer, "/payments/pk").build(),
+			HttpResponse.BodyHandlers.ofString()
+		);
+		while (slowServer.getRequestCount() == 0) {
+			Thread.sleep(10);
+		}
+		slowServer.close();
+
+		assertThrows(Exception.class, () -> pending.get());
+	}
+
+	/**
+	 * Tests that invalid fault rates and an unavailable port are rejected.
+	 */
+	@Test
+	void builderValidationTest() {
+		assertThrows(IllegalArgumentException.class, () -> FakeTossServer.builder().withErrorRate(-0.1));
+		assertThrows(IllegalArgumentException.class, () -> FakeTossServer.builder().withThrottleRate(1.1));
+		assertThrows(IllegalArgumentException.class, () -> FakeTossServer.builder().withResetRate(2));
+		assertThrows(
+			IllegalArgumentException.class,
+			() -> FakeTossServer.builder().withErrorRate(0.5).withThrottleRate(0.3).withResetRate(0.3).build()
+		);
+
+		try (FakeTossServer server = FakeTossServer.builder().build()) {
+			FakeTossServer.Builder builder = FakeTossServer.builder().withPort(server.getPort());
+
+			assertThrows(UncheckedIOException.class, builder::build);
+		}
+	}
+
+	/**
+	 * Creates a TossPayments client of the server.
+	 * @param server The server.
+	 * @return The client.
+	 */
+	private static TossPayments tossPayments(FakeTossServer server) {
+		return new TossPayments("test_sk", new RequesterBuilder(server.getEndpoint(), "test_sk")
+			.withTransportConfig(HttpTransportConfig.builder().withVersion(HttpClient.Version.HTTP_1_1).build())
+			.build());
+	}
+
+	/**
+	 * Creates an authenticated request to the server.
+	 * @param server The server.
+	 * @param path The path of the API under the endpoint.
+	 * @return The request builder.
+	 */
+	private static HttpRequest.Builder request(FakeTossServer server, String path) {
+		return HttpRequest.newBuilder(URI.create(server.getEndpoint() + path)).header("Authorization", AUTHORIZATION);
+	}
+
+	/**
+	 * Sends an authenticated GET request to the server.
+	 * @param server The server.
+	 * @param path The path of the API under the endpoint.
+	 * @return The response.
+	 * @throws Exception if unexpected error occurs.
+	 */
+	private HttpResponse<String> get(FakeTossServer server, String path) throws Exception {
+		return httpClient.send(request(server, path).build(), HttpResponse.BodyHandlers.ofString());
+	}
+
+	/**
+	 * Sends an authenticated POST request to the server.
+	 * @param server The server.
+	 * @param path The path of the API under the endpoint.
+	 * @param body The request body.
+	 * @param idempotencyKey The Idempotency-Key, or null to send none.
+	 * @return The response.
+	 * @throws Exception if unexpected error occurs.
+	 */
+	private HttpResponse<String> post(FakeTossServer server, String path, String body, String idempotencyKey)
+		throws Exception {
+		HttpRequest.Builder builder = request(server, path).POST(HttpRequest.BodyPublishers.ofString(body));
+		if (idempotencyKey != null) {
+			builder.header("Idempotency-Key", idempotencyKey);
+		}
+
+		return httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+	}
+
+}
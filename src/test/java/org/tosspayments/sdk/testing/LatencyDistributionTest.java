@@ -0,0 +1,89 @@
+package org.tosspayments.sdk.testing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LatencyDistribution}.
+ */
+class LatencyDistributionTest {
+
+	/**
+	 * Tests the distributions drawing a constant latency.
+	 */
+	@Test
+	void constantTest() {
+		Random random = new Random(42);
+
+		assertEquals(0, LatencyDistribution.none().nextNanos(random));
+		assertEquals(5_000_000, LatencyDistribution.fixed(Duration.ofMillis(5)).nextNanos(random));
+		LatencyDistribution uniform = LatencyDistribution.uniform(Duration.ofMillis(7), Duration.ofMillis(7));
+
+		assertEquals(7_000_000, uniform.nextNanos(random));
+		assertEquals(3_000_000, LatencyDistribution.logNormal(Duration.ofMillis(3), 0).nextNanos(random));
+	}
+
+	/**
+	 * Tests that uniform latencies stay within their bounds and cover them.
+	 */
+	@Test
+	void uniformTest() {
+		LatencyDistribution distribution = LatencyDistribution.uniform(Duration.ofMillis(10), Duration.ofMillis(20));
+		long[] draws = draw(distribution, 10_000);
+
+		assertTrue(draws[0] >= 10_000_000);
+		assertTrue(draws[0] < 10_100_000);
+		assertTrue(draws[draws.length - 1] < 20_000_000);
+		assertTrue(draws[draws.length - 1] > 19_900_000);
+		assertEquals(15_000_000, draws[draws.length / 2], 300_000);
+	}
+
+	/**
+	 * Tests that log-normal latencies have the median and the long tail of their parameters.
+	 */
+	@Test
+	void logNormalTest() {
+		LatencyDistribution distribution = LatencyDistribution.logNormal(Duration.ofMillis(50), 0.5);
+		long[] draws = draw(distribution, 100_000);
+
+		assertEquals(50_000_000, draws[draws.length / 2], 1_000_000);
+		// exp(0.5 * 2.326) = 3.20
+		assertEquals(160_000_000, draws[draws.length * 99 / 100], 8_000_000);
+		assertTrue(draws[0] > 0);
+	}
+
+	/**
+	 * Tests that invalid parameters are rejected.
+	 */
+	@Test
+	void invalidTest() {
+		assertThrows(
+			IllegalArgumentException.class,
+			() -> LatencyDistribution.uniform(Duration.ofMillis(2), Duration.ofMillis(1))
+		);
+		assertThrows(IllegalArgumentException.class, () -> LatencyDistribution.logNormal(Duration.ofMillis(1), -1));
+	}
+
+	/**
+	 * Draws sorted latencies from a distribution.
+	 * @param distribution The distribution.
+	 * @param count The number of latencies.
+	 * @return The sorted latencies.
+	 */
+	private static long[] draw(LatencyDistribution distribution, int count) {
+		Random random = new Random(42);
+		long[] draws = new long[count];
+		for (int index = 0; index < count; index++) {
+			draws[index] = distribution.nextNanos(random);
+		}
+		Arrays.sort(draws);
+
+		return draws;
+	}
+
+}
@@ -0,0 +1,232 @@
+package org.tosspayments.sdk.testing;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.tosspayments.sdk.exception.TossApiException;
+import org.tosspayments.sdk.payment.Payment;
+import org.tosspayments.sdk.payment.PaymentConfirmRequest;
+import org.tosspayments.sdk.request.requester.Requester;
+import org.tosspayments.sdk.request.requester.RequesterBuilder;
+import org.tosspayments.sdk.request.requester.httpclient.HttpTransportConfig;
+
+/**
+ * Tests for {@link LoadDriver}.
+ */
+class LoadDriverTest {
+
+	private final Requester requester = mock(Requester.class);
+
+	/**
+	 * Tests that operations are started at the configured rate and that the warmup is not measured.
+	 */
+	@Test
+	void rateAndWarmupTest() {
+		LoadReport report = LoadDriver.builder()
+			.withRate(1000)
+			.withWarmup(Duration.ofMillis(100))
+			.withDuration(Duration.ofMillis(200))
+			.build()
+			.run(requester, (r, sequence) -> CompletableFuture.completedFuture(sequence));
+
+		assertEquals(200, report.getStartedCount());
+		assertEquals(200, report.getSuccessCount());
+		assertEquals(0, report.getFailureCount());
+		assertEquals(0, report.getUnfinishedCount());
+		assertEquals(1000, report.getTargetRate());
+		assertEquals(200, report.getLatency().getCount());
+		assertEquals(200, report.getServiceTime().getCount());
+		assertTrue(report.getElapsed().toMillis() >= 190, report.getElapsed().toString());
+		assertEquals(1000, report.getThroughput(), 100);
+		assertTrue(report.getFailures().isEmpty());
+	}
+
+	/**
+	 * Tests that failed futures and thrown exceptions are counted by cause.
+	 */
+	@Test
+	void failureTest() {
+		LoadReport report = LoadDriver.builder()
+			.withRate(1000)
+			.withDuration(Duration.ofMillis(10))
+			.build()
+			.run(requester, (r, sequence) -> {
+				switch ((int)(sequence % 4)) {
+					case 0:
+						return CompletableFuture.failedFuture(new TossApiException(429));
+					case 1:
+						return CompletableFuture.supplyAsync(() -> {
+							throw new TossApiException(500);
+						});
+					case 2:
+						throw new IllegalStateException("thrown");
+					default:
+						return CompletableFuture.failedFuture(new IOException("reset"));
+				}
+			});
+
+		assertEquals(10, report.getStartedCount());
+		assertEquals(0, report.getSuccessCount());
+		assertEquals(10, report.getFailureCount());
+		assertEquals(
+			Map.of("HTTP 429", 3L, "HTTP 500", 3L, "IllegalStateException", 2L, "IOException", 2L),
+			report.getFailures()
+		);
+	}
+
+	/**
+	 * Tests that the latency of operations started late because the driver stalled is measured from their
+	 * scheduled start, while their service time is not.
+	 */
+	@Test
+	void coordinatedOmissionTest() {
+		LoadReport report = LoadDriver.builder()
+			.withRate(100)
+			.withDuration(Duration.ofMillis(500))
+			.build()
+			.run(requester, (r, sequence) -> {
+				if (sequence == 0) {
+					// a requester sending on the calling thread stalls the schedule for 200ms
+					sleep(200);
+				}
+
+				return CompletableFuture.completedFuture(null);
+			});
+
+		assertEquals(50, report.getStartedCount());
+		assertTrue(report.getLatency().getMaxNanos() >= 180_000_000, report.toString());
+		// the 20 operations scheduled during the stall wait for it, on average for about 100ms
+		assertTrue(report.getLatency().getValueAtPercentile(75) >= 10_000_000, report.toString());
+		assertTrue(report.getServiceTime().getValueAtPercentile(75) < 10_000_000, report.toString());
+	}
+
+	/**
+	 * Tests that the driver waits for a slot when the most operations are in flight,
+	 * and reports the operations still in flight after the drain timeout as unfinished.
+	 */
+	@Test
+	void maxInFlightAndDrainTest() {
+		CompletableFuture<Object> never = new CompletableFuture<>();
+		long startedAt = System.nanoTime();
+
+		LoadReport report = LoadDriver.builder()
+			.withRate(1000)
+			.withDuration(Duration.ofMillis(100))
+			.withMaxInFlight(2)
+			.withDrainTimeout(Duration.ofMillis(50))
+			.build()
+			.run(requester, (r, sequence) -> sequence == 0 ? CompletableFuture.completedFuture(null) : never);
+
+		assertEquals(3, report.getStartedCount());
+		assertEquals(1, report.getSuccessCount());
+		assertEquals(2, report.getUnfinishedCount());
+		assertTrue(System.nanoTime() - startedAt < 5_000_000_000L);
+	}
+
+	/**
+	 * Tests that the run stops when the driving thread is interrupted.
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void interruptTest() throws Exception {
+		AtomicReference<LoadReport> report = new AtomicReference<>();
+		Thread thread = new Thread(() -> report.set(LoadDriver.builder()
+			.withRate(10)
+			.withDuration(Duration.ofSeconds(30))
+			.build()
+			.run(requester, (r, sequence) -> CompletableFuture.completedFuture(null))));
+		thread.start();
+		Thread.sleep(150);
+		thread.interrupt();
+		thread.join(5_000);
+
+		assertFalse(thread.isAlive());
+		assertTrue(report.get().getStartedCount() < 10);
+	}
+
+	/**
+	 * Tests that the driver stops when interrupted while the operations in flight drain.
+	 * @throws Exception if unexpected error occurs.
+	 */
+	@Test
+	void interruptDrainTest() throws Exception {
+		AtomicReference<LoadReport> report = new AtomicReference<>();
+		Thread thread = new Thread(() -> report.set(LoadDriver.builder()
+			.withRate(1000)
+			.withDuration(Duration.ofMillis(1))
+			.build()
+			.run(requester, (r, sequence) -> {
+				Thread.currentThread().interrupt();
+
+				return new CompletableFuture<>();
+			})));
+		thread.start();
+		thread.join(5_000);
+
+		assertFalse(thread.isAlive());
+		assertEquals(1, report.get().getUnfinishedCount());
+		assertEquals(Duration.ZERO, report.get().getElapsed());
+	}
+
+	/**
+	 * Tests a short run of confirmations against a {@link FakeTossServer}.
+	 */
+	@Test
+	void fakeServerTest() {
+		try (FakeTossServer server = FakeTossServer.builder()
+			.withLatency(LatencyDistribution.uniform(Duration.ofMillis(1), Duration.ofMillis(5)))
+			.withThrottleRate(0.1)
+			.build()) {
+			Requester fakeRequester = new RequesterBuilder(server.getEndpoint(), "test_sk")
+				.withTransportConfig(HttpTransportConfig.builder().withVersion(HttpClient.Version.HTTP_1_1).build())
+				.build();
+
+			LoadReport report = LoadDriver.builder()
+				.withRate(200)
+				.withDuration(Duration.ofMillis(500))
+				.build()
+				.run(fakeRequester, (r, sequence) -> r.postAsync(
+					"/payments/confirm",
+					new PaymentConfirmRequest("pk-" + sequence, "order-" + sequence, 1000),
+					Payment.class
+				));
+
+			assertEquals(100, report.getStartedCount());
+			assertEquals(100, report.getSuccessCount() + report.getFailureCount());
+			assertEquals(report.getSuccessCount(), server.getPaymentCount());
+			assertEquals(report.getFailureCount(), report.getFailures().getOrDefault("HTTP 429", 0L));
+			assertTrue(report.getServiceTime().getValueAtPercentile(50) >= 1_000_000);
+		}
+	}
+
+	/**
+	 * Tests that invalid settings are rejected.
+	 */
+	@Test
+	void builderValidationTest() {
+		assertThrows(IllegalArgumentException.class, () -> LoadDriver.builder().withRate(0));
+		assertThrows(IllegalArgumentException.class, () -> LoadDriver.builder().withRate(Double.NaN));
+		assertThrows(IllegalArgumentException.class, () -> LoadDriver.builder().withMaxInFlight(0));
+	}
+
+	/**
+	 * Sleeps without being interrupted.
+	 * @param millis The time to sleep in milliseconds.
+	 */
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException exception) {
+			throw new IllegalStateException(exception);
+		}
+	}
+
+}
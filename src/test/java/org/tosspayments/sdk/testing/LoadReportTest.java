@@ -0,0 +1,81 @@
+package org.tosspayments.sdk.testing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.tosspayments.sdk.request.requester.metrics.LatencyHistogram;
+
+/**
+ * Tests for {@link LoadReport}.
+ */
+class LoadReportTest {
+
+	/**
+	 * Tests the derived counts and the throughput.
+	 */
+	@Test
+	void throughputTest() {
+		LoadReport report = new LoadReport(
+			100,
+			200,
+			150,
+			30,
+			Duration.ofSeconds(2),
+			new LatencyHistogram(),
+			new LatencyHistogram(),
+			Map.of("HTTP 429", 30L)
+		);
+
+		assertEquals(20, report.getUnfinishedCount());
+		assertEquals(90, report.getThroughput(), 0.001);
+	}
+
+	/**
+	 * Tests that a run without completed operations has no throughput.
+	 */
+	@Test
+	void emptyTest() {
+		LoadReport report = new LoadReport(
+			100,
+			0,
+			0,
+			0,
+			Duration.ZERO,
+			new LatencyHistogram(),
+			new LatencyHistogram(),
+			Map.of()
+		);
+
+		assertEquals(0, report.getThroughput());
+		assertTrue(report.toString().contains("throughput=0.0/s"));
+	}
+
+	/**
+	 * Tests that the summary holds the rates, counts and latency percentiles in milliseconds,
+	 * and that the failures are copied.
+	 */
+	@Test
+	void toStringTest() {
+		LatencyHistogram latency = new LatencyHistogram();
+		latency.record(2_000_000);
+		LatencyHistogram serviceTime = new LatencyHistogram();
+		serviceTime.record(1_000_000);
+		Map<String, Long> failures = new HashMap<>(Map.of("HTTP 500", 1L));
+
+		LoadReport report = new LoadReport(10, 2, 1, 1, Duration.ofSeconds(1), latency, serviceTime, failures);
+		failures.clear();
+
+		assertEquals(Map.of("HTTP 500", 1L), report.getFailures());
+		assertEquals(
+			"target=10.0/s throughput=2.0/s started=2 succeeded=1 failed=1 unfinished=0 "
+				+ "latency p50=2.000ms p90=2.000ms p99=2.000ms p99.9=2.000ms max=2.000ms "
+				+ "(service time p50=1.000ms p99=1.000ms) failures={HTTP 500=1}",
+			report.toString()
+		);
+	}
+
+}
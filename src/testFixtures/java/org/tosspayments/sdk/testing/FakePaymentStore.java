@@ -0,0 +1,223 @@
+package org.tosspayments.sdk.testing;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * In-memory payments of {@link FakeTossServer}, confirmed, looked up and cancelled as by the Toss Payments API.
+ * Payments are kept until the server is closed.
+ */
+class FakePaymentStore {
+
+	private static final ZoneOffset KST = ZoneOffset.ofHours(9);
+
+	private final Map<String, FakePayment> byPaymentKey = new ConcurrentHashMap<>();
+
+	private final Map<String, FakePayment> byOrderId = new ConcurrentHashMap<>();
+
+	/**
+	 * Confirms a payment.
+	 * @param request The confirmation, with its paymentKey, orderId and amount.
+	 * @return The confirmed payment, or a 400 if the request is invalid or the payment or order is already confirmed.
+	 */
+	FakeResponse confirm(JsonNode request) {
+		String paymentKey = request.path("paymentKey").asText(null);
+		String orderId = request.path("orderId").asText(null);
+		long amount = request.path("amount").asLong();
+		if (paymentKey == null || orderId == null || amount <= 0) {
+			return invalidRequest("paymentKey, orderId and a positive amount are required");
+		}
+
+		FakePayment payment = new FakePayment(paymentKey, orderId, amount, now());
+		if (byPaymentKey.putIfAbsent(paymentKey, payment) != null) {
+			return FakeResponse.error(400, "ALREADY_PROCESSED_PAYMENT", "이미 처리된 결제 입니다.");
+		}
+		if (byOrderId.putIfAbsent(orderId, payment) != null) {
+			byPaymentKey.remove(paymentKey, payment);
+
+			return FakeResponse.error(400, "DUPLICATED_ORDER_ID", "이미 승인 및 취소가 진행된 중복된 주문번호 입니다.");
+		}
+
+		return payment.toResponse();
+	}
+
+	/**
+	 * Looks up a payment by its payment key.
+	 * @param paymentKey The key identifying the payment.
+	 * @return The payment, or a 404 if it does not exist.
+	 */
+	FakeResponse get(String paymentKey) {
+		return toResponse(byPaymentKey.get(paymentKey));
+	}
+
+	/**
+	 * Looks up a payment by its order ID.
+	 * @param orderId The order ID of the payment.
+	 * @return The payment, or a 404 if it does not exist.
+	 */
+	FakeResponse getByOrderId(String orderId) {
+		return toResponse(byOrderId.get(orderId));
+	}
+
+	/**
+	 * Cancels a payment, in full or in part.
+	 * @param paymentKey The key identifying the payment.
+	 * @param request The cancellation, with its cancelReason and optional cancelAmount, the balance by default.
+	 * @return The cancelled payment, a 404 if it does not exist, or a 400 if the cancellation is invalid.
+	 */
+	FakeResponse cancel(String paymentKey, JsonNode request) {
+		FakePayment payment = byPaymentKey.get(paymentKey);
+		if (payment == null) {
+			return notFound();
+		}
+
+		String cancelReason = request.path("cancelReason").asText(null);
+		if (cancelReason == null) {
+			return invalidRequest("cancelReason is required");
+		}
+
+		return payment.cancel(cancelReason, request.path("cancelAmount").asLong(0), now());
+	}
+
+	/**
+	 * Returns the number of confirmed payments.
+	 * @return The number of payments.
+	 */
+	int size() {
+		return byPaymentKey.size();
+	}
+
+	/**
+	 * Returns the response of a looked up payment.
+	 * @param payment The payment, or null if it does not exist.
+	 * @return The payment, or a 404 if it does not exist.
+	 */
+	private static FakeResponse toResponse(FakePayment payment) {
+		return payment != null ? payment.toResponse() : notFound();
+	}
+
+	/**
+	 * Returns the response to a request about a payment that does not exist.
+	 * @return The 404 response.
+	 */
+	private static FakeResponse notFound() {
+		return FakeResponse.error(404, "NOT_FOUND_PAYMENT", "존재하지 않는 결제 정보 입니다.");
+	}
+
+	/**
+	 * Returns the response to an invalid request.
+	 * @param message The reason the request is invalid.
+	 * @return The 400 response.
+	 */
+	private static FakeResponse invalidRequest(String message) {
+		return FakeResponse.error(400, "INVALID_REQUEST", message);
+	}
+
+	/**
+	 * Returns the current time in the format of the Toss Payments API.
+	 * @return The current time in KST, e.g. {@code 2024-01-01T12:00:00+09:00}.
+	 */
+	private static String now() {
+		return OffsetDateTime.now(KST).truncatedTo(ChronoUnit.SECONDS).toString();
+	}
+
+	/**
+	 * A confirmed payment, whose cancellations are applied one at a time.
+	 */
+	private static final class FakePayment {
+
+		private final String paymentKey;
+
+		private final String orderId;
+
+		private final long totalAmount;
+
+		private final String approvedAt;
+
+		private final List<ObjectNode> cancels = new ArrayList<>();
+
+		private long balanceAmount;
+
+		/**
+		 * Creates a confirmed payment.
+		 * @param paymentKey The key identifying the payment.
+		 * @param orderId The order ID of the payment.
+		 * @param totalAmount The confirmed amount.
+		 * @param approvedAt The confirmation time.
+		 */
+		private FakePayment(String paymentKey, String orderId, long totalAmount, String approvedAt) {
+			this.paymentKey = paymentKey;
+			this.orderId = orderId;
+			this.totalAmount = totalAmount;
+			this.balanceAmount = totalAmount;
+			this.approvedAt = approvedAt;
+		}
+
+		/**
+		 * Cancels the payment.
+		 * @param cancelReason The reason of the cancellation.
+		 * @param cancelAmount The amount to cancel, or 0 to cancel the balance.
+		 * @param canceledAt The cancellation time.
+		 * @return The cancelled payment, or a 400 if the amount cannot be cancelled.
+		 */
+		private synchronized FakeResponse cancel(String cancelReason, long cancelAmount, String canceledAt) {
+			if (balanceAmount == 0) {
+				return FakeResponse.error(400, "ALREADY_CANCELED_PAYMENT", "이미 취소된 결제 입니다.");
+			}
+			long amount = cancelAmount > 0 ? cancelAmount : balanceAmount;
+			if (amount > balanceAmount) {
+				return FakeResponse.error(400, "NOT_CANCELABLE_AMOUNT", "취소 할 수 없는 금액 입니다.");
+			}
+
+			balanceAmount -= amount;
+			cancels.add(JsonNodeFactory.instance.objectNode()
+				.put("transactionKey", UUID.randomUUID().toString().replace("-", ""))
+				.put("cancelReason", cancelReason)
+				.put("cancelAmount", amount)
+				.put("canceledAt", canceledAt));
+
+			return toResponse();
+		}
+
+		/**
+		 * Returns the response holding the current state of the payment.
+		 * @return The 200 response.
+		 */
+		private synchronized FakeResponse toResponse() {
+			String status = "PARTIAL_CANCELED";
+			if (balanceAmount == totalAmount) {
+				status = "DONE";
+			} else if (balanceAmount == 0) {
+				status = "CANCELED";
+			}
+			ArrayNode cancelNodes = JsonNodeFactory.instance.arrayNode().addAll(cancels);
+			ObjectNode payment = JsonNodeFactory.instance.objectNode()
+				.put("paymentKey", paymentKey)
+				.put("orderId", orderId)
+				.put("orderName", "Fake order " + orderId)
+				.put("status", status)
+				.put("method", "카드")
+				.put("currency", "KRW")
+				.put("totalAmount", totalAmount)
+				.put("balanceAmount", balanceAmount)
+				.put("requestedAt", approvedAt)
+				.put("approvedAt", approvedAt);
+			payment.set("cancels", cancelNodes);
+
+			return new FakeResponse(200, payment.toString().getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+}
@@ -0,0 +1,30 @@
+package org.tosspayments.sdk.testing;
+
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Response of {@link FakeTossServer} to a request.
+ * @param status The HTTP status code.
+ * @param body The JSON body.
+ */
+record FakeResponse(int status, byte[] body) {
+
+	/**
+	 * Creates an error response in the format of the Toss Payments API.
+	 * @param status The HTTP status code.
+	 * @param code The error code, e.g. {@code NOT_FOUND_PAYMENT}.
+	 * @param message The error message.
+	 * @return The response.
+	 */
+	static FakeResponse error(int status, String code, String message) {
+		ObjectNode error = JsonNodeFactory.instance.objectNode()
+			.put("code", code)
+			.put("message", message);
+
+		return new FakeResponse(status, error.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+}
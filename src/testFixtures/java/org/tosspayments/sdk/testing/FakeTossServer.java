@@ -0,0 +1,405 @@
+package org.tosspayments.sdk.testing;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Lightweight Toss Payments API server running in-process on the loopback interface, for load and soak tests
+ * that cannot hit the real API. It confirms, looks up and cancels payments held in memory, replays the response
+ * of a POST request sent again with the same Idempotency-Key, and can add latency, server errors, 429 responses
+ * and dropped connections to any request, at configured rates.
+ *
+ * <pre>{@code
+ * try (FakeTossServer server = FakeTossServer.builder()
+ *         .withLatency(LatencyDistribution.logNormal(Duration.ofMillis(50), 0.5))
+ *         .withThrottleRate(0.01)
+ *         .build()) {
+ *     Requester requester = new RequesterBuilder(server.getEndpoint(), "test_sk_load").build();
+ *     ...
+ * }
+ * }</pre>
+ *
+ * <p>The server speaks HTTP/1.1 only, so load tests should set
+ * {@link org.tosspayments.sdk.request.requester.httpclient.HttpTransportConfig.Builder#withVersion} to HTTP/1.1
+ * to avoid an HTTP/2 upgrade attempt on each new connection.
+ * Requests are handled by a thread each, so latency added to a request does not delay the others.
+ */
+public class FakeTossServer implements AutoCloseable {
+
+	/**
+	 * Path of the API on the server, as in {@code https://api.tosspayments.com/v1}.
+	 */
+	public static final String BASE_PATH = "/v1";
+
+	private static final String PAYMENTS_PATH = BASE_PATH + "/payments/";
+
+	private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+	private static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final FakePaymentStore store = new FakePaymentStore();
+
+	private final Map<String, FakeResponse> idempotentResponses = new ConcurrentHashMap<>();
+
+	private final LongAdder requestCount = new LongAdder();
+
+	private final LatencyDistribution latency;
+
+	private final double resetRate;
+
+	private final double throttleRate;
+
+	private final double errorRate;
+
+	private final ExecutorService executor;
+
+	private final HttpServer server;
+
+	/**
+	 * Creates the server from the builder and starts it.
+	 * @param builder The builder holding the settings.
+	 * @throws UncheckedIOException if the port cannot be bound.
+	 */
+	private FakeTossServer(Builder builder) {
+		this.latency = builder.latency;
+		this.resetRate = builder.resetRate;
+		this.throttleRate = builder.throttleRate;
+		this.errorRate = builder.errorRate;
+
+		// the JDK server would otherwise write the headers and body of a response in segments delayed by Nagle
+		if (System.getProperty(NODELAY_PROPERTY) == null) {
+			System.setProperty(NODELAY_PROPERTY, "true");
+		}
+
+		AtomicInteger threadCount = new AtomicInteger();
+		this.executor = Executors.newCachedThreadPool(runnable -> {
+			Thread thread = new Thread(runnable, "fake-toss-server-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+
+			return thread;
+		});
+		try {
+			InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), builder.port);
+			this.server = HttpServer.create(address, 1024);
+		} catch (IOException exception) {
+			executor.shutdown();
+
+			throw new UncheckedIOException(exception);
+		}
+		server.setExecutor(executor);
+		server.createContext(PAYMENTS_PATH, this::handle);
+		server.start();
+	}
+
+	/**
+	 * Creates a new builder with the default settings.
+	 * @return A new builder.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Returns the endpoint to build requesters with, e.g. {@code http://127.0.0.1:54321/v1}.
+	 * @return The endpoint of the API on the server.
+	 */
+	public String getEndpoint() {
+		return "http://" + server.getAddress().getAddress().getHostAddress() + ":" + getPort() + BASE_PATH;
+	}
+
+	/**
+	 * Returns the port the server listens on.
+	 * @return The port.
+	 */
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+
+	/**
+	 * Returns the number of requests received, including those answered with an injected fault.
+	 * @return The number of requests.
+	 */
+	public long getRequestCount() {
+		return requestCount.sum();
+	}
+
+	/**
+	 * Returns the number of confirmed payments.
+	 * @return The number of payments.
+	 */
+	public int getPaymentCount() {
+		return store.size();
+	}
+
+	/**
+	 * Stops the server, dropping the requests in progress.
+	 */
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Handles a request: waits for its latency, then drops it, answers with an injected fault or serves it.
+	 * @param exchange The exchange of the request.
+	 * @throws IOException if the response cannot be written.
+	 */
+	private void handle(HttpExchange exchange) throws IOException {
+		requestCount.increment();
+		try {
+			byte[] body;
+			try (InputStream input = exchange.getRequestBody()) {
+				body = input.readAllBytes();
+			}
+			if (!sleep(latency.nextNanos(ThreadLocalRandom.current()))) {
+				return;
+			}
+
+			double draw = ThreadLocalRandom.current().nextDouble();
+			if (draw < resetRate) {
+				// closing the exchange before sending the headers closes the connection without a response
+				return;
+			}
+
+			FakeResponse response;
+			if (draw < resetRate + throttleRate) {
+				exchange.getResponseHeaders().set("Retry-After", "1");
+				response = FakeResponse.error(429, "TOO_MANY_REQUESTS", "요청량이 많아 처리할 수 없습니다.");
+			} else if (draw < resetRate + throttleRate + errorRate) {
+				response = FakeResponse.error(500, "FAILED_INTERNAL_SYSTEM_PROCESSING", "내부 시스템 처리 작업이 실패했습니다.");
+			} else {
+				response = serve(exchange, body);
+			}
+
+			send(exchange, response);
+		} finally {
+			exchange.close();
+		}
+	}
+
+	/**
+	 * Serves a request from the store, replaying the stored response of a POST request with a known Idempotency-Key.
+	 * @param exchange The exchange of the request.
+	 * @param body The request body.
+	 * @return The response.
+	 */
+	private FakeResponse serve(HttpExchange exchange, byte[] body) {
+		if (exchange.getRequestHeaders().getFirst("Authorization") == null) {
+			return FakeResponse.error(401, "UNAUTHORIZED_KEY", "인증되지 않은 시크릿 키 혹은 클라이언트 키 입니다.");
+		}
+
+		String idempotencyKey = exchange.getRequestHeaders().getFirst(IDEMPOTENCY_KEY_HEADER);
+		if (!"POST".equals(exchange.getRequestMethod()) || idempotencyKey == null) {
+			return route(exchange, body);
+		}
+
+		return idempotentResponses.computeIfAbsent(idempotencyKey, key -> route(exchange, body));
+	}
+
+	/**
+	 * Routes a request to the store by its method and path.
+	 * @param exchange The exchange of the request.
+	 * @param body The request body.
+	 * @return The response, a 404 if no API matches the request, or a 400 if its body is not JSON.
+	 */
+	private FakeResponse route(HttpExchange exchange, byte[] body) {
+		String[] segments = exchange.getRequestURI().getRawPath().substring(PAYMENTS_PATH.length()).split("/", -1);
+		String first = URLDecoder.decode(segments[0], StandardCharsets.UTF_8);
+		boolean post = "POST".equals(exchange.getRequestMethod());
+
+		try {
+			if (post && segments.length == 1 && "confirm".equals(first)) {
+				return store.confirm(readJson(body));
+			}
+			if (post && segments.length == 2 && "cancel".equals(segments[1])) {
+				return store.cancel(first, readJson(body));
+			}
+		} catch (IOException exception) {
+			return FakeResponse.error(400, "INVALID_REQUEST", "잘못된 요청입니다.");
+		}
+		if (!post && segments.length == 1) {
+			return store.get(first);
+		}
+		if (!post && segments.length == 2 && "orders".equals(first)) {
+			return store.getByOrderId(URLDecoder.decode(segments[1], StandardCharsets.UTF_8));
+		}
+
+		return FakeResponse.error(404, "NOT_FOUND", "존재하지 않는 API 입니다.");
+	}
+
+	/**
+	 * Reads a JSON request body.
+	 * @param body The request body.
+	 * @return The JSON tree of the body.
+	 * @throws IOException if the body is not JSON.
+	 */
+	private JsonNode readJson(byte[] body) throws IOException {
+		return objectMapper.readTree(body);
+	}
+
+	/**
+	 * Sends a response.
+	 * @param exchange The exchange of the request.
+	 * @param response The response.
+	 * @throws IOException if the response cannot be written.
+	 */
+	private static void send(HttpExchange exchange, FakeResponse response) throws IOException {
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders(response.status(), response.body().length);
+		try (OutputStream output = exchange.getResponseBody()) {
+			output.write(response.body());
+		}
+	}
+
+	/**
+	 * Waits for the latency of a request.
+	 * @param nanos The latency in nanoseconds.
+	 * @return false if the server was closed while waiting.
+	 */
+	private static boolean sleep(long nanos) {
+		if (nanos <= 0) {
+			return true;
+		}
+
+		try {
+			TimeUnit.NANOSECONDS.sleep(nanos);
+
+			return true;
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+
+			return false;
+		}
+	}
+
+	/**
+	 * Builder for {@link FakeTossServer}.
+	 */
+	public static class Builder {
+
+		private int port = 0;
+
+		private LatencyDistribution latency = LatencyDistribution.none();
+
+		private double resetRate = 0;
+
+		private double throttleRate = 0;
+
+		private double errorRate = 0;
+
+		/**
+		 * Creates a new builder with the default settings.
+		 */
+		private Builder() {
+		}
+
+		/**
+		 * Sets the port to listen on. Defaults to 0, for a free port chosen by the system.
+		 * @param port the port.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withPort(int port) {
+			this.port = port;
+
+			return this;
+		}
+
+		/**
+		 * Sets the distribution of the latency added before answering each request,
+		 * faulty or not. Defaults to {@link LatencyDistribution#none()}.
+		 * @param latency the latency distribution.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withLatency(LatencyDistribution latency) {
+			this.latency = latency;
+
+			return this;
+		}
+
+		/**
+		 * Sets the rate of requests whose connection is closed without a response,
+		 * which the client sees as an I/O error, like a connection reset. Defaults to 0.
+		 * @param resetRate the rate, from 0 to 1.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withResetRate(double resetRate) {
+			this.resetRate = checkRate(resetRate);
+
+			return this;
+		}
+
+		/**
+		 * Sets the rate of requests answered with a 429 and a {@code Retry-After} of 1 second. Defaults to 0.
+		 * @param throttleRate the rate, from 0 to 1.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withThrottleRate(double throttleRate) {
+			this.throttleRate = checkRate(throttleRate);
+
+			return this;
+		}
+
+		/**
+		 * Sets the rate of requests answered with a 500. Defaults to 0.
+		 * @param errorRate the rate, from 0 to 1.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withErrorRate(double errorRate) {
+			this.errorRate = checkRate(errorRate);
+
+			return this;
+		}
+
+		/**
+		 * Builds the FakeTossServer instance and starts it.
+		 * @return the started FakeTossServer instance.
+		 * @throws IllegalArgumentException if the fault rates add up to more than 1.
+		 * @throws UncheckedIOException if the port cannot be bound.
+		 */
+		public FakeTossServer build() {
+			if (resetRate + throttleRate + errorRate > 1) {
+				throw new IllegalArgumentException("Fault rates must add up to at most 1");
+			}
+
+			return new FakeTossServer(this);
+		}
+
+		/**
+		 * Checks a fault rate.
+		 * @param rate the rate.
+		 * @return the rate.
+		 * @throws IllegalArgumentException if the rate is not between 0 and 1.
+		 */
+		private static double checkRate(double rate) {
+			if (rate < 0 || rate > 1) {
+				throw new IllegalArgumentException("Fault rate must be between 0 and 1");
+			}
+
+			return rate;
+		}
+	}
+
+}
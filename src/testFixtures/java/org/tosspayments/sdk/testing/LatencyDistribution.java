@@ -0,0 +1,73 @@
+package org.tosspayments.sdk.testing;
+
+import java.time.Duration;
+import java.util.Random;
+
+/**
+ * Distribution of the latency {@link FakeTossServer} adds before answering each request.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+	/**
+	 * Draws the latency of a request.
+	 * @param random The source of randomness.
+	 * @return The latency in nanoseconds.
+	 */
+	long nextNanos(Random random);
+
+	/**
+	 * Returns a distribution without latency.
+	 * @return The distribution.
+	 */
+	static LatencyDistribution none() {
+		return random -> 0;
+	}
+
+	/**
+	 * Returns a distribution always drawing the same latency.
+	 * @param latency The latency.
+	 * @return The distribution.
+	 */
+	static LatencyDistribution fixed(Duration latency) {
+		long nanos = latency.toNanos();
+
+		return random -> nanos;
+	}
+
+	/**
+	 * Returns a distribution drawing latencies uniformly between two bounds.
+	 * @param min The shortest latency.
+	 * @param max The longest latency.
+	 * @return The distribution.
+	 * @throws IllegalArgumentException if min is longer than max.
+	 */
+	static LatencyDistribution uniform(Duration min, Duration max) {
+		long minNanos = min.toNanos();
+		long range = max.toNanos() - minNanos;
+		if (range < 0) {
+			throw new IllegalArgumentException("Min latency must not be longer than max latency");
+		}
+
+		return random -> minNanos + (long)(random.nextDouble() * range);
+	}
+
+	/**
+	 * Returns a log-normal distribution, whose long right tail resembles the latencies of a real service:
+	 * most requests take about the median, and a few take many times longer.
+	 * @param median The median latency.
+	 * @param sigma The standard deviation of the logarithm of the latency,
+	 *              e.g. 0.5 for a p99 about 3.2 times the median.
+	 * @return The distribution.
+	 * @throws IllegalArgumentException if sigma is negative.
+	 */
+	static LatencyDistribution logNormal(Duration median, double sigma) {
+		if (sigma < 0) {
+			throw new IllegalArgumentException("Sigma must not be negative");
+		}
+		long medianNanos = median.toNanos();
+
+		return random -> (long)(medianNanos * Math.exp(sigma * random.nextGaussian()));
+	}
+
+}
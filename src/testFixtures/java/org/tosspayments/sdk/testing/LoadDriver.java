@@ -0,0 +1,337 @@
+package org.tosspayments.sdk.testing;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.tosspayments.sdk.exception.TossApiException;
+import org.tosspayments.sdk.request.requester.Requester;
+import org.tosspayments.sdk.request.requester.metrics.LatencyHistogram;
+
+/**
+ * Open-loop load driver, starting operations against any {@link Requester} at a fixed rate regardless of how long
+ * the previous ones take, like the many independent users of a payment service, and reporting the throughput
+ * and latency percentiles of the run.
+ *
+ * <p>Each operation has a scheduled start time, and its latency is measured from that time rather than from
+ * when it actually started. A driver measuring from the actual start would, when the requester stalls, start
+ * the operations late and measure them as fast, omitting exactly the waits it should report: this is
+ * the coordinated omission corrected here, as by wrk2 and HdrHistogram.
+ *
+ * <pre>{@code
+ * LoadReport report = LoadDriver.builder()
+ *     .withRate(500)
+ *     .withWarmup(Duration.ofSeconds(5))
+ *     .withDuration(Duration.ofSeconds(30))
+ *     .build()
+ *     .run(requester, (r, sequence) -> r.getAsync("/payments/" + paymentKey, Payment.class));
+ * }</pre>
+ */
+public class LoadDriver {
+
+	private final double rate;
+
+	private final Duration warmup;
+
+	private final Duration duration;
+
+	private final int maxInFlight;
+
+	private final Duration drainTimeout;
+
+	/**
+	 * Creates a new LoadDriver from the builder.
+	 * @param builder The builder holding the settings.
+	 */
+	private LoadDriver(Builder builder) {
+		this.rate = builder.rate;
+		this.warmup = builder.warmup;
+		this.duration = builder.duration;
+		this.maxInFlight = builder.maxInFlight;
+		this.drainTimeout = builder.drainTimeout;
+	}
+
+	/**
+	 * Creates a new builder with the default settings.
+	 * @return A new builder.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Runs the operation at the configured rate for the warmup and the duration, on the calling thread,
+	 * then waits for the operations in flight to complete, for up to the drain timeout.
+	 * An operation that throws instead of returning a failed future counts as failed.
+	 * @param requester The requester under load.
+	 * @param operation The operation to run.
+	 * @return The report of the operations scheduled after the warmup.
+	 */
+	public LoadReport run(Requester requester, LoadOperation operation) {
+		Run run = new Run();
+		Semaphore inFlight = new Semaphore(maxInFlight);
+		double intervalNanos = 1e9 / rate;
+		long warmupNanos = warmup.toNanos();
+		long endNanos = warmupNanos + duration.toNanos();
+		long startedAt = System.nanoTime();
+
+		for (long sequence = 0; ; sequence++) {
+			long offset = (long)(sequence * intervalNanos);
+			if (offset >= endNanos || !sleepUntil(startedAt + offset) || !acquire(inFlight, startedAt + endNanos)) {
+				break;
+			}
+
+			boolean measured = offset >= warmupNanos;
+			long scheduledAt = startedAt + offset;
+			long sentAt = System.nanoTime();
+			if (measured) {
+				run.started.increment();
+			}
+			start(requester, operation, sequence).whenComplete((result, failure) -> {
+				if (measured) {
+					run.record(scheduledAt, sentAt, failure);
+				}
+				inFlight.release();
+			});
+		}
+
+		try {
+			inFlight.tryAcquire(maxInFlight, drainTimeout.toNanos(), TimeUnit.NANOSECONDS);
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+		}
+
+		return run.toReport(rate, startedAt + warmupNanos);
+	}
+
+	/**
+	 * Starts an operation, turning an exception thrown by it into a failed future.
+	 * @param requester The requester under load.
+	 * @param operation The operation to start.
+	 * @param sequence The number of the operation.
+	 * @return The future of the operation.
+	 */
+	private static CompletableFuture<?> start(Requester requester, LoadOperation operation, long sequence) {
+		try {
+			return operation.start(requester, sequence);
+		} catch (RuntimeException exception) {
+			return CompletableFuture.failedFuture(exception);
+		}
+	}
+
+	/**
+	 * Waits for a slot to start an operation, for up to the end of the run.
+	 * @param inFlight The slots of the operations in flight.
+	 * @param deadline The end of the run, from {@link System#nanoTime()}.
+	 * @return false if no slot was freed before the end of the run or the thread was interrupted, to stop the run.
+	 */
+	private static boolean acquire(Semaphore inFlight, long deadline) {
+		try {
+			return inFlight.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+
+			return false;
+		}
+	}
+
+	/**
+	 * Waits until the scheduled start time of an operation.
+	 * @param deadline The scheduled start time, from {@link System#nanoTime()}.
+	 * @return false if the thread was interrupted, to stop the run.
+	 */
+	private static boolean sleepUntil(long deadline) {
+		for (long remaining = deadline - System.nanoTime(); remaining > 0; remaining = deadline - System.nanoTime()) {
+			if (Thread.currentThread().isInterrupted()) {
+				return false;
+			}
+			LockSupport.parkNanos(remaining);
+		}
+
+		return !Thread.currentThread().isInterrupted();
+	}
+
+	/**
+	 * Results of the measured operations of a run, recorded by the threads completing them.
+	 */
+	private static final class Run {
+
+		private final LongAdder started = new LongAdder();
+
+		private final LongAdder succeeded = new LongAdder();
+
+		private final LongAdder failed = new LongAdder();
+
+		private final LongAccumulator lastCompletedAt = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+		private final LatencyHistogram latency = new LatencyHistogram();
+
+		private final LatencyHistogram serviceTime = new LatencyHistogram();
+
+		private final Map<String, Long> failures = new ConcurrentHashMap<>();
+
+		/**
+		 * Records a completed operation.
+		 * @param scheduledAt The scheduled start time of the operation.
+		 * @param sentAt The actual start time of the operation.
+		 * @param failure The cause of the failure of the operation, null if it succeeded.
+		 */
+		private void record(long scheduledAt, long sentAt, Throwable failure) {
+			long completedAt = System.nanoTime();
+			latency.record(completedAt - scheduledAt);
+			serviceTime.record(completedAt - sentAt);
+			lastCompletedAt.accumulate(completedAt);
+			if (failure == null) {
+				succeeded.increment();
+			} else {
+				failed.increment();
+				failures.merge(causeOf(failure), 1L, Long::sum);
+			}
+		}
+
+		/**
+		 * Creates the report of the run.
+		 * @param rate The rate the operations were scheduled at.
+		 * @param measuredFrom The scheduled start time of the first measured operation.
+		 * @return The report.
+		 */
+		private LoadReport toReport(double rate, long measuredFrom) {
+			long lastCompleted = lastCompletedAt.get();
+			Duration elapsed = lastCompleted > measuredFrom
+				? Duration.ofNanos(lastCompleted - measuredFrom)
+				: Duration.ZERO;
+
+			return new LoadReport(
+				rate,
+				started.sum(),
+				succeeded.sum(),
+				failed.sum(),
+				elapsed,
+				latency,
+				serviceTime,
+				failures
+			);
+		}
+
+		/**
+		 * Names the cause of a failure.
+		 * @param failure The failure, possibly wrapped by a CompletableFuture.
+		 * @return {@code HTTP <status>} for a Toss API error, the simple class name of the cause otherwise.
+		 */
+		private static String causeOf(Throwable failure) {
+			Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+				? failure.getCause()
+				: failure;
+			if (cause instanceof TossApiException tossApiException) {
+				return "HTTP " + tossApiException.getStatusCode();
+			}
+
+			return cause.getClass().getSimpleName();
+		}
+	}
+
+	/**
+	 * Builder for {@link LoadDriver}.
+	 */
+	public static class Builder {
+
+		private double rate = 100;
+
+		private Duration warmup = Duration.ZERO;
+
+		private Duration duration = Duration.ofSeconds(10);
+
+		private int maxInFlight = 10_000;
+
+		private Duration drainTimeout = Duration.ofSeconds(30);
+
+		/**
+		 * Creates a new builder with the default settings.
+		 */
+		private Builder() {
+		}
+
+		/**
+		 * Sets the rate operations are started at. Defaults to 100 per second.
+		 * @param rate the number of operations per second.
+		 * @return the Builder instance for method chaining.
+		 * @throws IllegalArgumentException if the rate is not positive.
+		 */
+		public Builder withRate(double rate) {
+			if (!(rate > 0)) {
+				throw new IllegalArgumentException("Rate must be positive");
+			}
+			this.rate = rate;
+
+			return this;
+		}
+
+		/**
+		 * Sets how long operations are run before being measured, e.g. to warm up the JIT and the connection pool.
+		 * Defaults to none.
+		 * @param warmup the warmup duration.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withWarmup(Duration warmup) {
+			this.warmup = warmup;
+
+			return this;
+		}
+
+		/**
+		 * Sets how long operations are run and measured after the warmup. Defaults to 10 seconds.
+		 * @param duration the measured duration.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withDuration(Duration duration) {
+			this.duration = duration;
+
+			return this;
+		}
+
+		/**
+		 * Sets the most operations in flight at once. When reached, the driver waits for an operation to complete
+		 * before starting the next one, which delays the schedule and so shows in the latencies,
+		 * and stops the run if none completes before its end. Defaults to 10000.
+		 * @param maxInFlight the maximum number of operations in flight.
+		 * @return the Builder instance for method chaining.
+		 * @throws IllegalArgumentException if the maximum is less than 1.
+		 */
+		public Builder withMaxInFlight(int maxInFlight) {
+			if (maxInFlight < 1) {
+				throw new IllegalArgumentException("Max in flight must be at least 1");
+			}
+			this.maxInFlight = maxInFlight;
+
+			return this;
+		}
+
+		/**
+		 * Sets how long the driver waits for the operations in flight at the end of the run. Defaults to 30 seconds.
+		 * Operations still in flight then are reported as unfinished.
+		 * @param drainTimeout the drain timeout.
+		 * @return the Builder instance for method chaining.
+		 */
+		public Builder withDrainTimeout(Duration drainTimeout) {
+			this.drainTimeout = drainTimeout;
+
+			return this;
+		}
+
+		/**
+		 * Builds the LoadDriver instance.
+		 * @return the LoadDriver instance.
+		 */
+		public LoadDriver build() {
+			return new LoadDriver(this);
+		}
+	}
+
+}
@@ -0,0 +1,22 @@
+package org.tosspayments.sdk.testing;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.tosspayments.sdk.request.requester.Requester;
+
+/**
+ * Operation sent by {@link LoadDriver} at each tick of its schedule, e.g.
+ * {@code (requester, sequence) -> requester.getAsync("/payments/" + paymentKey, Payment.class)}.
+ */
+@FunctionalInterface
+public interface LoadOperation {
+
+	/**
+	 * Starts the operation without waiting for it.
+	 * @param requester The requester under load.
+	 * @param sequence The number of the operation in the run, from 0, e.g. to derive unique order IDs.
+	 * @return A CompletableFuture completed when the operation completes.
+	 */
+	CompletableFuture<?> start(Requester requester, long sequence);
+
+}
@@ -0,0 +1,146 @@
+package org.tosspayments.sdk.testing;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+import org.tosspayments.sdk.request.requester.metrics.LatencyHistogram;
+
+import lombok.Getter;
+
+/**
+ * Results of a {@link LoadDriver} run, covering the operations scheduled after its warmup.
+ */
+@Getter
+public class LoadReport {
+
+	/**
+	 * Rate the operations were scheduled at, per second.
+	 */
+	private final double targetRate;
+
+	/**
+	 * Number of operations started.
+	 */
+	private final long startedCount;
+
+	/**
+	 * Number of operations completed successfully.
+	 */
+	private final long successCount;
+
+	/**
+	 * Number of operations completed exceptionally.
+	 */
+	private final long failureCount;
+
+	/**
+	 * Time from the first scheduled operation to the last completed one.
+	 */
+	private final Duration elapsed;
+
+	/**
+	 * Latencies of the completed operations, measured from the time they were scheduled at,
+	 * so an operation started late because the requester or the driver stalled counts its wait,
+	 * which corrects the coordinated omission of a driver waiting for the system it measures.
+	 */
+	private final LatencyHistogram latency;
+
+	/**
+	 * Latencies of the completed operations, measured from the time they were actually started,
+	 * which hide the stalls of the requester and should only be compared with {@link #latency}.
+	 */
+	private final LatencyHistogram serviceTime;
+
+	/**
+	 * Number of failures by cause: {@code HTTP <status>} for Toss API errors, the exception class name otherwise.
+	 */
+	private final Map<String, Long> failures;
+
+	/**
+	 * Creates the report of a run.
+	 * @param targetRate The rate the operations were scheduled at, per second.
+	 * @param startedCount The number of operations started.
+	 * @param successCount The number of operations completed successfully.
+	 * @param failureCount The number of operations completed exceptionally.
+	 * @param elapsed The time from the first scheduled operation to the last completed one.
+	 * @param latency The latencies from the scheduled start times.
+	 * @param serviceTime The latencies from the actual start times.
+	 * @param failures The number of failures by cause.
+	 */
+	LoadReport(
+		double targetRate,
+		long startedCount,
+		long successCount,
+		long failureCount,
+		Duration elapsed,
+		LatencyHistogram latency,
+		LatencyHistogram serviceTime,
+		Map<String, Long> failures
+	) {
+		this.targetRate = targetRate;
+		this.startedCount = startedCount;
+		this.successCount = successCount;
+		this.failureCount = failureCount;
+		this.elapsed = elapsed;
+		this.latency = latency;
+		this.serviceTime = serviceTime;
+		this.failures = Map.copyOf(failures);
+	}
+
+	/**
+	 * Returns the number of started operations that did not complete before the driver stopped waiting.
+	 * @return The number of unfinished operations.
+	 */
+	public long getUnfinishedCount() {
+		return startedCount - successCount - failureCount;
+	}
+
+	/**
+	 * Returns the achieved throughput, which falls short of the target rate when the requester cannot keep up.
+	 * @return The number of completed operations per second.
+	 */
+	public double getThroughput() {
+		long elapsedNanos = elapsed.toNanos();
+
+		return elapsedNanos > 0 ? (successCount + failureCount) * 1e9 / elapsedNanos : 0;
+	}
+
+	/**
+	 * Summarizes the run on one line, with the latency percentiles in milliseconds.
+	 * @return The summary.
+	 */
+	@Override
+	public String toString() {
+		return String.format(
+			Locale.ROOT,
+			"target=%.1f/s throughput=%.1f/s started=%d succeeded=%d failed=%d unfinished=%d "
+				+ "latency p50=%.3fms p90=%.3fms p99=%.3fms p99.9=%.3fms max=%.3fms "
+				+ "(service time p50=%.3fms p99=%.3fms) failures=%s",
+			targetRate,
+			getThroughput(),
+			startedCount,
+			successCount,
+			failureCount,
+			getUnfinishedCount(),
+			millis(latency.getValueAtPercentile(50)),
+			millis(latency.getValueAtPercentile(90)),
+			millis(latency.getValueAtPercentile(99)),
+			millis(latency.getValueAtPercentile(99.9)),
+			millis(latency.getMaxNanos()),
+			millis(serviceTime.getValueAtPercentile(50)),
+			millis(serviceTime.getValueAtPercentile(99)),
+			failures
+		);
+	}
+
+	/**
+	 * Converts nanoseconds to milliseconds.
+	 * @param nanos The duration in nanoseconds.
+	 * @return The duration in milliseconds.
+	 */
+	private static double millis(long nanos) {
+		return nanos / 1e6;
+	}
+
+}